@@ -0,0 +1,88 @@
+package io.smallrye.mutiny.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.AssemblyTracing;
+
+/**
+ * Measures the cost of the assembly tracing when assembling and subscribing {@link Uni} and {@link Multi} pipelines.
+ * <p>
+ * A {@code sampleRate} of {@code 0} disables the tracing, which must perform as the pipelines without tracing: no
+ * interceptor is installed, so the operators are neither wrapped nor sampled.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AssemblyTracingBenchmark {
+
+    @Param({ "0", "1000", "1" })
+    public int sampleRate;
+
+    @Param({ "10" })
+    public int depth;
+
+    @Param({ "100" })
+    public int count;
+
+    Uni<Integer> uni;
+    Multi<Integer> multi;
+
+    @Setup
+    public void setup() {
+        if (sampleRate == 0) {
+            AssemblyTracing.disable();
+        } else {
+            AssemblyTracing.enable(sampleRate);
+        }
+        uni = assembleUni();
+        multi = assembleMulti();
+    }
+
+    @TearDown
+    public void tearDown() {
+        AssemblyTracing.disable();
+    }
+
+    private Uni<Integer> assembleUni() {
+        Uni<Integer> result = Uni.createFrom().item(0);
+        for (int i = 0; i < depth; i++) {
+            result = result.onItem().transform(x -> x + 1);
+        }
+        return result;
+    }
+
+    private Multi<Integer> assembleMulti() {
+        Multi<Integer> result = Multi.createFrom().range(0, count);
+        for (int i = 0; i < depth; i++) {
+            result = result.onItem().transform(x -> x + 1);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Object assembleAndSubscribeUni() {
+        Object[] holder = new Object[1];
+        assembleUni().subscribe().with(x -> holder[0] = x);
+        return holder[0];
+    }
+
+    @Benchmark
+    public Object subscribeUni() {
+        Object[] holder = new Object[1];
+        uni.subscribe().with(x -> holder[0] = x);
+        return holder[0];
+    }
+
+    @Benchmark
+    public void subscribeMulti(Blackhole blackhole) {
+        multi.subscribe().withSubscriber(new PerfSubscriber<>(blackhole));
+    }
+}
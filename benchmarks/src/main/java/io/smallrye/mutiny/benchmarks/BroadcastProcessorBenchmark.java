@@ -0,0 +1,54 @@
+package io.smallrye.mutiny.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.operators.multi.processors.BroadcastProcessor;
+
+/**
+ * Measures the fan-out cost of {@link BroadcastProcessor} and of {@code Multi.broadcast()} with many subscribers.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BroadcastProcessorBenchmark {
+
+    @Param({ "1000" })
+    public int count;
+
+    @Param({ "1", "10", "100" })
+    public int subscribers;
+
+    @Benchmark
+    public void processor(Blackhole blackhole) {
+        BroadcastProcessor<Integer> processor = BroadcastProcessor.create();
+        PerfSubscriber<Integer> last = null;
+        for (int i = 0; i < subscribers; i++) {
+            last = new PerfSubscriber<>(blackhole);
+            processor.subscribe().withSubscriber(last);
+        }
+        for (int i = 0; i < count; i++) {
+            processor.onNext(i);
+        }
+        processor.onComplete();
+        last.assertTerminated();
+    }
+
+    @Benchmark
+    public void toAllSubscribers(Blackhole blackhole) {
+        Multi<Integer> multi = Multi.createFrom().range(0, count)
+                .broadcast().toAtLeast(subscribers);
+        PerfSubscriber<Integer> last = null;
+        for (int i = 0; i < subscribers; i++) {
+            last = new PerfSubscriber<>(blackhole);
+            multi.subscribe().withSubscriber(last);
+        }
+        last.assertTerminated();
+    }
+}
@@ -0,0 +1,104 @@
+package io.smallrye.mutiny.benchmarks;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.smallrye.mutiny.Context;
+import io.smallrye.mutiny.Multi;
+
+/**
+ * Measures {@link Context} reads and writes, directly and from {@code withContext} / {@code attachContext} chains,
+ * for small (the common case: a trace id, a tenant...) and larger contexts.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ContextBenchmark {
+
+    @Param({ "1", "4", "16" })
+    public int entries;
+
+    @Param({ "10" })
+    public int depth;
+
+    @Param({ "100" })
+    public int count;
+
+    Object[] pairs;
+    Context context;
+
+    Multi<Integer> withContextRead;
+    Multi<Integer> withContextWrite;
+    Multi<Integer> attachContext;
+
+    @Setup
+    public void setup() {
+        pairs = new Object[entries * 2];
+        for (int i = 0; i < entries; i++) {
+            pairs[2 * i] = "key-" + i;
+            pairs[2 * i + 1] = i;
+        }
+        context = Context.of(pairs);
+        String lastKey = "key-" + (entries - 1);
+
+        Multi<Integer> read = Multi.createFrom().range(0, count);
+        Multi<Integer> write = Multi.createFrom().range(0, count);
+        Multi<Integer> attach = Multi.createFrom().range(0, count);
+        for (int i = 0; i < depth; i++) {
+            read = read.withContext((multi, ctx) -> multi.onItem().transform(x -> x + ctx.<Integer> get(lastKey)));
+            write = write.withContext((multi, ctx) -> multi.onItem().invoke(x -> ctx.put("last", x)));
+            attach = attach.attachContext()
+                    .onItem().transform(item -> item.get() + item.context().<Integer> get(lastKey));
+        }
+        withContextRead = read;
+        withContextWrite = write;
+        attachContext = attach;
+    }
+
+    @Benchmark
+    public Integer get() {
+        return context.get("key-0");
+    }
+
+    @Benchmark
+    public boolean containsMissingKey() {
+        return context.contains("missing");
+    }
+
+    @Benchmark
+    public Set<String> keys() {
+        return context.keys();
+    }
+
+    @Benchmark
+    public Context createAndPut() {
+        return Context.of(pairs).put("last", 0);
+    }
+
+    @Benchmark
+    public void withContextRead(Blackhole blackhole) {
+        PerfSubscriber<Integer> subscriber = new PerfSubscriber<>(blackhole, Context.of(pairs));
+        withContextRead.subscribe().withSubscriber(subscriber);
+        subscriber.assertTerminated();
+    }
+
+    @Benchmark
+    public void withContextWrite(Blackhole blackhole) {
+        PerfSubscriber<Integer> subscriber = new PerfSubscriber<>(blackhole, Context.of(pairs));
+        withContextWrite.subscribe().withSubscriber(subscriber);
+        subscriber.assertTerminated();
+    }
+
+    @Benchmark
+    public void attachContext(Blackhole blackhole) {
+        PerfSubscriber<Integer> subscriber = new PerfSubscriber<>(blackhole, Context.of(pairs));
+        attachContext.subscribe().withSubscriber(subscriber);
+        subscriber.assertTerminated();
+    }
+}
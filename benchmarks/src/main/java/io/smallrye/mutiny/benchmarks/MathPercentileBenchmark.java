@@ -0,0 +1,68 @@
+package io.smallrye.mutiny.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.math.Math;
+
+/**
+ * Measures the cost of {@code Math.percentile()} on long latency-like streams, compared to the exact
+ * {@code Math.median()}.
+ * <p>
+ * The forked JVM has a 512 MB heap: {@code percentile} and {@code quantiles} process 100M items in it, as the sketch
+ * has a fixed size (run with {@code -prof gc} to check that the allocations per item do not grow with the number of
+ * items). {@code median} retains every item and would need several GB for 100M items, so it is capped to 1M items.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgs = { "-Xmx512m" })
+@State(Scope.Thread)
+public class MathPercentileBenchmark {
+
+    @Param({ "1000000", "100000000" })
+    public int count;
+
+    @Benchmark
+    public void percentile(Blackhole blackhole) {
+        PerfSubscriber<Double> subscriber = new PerfSubscriber<>(blackhole);
+        latencies(count)
+                .plug(Math.percentile(0.99))
+                .subscribe().withSubscriber(subscriber);
+        subscriber.assertTerminated();
+    }
+
+    @Benchmark
+    public void quantiles(Blackhole blackhole) {
+        PerfSubscriber<Object> subscriber = new PerfSubscriber<>(blackhole);
+        latencies(count)
+                .plug(Math.quantiles(0.5, 0.9, 0.99, 0.999))
+                .subscribe().withSubscriber(subscriber);
+        subscriber.assertTerminated();
+    }
+
+    @Benchmark
+    public void median(Blackhole blackhole) {
+        PerfSubscriber<Double> subscriber = new PerfSubscriber<>(blackhole);
+        latencies(java.lang.Math.min(count, 1_000_000))
+                .plug(Math.median())
+                .subscribe().withSubscriber(subscriber);
+        subscriber.assertTerminated();
+    }
+
+    /**
+     * A deterministic stream of latencies, from 1 to about 10000 milliseconds, with a long tail.
+     */
+    private static Multi<Long> latencies(int count) {
+        return Multi.createFrom().range(0, count)
+                .onItem().transform(i -> {
+                    long hash = i * 0x9E3779B97F4A7C15L;
+                    double uniform = (hash >>> 11) * 0x1.0p-53;
+                    return (long) java.lang.Math.exp(uniform * uniform * 9.2) + 1;
+                });
+    }
+}
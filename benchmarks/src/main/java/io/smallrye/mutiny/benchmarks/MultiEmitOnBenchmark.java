@@ -0,0 +1,69 @@
+package io.smallrye.mutiny.benchmarks;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.smallrye.mutiny.Multi;
+
+/**
+ * Measures the cost of thread hops with {@code emitOn} and {@code runSubscriptionOn}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MultiEmitOnBenchmark {
+
+    @Param({ "1", "1000", "100000" })
+    public int count;
+
+    ExecutorService first;
+    ExecutorService second;
+
+    Multi<Integer> emitOn;
+    Multi<Integer> emitOnTwice;
+    Multi<Integer> runSubscriptionOn;
+
+    @Setup
+    public void setup() {
+        first = Executors.newSingleThreadExecutor();
+        second = Executors.newSingleThreadExecutor();
+        Multi<Integer> source = Multi.createFrom().range(0, count);
+        emitOn = source.emitOn(first);
+        emitOnTwice = source.emitOn(first).onItem().transform(i -> i + 1).emitOn(second);
+        runSubscriptionOn = source.runSubscriptionOn(first);
+    }
+
+    @TearDown
+    public void tearDown() {
+        first.shutdownNow();
+        second.shutdownNow();
+    }
+
+    @Benchmark
+    public void emitOn(Blackhole blackhole) {
+        run(emitOn, blackhole);
+    }
+
+    @Benchmark
+    public void emitOnTwice(Blackhole blackhole) {
+        run(emitOnTwice, blackhole);
+    }
+
+    @Benchmark
+    public void runSubscriptionOn(Blackhole blackhole) {
+        run(runSubscriptionOn, blackhole);
+    }
+
+    private static void run(Multi<Integer> multi, Blackhole blackhole) {
+        PerfSubscriber<Integer> subscriber = new PerfSubscriber<>(blackhole);
+        multi.subscribe().withSubscriber(subscriber);
+        subscriber.await();
+    }
+}
@@ -0,0 +1,83 @@
+package io.smallrye.mutiny.benchmarks;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.subscription.MultiEmitter;
+
+/**
+ * Measures {@code Multi.createFrom().emitter(...)} with concurrent producers.
+ * <p>
+ * {@code serialized} uses the default (unbounded) buffer, where concurrent calls are serialized by a
+ * {@code SerializedMultiEmitter} in front of a {@code BufferItemMultiEmitter}. {@code bounded} uses an explicit buffer
+ * size, where the producers offer directly into a lock-free multi-producer ring buffer (sized to hold all the items,
+ * so the measure does not depend on the consumer speed).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MultiEmitterBenchmark {
+
+    // Avoid measuring the boxing of the items
+    private static final Integer ITEM = 42;
+
+    @Param({ "1", "4", "16" })
+    public int producers;
+
+    @Param({ "100000" })
+    public int count;
+
+    ExecutorService pool;
+
+    @Setup
+    public void setup() {
+        pool = Executors.newFixedThreadPool(producers);
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Benchmark
+    public void serialized(Blackhole blackhole) {
+        run(consumer -> Multi.createFrom().emitter(consumer), blackhole);
+    }
+
+    @Benchmark
+    public void bounded(Blackhole blackhole) {
+        run(consumer -> Multi.createFrom().emitter(consumer, count), blackhole);
+    }
+
+    private void run(Function<Consumer<MultiEmitter<? super Integer>>, Multi<Integer>> factory,
+            Blackhole blackhole) {
+        int perProducer = count / producers;
+        Multi<Integer> multi = factory.apply(emitter -> {
+            AtomicInteger remaining = new AtomicInteger(producers);
+            for (int p = 0; p < producers; p++) {
+                pool.execute(() -> {
+                    for (int i = 0; i < perProducer; i++) {
+                        emitter.emit(ITEM);
+                    }
+                    if (remaining.decrementAndGet() == 0) {
+                        emitter.complete();
+                    }
+                });
+            }
+        });
+        PerfSubscriber<Integer> subscriber = new PerfSubscriber<>(blackhole);
+        multi.subscribe().withSubscriber(subscriber);
+        subscriber.await();
+    }
+}
@@ -0,0 +1,73 @@
+package io.smallrye.mutiny.benchmarks;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Measures {@code merge} with a high concurrency, on inner streams completing on other threads.
+ * <p>
+ * Every inner stream is registered in, and removed from, the flatMap inner registry while other inner streams emit
+ * concurrently, so this stresses the registry and the upstream replenishment.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MultiFlatMapAsyncBenchmark {
+
+    @Param({ "100000" })
+    public int count;
+
+    @Param({ "32", "256" })
+    public int concurrency;
+
+    @Param({ "4" })
+    public int threads;
+
+    ExecutorService pool;
+
+    Multi<Integer> mergeUni;
+    Multi<Integer> mergeMulti;
+
+    @Setup
+    public void setup() {
+        pool = Executors.newFixedThreadPool(threads);
+        Multi<Integer> source = Multi.createFrom().range(0, count);
+        mergeUni = source
+                .onItem().transformToUni(i -> Uni.createFrom().item(i).emitOn(pool))
+                .merge(concurrency);
+        mergeMulti = source
+                .onItem().transformToMulti(i -> Multi.createFrom().items(i, i + 1).emitOn(pool))
+                .merge(concurrency);
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Benchmark
+    public void mergeUni(Blackhole blackhole) {
+        run(mergeUni, blackhole);
+    }
+
+    @Benchmark
+    public void mergeMulti(Blackhole blackhole) {
+        run(mergeMulti, blackhole);
+    }
+
+    private static void run(Multi<Integer> multi, Blackhole blackhole) {
+        PerfSubscriber<Integer> subscriber = new PerfSubscriber<>(blackhole);
+        multi.subscribe().withSubscriber(subscriber);
+        subscriber.await();
+    }
+}
@@ -0,0 +1,76 @@
+package io.smallrye.mutiny.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Measures the {@code flatMap} family ({@code transformToMulti} and {@code transformToUni}) on synchronous inner
+ * streams, with various concurrency levels.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MultiFlatMapBenchmark {
+
+    @Param({ "1000", "100000" })
+    public int count;
+
+    @Param({ "1", "4", "32", "256" })
+    public int concurrency;
+
+    Multi<Integer> mergeMulti;
+    Multi<Integer> mergeUni;
+    Multi<Integer> concatenateMulti;
+    Multi<Integer> concatenateUni;
+
+    @Setup
+    public void setup() {
+        Multi<Integer> source = Multi.createFrom().range(0, count);
+        mergeMulti = source
+                .onItem().transformToMulti(i -> Multi.createFrom().items(i, i + 1))
+                .merge(concurrency);
+        mergeUni = source
+                .onItem().transformToUni(i -> Uni.createFrom().item(i))
+                .merge(concurrency);
+        concatenateMulti = source
+                .onItem().transformToMulti(i -> Multi.createFrom().items(i, i + 1))
+                .concatenate();
+        concatenateUni = source
+                .onItem().transformToUni(i -> Uni.createFrom().item(i))
+                .concatenate();
+    }
+
+    @Benchmark
+    public void mergeMulti(Blackhole blackhole) {
+        run(mergeMulti, blackhole);
+    }
+
+    @Benchmark
+    public void mergeUni(Blackhole blackhole) {
+        run(mergeUni, blackhole);
+    }
+
+    @Benchmark
+    public void concatenateMulti(Blackhole blackhole) {
+        run(concatenateMulti, blackhole);
+    }
+
+    @Benchmark
+    public void concatenateUni(Blackhole blackhole) {
+        run(concatenateUni, blackhole);
+    }
+
+    private static void run(Multi<Integer> multi, Blackhole blackhole) {
+        PerfSubscriber<Integer> subscriber = new PerfSubscriber<>(blackhole);
+        multi.subscribe().withSubscriber(subscriber);
+        subscriber.assertTerminated();
+    }
+}
@@ -0,0 +1,71 @@
+package io.smallrye.mutiny.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.smallrye.mutiny.Multi;
+
+/**
+ * Measures the cost of the synchronous {@link Multi} sources and of the cheap {@code map} / {@code select} stages.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MultiSourcesBenchmark {
+
+    @Param({ "1", "1000", "1000000" })
+    public int count;
+
+    Multi<Integer> range;
+    Multi<Integer> iterable;
+    Multi<Integer> items;
+    Multi<Integer> mapFilter;
+
+    @Setup
+    public void setup() {
+        List<Integer> list = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            list.add(i);
+        }
+        range = Multi.createFrom().range(0, count);
+        iterable = Multi.createFrom().iterable(list);
+        items = Multi.createFrom().items(list.toArray(new Integer[0]));
+        mapFilter = range
+                .onItem().transform(i -> i + 1)
+                .select().where(i -> (i & 1) == 0)
+                .onItem().transform(i -> i - 1);
+    }
+
+    @Benchmark
+    public void range(Blackhole blackhole) {
+        run(range, blackhole);
+    }
+
+    @Benchmark
+    public void iterable(Blackhole blackhole) {
+        run(iterable, blackhole);
+    }
+
+    @Benchmark
+    public void items(Blackhole blackhole) {
+        run(items, blackhole);
+    }
+
+    @Benchmark
+    public void rangeMapFilter(Blackhole blackhole) {
+        run(mapFilter, blackhole);
+    }
+
+    private static void run(Multi<Integer> multi, Blackhole blackhole) {
+        PerfSubscriber<Integer> subscriber = new PerfSubscriber<>(blackhole);
+        multi.subscribe().withSubscriber(subscriber);
+        subscriber.assertTerminated();
+    }
+}
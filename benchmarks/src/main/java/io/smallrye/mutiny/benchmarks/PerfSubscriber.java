@@ -0,0 +1,88 @@
+package io.smallrye.mutiny.benchmarks;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.infra.Blackhole;
+import org.reactivestreams.Subscription;
+
+import io.smallrye.mutiny.Context;
+import io.smallrye.mutiny.subscription.ContextSupport;
+import io.smallrye.mutiny.subscription.MultiSubscriber;
+
+/**
+ * A subscriber requesting everything upfront and consuming the items into a JMH {@link Blackhole}.
+ * <p>
+ * Synchronous pipelines complete before {@code subscribe} returns, asynchronous ones must be awaited with
+ * {@link #await()}.
+ *
+ * @param <T> the type of item
+ */
+public final class PerfSubscriber<T> implements MultiSubscriber<T>, ContextSupport {
+
+    private final Blackhole blackhole;
+    private final Context context;
+    private final CountDownLatch latch = new CountDownLatch(1);
+
+    public PerfSubscriber(Blackhole blackhole) {
+        this(blackhole, Context.empty());
+    }
+
+    public PerfSubscriber(Blackhole blackhole, Context context) {
+        this.blackhole = blackhole;
+        this.context = context;
+    }
+
+    @Override
+    public Context context() {
+        return context;
+    }
+
+    @Override
+    public void onSubscribe(Subscription subscription) {
+        subscription.request(Long.MAX_VALUE);
+    }
+
+    @Override
+    public void onItem(T item) {
+        blackhole.consume(item);
+    }
+
+    @Override
+    public void onFailure(Throwable failure) {
+        blackhole.consume(failure);
+        latch.countDown();
+    }
+
+    @Override
+    public void onCompletion() {
+        latch.countDown();
+    }
+
+    /**
+     * Waits for the completion of the stream.
+     *
+     * @throws IllegalStateException if the stream did not terminate within 10 seconds
+     */
+    public void await() {
+        try {
+            if (!latch.await(10, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("The stream did not terminate in time");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Checks that a synchronous stream terminated.
+     *
+     * @throws IllegalStateException if the stream is still running
+     */
+    public void assertTerminated() {
+        if (latch.getCount() != 0) {
+            throw new IllegalStateException("The stream is expected to be synchronous");
+        }
+    }
+}
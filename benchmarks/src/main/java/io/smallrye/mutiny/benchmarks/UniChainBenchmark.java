@@ -0,0 +1,72 @@
+package io.smallrye.mutiny.benchmarks;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Measures {@link Uni} pipelines of various depths, resolved either with {@code await()} or with a callback
+ * subscription.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class UniChainBenchmark {
+
+    @Param({ "1", "10", "100" })
+    public int depth;
+
+    ExecutorService executor;
+
+    Uni<Integer> transform;
+    Uni<Integer> transformToUni;
+    Uni<Integer> emitOn;
+
+    @Setup
+    public void setup() {
+        executor = Executors.newSingleThreadExecutor();
+        Uni<Integer> uni = Uni.createFrom().item(0);
+        Uni<Integer> flat = Uni.createFrom().item(0);
+        for (int i = 0; i < depth; i++) {
+            uni = uni.onItem().transform(x -> x + 1);
+            flat = flat.onItem().transformToUni(x -> Uni.createFrom().item(x + 1));
+        }
+        transform = uni;
+        transformToUni = flat;
+        emitOn = uni.emitOn(executor);
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public Integer transformAwait() {
+        return transform.await().indefinitely();
+    }
+
+    @Benchmark
+    public Integer transformToUniAwait() {
+        return transformToUni.await().indefinitely();
+    }
+
+    @Benchmark
+    public Integer emitOnAwait() {
+        return emitOn.await().indefinitely();
+    }
+
+    @Benchmark
+    public Object transformSubscribe() {
+        Object[] holder = new Object[1];
+        transform.subscribe().with(x -> holder[0] = x);
+        return holder[0];
+    }
+}
@@ -10,6 +10,21 @@ import io.smallrye.mutiny.tuples.Functions;
 
 public abstract class BaseContextPropagationInterceptor implements CallbackDecorator {
 
+    /**
+     * System property enabling the capture of the context once per subscription, instead of around each callback.
+     */
+    public static final String PER_SUBSCRIPTION_PROP_NAME = "mutiny.contextPropagation.perSubscription";
+
+    /**
+     * Whether the context is captured once per subscription and restored when the operators switch threads
+     * ({@code emitOn}, {@code runSubscriptionOn}, timers, completion stages...), instead of being captured when each
+     * callback is passed to an operator and restored around each of its invocations.
+     * <p>
+     * This mode is much cheaper, as the callbacks are not wrapped, but the callbacks invoked on threads that are not
+     * managed by Mutiny (e.g. an emitter called from another library's thread) do not see the context.
+     */
+    protected final boolean perSubscription = Boolean.getBoolean(PER_SUBSCRIPTION_PROP_NAME);
+
     /**
      * Gets the Context Propagation ThreadContext. External
      * implementations may implement this method.
@@ -21,7 +36,7 @@ public abstract class BaseContextPropagationInterceptor implements CallbackDecor
     @Override
     public <T> Supplier<T> decorate(Supplier<T> supplier) {
         SmallRyeThreadContext context = getThreadContext();
-        if (context.isContextualized(supplier)) {
+        if (perSubscription || context.isContextualized(supplier)) {
             return supplier;
         }
         return context.contextualSupplier(supplier);
@@ -30,7 +45,7 @@ public abstract class BaseContextPropagationInterceptor implements CallbackDecor
     @Override
     public <T> Consumer<T> decorate(Consumer<T> consumer) {
         SmallRyeThreadContext context = getThreadContext();
-        if (context.isContextualized(consumer)) {
+        if (perSubscription || context.isContextualized(consumer)) {
             return consumer;
         }
         return context.contextualConsumer(consumer);
@@ -39,7 +54,7 @@ public abstract class BaseContextPropagationInterceptor implements CallbackDecor
     @Override
     public LongConsumer decorate(LongConsumer consumer) {
         SmallRyeThreadContext context = getThreadContext();
-        if (context.isContextualized(consumer) || context.isEmpty()) {
+        if (perSubscription || context.isContextualized(consumer) || context.isEmpty()) {
             return consumer;
         }
         Consumer<Long> cons = context.contextualConsumer(consumer::accept);
@@ -62,7 +77,7 @@ public abstract class BaseContextPropagationInterceptor implements CallbackDecor
     @Override
     public Runnable decorate(Runnable runnable) {
         SmallRyeThreadContext context = getThreadContext();
-        if (context.isContextualized(runnable)) {
+        if (perSubscription || context.isContextualized(runnable)) {
             return runnable;
         }
         return context.contextualRunnable(runnable);
@@ -71,7 +86,7 @@ public abstract class BaseContextPropagationInterceptor implements CallbackDecor
     @Override
     public <T1, T2> BiConsumer<T1, T2> decorate(BiConsumer<T1, T2> consumer) {
         SmallRyeThreadContext context = getThreadContext();
-        if (context.isContextualized(consumer)) {
+        if (perSubscription || context.isContextualized(consumer)) {
             return consumer;
         }
         return context.contextualConsumer(consumer);
@@ -80,7 +95,7 @@ public abstract class BaseContextPropagationInterceptor implements CallbackDecor
     @Override
     public <I, O> Function<I, O> decorate(Function<I, O> function) {
         SmallRyeThreadContext context = getThreadContext();
-        if (context.isContextualized(function)) {
+        if (perSubscription || context.isContextualized(function)) {
             return function;
         }
         return context.contextualFunction(function);
@@ -90,7 +105,7 @@ public abstract class BaseContextPropagationInterceptor implements CallbackDecor
     @Override
     public <I1, I2, I3, O> Functions.Function3<I1, I2, I3, O> decorate(Functions.Function3<I1, I2, I3, O> function) {
         SmallRyeThreadContext context = getThreadContext();
-        if (context.isContextualized(function) || context.isEmpty()) {
+        if (perSubscription || context.isContextualized(function) || context.isEmpty()) {
             return function;
         }
         Function<Object[], O> fun = context
@@ -117,7 +132,7 @@ public abstract class BaseContextPropagationInterceptor implements CallbackDecor
     public <I1, I2, I3, I4, O> Functions.Function4<I1, I2, I3, I4, O> decorate(
             Functions.Function4<I1, I2, I3, I4, O> function) {
         SmallRyeThreadContext context = getThreadContext();
-        if (context.isContextualized(function) || context.isEmpty()) {
+        if (perSubscription || context.isContextualized(function) || context.isEmpty()) {
             return function;
         }
         Function<Object[], O> fun = context
@@ -144,7 +159,7 @@ public abstract class BaseContextPropagationInterceptor implements CallbackDecor
     public <I1, I2, I3, I4, I5, O> Functions.Function5<I1, I2, I3, I4, I5, O> decorate(
             Functions.Function5<I1, I2, I3, I4, I5, O> function) {
         SmallRyeThreadContext context = getThreadContext();
-        if (context.isContextualized(function) || context.isEmpty()) {
+        if (perSubscription || context.isContextualized(function) || context.isEmpty()) {
             return function;
         }
         Function<Object[], O> fun = context
@@ -173,7 +188,7 @@ public abstract class BaseContextPropagationInterceptor implements CallbackDecor
     public <I1, I2, I3, I4, I5, I6, O> Functions.Function6<I1, I2, I3, I4, I5, I6, O> decorate(
             Functions.Function6<I1, I2, I3, I4, I5, I6, O> function) {
         SmallRyeThreadContext context = getThreadContext();
-        if (context.isContextualized(function) || context.isEmpty()) {
+        if (perSubscription || context.isContextualized(function) || context.isEmpty()) {
             return function;
         }
         Function<Object[], O> fun = context
@@ -203,7 +218,7 @@ public abstract class BaseContextPropagationInterceptor implements CallbackDecor
     public <I1, I2, I3, I4, I5, I6, I7, O> Functions.Function7<I1, I2, I3, I4, I5, I6, I7, O> decorate(
             Functions.Function7<I1, I2, I3, I4, I5, I6, I7, O> function) {
         SmallRyeThreadContext context = getThreadContext();
-        if (context.isContextualized(function) || context.isEmpty()) {
+        if (perSubscription || context.isContextualized(function) || context.isEmpty()) {
             return function;
         }
         Function<Object[], O> fun = context
@@ -233,7 +248,7 @@ public abstract class BaseContextPropagationInterceptor implements CallbackDecor
     public <I1, I2, I3, I4, I5, I6, I7, I8, O> Functions.Function8<I1, I2, I3, I4, I5, I6, I7, I8, O> decorate(
             Functions.Function8<I1, I2, I3, I4, I5, I6, I7, I8, O> function) {
         SmallRyeThreadContext context = getThreadContext();
-        if (context.isContextualized(function) || context.isEmpty()) {
+        if (perSubscription || context.isContextualized(function) || context.isEmpty()) {
             return function;
         }
         Function<Object[], O> fun = context
@@ -263,7 +278,7 @@ public abstract class BaseContextPropagationInterceptor implements CallbackDecor
     public <I1, I2, I3, I4, I5, I6, I7, I8, I9, O> Functions.Function9<I1, I2, I3, I4, I5, I6, I7, I8, I9, O> decorate(
             Functions.Function9<I1, I2, I3, I4, I5, I6, I7, I8, I9, O> function) {
         SmallRyeThreadContext context = getThreadContext();
-        if (context.isContextualized(function) || context.isEmpty()) {
+        if (perSubscription || context.isContextualized(function) || context.isEmpty()) {
             return function;
         }
         Function<Object[], O> fun = context
@@ -290,7 +305,7 @@ public abstract class BaseContextPropagationInterceptor implements CallbackDecor
     @Override
     public <I1, I2, O> BiFunction<I1, I2, O> decorate(BiFunction<I1, I2, O> function) {
         SmallRyeThreadContext context = getThreadContext();
-        if (context.isContextualized(function)) {
+        if (perSubscription || context.isContextualized(function)) {
             return function;
         }
         return context.contextualFunction(function);
@@ -299,7 +314,7 @@ public abstract class BaseContextPropagationInterceptor implements CallbackDecor
     @Override
     public <T> BinaryOperator<T> decorate(BinaryOperator<T> operator) {
         SmallRyeThreadContext context = getThreadContext();
-        if (context.isContextualized(operator) || context.isEmpty()) {
+        if (perSubscription || context.isContextualized(operator) || context.isEmpty()) {
             return operator;
         }
         BiFunction<T, T, T> function = context.contextualFunction(operator);
@@ -322,7 +337,7 @@ public abstract class BaseContextPropagationInterceptor implements CallbackDecor
     @Override
     public <T1, T2, T3> Functions.TriConsumer<T1, T2, T3> decorate(Functions.TriConsumer<T1, T2, T3> consumer) {
         SmallRyeThreadContext context = getThreadContext();
-        if (context.isContextualized(consumer) || context.isEmpty()) {
+        if (perSubscription || context.isContextualized(consumer) || context.isEmpty()) {
             return consumer;
         }
         return new ContextualizedTriConsumer<>(context.currentContextExecutor(), consumer);
@@ -347,7 +362,7 @@ public abstract class BaseContextPropagationInterceptor implements CallbackDecor
     @Override
     public BooleanSupplier decorate(BooleanSupplier supplier) {
         SmallRyeThreadContext context = getThreadContext();
-        if (context.isContextualized(supplier) || context.isEmpty()) {
+        if (perSubscription || context.isContextualized(supplier) || context.isEmpty()) {
             return supplier;
         }
         Supplier<Boolean> contextualized = context.contextualSupplier(supplier::getAsBoolean);
@@ -370,7 +385,7 @@ public abstract class BaseContextPropagationInterceptor implements CallbackDecor
     @Override
     public <T> Predicate<T> decorate(Predicate<T> predicate) {
         SmallRyeThreadContext context = getThreadContext();
-        if (context.isContextualized(predicate) || context.isEmpty()) {
+        if (perSubscription || context.isContextualized(predicate) || context.isEmpty()) {
             return predicate;
         }
         Function<T, Boolean> contextualized = context.contextualFunction(predicate::test);
@@ -389,4 +404,33 @@ public abstract class BaseContextPropagationInterceptor implements CallbackDecor
             return contextualized.apply(t);
         }
     }
+
+    @Override
+    public UnaryOperator<Runnable> captureForThreadHop() {
+        if (!perSubscription) {
+            return null;
+        }
+        SmallRyeThreadContext context = getThreadContext();
+        if (context.isEmpty()) {
+            return null;
+        }
+        // The context is captured now, and restored by the executor around each task
+        Executor executor = context.currentContextExecutor();
+        return task -> new ContextualizedRunnable(executor, task);
+    }
+
+    static class ContextualizedRunnable implements Runnable, Contextualized {
+        private final Executor executor;
+        private final Runnable task;
+
+        ContextualizedRunnable(Executor executor, Runnable task) {
+            this.executor = executor;
+            this.task = task;
+        }
+
+        @Override
+        public void run() {
+            executor.execute(task);
+        }
+    }
 }
@@ -0,0 +1,127 @@
+package io.smallrye.mutiny.context;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.*;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+
+public class PerSubscriptionContextPropagationTest {
+
+    private static ExecutorService executor;
+
+    @BeforeAll
+    public static void init() {
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterAll
+    public static void shutdown() {
+        executor.shutdown();
+    }
+
+    @BeforeEach
+    public void initContext() {
+        System.setProperty(BaseContextPropagationInterceptor.PER_SUBSCRIPTION_PROP_NAME, "true");
+        Infrastructure.reload();
+        MyContext.init();
+    }
+
+    @AfterEach
+    public void clearContext() {
+        System.clearProperty(BaseContextPropagationInterceptor.PER_SUBSCRIPTION_PROP_NAME);
+        Infrastructure.reload();
+        MyContext.clear();
+    }
+
+    @Test
+    public void testCallbacksAreNotDecorated() {
+        Function<Integer, Integer> function = i -> i + 1;
+        assertThat(Infrastructure.decorate(function)).isSameAs(function);
+    }
+
+    @Test
+    public void testEmitOn() {
+        MyContext ctx = MyContext.get();
+        List<Boolean> results = Multi.createFrom().range(0, 1000)
+                .emitOn(executor)
+                .map(i -> MyContext.get() == ctx)
+                .collect().asList()
+                .await().atMost(Duration.ofSeconds(5));
+
+        assertThat(results).hasSize(1000).containsOnly(true);
+    }
+
+    @Test
+    public void testRunSubscriptionOn() {
+        MyContext ctx = MyContext.get();
+        boolean same = Uni.createFrom().item(() -> MyContext.get() == ctx)
+                .runSubscriptionOn(executor)
+                .await().atMost(Duration.ofSeconds(5));
+        List<Boolean> items = Multi.createFrom().items(() -> java.util.stream.Stream.of(MyContext.get() == ctx))
+                .runSubscriptionOn(executor)
+                .collect().asList()
+                .await().atMost(Duration.ofSeconds(5));
+
+        assertThat(same).isTrue();
+        assertThat(items).containsExactly(true);
+    }
+
+    @Test
+    public void testTimers() {
+        MyContext ctx = MyContext.get();
+        boolean delayed = Uni.createFrom().item(1)
+                .onItem().delayIt().by(Duration.ofMillis(10))
+                .map(i -> MyContext.get() == ctx)
+                .await().atMost(Duration.ofSeconds(5));
+        List<Boolean> ticks = Multi.createFrom().ticks().every(Duration.ofMillis(5))
+                .select().first(3)
+                .map(i -> MyContext.get() == ctx)
+                .collect().asList()
+                .await().atMost(Duration.ofSeconds(5));
+        boolean timeout = Uni.createFrom().<Boolean> nothing()
+                .ifNoItem().after(Duration.ofMillis(10)).recoverWithItem(() -> MyContext.get() == ctx)
+                .await().atMost(Duration.ofSeconds(5));
+
+        assertThat(delayed).isTrue();
+        assertThat(ticks).containsExactly(true, true, true);
+        assertThat(timeout).isTrue();
+    }
+
+    @Test
+    public void testCompletionStageCompletedOnAnotherThread() {
+        MyContext ctx = MyContext.get();
+        boolean same = Uni.createFrom().completionStage(() -> CompletableFuture.supplyAsync(() -> 1, executor))
+                .map(i -> MyContext.get() == ctx)
+                .await().atMost(Duration.ofSeconds(5));
+
+        assertThat(same).isTrue();
+    }
+
+    @Test
+    public void testContextIsCapturedAtSubscriptionTime() throws InterruptedException {
+        Uni<Boolean> uni = Uni.createFrom().item(1)
+                .emitOn(executor)
+                .map(i -> MyContext.get() != null && "subscriber".equals(MyContext.get().getReqId()));
+
+        Boolean[] result = new Boolean[1];
+        Thread thread = new Thread(() -> {
+            MyContext.init();
+            MyContext.get().set("subscriber");
+            result[0] = uni.await().atMost(Duration.ofSeconds(5));
+        });
+        thread.start();
+        thread.join(5000);
+
+        assertThat(result[0]).isTrue();
+    }
+}
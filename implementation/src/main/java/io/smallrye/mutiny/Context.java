@@ -5,6 +5,7 @@ import static java.util.Objects.requireNonNull;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.function.BiFunction;
 import java.util.function.Supplier;
 
@@ -21,6 +22,8 @@ import io.smallrye.common.annotation.Experimental;
  * <p>
  * {@link Context} instances are thread-safe.
  * Internal storage is not allocated until the first entry is being added.
+ * Small contexts (up to 8 entries) are stored in an immutable array that is copied on write, so reading from a context
+ * never allocates and never locks. Larger contexts switch to a concurrent map.
  * <p>
  * Contexts shall be primarily used to share transient data used for networked I/O processing such as correlation
  * identifiers, tokens, etc.
@@ -59,13 +62,27 @@ public final class Context {
         if (entries.length % 2 != 0) {
             throw new IllegalArgumentException("Arguments must be balanced to form (key, value) pairs");
         }
-        HashMap<String, Object> map = new HashMap<>();
+        Object[] pairs = new Object[entries.length];
+        int size = 0;
         for (int i = 0; i < entries.length; i = i + 2) {
             String key = nonNull(entries[i], "key").toString();
             Object value = nonNull(entries[i + 1], "value");
-            map.put(key, value);
+            int index = indexOf(pairs, size, key);
+            if (index >= 0) {
+                pairs[index + 1] = value;
+            } else {
+                pairs[size++] = key;
+                pairs[size++] = value;
+            }
+        }
+        if (size / 2 > MAX_SMALL_SIZE) {
+            ConcurrentHashMap<String, Object> map = new ConcurrentHashMap<>();
+            for (int i = 0; i < size; i = i + 2) {
+                map.put((String) pairs[i], pairs[i + 1]);
+            }
+            return new Context(map);
         }
-        return new Context(map);
+        return new Context(size == pairs.length ? pairs : Arrays.copyOf(pairs, size));
     }
 
     /**
@@ -76,17 +93,69 @@ public final class Context {
      * @throws NullPointerException when {@code entries} is null
      */
     public static Context from(Map<String, ?> entries) {
-        return new Context(requireNonNull(entries, "The entries map cannot be null"));
+        requireNonNull(entries, "The entries map cannot be null");
+        if (entries.size() > MAX_SMALL_SIZE) {
+            return new Context(new ConcurrentHashMap<>(entries));
+        }
+        Object[] pairs = new Object[entries.size() * 2];
+        int i = 0;
+        for (Map.Entry<String, ?> entry : entries.entrySet()) {
+            pairs[i++] = requireNonNull(entry.getKey());
+            pairs[i++] = requireNonNull(entry.getValue());
+        }
+        return new Context(pairs);
     }
 
-    private volatile ConcurrentHashMap<String, Object> entries;
+    /**
+     * The number of entries up to which the entries are stored in an immutable array, copied on write.
+     * Larger contexts use a {@link ConcurrentHashMap}.
+     */
+    private static final int MAX_SMALL_SIZE = 8;
+
+    private static final Object[] EMPTY = new Object[0];
+
+    private static final AtomicReferenceFieldUpdater<Context, Object> ENTRIES_UPDATER = AtomicReferenceFieldUpdater
+            .newUpdater(Context.class, Object.class, "entries");
+
+    /**
+     * The entries, either:
+     * <ul>
+     * <li>{@code null} until the first entry is added,</li>
+     * <li>an immutable {@code Object[]} of key / value pairs, replaced on each write, for small contexts,</li>
+     * <li>a {@link ConcurrentHashMap} once the context grows larger than {@link #MAX_SMALL_SIZE} entries.</li>
+     * </ul>
+     * Reads never allocate, and small contexts are cheap to create and to update, which is the common case.
+     */
+    private volatile Object entries;
 
     private Context() {
         this.entries = null;
     }
 
-    private Context(Map<String, ?> initialEntries) {
-        this.entries = new ConcurrentHashMap<>(initialEntries);
+    private Context(Object entries) {
+        this.entries = entries;
+    }
+
+    private static int indexOf(Object[] pairs, int length, String key) {
+        for (int i = 0; i < length; i = i + 2) {
+            Object candidate = pairs[i];
+            if (candidate == key || candidate.equals(key)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object lookup(Object entries, String key) {
+        if (entries instanceof Object[]) {
+            Object[] pairs = (Object[]) entries;
+            int index = indexOf(pairs, pairs.length, key);
+            return index >= 0 ? pairs[index + 1] : null;
+        } else if (entries != null) {
+            return ((ConcurrentHashMap<String, Object>) entries).get(key);
+        }
+        return null;
     }
 
     /**
@@ -96,11 +165,7 @@ public final class Context {
      * @return {@code true} when there is an entry for {@code key}, {@code false} otherwise
      */
     public boolean contains(String key) {
-        if (entries == null) {
-            return false;
-        } else {
-            return entries.containsKey(key);
-        }
+        return lookup(entries, key) != null;
     }
 
     /**
@@ -113,10 +178,11 @@ public final class Context {
      */
     @SuppressWarnings("unchecked")
     public <T> T get(String key) throws NoSuchElementException {
-        if (entries == null) {
+        Object current = entries;
+        if (current == null) {
             throw new NoSuchElementException("The context is empty");
         }
-        T value = (T) entries.get(key);
+        T value = (T) lookup(current, key);
         if (value == null) {
             throw new NoSuchElementException("The context does not have a value for key " + key);
         }
@@ -133,11 +199,9 @@ public final class Context {
      */
     @SuppressWarnings("unchecked")
     public <T> T getOrElse(String key, Supplier<? extends T> alternativeSupplier) {
-        if (entries != null) {
-            T value = (T) entries.get(key);
-            if (value != null) {
-                return value;
-            }
+        T value = (T) lookup(entries, key);
+        if (value != null) {
+            return value;
         }
         return alternativeSupplier.get();
     }
@@ -149,16 +213,43 @@ public final class Context {
      * @param value the value, cannot be {@code null}
      * @return this context
      */
+    @SuppressWarnings("unchecked")
     public Context put(String key, Object value) {
-        if (entries == null) {
-            synchronized (this) {
-                if (entries == null) {
-                    this.entries = new ConcurrentHashMap<>(8);
+        requireNonNull(key);
+        requireNonNull(value);
+        for (;;) {
+            Object current = entries;
+            if (current instanceof ConcurrentHashMap) {
+                ((ConcurrentHashMap<String, Object>) current).put(key, value);
+                return this;
+            }
+            Object[] pairs = current == null ? EMPTY : (Object[]) current;
+            int index = indexOf(pairs, pairs.length, key);
+            Object updated;
+            if (index >= 0) {
+                if (pairs[index + 1] == value) {
+                    return this;
+                }
+                Object[] copy = pairs.clone();
+                copy[index + 1] = value;
+                updated = copy;
+            } else if (pairs.length / 2 < MAX_SMALL_SIZE) {
+                Object[] copy = Arrays.copyOf(pairs, pairs.length + 2);
+                copy[pairs.length] = key;
+                copy[pairs.length + 1] = value;
+                updated = copy;
+            } else {
+                ConcurrentHashMap<String, Object> map = new ConcurrentHashMap<>(MAX_SMALL_SIZE * 4);
+                for (int i = 0; i < pairs.length; i = i + 2) {
+                    map.put((String) pairs[i], pairs[i + 1]);
                 }
+                map.put(key, value);
+                updated = map;
+            }
+            if (ENTRIES_UPDATER.compareAndSet(this, current, updated)) {
+                return this;
             }
         }
-        entries.put(key, value);
-        return this;
     }
 
     /**
@@ -167,11 +258,29 @@ public final class Context {
      * @param key the key
      * @return this context
      */
+    @SuppressWarnings("unchecked")
     public Context delete(String key) {
-        if (entries != null) {
-            entries.remove(key);
+        for (;;) {
+            Object current = entries;
+            if (current == null) {
+                return this;
+            }
+            if (current instanceof ConcurrentHashMap) {
+                ((ConcurrentHashMap<String, Object>) current).remove(key);
+                return this;
+            }
+            Object[] pairs = (Object[]) current;
+            int index = indexOf(pairs, pairs.length, key);
+            if (index < 0) {
+                return this;
+            }
+            Object[] updated = new Object[pairs.length - 2];
+            System.arraycopy(pairs, 0, updated, 0, index);
+            System.arraycopy(pairs, index + 2, updated, index, pairs.length - index - 2);
+            if (ENTRIES_UPDATER.compareAndSet(this, current, updated)) {
+                return this;
+            }
         }
-        return this;
     }
 
     /**
@@ -180,26 +289,79 @@ public final class Context {
      * @return {@code true} if the context is empty, {@code false} otherwise
      */
     public boolean isEmpty() {
-        return (this.entries == null) || (entries.isEmpty());
+        return size(entries) == 0;
+    }
+
+    private static int size(Object entries) {
+        if (entries instanceof Object[]) {
+            return ((Object[]) entries).length / 2;
+        } else if (entries != null) {
+            return ((ConcurrentHashMap<?, ?>) entries).size();
+        }
+        return 0;
     }
 
     /**
      * Gives the set of keys present in the context at the time the method is being called.
      * <p>
-     * Note that each call to this method produces a copy.
+     * The returned set is a read-only snapshot: it does not reflect the later changes of the context.
      *
      * @return the set of keys
      */
+    @SuppressWarnings("unchecked")
     public Set<String> keys() {
-        if (this.entries == null) {
+        Object current = entries;
+        if (current == null) {
             return Collections.emptySet();
         }
-        HashSet<String> set = new HashSet<>();
-        Enumeration<String> enumeration = entries.keys();
-        while (enumeration.hasMoreElements()) {
-            set.add(enumeration.nextElement());
+        if (current instanceof Object[]) {
+            return new KeySet((Object[]) current);
+        }
+        return Collections.unmodifiableSet(new HashSet<>(((ConcurrentHashMap<String, Object>) current).keySet()));
+    }
+
+    /**
+     * A read-only view of the keys of an immutable array of key / value pairs, so {@link #keys()} does not copy
+     * small contexts.
+     */
+    private static final class KeySet extends AbstractSet<String> {
+        private final Object[] pairs;
+
+        KeySet(Object[] pairs) {
+            this.pairs = pairs;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return o instanceof String && indexOf(pairs, pairs.length, (String) o) >= 0;
+        }
+
+        @Override
+        public Iterator<String> iterator() {
+            return new Iterator<String>() {
+                int index = 0;
+
+                @Override
+                public boolean hasNext() {
+                    return index < pairs.length;
+                }
+
+                @Override
+                public String next() {
+                    if (index >= pairs.length) {
+                        throw new NoSuchElementException();
+                    }
+                    String key = (String) pairs[index];
+                    index = index + 2;
+                    return key;
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return pairs.length / 2;
         }
-        return set;
     }
 
     @Override
@@ -210,19 +372,57 @@ public final class Context {
         if (other == null || getClass() != other.getClass()) {
             return false;
         }
-        Context context = (Context) other;
-        return Objects.equals(entries, context.entries);
+        Object mine = entries;
+        Object theirs = ((Context) other).entries;
+        if (mine == null || theirs == null) {
+            return mine == theirs;
+        }
+        if (size(mine) != size(theirs)) {
+            return false;
+        }
+        for (String key : keys()) {
+            if (!Objects.equals(lookup(mine, key), lookup(theirs, key))) {
+                return false;
+            }
+        }
+        return true;
     }
 
+    @SuppressWarnings("unchecked")
     @Override
     public int hashCode() {
-        return Objects.hash(entries);
+        Object current = entries;
+        if (current instanceof Object[]) {
+            // Same as Map.hashCode()
+            Object[] pairs = (Object[]) current;
+            int hash = 0;
+            for (int i = 0; i < pairs.length; i = i + 2) {
+                hash += pairs[i].hashCode() ^ pairs[i + 1].hashCode();
+            }
+            return hash;
+        } else if (current != null) {
+            return current.hashCode();
+        }
+        return 0;
     }
 
     @Override
     public String toString() {
-        return "Context{" +
-                "entries=" + entries +
-                '}';
+        Object current = entries;
+        StringBuilder builder = new StringBuilder("Context{entries=");
+        if (current instanceof Object[]) {
+            Object[] pairs = (Object[]) current;
+            builder.append('{');
+            for (int i = 0; i < pairs.length; i = i + 2) {
+                if (i > 0) {
+                    builder.append(", ");
+                }
+                builder.append(pairs[i]).append('=').append(pairs[i + 1]);
+            }
+            builder.append('}');
+        } else {
+            builder.append(current);
+        }
+        return builder.append('}').toString();
     }
 }
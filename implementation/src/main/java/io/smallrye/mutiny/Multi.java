@@ -3,6 +3,7 @@ package io.smallrye.mutiny;
 import static io.smallrye.mutiny.helpers.ParameterValidation.nonNull;
 import static io.smallrye.mutiny.helpers.ParameterValidation.positive;
 
+import java.time.Duration;
 import java.util.concurrent.Executor;
 import java.util.function.*;
 
@@ -204,6 +205,49 @@ public interface Multi<T> extends Publisher<T> {
     @CheckReturnValue
     Multi<T> cache();
 
+    /**
+     * Creates a new {@link Multi} that subscribes to this upstream and caches its events and replays them, to all
+     * the downstream subscribers, retaining at most {@code maxItems} items.
+     * <p>
+     * When more than {@code maxItems} items have been received, the oldest items are evicted: new subscribers start
+     * from the oldest retained item, while the existing subscribers continue from their current position. The
+     * terminal event (failure or completion) is always replayed.
+     *
+     * @param maxItems the maximum number of retained items, must be strictly positive
+     * @return a multi replaying the most recent events from the upstream.
+     */
+    @Experimental("Bounded caches are a new experimental API")
+    @CheckReturnValue
+    Multi<T> cache(int maxItems);
+
+    /**
+     * Creates a new {@link Multi} that subscribes to this upstream and caches its events and replays them, to all
+     * the downstream subscribers, retaining the items received during the last {@code ttl}.
+     * <p>
+     * New subscribers start from the oldest item that has not expired, while the existing subscribers continue from
+     * their current position. The terminal event (failure or completion) is always replayed.
+     *
+     * @param ttl the time-to-live of the items, must not be {@code null}, must be strictly positive
+     * @return a multi replaying the most recent events from the upstream.
+     */
+    @Experimental("Bounded caches are a new experimental API")
+    @CheckReturnValue
+    Multi<T> cache(Duration ttl);
+
+    /**
+     * Creates a new {@link Multi} that subscribes to this upstream and caches its events and replays them, to all
+     * the downstream subscribers, retaining at most {@code maxItems} items received during the last {@code ttl}.
+     *
+     * @param maxItems the maximum number of retained items, must be strictly positive
+     * @param ttl the time-to-live of the items, must not be {@code null}, must be strictly positive
+     * @return a multi replaying the most recent events from the upstream.
+     * @see #cache(int)
+     * @see #cache(Duration)
+     */
+    @Experimental("Bounded caches are a new experimental API")
+    @CheckReturnValue
+    Multi<T> cache(int maxItems, Duration ttl);
+
     /**
      * Produces {@link Uni} collecting/aggregating items from this {@link Multi}.
      * It allows accumulating the items emitted by this {@code multi} into a structure such as a into a
@@ -232,6 +276,20 @@ public interface Multi<T> extends Publisher<T> {
     @CheckReturnValue
     MultiGroup<T> group();
 
+    /**
+     * Splits this {@link Multi} into {@code rails} rails, to process the items in parallel.
+     * <p>
+     * The items are dispatched to the rails in a round-robin fashion, skipping the rails without outstanding requests.
+     * Use {@link MultiParallel#runOn(Executor)} to process each rail on its own thread, and
+     * {@link MultiParallel#sequential()} to merge the rails back into a {@link Multi}.
+     *
+     * @param rails the number of rails, must be strictly positive
+     * @return the object to configure the parallel processing
+     */
+    @Experimental("Parallel rails are a new experimental API")
+    @CheckReturnValue
+    MultiParallel<T> parallel(int rails);
+
     /**
      * Produces a new {@link Multi} invoking the {@code onItem}, {@code onFailure} and {@code onCompletion} methods
      * on the supplied {@link Executor}.
@@ -247,6 +305,45 @@ public interface Multi<T> extends Publisher<T> {
     @CheckReturnValue
     Multi<T> emitOn(Executor executor);
 
+    /**
+     * Produces a new {@link Multi} invoking the {@code onItem}, {@code onFailure} and {@code onCompletion} methods
+     * on the supplied {@link Executor}, using a buffer of {@code bufferSize} items.
+     * <p>
+     * The {@code bufferSize} items are requested upfront, and the upstream is replenished once 75% of them have
+     * been emitted.
+     * <p>
+     * Note that the subscriber is guaranteed to never be called concurrently.
+     *
+     * @param executor the executor to use, must not be {@code null}
+     * @param bufferSize the size of the buffer storing the items before they are emitted, must be strictly positive
+     * @return a new {@link Multi}
+     * @see #emitOn(Executor)
+     */
+    @Experimental("Configurable emitOn is a new experimental API")
+    @CheckReturnValue
+    Multi<T> emitOn(Executor executor, int bufferSize);
+
+    /**
+     * Produces a new {@link Multi} invoking the {@code onItem}, {@code onFailure} and {@code onCompletion} methods
+     * on the supplied {@link Executor}, using a buffer of {@code bufferSize} items, and emitting at most
+     * {@code batchSize} items per executor task.
+     * <p>
+     * Once {@code batchSize} items have been emitted, the emission is re-submitted to the executor instead of
+     * continuing on the same thread. This lets the other tasks of the executor run, so a fast stream does not
+     * monopolize a thread shared with other streams (an event loop for example).
+     * <p>
+     * Note that the subscriber is guaranteed to never be called concurrently.
+     *
+     * @param executor the executor to use, must not be {@code null}
+     * @param bufferSize the size of the buffer storing the items before they are emitted, must be strictly positive
+     * @param batchSize the maximum number of items emitted by an executor task, must be strictly positive
+     * @return a new {@link Multi}
+     * @see #emitOn(Executor, int)
+     */
+    @Experimental("Configurable emitOn is a new experimental API")
+    @CheckReturnValue
+    Multi<T> emitOn(Executor executor, int bufferSize, int batchSize);
+
     /**
      * When a subscriber subscribes to this {@link Multi}, execute the subscription to the upstream {@link Multi} on a
      * thread from the given executor. As a result, the {@link Subscriber#onSubscribe(Subscription)} method will be called
@@ -555,6 +652,22 @@ public interface Multi<T> extends Publisher<T> {
     @CheckReturnValue
     Multi<T> log();
 
+    /**
+     * Reports the events of this stage to the {@link io.smallrye.mutiny.infrastructure.MetricsCollector metrics
+     * collectors} installed in the {@link Infrastructure}: requests and outstanding demand, items, time between the
+     * subscription and the first item, and termination.
+     * <p>
+     * When no collector is installed, the subscribers subscribe directly to this {@link Multi}, so the stage does not
+     * add any cost to the pipeline.
+     *
+     * @param stage the name of the stage, reported to the collectors, must not be {@code null} or empty
+     * @return a new {@link Multi}
+     * @see io.smallrye.mutiny.infrastructure.MetricsCollector
+     */
+    @Experimental("Operator metrics are a new experimental API")
+    @CheckReturnValue
+    Multi<T> measure(String stage);
+
     /**
      * Materialize the subscriber {@link Context} for a sub-pipeline.
      *
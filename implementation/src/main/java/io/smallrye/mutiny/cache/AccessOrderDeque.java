@@ -0,0 +1,61 @@
+package io.smallrye.mutiny.cache;
+
+/**
+ * A doubly-linked list of {@link Node}, from the least recently used to the most recently used.
+ * Not thread-safe, accessed under the eviction lock.
+ */
+final class AccessOrderDeque<K, V> {
+
+    private Node<K, V> first;
+    private Node<K, V> last;
+    private int size;
+
+    int size() {
+        return size;
+    }
+
+    Node<K, V> peekFirst() {
+        return first;
+    }
+
+    void addLast(Node<K, V> node) {
+        node.prev = last;
+        node.next = null;
+        if (last == null) {
+            first = node;
+        } else {
+            last.next = node;
+        }
+        last = node;
+        size++;
+    }
+
+    void remove(Node<K, V> node) {
+        if (node.prev == null) {
+            first = node.next;
+        } else {
+            node.prev.next = node.next;
+        }
+        if (node.next == null) {
+            last = node.prev;
+        } else {
+            node.next.prev = node.prev;
+        }
+        node.prev = null;
+        node.next = null;
+        size--;
+    }
+
+    void moveToLast(Node<K, V> node) {
+        if (node != last) {
+            remove(node);
+            addLast(node);
+        }
+    }
+
+    void clear() {
+        first = null;
+        last = null;
+        size = 0;
+    }
+}
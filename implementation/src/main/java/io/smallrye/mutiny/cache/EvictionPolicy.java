@@ -0,0 +1,37 @@
+package io.smallrye.mutiny.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * Decides which entries to evict when a {@link UniCache} exceeds its maximum size.
+ * Not thread-safe, accessed under the eviction lock.
+ */
+interface EvictionPolicy<K, V> {
+
+    /**
+     * Records an access to a cached entry.
+     *
+     * @param node the accessed node
+     */
+    void onAccess(Node<K, V> node);
+
+    /**
+     * Records the insertion of a new entry, and evicts the entries exceeding the maximum size.
+     *
+     * @param node the inserted node
+     * @param evicted the callback receiving the evicted nodes
+     */
+    void onInsert(Node<K, V> node, Consumer<Node<K, V>> evicted);
+
+    /**
+     * Records the removal of an entry.
+     *
+     * @param node the removed node
+     */
+    void onRemove(Node<K, V> node);
+
+    /**
+     * Forgets all the entries.
+     */
+    void clear();
+}
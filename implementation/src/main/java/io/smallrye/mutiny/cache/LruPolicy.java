@@ -0,0 +1,47 @@
+package io.smallrye.mutiny.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * Evicts the least recently used entry.
+ */
+final class LruPolicy<K, V> implements EvictionPolicy<K, V> {
+
+    private final long maximumSize;
+    private final AccessOrderDeque<K, V> deque = new AccessOrderDeque<>();
+
+    LruPolicy(long maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+
+    @Override
+    public void onAccess(Node<K, V> node) {
+        if (node.linked) {
+            deque.moveToLast(node);
+        }
+    }
+
+    @Override
+    public void onInsert(Node<K, V> node, Consumer<Node<K, V>> evicted) {
+        node.linked = true;
+        deque.addLast(node);
+        while (deque.size() > maximumSize) {
+            Node<K, V> victim = deque.peekFirst();
+            onRemove(victim);
+            evicted.accept(victim);
+        }
+    }
+
+    @Override
+    public void onRemove(Node<K, V> node) {
+        if (node.linked) {
+            node.linked = false;
+            deque.remove(node);
+        }
+    }
+
+    @Override
+    public void clear() {
+        deque.clear();
+    }
+}
@@ -0,0 +1,45 @@
+package io.smallrye.mutiny.cache;
+
+import io.smallrye.mutiny.Uni;
+
+/**
+ * A cache entry, also linked in the eviction policy queues.
+ * <p>
+ * The {@code prev}, {@code next}, {@code queue} and {@code removed} fields are guarded by the eviction lock.
+ *
+ * @param <K> the type of key
+ * @param <V> the type of value
+ */
+final class Node<K, V> {
+
+    static final int WINDOW = 0;
+    static final int PROBATION = 1;
+    static final int PROTECTED = 2;
+
+    final K key;
+
+    /**
+     * The memoized loading of the value, shared by all the subscribers.
+     */
+    Uni<V> value;
+
+    /**
+     * The time at which the value has been loaded, {@code -1} while loading.
+     */
+    volatile long loadedAt = -1L;
+
+    Node<K, V> prev;
+    Node<K, V> next;
+    int queue;
+    boolean linked;
+    boolean removed;
+
+    Node(K key) {
+        this.key = key;
+    }
+
+    boolean isExpired(long now, long ttl) {
+        long loaded = loadedAt;
+        return ttl != 0L && loaded != -1L && now - loaded >= ttl;
+    }
+}
@@ -0,0 +1,403 @@
+package io.smallrye.mutiny.cache;
+
+import static io.smallrye.mutiny.helpers.ParameterValidation.nonNull;
+import static io.smallrye.mutiny.helpers.ParameterValidation.positive;
+import static io.smallrye.mutiny.helpers.ParameterValidation.validate;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import io.smallrye.common.annotation.Experimental;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * An asynchronous cache of the values computed by a {@code Function<K, Uni<V>>} loader.
+ * <p>
+ * The loading of a value is memoized: the subscribers to {@link #get(Object)} for the same key share a single
+ * subscription to the {@link Uni} returned by the loader, including while the value is being loaded
+ * (single-flight loading). Failures are not cached: a failed loading is forwarded to the subscribers that were waiting
+ * for it, and the next subscriber triggers a new loading.
+ * <p>
+ * The cache can be bounded by a maximum number of entries, using either a least-recently-used ({@link Eviction#LRU})
+ * or a W-TinyLFU ({@link Eviction#W_TINY_LFU}) eviction policy, and the values can expire after a time-to-live.
+ * Expired entries are replaced when they are accessed, or evicted when the cache is full.
+ * <p>
+ * Example:
+ *
+ * <pre>
+ * {@code
+ * UniCache<String, Token> tokens = UniCache.builder()
+ *         .maximumSize(10_000)
+ *         .expireAfterLoad(Duration.ofMinutes(5))
+ *         .build(client::fetchToken);
+ *
+ * Uni<Token> token = tokens.get("my-service");
+ * }
+ * </pre>
+ *
+ * @param <K> the type of key
+ * @param <V> the type of value
+ */
+@Experimental("UniCache is a new experimental API")
+public final class UniCache<K, V> {
+
+    /**
+     * The eviction policies of a bounded cache.
+     */
+    public enum Eviction {
+        /**
+         * Evicts the least recently used entry.
+         */
+        LRU,
+        /**
+         * Evicts the entries that are the least likely to be used again, based on their recent access frequency.
+         * This retains the frequently used entries better than {@link #LRU}, especially when scans are mixed with
+         * repeated accesses.
+         */
+        W_TINY_LFU
+    }
+
+    private final Function<? super K, Uni<? extends V>> loader;
+    private final long ttl;
+    private final EvictionPolicy<K, V> policy;
+    private final ConcurrentHashMap<K, Node<K, V>> entries = new ConcurrentHashMap<>();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final Consumer<Node<K, V>> onEviction = this::evicted;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder loadSuccesses = new LongAdder();
+    private final LongAdder loadFailures = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    private UniCache(Builder builder, Function<? super K, Uni<? extends V>> loader) {
+        this.loader = loader;
+        this.ttl = builder.ttl;
+        if (builder.maximumSize == Long.MAX_VALUE) {
+            this.policy = null;
+        } else if (builder.eviction == Eviction.LRU) {
+            this.policy = new LruPolicy<>(builder.maximumSize);
+        } else {
+            this.policy = new WindowTinyLfuPolicy<>(builder.maximumSize);
+        }
+    }
+
+    /**
+     * @return a builder to configure a new {@link UniCache}
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Gets the value associated with the given key.
+     * <p>
+     * Each subscription to the returned {@link Uni} looks up the cache: it receives the cached value if any, or joins
+     * the loading in flight for the key, or triggers a new loading.
+     * Cancelling a subscription does not cancel the loading, as its value is cached for the other subscribers.
+     *
+     * @param key the key, must not be {@code null}
+     * @return the {@link Uni} emitting the value
+     */
+    public Uni<V> get(K key) {
+        nonNull(key, "key");
+        return Uni.createFrom().deferred(() -> lookup(key));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Uni<V> lookup(K key) {
+        long now = System.nanoTime();
+        Node<K, V> node = entries.get(key);
+        if (node != null && !node.isExpired(now, ttl)) {
+            hits.increment();
+            recordAccess(node);
+            return node.value;
+        }
+
+        Node<K, V> created = new Node<>(key);
+        created.value = load(created);
+        Object[] replaced = new Object[1];
+        Node<K, V> current = entries.compute(key, (k, existing) -> {
+            if (existing != null && !existing.isExpired(now, ttl)) {
+                return existing;
+            }
+            replaced[0] = existing;
+            return created;
+        });
+        if (current != created) {
+            // Another subscriber has just started the loading
+            hits.increment();
+            recordAccess(current);
+            return current.value;
+        }
+
+        misses.increment();
+        evictionLock.lock();
+        try {
+            if (replaced[0] != null) {
+                // The expired entry has been replaced
+                removeFromPolicy((Node<K, V>) replaced[0]);
+            }
+            if (policy != null && !created.removed) {
+                policy.onInsert(created, onEviction);
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+        return created.value;
+    }
+
+    private Uni<V> load(Node<K, V> node) {
+        return Uni.createFrom().<V> deferred(() -> loader.apply(node.key))
+                .onItem().invoke(value -> {
+                    node.loadedAt = System.nanoTime();
+                    loadSuccesses.increment();
+                })
+                .onFailure().invoke(failure -> {
+                    loadFailures.increment();
+                    remove(node);
+                })
+                .memoize().indefinitely();
+    }
+
+    private void recordAccess(Node<K, V> node) {
+        // Access ordering is best-effort: it is skipped when another thread is maintaining the policy
+        if (policy != null && evictionLock.tryLock()) {
+            try {
+                if (!node.removed) {
+                    policy.onAccess(node);
+                }
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+    }
+
+    private void evicted(Node<K, V> node) {
+        node.removed = true;
+        if (entries.remove(node.key, node)) {
+            evictions.increment();
+        }
+    }
+
+    private void remove(Node<K, V> node) {
+        entries.remove(node.key, node);
+        evictionLock.lock();
+        try {
+            removeFromPolicy(node);
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private void removeFromPolicy(Node<K, V> node) {
+        node.removed = true;
+        if (policy != null) {
+            policy.onRemove(node);
+        }
+    }
+
+    /**
+     * Discards the entry associated with the given key, if any.
+     * A loading in flight for this key is not cancelled, but its value is not cached.
+     *
+     * @param key the key, must not be {@code null}
+     */
+    public void invalidate(K key) {
+        Node<K, V> node = entries.remove(nonNull(key, "key"));
+        if (node != null) {
+            evictionLock.lock();
+            try {
+                removeFromPolicy(node);
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Discards all the entries.
+     */
+    public void invalidateAll() {
+        evictionLock.lock();
+        try {
+            for (Node<K, V> node : entries.values()) {
+                node.removed = true;
+            }
+            entries.clear();
+            if (policy != null) {
+                policy.clear();
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Discards the expired entries.
+     * Expired entries are otherwise discarded when they are accessed, or evicted when the cache is full.
+     */
+    public void cleanUp() {
+        if (ttl == 0L) {
+            return;
+        }
+        long now = System.nanoTime();
+        for (Node<K, V> node : entries.values()) {
+            if (node.isExpired(now, ttl)) {
+                remove(node);
+            }
+        }
+    }
+
+    /**
+     * @return the number of entries, including the ones being loaded and the expired ones not discarded yet
+     */
+    public long size() {
+        return entries.size();
+    }
+
+    /**
+     * @return a snapshot of the cache statistics
+     */
+    public Stats stats() {
+        return new Stats(hits.sum(), misses.sum(), loadSuccesses.sum(), loadFailures.sum(), evictions.sum());
+    }
+
+    /**
+     * Configures a {@link UniCache}.
+     */
+    public static final class Builder {
+
+        private long maximumSize = Long.MAX_VALUE;
+        private Eviction eviction = Eviction.W_TINY_LFU;
+        private long ttl;
+
+        private Builder() {
+            // Use UniCache.builder()
+        }
+
+        /**
+         * Bounds the number of entries. By default, the cache is unbounded.
+         *
+         * @param maximumSize the maximum number of entries, must be strictly positive
+         * @return this builder
+         */
+        public Builder maximumSize(long maximumSize) {
+            this.maximumSize = positive(maximumSize, "maximumSize");
+            return this;
+        }
+
+        /**
+         * Sets the eviction policy used when the cache is bounded. The default is {@link Eviction#W_TINY_LFU}.
+         *
+         * @param eviction the eviction policy, must not be {@code null}
+         * @return this builder
+         */
+        public Builder eviction(Eviction eviction) {
+            this.eviction = nonNull(eviction, "eviction");
+            return this;
+        }
+
+        /**
+         * Expires the values after a time-to-live, measured from the end of their loading.
+         * By default, the values never expire.
+         *
+         * @param ttl the time-to-live, must not be {@code null}, must be strictly positive
+         * @return this builder
+         */
+        public Builder expireAfterLoad(Duration ttl) {
+            this.ttl = validate(ttl, "ttl").toNanos();
+            return this;
+        }
+
+        /**
+         * Creates the cache.
+         *
+         * @param loader the function loading the value of a key, must not be {@code null}
+         * @param <K> the type of key
+         * @param <V> the type of value
+         * @return the new cache
+         */
+        public <K, V> UniCache<K, V> build(Function<? super K, Uni<? extends V>> loader) {
+            return new UniCache<>(this, nonNull(loader, "loader"));
+        }
+    }
+
+    /**
+     * A snapshot of the statistics of a {@link UniCache}.
+     */
+    public static final class Stats {
+
+        private final long hitCount;
+        private final long missCount;
+        private final long loadSuccessCount;
+        private final long loadFailureCount;
+        private final long evictionCount;
+
+        Stats(long hitCount, long missCount, long loadSuccessCount, long loadFailureCount, long evictionCount) {
+            this.hitCount = hitCount;
+            this.missCount = missCount;
+            this.loadSuccessCount = loadSuccessCount;
+            this.loadFailureCount = loadFailureCount;
+            this.evictionCount = evictionCount;
+        }
+
+        /**
+         * @return the number of lookups that found an entry, loaded or being loaded
+         */
+        public long hitCount() {
+            return hitCount;
+        }
+
+        /**
+         * @return the number of lookups that triggered a loading
+         */
+        public long missCount() {
+            return missCount;
+        }
+
+        /**
+         * @return the ratio of lookups that found an entry, {@code 1.0} if there was no lookup
+         */
+        public double hitRate() {
+            long lookups = hitCount + missCount;
+            return lookups == 0L ? 1.0 : (double) hitCount / lookups;
+        }
+
+        /**
+         * @return the number of successful loadings
+         */
+        public long loadSuccessCount() {
+            return loadSuccessCount;
+        }
+
+        /**
+         * @return the number of failed loadings
+         */
+        public long loadFailureCount() {
+            return loadFailureCount;
+        }
+
+        /**
+         * @return the number of entries evicted because the cache was full
+         */
+        public long evictionCount() {
+            return evictionCount;
+        }
+
+        @Override
+        public String toString() {
+            return "Stats{" +
+                    "hitCount=" + hitCount +
+                    ", missCount=" + missCount +
+                    ", loadSuccessCount=" + loadSuccessCount +
+                    ", loadFailureCount=" + loadFailureCount +
+                    ", evictionCount=" + evictionCount +
+                    '}';
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package io.smallrye.mutiny.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * The W-TinyLFU policy.
+ * <p>
+ * New entries enter a small LRU admission window (1% of the maximum size). The entries leaving the window are
+ * candidates for the main space, a segmented LRU made of a probation segment and a protected segment (80% of the main
+ * space). When the cache is full, a candidate is only admitted if it has been accessed more frequently than the
+ * victim of the main space, as estimated by a {@link FrequencySketch}. Entries accessed while on probation are
+ * promoted to the protected segment.
+ * <p>
+ * This favors the frequently used entries, while the window lets recent bursts be retained.
+ */
+final class WindowTinyLfuPolicy<K, V> implements EvictionPolicy<K, V> {
+
+    private final long maximumSize;
+    private final long windowMaximum;
+    private final long protectedMaximum;
+
+    private final AccessOrderDeque<K, V> window = new AccessOrderDeque<>();
+    private final AccessOrderDeque<K, V> probation = new AccessOrderDeque<>();
+    private final AccessOrderDeque<K, V> protectedSegment = new AccessOrderDeque<>();
+    private final FrequencySketch sketch;
+
+    WindowTinyLfuPolicy(long maximumSize) {
+        this.maximumSize = maximumSize;
+        this.windowMaximum = Math.max(1L, maximumSize / 100);
+        this.protectedMaximum = (maximumSize - windowMaximum) * 80 / 100;
+        this.sketch = new FrequencySketch(maximumSize);
+    }
+
+    @Override
+    public void onAccess(Node<K, V> node) {
+        sketch.increment(node.key);
+        if (!node.linked) {
+            return;
+        }
+        switch (node.queue) {
+            case Node.WINDOW:
+                window.moveToLast(node);
+                break;
+            case Node.PROBATION:
+                probation.remove(node);
+                node.queue = Node.PROTECTED;
+                protectedSegment.addLast(node);
+                if (protectedSegment.size() > protectedMaximum) {
+                    Node<K, V> demoted = protectedSegment.peekFirst();
+                    protectedSegment.remove(demoted);
+                    demoted.queue = Node.PROBATION;
+                    probation.addLast(demoted);
+                }
+                break;
+            default:
+                protectedSegment.moveToLast(node);
+                break;
+        }
+    }
+
+    @Override
+    public void onInsert(Node<K, V> node, Consumer<Node<K, V>> evicted) {
+        sketch.increment(node.key);
+        node.linked = true;
+        node.queue = Node.WINDOW;
+        window.addLast(node);
+        if (window.size() <= windowMaximum) {
+            return;
+        }
+
+        Node<K, V> candidate = window.peekFirst();
+        window.remove(candidate);
+        candidate.queue = Node.PROBATION;
+        probation.addLast(candidate);
+        if (window.size() + probation.size() + protectedSegment.size() <= maximumSize) {
+            return;
+        }
+
+        Node<K, V> victim = probation.peekFirst();
+        if (victim == candidate) {
+            victim = protectedSegment.peekFirst();
+        }
+        Node<K, V> evict;
+        if (victim == null || sketch.frequency(candidate.key) <= sketch.frequency(victim.key)) {
+            evict = candidate;
+        } else {
+            evict = victim;
+        }
+        onRemove(evict);
+        evicted.accept(evict);
+    }
+
+    @Override
+    public void onRemove(Node<K, V> node) {
+        if (!node.linked) {
+            return;
+        }
+        node.linked = false;
+        switch (node.queue) {
+            case Node.WINDOW:
+                window.remove(node);
+                break;
+            case Node.PROBATION:
+                probation.remove(node);
+                break;
+            default:
+                protectedSegment.remove(node);
+                break;
+        }
+    }
+
+    @Override
+    public void clear() {
+        window.clear();
+        probation.clear();
+        protectedSegment.clear();
+    }
+}
@@ -0,0 +1,36 @@
+package io.smallrye.mutiny.converters.uni;
+
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.ScalarSource;
+import io.smallrye.mutiny.operators.AbstractMulti;
+import io.smallrye.mutiny.subscription.MultiSubscriber;
+
+/**
+ * The {@link io.smallrye.mutiny.Multi} view of a {@link Uni} implementing {@link ScalarSource}.
+ * <p>
+ * When subscribed to, it behaves like {@link UniToMultiPublisher}: the {@link Uni} is only subscribed to on the
+ * first request, and a {@code null} item completes the stream.
+ * Operators supporting {@link ScalarSource} can retrieve the item directly.
+ *
+ * @param <T> the type of item
+ */
+public final class UniToScalarMulti<T> extends AbstractMulti<T> implements ScalarSource<T> {
+
+    private final ScalarSource<T> source;
+    private final UniToMultiPublisher<T> publisher;
+
+    public <U extends Uni<T> & ScalarSource<T>> UniToScalarMulti(U uni) {
+        this.source = uni;
+        this.publisher = new UniToMultiPublisher<>(uni);
+    }
+
+    @Override
+    public void subscribe(MultiSubscriber<? super T> subscriber) {
+        publisher.subscribe(subscriber);
+    }
+
+    @Override
+    public T scalarItem() {
+        return source.scalarItem();
+    }
+}
@@ -6,6 +6,7 @@ import static io.smallrye.mutiny.helpers.ParameterValidation.validate;
 import java.time.Duration;
 
 import io.smallrye.common.annotation.CheckReturnValue;
+import io.smallrye.common.annotation.Experimental;
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.infrastructure.Infrastructure;
 import io.smallrye.mutiny.operators.multi.MultiBroadcaster;
@@ -23,6 +24,8 @@ public class MultiBroadcast<T> {
     private final Multi<T> upstream;
     private boolean cancelWhenNoOneIsListening;
     private Duration delayAfterLastDeparture;
+    private int ringCapacity;
+    private int maxLag;
 
     public MultiBroadcast(Multi<T> upstream) {
         this.upstream = upstream;
@@ -37,7 +40,8 @@ public class MultiBroadcast<T> {
     @CheckReturnValue
     public Multi<T> toAllSubscribers() {
         return Infrastructure.onMultiCreation(
-                MultiBroadcaster.publish(upstream, 0, cancelWhenNoOneIsListening, delayAfterLastDeparture));
+                MultiBroadcaster.publish(upstream, 0, cancelWhenNoOneIsListening, delayAfterLastDeparture,
+                        ringCapacity, maxLag));
     }
 
     /**
@@ -53,7 +57,8 @@ public class MultiBroadcast<T> {
     public Multi<T> toAtLeast(int numberOfSubscribers) {
         positive(numberOfSubscribers, "numberOfSubscribers");
         return Infrastructure.onMultiCreation(
-                MultiBroadcaster.publish(upstream, numberOfSubscribers, cancelWhenNoOneIsListening, delayAfterLastDeparture));
+                MultiBroadcaster.publish(upstream, numberOfSubscribers, cancelWhenNoOneIsListening, delayAfterLastDeparture,
+                        ringCapacity, maxLag));
     }
 
     /**
@@ -83,4 +88,48 @@ public class MultiBroadcast<T> {
         return this;
 
     }
+
+    /**
+     * Dispatches the items through a single ring buffer shared by all the subscribers, instead of a buffer per
+     * subscriber.
+     * <p>
+     * Each subscriber reads the ring with its own cursor. The upstream is requested at the pace of the slowest
+     * subscriber, so the ring is never overwritten before all the subscribers have read it. The memory used to buffer
+     * the items is bounded by the ring capacity, whatever the number of subscribers.
+     *
+     * @param capacity the capacity of the ring, rounded to the next power of 2, must be strictly positive
+     * @return this {@link MultiBroadcast}.
+     */
+    @Experimental("Shared ring buffer broadcast is a new experimental API")
+    @CheckReturnValue
+    public MultiBroadcast<T> withSharedRingBuffer(int capacity) {
+        this.ringCapacity = positive(capacity, "capacity");
+        this.maxLag = 0;
+        return this;
+    }
+
+    /**
+     * Dispatches the items through a single ring buffer shared by all the subscribers, instead of a buffer per
+     * subscriber, and drops the slow subscribers.
+     * <p>
+     * Each subscriber reads the ring with its own cursor. The upstream is consumed without back-pressure, and a
+     * subscriber lagging behind the upstream by {@code maxLag} items or more is failed with a
+     * {@link io.smallrye.mutiny.subscription.BackPressureFailure}, so the other subscribers are not slowed down.
+     *
+     * @param capacity the capacity of the ring, rounded to the next power of 2, must be strictly positive
+     * @param maxLag the maximum lag of a subscriber, must be strictly positive and not exceed {@code capacity}
+     * @return this {@link MultiBroadcast}.
+     */
+    @Experimental("Shared ring buffer broadcast is a new experimental API")
+    @CheckReturnValue
+    public MultiBroadcast<T> withSharedRingBuffer(int capacity, int maxLag) {
+        positive(capacity, "capacity");
+        positive(maxLag, "maxLag");
+        if (maxLag > capacity) {
+            throw new IllegalArgumentException("`maxLag` must not be greater than `capacity`");
+        }
+        this.ringCapacity = capacity;
+        this.maxLag = maxLag;
+        return this;
+    }
 }
@@ -236,21 +236,7 @@ public class MultiCreate {
     @CheckReturnValue
     public <T> Multi<T> item(Supplier<? extends T> supplier) {
         Supplier<? extends T> actual = Infrastructure.decorate(nonNull(supplier, "supplier"));
-
-        return emitter(emitter -> {
-            T item;
-            try {
-                item = actual.get();
-            } catch (Throwable err) {
-                // Exception from the supplier, propagate it.
-                emitter.fail(err);
-                return;
-            }
-            if (item != null) {
-                emitter.emit(item);
-            }
-            emitter.complete();
-        });
+        return Infrastructure.onMultiCreation(new ItemSupplierBasedMulti<>(actual));
     }
 
     /**
@@ -287,7 +273,10 @@ public class MultiCreate {
      */
     @CheckReturnValue
     public <T> Multi<T> item(T item) {
-        return item(() -> item);
+        if (item == null) {
+            return empty();
+        }
+        return Infrastructure.onMultiCreation(new KnownItemMulti<>(item));
     }
 
     /**
@@ -306,7 +295,10 @@ public class MultiCreate {
     @SafeVarargs
     @CheckReturnValue
     public final <T> Multi<T> items(T... items) {
-        return Infrastructure.onMultiCreation(new CollectionBasedMulti<>(nonNull(items, "items")));
+        if (nonNull(items, "items").length == 1) {
+            return Infrastructure.onMultiCreation(new KnownItemMulti<>(doesNotContainNull(items, "items")[0]));
+        }
+        return Infrastructure.onMultiCreation(new CollectionBasedMulti<>(items));
     }
 
     /**
@@ -406,6 +398,9 @@ public class MultiCreate {
      * {@link io.smallrye.mutiny.operators.multi.processors.BroadcastProcessor}.
      * <p>
      * If the buffer is full, a {@link java.nio.BufferOverflowException} in propagated downstream.
+     * <p>
+     * The items are buffered in a bounded lock-free queue, so the emitter can be used concurrently from multiple
+     * threads without being serialized. Prefer this variant when many threads emit items concurrently.
      *
      * @param consumer the consumer receiving the emitter, must not be {@code null}
      * @param bufferSize the buffer size, must be strictly positive
@@ -7,11 +7,13 @@ import java.util.function.Function;
 import org.reactivestreams.Publisher;
 
 import io.smallrye.common.annotation.CheckReturnValue;
+import io.smallrye.common.annotation.Experimental;
 import io.smallrye.mutiny.CompositeException;
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.helpers.queues.Queues;
 import io.smallrye.mutiny.infrastructure.Infrastructure;
 import io.smallrye.mutiny.operators.multi.MultiFlatMapOp;
+import io.smallrye.mutiny.operators.multi.MultiFlatMapOrderedOp;
 
 /**
  * The object to tune the <em>flatMap</em> operation
@@ -103,6 +105,38 @@ public class MultiFlatten<I, O> {
                 new MultiFlatMapOp<>(upstream, mapper, collectFailureUntilCompletion, concurrency, requests));
     }
 
+    /**
+     * Produces a {@link Multi} containing the items from {@link Publisher} produced by the {@code mapper} for each
+     * item emitted by this {@link Multi}, preserving the upstream order.
+     * <p>
+     * The operators behaves as follows:
+     * <ul>
+     * <li>for each item emitted by this {@link Multi}, the mapper is called and produces a {@link Publisher}
+     * (potentially a {@code Multi}). The mapper must not return {@code null}</li>
+     * <li>up to {@code concurrency} produced {@link Publisher} are subscribed concurrently, like with
+     * {@link #merge(int)}</li>
+     * <li>the items are emitted in the order of the upstream items, like with {@link #concatenate()}: the items from
+     * the {@link Publisher} produced for an upstream item are emitted before the items from the {@link Publisher}
+     * produced for the next upstream item.</li>
+     * </ul>
+     * <p>
+     * The items received from a {@link Publisher} that is not the current one are buffered until it becomes the
+     * current one. Each {@link Publisher} buffers at most the number of requested items (see
+     * {@link #withRequests(int)}), so the reorder buffer is bounded by {@code concurrency * requests} items.
+     * <p>
+     * For example, {@code multi.onItem().transformToUni(x -> call(x)).mergeOrdered(8)} runs up to 8 calls
+     * concurrently but emits the results in the upstream order.
+     *
+     * @param concurrency the maximum number of in-flight/subscribed inner streams, must be strictly positive
+     * @return the object to configure the {@code flatMap} operation.
+     */
+    @Experimental("Ordered merge is a new experimental API")
+    @CheckReturnValue
+    public Multi<O> mergeOrdered(int concurrency) {
+        return Infrastructure.onMultiCreation(
+                new MultiFlatMapOrderedOp<>(upstream, mapper, collectFailureUntilCompletion, concurrency, requests));
+    }
+
     /**
      * Produces a {@link Multi} containing the items from {@link Publisher} produced by the {@code mapper} for each
      * item emitted by this {@link Multi}.
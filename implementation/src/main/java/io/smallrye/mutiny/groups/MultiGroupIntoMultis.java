@@ -5,17 +5,44 @@ import static io.smallrye.mutiny.helpers.ParameterValidation.positive;
 import static io.smallrye.mutiny.helpers.ParameterValidation.validate;
 
 import java.time.Duration;
+import java.util.function.Function;
 
 import io.smallrye.common.annotation.CheckReturnValue;
+import io.smallrye.common.annotation.Experimental;
+import io.smallrye.mutiny.GroupedMulti;
 import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.helpers.queues.Queues;
 import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.smallrye.mutiny.operators.multi.MultiGroupByOp;
 import io.smallrye.mutiny.operators.multi.MultiWindowOnDurationOp;
 import io.smallrye.mutiny.operators.multi.MultiWindowOp;
 
 public class MultiGroupIntoMultis<T> {
 
+    /**
+     * What to do when a new key is received while the maximum number of groups is reached.
+     *
+     * @see #withMaxGroups(int, GroupOverflow)
+     */
+    @Experimental("Bounded groups are a new experimental API")
+    public enum GroupOverflow {
+        /**
+         * Complete the group that has not received any item for the longest time, and create the new group.
+         */
+        COMPLETE_LEAST_RECENTLY_ACTIVE,
+        /**
+         * Fail the stream and all the groups with an {@link IllegalStateException}.
+         */
+        FAIL
+    }
+
     private final Multi<T> upstream;
 
+    private Duration idleTimeout;
+    private int maxGroups = Integer.MAX_VALUE;
+    private GroupOverflow overflow = GroupOverflow.FAIL;
+    private int groupBufferSize = Queues.BUFFER_S;
+
     public MultiGroupIntoMultis(Multi<T> upstream) {
         this.upstream = nonNull(upstream, "upstream");
     }
@@ -91,4 +118,96 @@ public class MultiGroupIntoMultis<T> {
                 positive(skip, "skip")));
     }
 
+    /**
+     * Completes the groups created by {@link #by(Function)} and {@link #by(Function, Function)} when they have not
+     * received any item for the given duration.
+     * <p>
+     * A completed group is discarded: if its key is received again, a new group is emitted.
+     * This lets the groups of a high-cardinality key space be released while the upstream keeps running.
+     *
+     * @param duration the idle duration, must not be {@code null}, must be strictly positive
+     * @return this group
+     */
+    @Experimental("Bounded groups are a new experimental API")
+    @CheckReturnValue
+    public MultiGroupIntoMultis<T> evictingIdleGroupsAfter(Duration duration) {
+        this.idleTimeout = validate(duration, "duration");
+        return this;
+    }
+
+    /**
+     * Bounds the number of live groups created by {@link #by(Function)} and {@link #by(Function, Function)}.
+     *
+     * @param maxGroups the maximum number of live groups, must be strictly positive
+     * @param overflow what to do when a new key is received while {@code maxGroups} groups are live, must not be
+     *        {@code null}
+     * @return this group
+     */
+    @Experimental("Bounded groups are a new experimental API")
+    @CheckReturnValue
+    public MultiGroupIntoMultis<T> withMaxGroups(int maxGroups, GroupOverflow overflow) {
+        this.maxGroups = positive(maxGroups, "maxGroups");
+        this.overflow = nonNull(overflow, "overflow");
+        return this;
+    }
+
+    /**
+     * Sets the size of the buffers holding the items of each group created by {@link #by(Function)} and
+     * {@link #by(Function, Function)} until they are requested.
+     * <p>
+     * The buffers are unbounded, and grow by chunks of the given size. A small size reduces the memory used by the
+     * groups receiving few items, which matters when there are many groups.
+     *
+     * @param size the chunk size of the per-group buffers, must be strictly positive
+     * @return this group
+     */
+    @Experimental("Bounded groups are a new experimental API")
+    @CheckReturnValue
+    public MultiGroupIntoMultis<T> withGroupBufferSize(int size) {
+        this.groupBufferSize = positive(size, "size");
+        return this;
+    }
+
+    /**
+     * Splits the upstream {@link Multi} into groups of items sharing the same key, like
+     * {@link MultiGroup#by(Function)}, honoring the idle eviction, the maximum number of groups and the buffer size
+     * configured with this object.
+     *
+     * @param keyMapper the function computing the key of an item, must not be {@code null}
+     * @param <K> the type of key
+     * @return a Multi emitting the groups
+     */
+    @Experimental("Bounded groups are a new experimental API")
+    @CheckReturnValue
+    public <K> Multi<GroupedMulti<K, T>> by(Function<? super T, ? extends K> keyMapper) {
+        Function<? super T, ? extends K> mapper = Infrastructure.decorate(nonNull(keyMapper, "keyMapper"));
+        return groupBy(mapper, x -> x);
+    }
+
+    /**
+     * Splits the upstream {@link Multi} into groups of values sharing the same key, like
+     * {@link MultiGroup#by(Function, Function)}, honoring the idle eviction, the maximum number of groups and the
+     * buffer size configured with this object.
+     *
+     * @param keyMapper the function computing the key of an item, must not be {@code null}
+     * @param valueMapper the function computing the value emitted by the group, must not be {@code null}
+     * @param <K> the type of key
+     * @param <V> the type of value
+     * @return a Multi emitting the groups
+     */
+    @Experimental("Bounded groups are a new experimental API")
+    @CheckReturnValue
+    public <K, V> Multi<GroupedMulti<K, V>> by(Function<? super T, ? extends K> keyMapper,
+            Function<? super T, ? extends V> valueMapper) {
+        Function<? super T, ? extends K> k = Infrastructure.decorate(nonNull(keyMapper, "keyMapper"));
+        Function<? super T, ? extends V> v = Infrastructure.decorate(nonNull(valueMapper, "valueMapper"));
+        return groupBy(k, v);
+    }
+
+    private <K, V> Multi<GroupedMulti<K, V>> groupBy(Function<? super T, ? extends K> keyMapper,
+            Function<? super T, ? extends V> valueMapper) {
+        return Infrastructure.onMultiCreation(new MultiGroupByOp<>(upstream, keyMapper, valueMapper,
+                idleTimeout != null ? idleTimeout.toNanos() : 0L, maxGroups, overflow, groupBufferSize,
+                Infrastructure.getDefaultWorkerPool()));
+    }
 }
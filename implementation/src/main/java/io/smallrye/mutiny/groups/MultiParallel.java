@@ -0,0 +1,245 @@
+package io.smallrye.mutiny.groups;
+
+import static io.smallrye.mutiny.helpers.ParameterValidation.nonNull;
+import static io.smallrye.mutiny.helpers.ParameterValidation.positive;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import io.smallrye.common.annotation.CheckReturnValue;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.queues.Queues;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.smallrye.mutiny.operators.multi.parallel.ParallelSource;
+
+/**
+ * Processes the items of a {@link Multi} on a fixed number of <em>rails</em>.
+ * <p>
+ * The items from the upstream are dispatched to the rails in a round-robin fashion, skipping the rails that have no
+ * outstanding requests. Each rail is processed independently: combined with {@link #runOn(Executor)}, the rails
+ * process their items concurrently, each on its own worker, while the back-pressure is preserved. The rails are merged
+ * back into a {@link Multi} with {@link #sequential()} or {@link #sequentialSorted(Comparator)}.
+ * <p>
+ * For example, the following code runs an expensive transformation on 4 rails using the default worker pool:
+ *
+ * <pre>
+ * {@code
+ * Multi<Result> results = multi
+ *         .parallel(4)
+ *         .runOn(Infrastructure.getDefaultWorkerPool())
+ *         .map(item -> expensiveComputation(item))
+ *         .sequential();
+ * }
+ * </pre>
+ * <p>
+ * The order of the items is not preserved across the rails. Within a rail, the items keep the upstream order.
+ * <p>
+ * The rails are created when the merged {@link Multi} (or the reduced {@link Uni}) is subscribed, so, like the other
+ * streams, it can be subscribed several times, each subscription subscribing to the upstream.
+ *
+ * @param <T> the type of item
+ */
+public class MultiParallel<T> {
+
+    private final int count;
+
+    /**
+     * Creates the rails for a subscription, applying the recorded stages to the rails of a new {@link ParallelSource}.
+     */
+    private final Supplier<List<Multi<T>>> rails;
+
+    public MultiParallel(Multi<T> upstream, int rails) {
+        nonNull(upstream, "upstream");
+        this.count = positive(rails, "rails");
+        this.rails = () -> new ParallelSource<>(upstream, rails, Queues.BUFFER_S).rails();
+    }
+
+    private MultiParallel(int count, Supplier<List<Multi<T>>> rails) {
+        this.count = count;
+        this.rails = rails;
+    }
+
+    /**
+     * @return the number of rails
+     */
+    public int rails() {
+        return count;
+    }
+
+    /**
+     * Emits the items of each rail on a thread of the given executor.
+     * <p>
+     * Each rail gets its own queue, and schedules the processing of its items on the executor. The following stages
+     * run on the executor threads, so the rails are processed concurrently.
+     *
+     * @param executor the executor, must not be {@code null}
+     * @return the new {@link MultiParallel}
+     */
+    @CheckReturnValue
+    public MultiParallel<T> runOn(Executor executor) {
+        nonNull(executor, "executor");
+        return apply(rail -> rail.emitOn(executor));
+    }
+
+    /**
+     * Transforms the items of each rail using the given mapper.
+     *
+     * @param mapper the mapper, must not be {@code null}, must not return {@code null}
+     * @param <R> the type of the produced items
+     * @return the new {@link MultiParallel}
+     */
+    @CheckReturnValue
+    public <R> MultiParallel<R> map(Function<? super T, ? extends R> mapper) {
+        nonNull(mapper, "mapper");
+        return apply(rail -> rail.onItem().transform(mapper));
+    }
+
+    /**
+     * Selects the items of each rail passing the given predicate.
+     *
+     * @param predicate the predicate, must not be {@code null}
+     * @return the new {@link MultiParallel}
+     */
+    @CheckReturnValue
+    public MultiParallel<T> filter(Predicate<? super T> predicate) {
+        nonNull(predicate, "predicate");
+        return apply(rail -> rail.select().where(predicate));
+    }
+
+    /**
+     * Reduces the items of each rail into a single value. Each rail emits a single item, the result of the reduction,
+     * when it completes.
+     * <p>
+     * The reduction of a rail starts with the value produced by the {@code seed} supplier. If a rail does not receive
+     * any item, it emits this initial value.
+     *
+     * @param seed the supplier producing the initial value of each rail, must not be {@code null}, must not return
+     *        {@code null}
+     * @param accumulator the reduction function, must not be {@code null}, must not return {@code null}
+     * @param <R> the type of the reduction result
+     * @return the new {@link MultiParallel} emitting one item per rail
+     */
+    @CheckReturnValue
+    public <R> MultiParallel<R> reduce(Supplier<R> seed, BiFunction<R, ? super T, R> accumulator) {
+        Supplier<R> actualSeed = Infrastructure.decorate(nonNull(seed, "seed"));
+        BiFunction<R, ? super T, R> actualAccumulator = Infrastructure.decorate(nonNull(accumulator, "accumulator"));
+        return apply(rail -> rail.collect()
+                .in(() -> new Reduction<>(actualSeed.get()),
+                        (Reduction<R> reduction, T item) -> reduction.value = actualAccumulator.apply(reduction.value,
+                                item))
+                .onItem().transform(reduction -> reduction.value)
+                .toMulti());
+    }
+
+    /**
+     * Reduces all the items into a single value.
+     * <p>
+     * Each rail is reduced independently, and then the result of each rail are reduced using the same function. The
+     * produced {@link Uni} emits {@code null} if there are no items.
+     *
+     * @param reducer the reduction function, must not be {@code null}, must not return {@code null}
+     * @return the {@link Uni} emitting the result of the reduction
+     */
+    @CheckReturnValue
+    public Uni<T> reduce(BinaryOperator<T> reducer) {
+        BinaryOperator<T> actual = Infrastructure.decorate(nonNull(reducer, "reducer"));
+        return apply(rail -> rail.onItem().scan(actual).collect().last().toMulti())
+                .sequential()
+                .onItem().scan(actual)
+                .collect().last();
+    }
+
+    /**
+     * Merges the rails back into a {@link Multi}.
+     * <p>
+     * The items are emitted as soon as they are produced by the rails, so the produced {@link Multi} does not preserve
+     * the upstream order.
+     *
+     * @return the {@link Multi} emitting the items from all the rails
+     */
+    @CheckReturnValue
+    public Multi<T> sequential() {
+        return Multi.createFrom().deferred(() -> Multi.createBy().merging().withConcurrency(count).streams(rails.get()));
+    }
+
+    /**
+     * Merges the rails back into a {@link Multi} emitting all the items sorted using the given comparator.
+     * <p>
+     * Each rail collects and sorts its items (concurrently if {@link #runOn(Executor)} is used), and the sorted rails
+     * are merged when all of them have completed. So, the produced {@link Multi} emits its items only when the
+     * upstream completes, and must only be used with bounded streams.
+     *
+     * @param comparator the comparator, must not be {@code null}
+     * @return the {@link Multi} emitting all the items in order
+     */
+    @CheckReturnValue
+    public Multi<T> sequentialSorted(Comparator<? super T> comparator) {
+        nonNull(comparator, "comparator");
+        return Multi.createFrom().deferred(() -> {
+            List<Uni<List<T>>> sorted = new ArrayList<>(count);
+            for (Multi<T> rail : rails.get()) {
+                sorted.add(rail.collect().in(ArrayList<T>::new, ArrayList::add)
+                        .onItem().transform(list -> {
+                            list.sort(comparator);
+                            return list;
+                        }));
+            }
+            return Uni.combine().all().unis(sorted)
+                    .combinedWith(lists -> MultiParallel.<T> mergeSorted(lists, comparator))
+                    .onItem().transformToMulti(list -> Multi.createFrom().iterable(list));
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> List<T> mergeSorted(List<?> lists, Comparator<? super T> comparator) {
+        int n = lists.size();
+        List<T>[] sources = new List[n];
+        int[] positions = new int[n];
+        int total = 0;
+        for (int i = 0; i < n; i++) {
+            sources[i] = (List<T>) lists.get(i);
+            total += sources[i].size();
+        }
+        List<T> result = new ArrayList<>(total);
+        for (int k = 0; k < total; k++) {
+            int min = -1;
+            for (int i = 0; i < n; i++) {
+                if (positions[i] != sources[i].size()
+                        && (min == -1
+                                || comparator.compare(sources[i].get(positions[i]), sources[min].get(positions[min])) < 0)) {
+                    min = i;
+                }
+            }
+            result.add(sources[min].get(positions[min]++));
+        }
+        return result;
+    }
+
+    private <R> MultiParallel<R> apply(Function<Multi<T>, Multi<R>> stage) {
+        Supplier<List<Multi<T>>> previous = rails;
+        return new MultiParallel<>(count, () -> {
+            List<Multi<R>> list = new ArrayList<>(count);
+            for (Multi<T> rail : previous.get()) {
+                list.add(stage.apply(rail));
+            }
+            return Collections.unmodifiableList(list);
+        });
+    }
+
+    private static final class Reduction<R> {
+        private R value;
+
+        private Reduction(R value) {
+            this.value = value;
+        }
+    }
+}
@@ -2,10 +2,15 @@ package io.smallrye.mutiny.groups;
 
 import static io.smallrye.mutiny.helpers.ParameterValidation.nonNull;
 import static io.smallrye.mutiny.helpers.ParameterValidation.positive;
+import static io.smallrye.mutiny.helpers.ParameterValidation.validate;
+
+import java.time.Duration;
+import java.util.function.ToLongFunction;
 
 import io.smallrye.common.annotation.CheckReturnValue;
 import io.smallrye.common.annotation.Experimental;
 import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.operators.multi.replay.ChunkedReplayList;
 import io.smallrye.mutiny.operators.multi.replay.ReplayOperator;
 
 /**
@@ -15,6 +20,10 @@ import io.smallrye.mutiny.operators.multi.replay.ReplayOperator;
 public class MultiReplay {
 
     private long numberOfItemsToReplay = Long.MAX_VALUE;
+    private Duration timeToLive;
+    private long maxWeight = Long.MAX_VALUE;
+    private ToLongFunction<Object> weigher;
+    private int chunkSize;
 
     /**
      * Limit the number of items each new subscriber gets.
@@ -30,6 +39,60 @@ public class MultiReplay {
         return this;
     }
 
+    /**
+     * Limit the items each new subscriber gets to those received during the last {@code duration}.
+     * <p>
+     * Items older than {@code duration} are evicted from the replay log, and a new subscriber starts from the oldest
+     * item that has not expired. The terminal completion / error signal never expires.
+     * This can be combined with {@link #upTo(long)} and {@link #upToWeight(long, ToLongFunction)}, in which case an item
+     * is evicted as soon as one of the limits is exceeded.
+     *
+     * @param duration the time-to-live of the items, must not be {@code null}, must be strictly positive
+     * @return this group
+     */
+    @CheckReturnValue
+    public MultiReplay withinLast(Duration duration) {
+        this.timeToLive = validate(duration, "duration");
+        return this;
+    }
+
+    /**
+     * Limit the items each new subscriber gets by their total weight, as computed by the given {@code weigher}.
+     * <p>
+     * The oldest items are evicted from the replay log as long as the total weight of the retained items exceeds
+     * {@code maxWeight}. The most recent item is always retained, even when its own weight exceeds {@code maxWeight}.
+     * The weigher is called once per item, from the upstream thread. If it throws an exception or returns a negative
+     * weight, the upstream is cancelled and the subscribers receive the failure.
+     * <p>
+     * This group is not bound to the type of the replayed items, so the weigher receives them as {@link Object}.
+     *
+     * @param maxWeight the maximum total weight of the replayed items, must be strictly positive
+     * @param weigher the function computing the weight of an item (e.g., its size in bytes), must not be {@code null}
+     * @return this group
+     */
+    @CheckReturnValue
+    public MultiReplay upToWeight(long maxWeight, ToLongFunction<Object> weigher) {
+        this.maxWeight = positive(maxWeight, "maxWeight");
+        this.weigher = nonNull(weigher, "weigher");
+        return this;
+    }
+
+    /**
+     * Store the replay log in fixed-size array chunks rather than in a linked list of items.
+     * <p>
+     * This reduces the memory overhead per item and lets subscribers read consecutive items from the same array.
+     * Chunks are always used when the replay is bounded with {@link #withinLast(Duration)} or
+     * {@link #upToWeight(long, ToLongFunction)}, in which case this method only configures the chunk size.
+     *
+     * @param chunkSize the number of items per chunk, must be strictly positive
+     * @return this group
+     */
+    @CheckReturnValue
+    public MultiReplay inChunksOf(int chunkSize) {
+        this.chunkSize = positive(chunkSize, "chunkSize");
+        return this;
+    }
+
     /**
      * Create a replay {@link Multi}.
      * <p>
@@ -40,8 +103,9 @@ public class MultiReplay {
      * This happens at the first subscription request. Note that {@code upstream} will never be cancelled.</li>
      * <li>Each new subscriber to this replay {@link Multi} is able to replay items at its own pace (back-pressure is
      * honored).</li>
-     * <li>When the number of items to replay is limited using {@link #upTo(long)}, then a new subscriber gets to replay
-     * starting from the current position in the upstream replay log.
+     * <li>When the items to replay are limited using {@link #upTo(long)}, {@link #withinLast(Duration)} or
+     * {@link #upToWeight(long, ToLongFunction)}, then a new subscriber gets to replay starting from the oldest item
+     * retained in the upstream replay log.
      * When the number of elements to replay is unbounded, then a new subscriber replays from the start.</li>
      * <li>All current and late subscribers observe terminal completion / error signals.</li>
      * <li>Items are pushed synchronously to subscribers when they call {@link org.reactivestreams.Subscription#request(long)}
@@ -62,7 +126,11 @@ public class MultiReplay {
      */
     @CheckReturnValue
     public <T> Multi<T> ofMulti(Multi<T> upstream) {
-        return new ReplayOperator<>(nonNull(upstream, "upstream"), numberOfItemsToReplay);
+        nonNull(upstream, "upstream");
+        if (useChunks()) {
+            return new ReplayOperator<>(upstream, newChunkedReplayList(null));
+        }
+        return new ReplayOperator<>(upstream, numberOfItemsToReplay);
     }
 
     /**
@@ -79,6 +147,23 @@ public class MultiReplay {
      */
     @CheckReturnValue
     public <T> Multi<T> ofSeedAndMulti(Iterable<T> seed, Multi<T> upstream) {
-        return new ReplayOperator<>(nonNull(upstream, "upstream"), numberOfItemsToReplay, nonNull(seed, "seed"));
+        nonNull(upstream, "upstream");
+        nonNull(seed, "seed");
+        if (useChunks()) {
+            return new ReplayOperator<>(upstream, newChunkedReplayList(seed));
+        }
+        return new ReplayOperator<>(upstream, numberOfItemsToReplay, seed);
+    }
+
+    private boolean useChunks() {
+        return chunkSize > 0 || timeToLive != null || weigher != null;
+    }
+
+    private ChunkedReplayList newChunkedReplayList(Iterable<?> seed) {
+        return new ChunkedReplayList(numberOfItemsToReplay,
+                timeToLive != null ? timeToLive.toNanos() : 0L,
+                maxWeight, weigher,
+                chunkSize > 0 ? chunkSize : ChunkedReplayList.DEFAULT_CHUNK_SIZE,
+                seed);
     }
 }
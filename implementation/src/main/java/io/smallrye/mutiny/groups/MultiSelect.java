@@ -214,13 +214,15 @@ public class MultiSelect<T> {
      * Selects all the distinct items from the upstream.
      * This methods uses {@link Object#hashCode()} to compare items.
      * <p>
-     * Do NOT call this method on unbounded upstream, as it would lead to an {@link OutOfMemoryError}.
+     * Do NOT call this method on unbounded upstream, as it would lead to an {@link OutOfMemoryError}. Use
+     * {@link MultiSkip#duplicates()} instead, which only remembers a bounded set of items.
      * <p>
      * If the comparison throws an exception, the produced {@link Multi} fails.
      * The produced {@link Multi} completes when the upstream sends the completion event.
      *
      * @return the resulting {@link Multi}.
      * @see MultiSkip#repetitions()
+     * @see MultiSkip#duplicates()
      * @see #distinct(Comparator)
      */
     @CheckReturnValue
@@ -232,7 +234,8 @@ public class MultiSelect<T> {
      * Selects all the distinct items from the upstream.
      * This methods uses the given comparator to compare the items.
      * <p>
-     * Do NOT call this method on unbounded upstream, as it would lead to an {@link OutOfMemoryError}.
+     * Do NOT call this method on unbounded upstream, as it would lead to an {@link OutOfMemoryError}. Use
+     * {@link MultiSkip#duplicates()} instead, which only remembers a bounded set of items.
      * <p>
      * If the comparison throws an exception, the produced {@link Multi} fails.
      * The produced {@link Multi} completes when the upstream sends the completion event.
@@ -9,6 +9,7 @@ import java.util.function.Function;
 import java.util.function.Predicate;
 
 import io.smallrye.common.annotation.CheckReturnValue;
+import io.smallrye.common.annotation.Experimental;
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.infrastructure.Infrastructure;
@@ -180,6 +181,23 @@ public class MultiSkip<T> {
         return Infrastructure.onMultiCreation(new MultiSkipRepetitionsOp<>(upstream, comparator));
     }
 
+    /**
+     * Skips the duplicated items from the upstream, remembering a bounded set of items.
+     * <p>
+     * Unlike {@link MultiSelect#distinct()}, the returned group configures how long the items are remembered: among
+     * the last distinct items, during a given duration, or approximately in constant memory. So, it can be used on
+     * unbounded upstream, for example to deduplicate redelivered messages.
+     *
+     * @return the object to configure the deduplication
+     * @see MultiSelect#distinct()
+     * @see MultiSkip#repetitions()
+     */
+    @CheckReturnValue
+    @Experimental("Bounded deduplication is a new experimental API")
+    public MultiSkipDuplicates<T> duplicates() {
+        return new MultiSkipDuplicates<>(upstream);
+    }
+
     /**
      * Skips the items where the given predicate returns {@code true}.
      * It calls the predicates for each items.
@@ -0,0 +1,119 @@
+package io.smallrye.mutiny.groups;
+
+import static io.smallrye.mutiny.helpers.ParameterValidation.nonNull;
+import static io.smallrye.mutiny.helpers.ParameterValidation.validate;
+
+import java.time.Duration;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import io.smallrye.common.annotation.CheckReturnValue;
+import io.smallrye.common.annotation.Experimental;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.smallrye.mutiny.operators.multi.MultiSkipDuplicatesOp;
+import io.smallrye.mutiny.operators.multi.MultiSkipDuplicatesOp.SeenKeys;
+
+/**
+ * Skips the duplicated items from the upstream {@link Multi}, remembering a bounded set of items.
+ * <p>
+ * Unlike {@link MultiSelect#distinct()} which remembers every item for the lifetime of the stream, the operators
+ * created by this group forget the items that are too old, so they can be used on unbounded streams, for example to
+ * deduplicate the redeliveries of an at-least-once message broker.
+ * <p>
+ * The items are compared using their {@link Object#hashCode()} and {@link Object#equals(Object)} methods, or those of
+ * the key extracted with {@link #by(Function)}.
+ *
+ * @param <T> the type of item
+ * @see MultiSkip#duplicates()
+ */
+@Experimental("Bounded deduplication is a new experimental API")
+public class MultiSkipDuplicates<T> {
+
+    private final Multi<T> upstream;
+    private Function<? super T, ?> keyExtractor = Function.identity();
+
+    public MultiSkipDuplicates(Multi<T> upstream) {
+        this.upstream = upstream;
+    }
+
+    /**
+     * Compares the keys extracted from the items instead of the items themselves, such as the identifier of a message.
+     *
+     * @param keyExtractor the function extracting the key from each item, must not be {@code null}, must not return
+     *        {@code null}
+     * @return this group
+     */
+    @CheckReturnValue
+    public MultiSkipDuplicates<T> by(Function<? super T, ?> keyExtractor) {
+        this.keyExtractor = Infrastructure.decorate(nonNull(keyExtractor, "keyExtractor"));
+        return this;
+    }
+
+    /**
+     * Skips the items already seen among the last {@code size} distinct items.
+     * <p>
+     * The items are remembered in a least-recently-used window: a duplicate counts as a use of its item, and when the
+     * window is full the least recently seen item is forgotten.
+     *
+     * @param size the number of distinct items remembered, must be strictly positive
+     * @return the resulting {@link Multi}
+     */
+    @CheckReturnValue
+    public Multi<T> amongLast(int size) {
+        return create(SeenKeys.lastKeys(size));
+    }
+
+    /**
+     * Skips the items already seen during the given duration. An item is remembered during {@code ttl} after its
+     * first occurrence, its duplicates do not extend that period.
+     * <p>
+     * The memory grows with the number of distinct items received during {@code ttl}, use
+     * {@link #within(Duration, int)} to bound it.
+     *
+     * @param ttl the time during which an item is remembered, must not be {@code null}, must be strictly positive
+     * @return the resulting {@link Multi}
+     */
+    @CheckReturnValue
+    public Multi<T> within(Duration ttl) {
+        return within(ttl, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Skips the items already seen during the given duration, remembering at most {@code maxSize} items. An item is
+     * remembered during {@code ttl} after its first occurrence, its duplicates do not extend that period. When
+     * {@code maxSize} items are remembered, the oldest one is forgotten before its expiration.
+     *
+     * @param ttl the time during which an item is remembered, must not be {@code null}, must be strictly positive
+     * @param maxSize the maximum number of items remembered, must be strictly positive
+     * @return the resulting {@link Multi}
+     */
+    @CheckReturnValue
+    public Multi<T> within(Duration ttl, int maxSize) {
+        return create(SeenKeys.keysWithin(validate(ttl, "ttl").toNanos(), maxSize));
+    }
+
+    /**
+     * Skips the items probably already seen, using Bloom filters instead of remembering the items themselves.
+     * <p>
+     * The memory is allocated upfront and stays constant: the items are recorded in two Bloom filters of
+     * {@code expectedItems} items each. When the current filter is full, the oldest filter is dropped, so at least
+     * the last {@code expectedItems} distinct items are remembered.
+     * <p>
+     * The filters only store the {@link Object#hashCode()} of the items, and may report an item that was never seen
+     * as a duplicate, with a probability of {@code falsePositiveRate} at most. Such items are wrongly skipped, so this
+     * mode must only be used when losing a small fraction of the items is acceptable.
+     *
+     * @param expectedItems the number of distinct items held by each filter, must be strictly positive
+     * @param falsePositiveRate the probability of skipping an item never seen, must be in {@code ]0, 1[}
+     * @return the resulting {@link Multi}
+     */
+    @CheckReturnValue
+    public Multi<T> approximately(int expectedItems, double falsePositiveRate) {
+        return create(SeenKeys.approximateKeys(expectedItems, falsePositiveRate));
+    }
+
+    private Multi<T> create(Supplier<SeenKeys> seenKeys) {
+        return Infrastructure.onMultiCreation(new MultiSkipDuplicatesOp<>(upstream, keyExtractor, seenKeys));
+    }
+}
@@ -8,10 +8,12 @@ import java.time.temporal.ChronoUnit;
 import java.util.function.BooleanSupplier;
 
 import io.smallrye.common.annotation.CheckReturnValue;
+import io.smallrye.common.annotation.Experimental;
 import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.infrastructure.Infrastructure;
 import io.smallrye.mutiny.operators.AbstractUni;
 import io.smallrye.mutiny.operators.uni.UniMemoizeOp;
+import io.smallrye.mutiny.operators.uni.UniMemoizeRefreshAheadOp;
 
 public class UniMemoize<T> {
 
@@ -79,6 +81,64 @@ public class UniMemoize<T> {
         });
     }
 
+    /**
+     * Memoize the received item, and refresh it in the background once {@code refreshAfter} has elapsed.
+     * <p>
+     * The first subscribers wait for the item. Then, subscribers receive the memoized item immediately. Once
+     * {@code refreshAfter} has elapsed since the item has been received, the next subscriber triggers a new upstream
+     * subscription, while it and the following subscribers keep receiving the stale item until the refresh completes.
+     * Concurrent refreshes are collapsed into a single upstream subscription.
+     * <p>
+     * Failures are not memoized: they are forwarded to the subscribers waiting for an item, and a failed refresh keeps
+     * the stale item in place until the next refresh attempt.
+     *
+     * @param refreshAfter the duration after which the memoized item gets refreshed, must not be {@code null}, must be
+     *        strictly positive
+     * @return a new {@link Uni}
+     * @see #refreshingAfter(Duration, Duration)
+     */
+    @Experimental("Refresh-ahead memoization is a new experimental API")
+    @CheckReturnValue
+    public Uni<T> refreshingAfter(Duration refreshAfter) {
+        Duration validatedRefreshAfter = validate(refreshAfter, "refreshAfter");
+        return Infrastructure.onUniCreation(
+                new UniMemoizeRefreshAheadOp<>(upstream, toNanosOrMax(validatedRefreshAfter), Long.MAX_VALUE));
+    }
+
+    /**
+     * Memoize the received item, refresh it in the background once {@code refreshAfter} has elapsed, and stop
+     * serving it once {@code expireAfter} has elapsed.
+     * <p>
+     * This behaves like {@link #refreshingAfter(Duration)}, except that a memoized item older than {@code expireAfter}
+     * is never served: subscribers wait for the refresh instead. This bounds the staleness of the received items
+     * when the refreshes are slow or failing.
+     *
+     * @param refreshAfter the duration after which the memoized item gets refreshed, must not be {@code null}, must be
+     *        strictly positive
+     * @param expireAfter the duration after which the memoized item is not served anymore, must not be {@code null},
+     *        must be greater than {@code refreshAfter}
+     * @return a new {@link Uni}
+     */
+    @Experimental("Refresh-ahead memoization is a new experimental API")
+    @CheckReturnValue
+    public Uni<T> refreshingAfter(Duration refreshAfter, Duration expireAfter) {
+        Duration validatedRefreshAfter = validate(refreshAfter, "refreshAfter");
+        Duration validatedExpireAfter = validate(expireAfter, "expireAfter");
+        if (validatedExpireAfter.compareTo(validatedRefreshAfter) <= 0) {
+            throw new IllegalArgumentException("`expireAfter` must be greater than `refreshAfter`");
+        }
+        return Infrastructure.onUniCreation(new UniMemoizeRefreshAheadOp<>(upstream,
+                toNanosOrMax(validatedRefreshAfter), toNanosOrMax(validatedExpireAfter)));
+    }
+
+    private static long toNanosOrMax(Duration duration) {
+        try {
+            return duration.toNanos();
+        } catch (ArithmeticException overflow) {
+            return Long.MAX_VALUE;
+        }
+    }
+
     /**
      * Memoize the received item or failure indefinitely.
      * 
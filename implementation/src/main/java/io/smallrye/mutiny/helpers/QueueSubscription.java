@@ -0,0 +1,148 @@
+package io.smallrye.mutiny.helpers;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Queue;
+
+import org.reactivestreams.Subscription;
+
+/**
+ * A {@link Subscription} that can also be consumed as a {@link Queue}, enabling <em>operator fusion</em> between two
+ * adjacent operators.
+ * <p>
+ * When a subscriber receives such a subscription in {@code onSubscribe}, it can call {@link #requestFusion(int)}
+ * before any other interaction (and in particular before calling {@link #request(long)}). If the returned mode is:
+ * <ul>
+ * <li>{@link #NONE}: the fusion is rejected, the regular Reactive Streams protocol applies;</li>
+ * <li>{@link #SYNC}: the upstream is synchronous, the subscriber must not call {@link #request(long)} and pulls the
+ * items using {@link #poll()}, a {@code null} result indicating the completion of the stream;</li>
+ * <li>{@link #ASYNC}: the upstream is asynchronous, the subscriber requests items as usual, but {@code onItem} is only
+ * a signal (with a {@code null} item) indicating that items are available using {@link #poll()}. Completion and
+ * failure events are still signaled using {@code onCompletion} and {@code onFailure}.</li>
+ * </ul>
+ * <p>
+ * Intermediate operators, such as {@code map}, can forward the fusion request to their own upstream and apply their
+ * function in {@link #poll()}, removing the per-item call chain between the source and the consumer.
+ * <p>
+ * Only {@link #poll()}, {@link #isEmpty()} and {@link #clear()} are part of the contract, the other {@link Queue}
+ * methods are not supported. {@link #poll()} can throw an exception (such as the failure of a mapper), which must be
+ * handled as a failure of the upstream. {@link #isEmpty()} must not throw, a failure happening while computing it must
+ * be reported by the next call to {@link #poll()}.
+ * <p>
+ * This is an internal API.
+ *
+ * @param <T> the type of item
+ */
+public interface QueueSubscription<T> extends Queue<T>, Subscription {
+
+    /**
+     * Fusion rejected.
+     */
+    int NONE = 0;
+
+    /**
+     * Synchronous fusion: the consumer pulls the items using {@link #poll()}, no requests are made.
+     */
+    int SYNC = 1;
+
+    /**
+     * Asynchronous fusion: the producer signals the availability of items, the consumer pulls them using
+     * {@link #poll()}.
+     */
+    int ASYNC = 2;
+
+    /**
+     * Either {@link #SYNC} or {@link #ASYNC}.
+     */
+    int ANY = SYNC | ASYNC;
+
+    /**
+     * Flag added by consumers polling from another thread than the one emitting the events (such as
+     * {@code emitOn}). Operators whose callbacks must run on the emitting thread reject the fusion when this flag is
+     * set.
+     */
+    int BOUNDARY = 4;
+
+    /**
+     * Requests a fusion mode.
+     *
+     * @param mode the requested mode, a combination of {@link #SYNC}, {@link #ASYNC} and {@link #BOUNDARY}
+     * @return the established mode: {@link #NONE}, {@link #SYNC} or {@link #ASYNC}
+     */
+    int requestFusion(int mode);
+
+    @Override
+    default boolean offer(T item) {
+        throw new UnsupportedOperationException("Not supported by a fused subscription");
+    }
+
+    @Override
+    default boolean add(T item) {
+        throw new UnsupportedOperationException("Not supported by a fused subscription");
+    }
+
+    @Override
+    default T remove() {
+        throw new UnsupportedOperationException("Not supported by a fused subscription");
+    }
+
+    @Override
+    default T element() {
+        throw new UnsupportedOperationException("Not supported by a fused subscription");
+    }
+
+    @Override
+    default T peek() {
+        throw new UnsupportedOperationException("Not supported by a fused subscription");
+    }
+
+    @Override
+    default int size() {
+        throw new UnsupportedOperationException("Not supported by a fused subscription");
+    }
+
+    @Override
+    default boolean contains(Object o) {
+        throw new UnsupportedOperationException("Not supported by a fused subscription");
+    }
+
+    @Override
+    default Iterator<T> iterator() {
+        throw new UnsupportedOperationException("Not supported by a fused subscription");
+    }
+
+    @Override
+    default Object[] toArray() {
+        throw new UnsupportedOperationException("Not supported by a fused subscription");
+    }
+
+    @Override
+    default <T1> T1[] toArray(T1[] a) {
+        throw new UnsupportedOperationException("Not supported by a fused subscription");
+    }
+
+    @Override
+    default boolean remove(Object o) {
+        throw new UnsupportedOperationException("Not supported by a fused subscription");
+    }
+
+    @Override
+    default boolean containsAll(Collection<?> c) {
+        throw new UnsupportedOperationException("Not supported by a fused subscription");
+    }
+
+    @Override
+    default boolean addAll(Collection<? extends T> c) {
+        throw new UnsupportedOperationException("Not supported by a fused subscription");
+    }
+
+    @Override
+    default boolean removeAll(Collection<?> c) {
+        throw new UnsupportedOperationException("Not supported by a fused subscription");
+    }
+
+    @Override
+    default boolean retainAll(Collection<?> c) {
+        throw new UnsupportedOperationException("Not supported by a fused subscription");
+    }
+}
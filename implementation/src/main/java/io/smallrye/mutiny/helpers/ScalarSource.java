@@ -0,0 +1,28 @@
+package io.smallrye.mutiny.helpers;
+
+/**
+ * Marker interface for sources emitting at most one item that can be computed synchronously, such as
+ * {@code Uni.createFrom().item(...)} or {@code Multi.createFrom().item(...)}.
+ * <p>
+ * Operators detecting such a source (at subscription time) can retrieve the item directly using
+ * {@link #scalarItem()} instead of subscribing to the source, saving the subscription handshake and the associated
+ * allocations (inner subscriber, subscription, queue...).
+ * <p>
+ * For {@link io.smallrye.mutiny.Multi} sources, a {@code null} item means that the source is empty.
+ * For {@link io.smallrye.mutiny.Uni} sources, {@code null} is a regular item.
+ *
+ * @param <T> the type of item
+ */
+public interface ScalarSource<T> {
+
+    /**
+     * Computes the item.
+     * For sources based on a supplier, the supplier is called on every invocation, so this method must be called
+     * exactly once per (fused) subscription.
+     *
+     * @return the item, potentially {@code null}
+     * @throws RuntimeException if the item cannot be computed, the exception must be propagated downstream
+     */
+    T scalarItem();
+
+}
@@ -339,10 +339,12 @@ public class Subscriptions {
 
         @Override
         public void request(long requests) {
-            if (requests > 0) {
-                if (requested.compareAndSet(false, true)) {
+            if (requested.compareAndSet(false, true)) {
+                if (requests > 0) {
                     downstream.onNext(item);
                     downstream.onComplete();
+                } else {
+                    downstream.onError(getInvalidRequestException());
                 }
             }
         }
@@ -0,0 +1,282 @@
+package io.smallrye.mutiny.helpers.queues;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import io.smallrye.mutiny.helpers.ParameterValidation;
+
+/**
+ * A bounded Multi-Producer-Multi-Consumer queue backed by a pre-allocated buffer.
+ * <p>
+ * Each slot of the buffer is associated with a sequence number, telling producers and consumers whether the slot is
+ * available for them (Dmitry Vyukov's bounded MPMC queue). Producers and consumers claim slots by incrementing their
+ * respective index (CAS). The producer and consumer indexes are padded to avoid false sharing.
+ * <p>
+ * The capacity is strict: the queue holds at most the requested number of elements, even if the underlying buffer
+ * size is rounded up to the next power of two. It can replace an {@link java.util.concurrent.ArrayBlockingQueue}
+ * used as a non-blocking bounded queue, without the lock.
+ * <p>
+ * Code inspired from https://github.com/JCTools/JCTools/blob/master/jctools-core/src/main/java/org/jctools/queues/atomic.
+ *
+ * @param <E> the element type of the queue
+ */
+public final class MpmcArrayQueue<E> extends MpmcArrayQueueConsumerIndexPad<E> implements Queue<E> {
+
+    public MpmcArrayQueue(int capacity) {
+        super(capacity);
+    }
+
+    @Override
+    public boolean offer(E e) {
+        if (null == e) {
+            throw new NullPointerException("Null is not a valid element");
+        }
+        final int mask = this.mask;
+        final int length = mask + 1;
+        for (;;) {
+            final long index = producerIndex;
+            final int offset = calcElementOffset(index, mask);
+            final long sequence = sequences.get(offset);
+            if (sequence < index) {
+                // The slot still holds an element from the previous lap
+                if (index - consumerIndex >= length) {
+                    return false; // full
+                }
+                // A consumer claimed the slot but did not release it yet
+                continue;
+            }
+            if (sequence > index) {
+                // Another producer claimed the slot
+                continue;
+            }
+            if (capacity != length && index - consumerIndex >= capacity) {
+                return false; // full, strict capacity
+            }
+            if (PRODUCER_INDEX_UPDATER.compareAndSet(this, index, index + 1)) {
+                lazySet(offset, e);
+                sequences.lazySet(offset, index + 1); // publish
+                return true;
+            }
+        }
+    }
+
+    @Override
+    public E poll() {
+        final int mask = this.mask;
+        for (;;) {
+            final long index = consumerIndex;
+            final int offset = calcElementOffset(index, mask);
+            final long sequence = sequences.get(offset);
+            final long expected = index + 1;
+            if (sequence < expected) {
+                if (index >= producerIndex) {
+                    return null; // empty
+                }
+                // A producer claimed the slot but did not publish the element yet
+                continue;
+            }
+            if (sequence > expected) {
+                // Another consumer claimed the slot
+                continue;
+            }
+            if (CONSUMER_INDEX_UPDATER.compareAndSet(this, index, expected)) {
+                final E e = get(offset);
+                lazySet(offset, null);
+                sequences.lazySet(offset, index + mask + 1); // release the slot for the next lap
+                return e;
+            }
+        }
+    }
+
+    @Override
+    public E peek() {
+        final int mask = this.mask;
+        for (;;) {
+            final long index = consumerIndex;
+            final int offset = calcElementOffset(index, mask);
+            final long sequence = sequences.get(offset);
+            if (sequence < index + 1) {
+                if (index >= producerIndex) {
+                    return null; // empty
+                }
+                continue;
+            }
+            final E e = get(offset);
+            if (e != null && index == consumerIndex) {
+                return e;
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        long ci = consumerIndex;
+        for (;;) {
+            long pi = producerIndex;
+            long ci2 = consumerIndex;
+            if (ci == ci2) {
+                return (int) Math.max(0, Math.min(capacity, pi - ci));
+            }
+            ci = ci2;
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return consumerIndex >= producerIndex;
+    }
+
+    @Override
+    public void clear() {
+        //noinspection StatementWithEmptyBody
+        while (poll() != null) {
+        }
+    }
+
+    /**
+     * @return the maximum number of elements the queue can hold
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    static int calcElementOffset(long index, int mask) {
+        return (int) index & mask;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Object[] toArray() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public <R> R[] toArray(R[] a) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean containsAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean add(E e) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public E remove() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public E element() {
+        throw new UnsupportedOperationException();
+    }
+}
+
+// See MpscArrayQueue for the padding strategy.
+
+abstract class MpmcArrayQueueHeader<E> extends AtomicReferenceArray<E> {
+    final int mask;
+    final int capacity;
+    final AtomicLongArray sequences;
+
+    MpmcArrayQueueHeader(int capacity) {
+        super(SpscArrayQueue.roundToPowerOfTwo(Math.max(2, ParameterValidation.positive(capacity, "capacity"))));
+        this.mask = length() - 1;
+        this.capacity = capacity;
+        this.sequences = new AtomicLongArray(length());
+        for (int i = 0; i < length(); i++) {
+            sequences.lazySet(i, i);
+        }
+    }
+}
+
+@SuppressWarnings("unused")
+abstract class MpmcArrayQueueProducerIndexPad<E> extends MpmcArrayQueueHeader<E> {
+    long p01, p02, p03, p04, p05, p06, p07;
+    long p10, p11, p12, p13, p14, p15, p16, p17;
+
+    MpmcArrayQueueProducerIndexPad(int capacity) {
+        super(capacity);
+    }
+}
+
+abstract class MpmcArrayQueueProducerIndex<E> extends MpmcArrayQueueProducerIndexPad<E> {
+    @SuppressWarnings("rawtypes")
+    static final AtomicLongFieldUpdater<MpmcArrayQueueProducerIndex> PRODUCER_INDEX_UPDATER = AtomicLongFieldUpdater
+            .newUpdater(MpmcArrayQueueProducerIndex.class, "producerIndex");
+
+    volatile long producerIndex;
+
+    MpmcArrayQueueProducerIndex(int capacity) {
+        super(capacity);
+    }
+}
+
+@SuppressWarnings("unused")
+abstract class MpmcArrayQueueMidPad<E> extends MpmcArrayQueueProducerIndex<E> {
+    long p01, p02, p03, p04, p05, p06, p07;
+    long p10, p11, p12, p13, p14, p15, p16, p17;
+
+    MpmcArrayQueueMidPad(int capacity) {
+        super(capacity);
+    }
+}
+
+abstract class MpmcArrayQueueConsumerIndex<E> extends MpmcArrayQueueMidPad<E> {
+    @SuppressWarnings("rawtypes")
+    static final AtomicLongFieldUpdater<MpmcArrayQueueConsumerIndex> CONSUMER_INDEX_UPDATER = AtomicLongFieldUpdater
+            .newUpdater(MpmcArrayQueueConsumerIndex.class, "consumerIndex");
+
+    volatile long consumerIndex;
+
+    MpmcArrayQueueConsumerIndex(int capacity) {
+        super(capacity);
+    }
+}
+
+@SuppressWarnings("unused")
+abstract class MpmcArrayQueueConsumerIndexPad<E> extends MpmcArrayQueueConsumerIndex<E> {
+    long p01, p02, p03, p04, p05, p06, p07;
+    long p10, p11, p12, p13, p14, p15, p16, p17;
+
+    MpmcArrayQueueConsumerIndexPad(int capacity) {
+        super(capacity);
+    }
+}
@@ -0,0 +1,256 @@
+package io.smallrye.mutiny.helpers.queues;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import io.smallrye.mutiny.helpers.ParameterValidation;
+
+/**
+ * A bounded Multi-Producer-Single-Consumer queue backed by a pre-allocated buffer.
+ * <p>
+ * Producers claim a slot by incrementing the producer index (CAS), then publish the element in the slot. The consumer
+ * reads the slot, clears it and then advances the consumer index. The producer and consumer indexes are padded to
+ * avoid false sharing between the producers and the consumer. The producers cache a limit computed from the consumer
+ * index, so they only read the consumer index when the queue looks full.
+ * <p>
+ * The capacity is strict: the queue holds at most the requested number of elements, even if the underlying buffer
+ * size is rounded up to the next power of two.
+ * <p>
+ * Code inspired from https://github.com/JCTools/JCTools/blob/master/jctools-core/src/main/java/org/jctools/queues/atomic.
+ *
+ * @param <E> the element type of the queue
+ */
+public final class MpscArrayQueue<E> extends MpscArrayQueueConsumerIndexPad<E> implements Queue<E> {
+
+    public MpscArrayQueue(int capacity) {
+        super(capacity);
+    }
+
+    @Override
+    public boolean offer(E e) {
+        if (null == e) {
+            throw new NullPointerException("Null is not a valid element");
+        }
+        long limit = producerLimit;
+        long index;
+        do {
+            index = producerIndex;
+            if (index >= limit) {
+                limit = consumerIndex + capacity;
+                if (index >= limit) {
+                    return false; // full
+                }
+                producerLimit = limit;
+            }
+        } while (!PRODUCER_INDEX_UPDATER.compareAndSet(this, index, index + 1));
+        lazySet(calcElementOffset(index), e); // StoreStore
+        return true;
+    }
+
+    @Override
+    public E poll() {
+        final long index = consumerIndex;
+        final int offset = calcElementOffset(index);
+        E e = get(offset); // LoadLoad
+        if (null == e) {
+            if (index == producerIndex) {
+                return null;
+            }
+            // A producer claimed the slot but did not publish the element yet.
+            do {
+                e = get(offset);
+            } while (e == null);
+        }
+        lazySet(offset, null);
+        CONSUMER_INDEX_UPDATER.lazySet(this, index + 1); // ordered store -> atomic and ordered for size()
+        return e;
+    }
+
+    @Override
+    public E peek() {
+        final long index = consumerIndex;
+        final int offset = calcElementOffset(index);
+        E e = get(offset);
+        if (null == e && index != producerIndex) {
+            do {
+                e = get(offset);
+            } while (e == null);
+        }
+        return e;
+    }
+
+    @Override
+    public int size() {
+        long ci = consumerIndex;
+        for (;;) {
+            long pi = producerIndex;
+            long ci2 = consumerIndex;
+            if (ci == ci2) {
+                return (int) (pi - ci);
+            }
+            ci = ci2;
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return producerIndex == consumerIndex;
+    }
+
+    @Override
+    public void clear() {
+        // Must be called by the consumer
+        //noinspection StatementWithEmptyBody
+        while (poll() != null || !isEmpty()) {
+        }
+    }
+
+    /**
+     * @return the maximum number of elements the queue can hold
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    int calcElementOffset(long index) {
+        return (int) index & mask;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Object[] toArray() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public <R> R[] toArray(R[] a) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean containsAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean add(E e) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public E remove() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public E element() {
+        throw new UnsupportedOperationException();
+    }
+}
+
+// The class hierarchy below guarantees the field layout: the JVM lays out the fields of a super class before the fields
+// of its sub classes, so the padding fields are kept between the hot fields.
+
+abstract class MpscArrayQueueHeader<E> extends AtomicReferenceArray<E> {
+    final int mask;
+    final int capacity;
+
+    MpscArrayQueueHeader(int capacity) {
+        super(SpscArrayQueue.roundToPowerOfTwo(Math.max(2, ParameterValidation.positive(capacity, "capacity"))));
+        this.mask = length() - 1;
+        this.capacity = capacity;
+    }
+}
+
+@SuppressWarnings("unused")
+abstract class MpscArrayQueueProducerIndexPad<E> extends MpscArrayQueueHeader<E> {
+    long p01, p02, p03, p04, p05, p06, p07;
+    long p10, p11, p12, p13, p14, p15, p16, p17;
+
+    MpscArrayQueueProducerIndexPad(int capacity) {
+        super(capacity);
+    }
+}
+
+abstract class MpscArrayQueueProducerIndex<E> extends MpscArrayQueueProducerIndexPad<E> {
+    @SuppressWarnings("rawtypes")
+    static final AtomicLongFieldUpdater<MpscArrayQueueProducerIndex> PRODUCER_INDEX_UPDATER = AtomicLongFieldUpdater
+            .newUpdater(MpscArrayQueueProducerIndex.class, "producerIndex");
+
+    volatile long producerIndex;
+
+    /**
+     * Cached value of {@code consumerIndex + capacity}, the producers can claim slots up to this index without reading
+     * the consumer index.
+     */
+    volatile long producerLimit;
+
+    MpscArrayQueueProducerIndex(int capacity) {
+        super(capacity);
+        this.producerLimit = capacity;
+    }
+}
+
+@SuppressWarnings("unused")
+abstract class MpscArrayQueueMidPad<E> extends MpscArrayQueueProducerIndex<E> {
+    long p01, p02, p03, p04, p05, p06, p07;
+    long p10, p11, p12, p13, p14, p15, p16, p17;
+
+    MpscArrayQueueMidPad(int capacity) {
+        super(capacity);
+    }
+}
+
+abstract class MpscArrayQueueConsumerIndex<E> extends MpscArrayQueueMidPad<E> {
+    @SuppressWarnings("rawtypes")
+    static final AtomicLongFieldUpdater<MpscArrayQueueConsumerIndex> CONSUMER_INDEX_UPDATER = AtomicLongFieldUpdater
+            .newUpdater(MpscArrayQueueConsumerIndex.class, "consumerIndex");
+
+    volatile long consumerIndex;
+
+    MpscArrayQueueConsumerIndex(int capacity) {
+        super(capacity);
+    }
+}
+
+@SuppressWarnings("unused")
+abstract class MpscArrayQueueConsumerIndexPad<E> extends MpscArrayQueueConsumerIndex<E> {
+    long p01, p02, p03, p04, p05, p06, p07;
+    long p10, p11, p12, p13, p14, p15, p16, p17;
+
+    MpscArrayQueueConsumerIndexPad(int capacity) {
+        super(capacity);
+    }
+}
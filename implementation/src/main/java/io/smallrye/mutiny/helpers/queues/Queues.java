@@ -1,7 +1,6 @@
 package io.smallrye.mutiny.helpers.queues;
 
 import java.util.Queue;
-import java.util.concurrent.ArrayBlockingQueue;
 import java.util.function.Supplier;
 
 @SuppressWarnings({ "rawtypes", "unchecked" })
@@ -90,6 +89,9 @@ public class Queues {
 
     /**
      * Creates a new multi-producer single consumer unbounded queue.
+     * <p>
+     * The queue allocates a node per element. Use {@link #createMpscQueue(int)} when the number of pending elements can
+     * be bounded.
      * 
      * @param <T> the type of item
      * @return the queue
@@ -98,14 +100,56 @@ public class Queues {
         return new MpscLinkedQueue<>();
     }
 
+    /**
+     * Creates a new multi-producer single consumer bounded queue.
+     * <p>
+     * The queue is backed by a pre-allocated array, and does not allocate when elements are offered.
+     * {@link Queue#offer(Object)} returns {@code false} when the queue already holds {@code capacity} elements.
+     *
+     * @param capacity the maximum number of elements, must be positive
+     * @param <T> the type of item
+     * @return the queue
+     */
+    public static <T> Queue<T> createMpscQueue(int capacity) {
+        return new MpscArrayQueue<>(capacity);
+    }
+
+    /**
+     * Creates a new multi-producer multi-consumer bounded queue.
+     * <p>
+     * The queue is backed by a pre-allocated array, and does not allocate when elements are offered.
+     * {@link Queue#offer(Object)} returns {@code false} when the queue already holds {@code capacity} elements.
+     *
+     * @param capacity the maximum number of elements, must be positive
+     * @param <T> the type of item
+     * @return the queue
+     */
+    public static <T> Queue<T> createMpmcQueue(int capacity) {
+        return new MpmcArrayQueue<>(capacity);
+    }
+
     /**
      * Create a queue of a strict fixed size.
+     * <p>
+     * The queue is lock-free and supports concurrent producers and consumers.
      * 
      * @param size the queue size
      * @param <T> the elements type
      * @return a new queue
      */
     public static <T> Queue<T> createStrictSizeQueue(int size) {
-        return new ArrayBlockingQueue<>(size);
+        return new MpmcArrayQueue<>(size);
+    }
+
+    /**
+     * Checks whether the given queue supports concurrent calls to {@link Queue#offer(Object)}.
+     *
+     * @param queue the queue
+     * @return {@code true} if the queue can be fed from multiple threads without external synchronization
+     */
+    public static boolean isMultiProducer(Queue<?> queue) {
+        return queue instanceof MpscLinkedQueue
+                || queue instanceof MpscArrayQueue
+                || queue instanceof MpmcArrayQueue;
     }
 }
@@ -0,0 +1,217 @@
+package io.smallrye.mutiny.infrastructure;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.operators.AbstractUni;
+import io.smallrye.mutiny.operators.multi.AbstractMultiOperator;
+import io.smallrye.mutiny.operators.multi.MultiOperatorProcessor;
+import io.smallrye.mutiny.operators.uni.UniOperatorProcessor;
+import io.smallrye.mutiny.subscription.MultiSubscriber;
+import io.smallrye.mutiny.subscription.UniSubscriber;
+
+/**
+ * The interceptor wrapping a sample of the created operators to track their subscriptions, see
+ * {@link AssemblyTracing}.
+ * <p>
+ * It is only installed in the {@link Infrastructure} when the tracing is enabled.
+ */
+final class AssemblyTracer implements UniInterceptor, MultiInterceptor {
+
+    /**
+     * The frames skipped when looking for the assembly site: the operators, the groups of the fluent API, and the
+     * default methods of {@link Uni} and {@link Multi}.
+     */
+    private static final String[] MUTINY_FRAMES = {
+            "io.smallrye.mutiny.operators.",
+            "io.smallrye.mutiny.groups.",
+            "io.smallrye.mutiny.helpers.",
+            "io.smallrye.mutiny.converters.",
+            "io.smallrye.mutiny.subscription.",
+            "io.smallrye.mutiny.infrastructure.Infrastructure",
+            "io.smallrye.mutiny.infrastructure.AssemblyTracer",
+            "io.smallrye.mutiny.Uni",
+            "io.smallrye.mutiny.Multi",
+    };
+
+    private final int sampleRate;
+    private final Set<TracedSubscription> pending = ConcurrentHashMap.newKeySet();
+
+    AssemblyTracer(int sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
+    int sampleRate() {
+        return sampleRate;
+    }
+
+    /**
+     * Wraps the operators last, so the tracked subscription covers the other interceptors.
+     */
+    @Override
+    public int ordinal() {
+        return Integer.MAX_VALUE;
+    }
+
+    @Override
+    public <T> Uni<T> onUniCreation(Uni<T> uni) {
+        if (!sampled()) {
+            return uni;
+        }
+        return new TracedUni<>(uni, this, uni.getClass().getSimpleName(), assemblySite());
+    }
+
+    @Override
+    public <T> Multi<T> onMultiCreation(Multi<T> multi) {
+        if (!sampled()) {
+            return multi;
+        }
+        return new TracedMulti<>(multi, this, multi.getClass().getSimpleName(), assemblySite());
+    }
+
+    private boolean sampled() {
+        return sampleRate == 1 || ThreadLocalRandom.current().nextInt(sampleRate) == 0;
+    }
+
+    private static StackTraceElement assemblySite() {
+        StackTraceElement[] trace = new Throwable().getStackTrace();
+        for (StackTraceElement element : trace) {
+            if (!isMutinyFrame(element.getClassName())) {
+                return element;
+            }
+        }
+        return trace.length == 0 ? null : trace[trace.length - 1];
+    }
+
+    private static boolean isMutinyFrame(String className) {
+        for (String prefix : MUTINY_FRAMES) {
+            if (className.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    TracedSubscription track(String operator, StackTraceElement assemblySite) {
+        TracedSubscription subscription = new TracedSubscription(operator, assemblySite);
+        pending.add(subscription);
+        return subscription;
+    }
+
+    void untrack(TracedSubscription subscription) {
+        pending.remove(subscription);
+    }
+
+    List<TracedSubscription> snapshot() {
+        List<TracedSubscription> list = new ArrayList<>(pending);
+        list.sort(Comparator.comparingLong(TracedSubscription::subscriptionTime));
+        return list;
+    }
+
+    private static final class TracedUni<T> extends AbstractUni<T> {
+
+        private final Uni<T> upstream;
+        private final AssemblyTracer tracer;
+        private final String operator;
+        private final StackTraceElement assemblySite;
+
+        TracedUni(Uni<T> upstream, AssemblyTracer tracer, String operator, StackTraceElement assemblySite) {
+            this.upstream = upstream;
+            this.tracer = tracer;
+            this.operator = operator;
+            this.assemblySite = assemblySite;
+        }
+
+        @Override
+        public void subscribe(UniSubscriber<? super T> subscriber) {
+            AbstractUni.subscribe(upstream, new TracedUniProcessor<>(subscriber, tracer,
+                    tracer.track(operator, assemblySite)));
+        }
+    }
+
+    private static final class TracedUniProcessor<T> extends UniOperatorProcessor<T, T> {
+
+        private final AssemblyTracer tracer;
+        private final TracedSubscription tracked;
+
+        TracedUniProcessor(UniSubscriber<? super T> downstream, AssemblyTracer tracer, TracedSubscription tracked) {
+            super(downstream);
+            this.tracer = tracer;
+            this.tracked = tracked;
+        }
+
+        @Override
+        public void onItem(T item) {
+            tracer.untrack(tracked);
+            super.onItem(item);
+        }
+
+        @Override
+        public void onFailure(Throwable failure) {
+            tracer.untrack(tracked);
+            super.onFailure(failure);
+        }
+
+        @Override
+        public void cancel() {
+            tracer.untrack(tracked);
+            super.cancel();
+        }
+    }
+
+    private static final class TracedMulti<T> extends AbstractMultiOperator<T, T> {
+
+        private final AssemblyTracer tracer;
+        private final String operator;
+        private final StackTraceElement assemblySite;
+
+        TracedMulti(Multi<T> upstream, AssemblyTracer tracer, String operator, StackTraceElement assemblySite) {
+            super(upstream);
+            this.tracer = tracer;
+            this.operator = operator;
+            this.assemblySite = assemblySite;
+        }
+
+        @Override
+        public void subscribe(MultiSubscriber<? super T> subscriber) {
+            upstream.subscribe().withSubscriber(new TracedMultiProcessor<>(subscriber, tracer,
+                    tracer.track(operator, assemblySite)));
+        }
+    }
+
+    private static final class TracedMultiProcessor<T> extends MultiOperatorProcessor<T, T> {
+
+        private final AssemblyTracer tracer;
+        private final TracedSubscription tracked;
+
+        TracedMultiProcessor(MultiSubscriber<? super T> downstream, AssemblyTracer tracer, TracedSubscription tracked) {
+            super(downstream);
+            this.tracer = tracer;
+            this.tracked = tracked;
+        }
+
+        @Override
+        public void onFailure(Throwable failure) {
+            tracer.untrack(tracked);
+            super.onFailure(failure);
+        }
+
+        @Override
+        public void onCompletion() {
+            tracer.untrack(tracked);
+            super.onCompletion();
+        }
+
+        @Override
+        public void cancel() {
+            tracer.untrack(tracked);
+            super.cancel();
+        }
+    }
+}
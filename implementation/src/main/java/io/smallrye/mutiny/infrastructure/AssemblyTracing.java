@@ -0,0 +1,76 @@
+package io.smallrye.mutiny.infrastructure;
+
+import java.util.Collections;
+import java.util.List;
+
+import io.smallrye.common.annotation.Experimental;
+import io.smallrye.mutiny.helpers.ParameterValidation;
+
+/**
+ * Records where the {@link io.smallrye.mutiny.Uni} and {@link io.smallrye.mutiny.Multi} operators are created (their
+ * <em>assembly site</em>), and lists the subscriptions to these operators that are still pending, to find which
+ * operator holds a stalled pipeline.
+ * <p>
+ * The tracing is sampled: with a sample rate {@code n}, one operator out of {@code n} (randomly chosen) captures the
+ * stack trace of its assembly site and is wrapped to track its subscriptions, the other operators are left untouched.
+ * Capturing a stack trace is expensive, so a sample rate of {@code 1} (trace every operator) should be limited to
+ * debugging sessions.
+ * <p>
+ * The tracing is disabled by default, and can be enabled at startup with the {@code mutiny.assemblyTracing.sampleRate}
+ * system property. When disabled, no interceptor is installed in the {@link Infrastructure}, so the pipelines are
+ * assembled and subscribed exactly as without tracing.
+ */
+@Experimental("Assembly tracing is a new experimental API")
+public final class AssemblyTracing {
+
+    /**
+     * The system property enabling the tracing at startup, with the given sample rate.
+     */
+    public static final String SAMPLE_RATE_PROP_NAME = "mutiny.assemblyTracing.sampleRate";
+
+    private AssemblyTracing() {
+        // Avoid direct instantiation.
+    }
+
+    /**
+     * Enables the tracing, or changes its sample rate. The subscriptions tracked with the previous sample rate are
+     * discarded.
+     *
+     * @param sampleRate the sample rate, one operator out of {@code sampleRate} is traced, must be strictly positive
+     */
+    public static void enable(int sampleRate) {
+        Infrastructure.setAssemblyTracer(new AssemblyTracer(ParameterValidation.positive(sampleRate, "sampleRate")));
+    }
+
+    /**
+     * Disables the tracing. The operators already traced keep tracking their subscriptions, but they are no longer
+     * listed in the snapshots.
+     */
+    public static void disable() {
+        Infrastructure.setAssemblyTracer(null);
+    }
+
+    /**
+     * @return {@code true} if the tracing is enabled
+     */
+    public static boolean isEnabled() {
+        return Infrastructure.getAssemblyTracer() != null;
+    }
+
+    /**
+     * Lists the pending subscriptions to the traced operators, from the oldest to the most recent.
+     * <p>
+     * In a stalled {@link io.smallrye.mutiny.Uni} pipeline, every traced operator between the subscriber and the
+     * operator holding the pipeline is pending. As the operators are subscribed from the subscriber to the source, the
+     * operator holding the pipeline is the most recent one.
+     *
+     * @return the pending subscriptions, empty if the tracing is disabled
+     */
+    public static List<TracedSubscription> snapshot() {
+        AssemblyTracer tracer = Infrastructure.getAssemblyTracer();
+        if (tracer == null) {
+            return Collections.emptyList();
+        }
+        return Collections.unmodifiableList(tracer.snapshot());
+    }
+}
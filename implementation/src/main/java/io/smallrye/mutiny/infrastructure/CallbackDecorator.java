@@ -262,4 +262,22 @@ public interface CallbackDecorator extends MutinyInterceptor {
     default <T> Predicate<T> decorate(Predicate<T> predicate) {
         return predicate;
     }
+
+    /**
+     * Allows capturing a context once per subscription, and restoring it only when an operator switches threads, such
+     * as {@code emitOn}, {@code runSubscriptionOn}, timeouts, delays or ticks.
+     * <p>
+     * This method is called on the subscribing thread when a subscriber subscribes to such an operator. The returned
+     * operator decorates each task that the operator submits to its executor, so the task runs with the captured
+     * context. This is an alternative to decorating every callback: the cost is paid once per subscription and once per
+     * thread switch instead of once per callback invocation.
+     * <p>
+     * The default behavior is to capture nothing, and return {@code null}.
+     *
+     * @return the operator decorating the tasks executed on other threads for the current subscription, {@code null}
+     *         if nothing is captured and the tasks can run unchanged
+     */
+    default UnaryOperator<Runnable> captureForThreadHop() {
+        return null;
+    }
 }
@@ -0,0 +1,57 @@
+package io.smallrye.mutiny.infrastructure;
+
+/**
+ * Forwards the metrics of a subscription to the {@link StageMetrics} returned by two collectors.
+ */
+final class CompositeStageMetrics implements StageMetrics {
+
+    private final StageMetrics first;
+    private final StageMetrics second;
+
+    CompositeStageMetrics(StageMetrics first, StageMetrics second) {
+        this.first = first;
+        this.second = second;
+    }
+
+    @Override
+    public void onRequest(long requests, long outstandingDemand) {
+        first.onRequest(requests, outstandingDemand);
+        second.onRequest(requests, outstandingDemand);
+    }
+
+    @Override
+    public void onItem(long outstandingDemand) {
+        first.onItem(outstandingDemand);
+        second.onItem(outstandingDemand);
+    }
+
+    @Override
+    public void onFirstItem(long nanos) {
+        first.onFirstItem(nanos);
+        second.onFirstItem(nanos);
+    }
+
+    @Override
+    public void onQueued(int queueSize) {
+        first.onQueued(queueSize);
+        second.onQueued(queueSize);
+    }
+
+    @Override
+    public void onCompletion() {
+        first.onCompletion();
+        second.onCompletion();
+    }
+
+    @Override
+    public void onFailure(Throwable failure) {
+        first.onFailure(failure);
+        second.onFailure(failure);
+    }
+
+    @Override
+    public void onCancellation() {
+        first.onCancellation();
+        second.onCancellation();
+    }
+}
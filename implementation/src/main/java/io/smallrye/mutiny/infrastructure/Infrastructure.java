@@ -23,6 +23,9 @@ public class Infrastructure {
 
     private static final String DISABLE_CALLBACK_DECORATORS_PROP_NAME = "mutiny.disableCallBackDecorators";
     private static final boolean DISABLE_CALLBACK_DECORATORS = Boolean.getBoolean(DISABLE_CALLBACK_DECORATORS_PROP_NAME);
+    private static final String USE_VIRTUAL_THREADS_PROP_NAME = "mutiny.useVirtualThreads";
+    private static final String USE_TIMING_WHEEL_SCHEDULER_PROP_NAME = "mutiny.useTimingWheelScheduler";
+    private static final UnaryOperator<Runnable> NO_THREAD_HOP_CAPTURE = task -> task;
 
     static {
         ServiceLoader<ExecutorConfiguration> executorLoader = ServiceLoader.load(ExecutorConfiguration.class);
@@ -42,9 +45,16 @@ public class Infrastructure {
     private static ScheduledExecutorService DEFAULT_SCHEDULER;
 
     private static Executor DEFAULT_EXECUTOR;
+    /**
+     * Whether the default worker pool is a {@link TimingWheelScheduler}, {@code null} to use the
+     * {@code mutiny.useTimingWheelScheduler} system property.
+     */
+    private static Boolean timingWheelScheduler;
     private static UniInterceptor[] UNI_INTERCEPTORS;
     private static MultiInterceptor[] MULTI_INTERCEPTORS;
     private static CallbackDecorator[] CALLBACK_DECORATORS;
+    private static MetricsCollector[] METRICS_COLLECTORS;
+    private static AssemblyTracer assemblyTracer;
     private static UnaryOperator<CompletableFuture<?>> completableFutureWrapper;
     private static Consumer<Throwable> droppedExceptionHandler = Infrastructure::printAndDump;
     private static BooleanSupplier canCallerThreadBeBlockedSupplier;
@@ -55,16 +65,40 @@ public class Infrastructure {
         reloadUniInterceptors();
         reloadMultiInterceptors();
         reloadCallbackDecorators();
+        reloadMetricsCollectors();
+        int sampleRate = Integer.getInteger(AssemblyTracing.SAMPLE_RATE_PROP_NAME, 0);
+        if (sampleRate > 0) {
+            setAssemblyTracer(new AssemblyTracer(sampleRate));
+        }
     }
 
     /**
      * Configure or reset the executors.
+     * <p>
+     * The default executor is a cached thread pool. When the {@code mutiny.useVirtualThreads} system property is set
+     * to {@code true} and the JVM supports virtual threads, the default executor starts a new virtual thread for each
+     * task instead.
      */
     public static void setDefaultExecutor() {
-        ExecutorService scheduler = Executors.newCachedThreadPool();
+        ExecutorService scheduler;
+        if (Boolean.getBoolean(USE_VIRTUAL_THREADS_PROP_NAME) && VirtualThreads.isSupported()) {
+            scheduler = VirtualThreads.newVirtualThreadPerTaskExecutor();
+        } else {
+            scheduler = Executors.newCachedThreadPool();
+        }
         setDefaultExecutor(scheduler);
     }
 
+    /**
+     * Configures the default executor to start a new virtual thread for each task.
+     *
+     * @throws UnsupportedOperationException if the JVM does not support virtual threads
+     * @see VirtualThreads#newVirtualThreadPerTaskExecutor()
+     */
+    public static void setDefaultExecutorToVirtualThreads() {
+        setDefaultExecutor(VirtualThreads.newVirtualThreadPerTaskExecutor());
+    }
+
     public static void setDefaultExecutor(Executor s) {
         if (s == DEFAULT_EXECUTOR) {
             return;
@@ -77,7 +111,33 @@ public class Infrastructure {
             DEFAULT_SCHEDULER.shutdownNow();
         }
         DEFAULT_EXECUTOR = s;
-        DEFAULT_SCHEDULER = new MutinyScheduler(s);
+        DEFAULT_SCHEDULER = newScheduler(s);
+    }
+
+    /**
+     * Configures whether the default worker pool uses a {@link TimingWheelScheduler} instead of a
+     * {@link MutinyScheduler} to schedule the delayed tasks (timeouts, delays, ticks...). The default worker pool is
+     * re-created around the current default executor.
+     * <p>
+     * By default, the timing wheel is used if the {@code mutiny.useTimingWheelScheduler} system property is set to
+     * {@code true}.
+     *
+     * @param enabled {@code true} to use a timing wheel, {@code false} to use a {@link MutinyScheduler}
+     */
+    public static void setTimingWheelScheduler(boolean enabled) {
+        timingWheelScheduler = enabled;
+        if (DEFAULT_SCHEDULER != null) {
+            DEFAULT_SCHEDULER.shutdownNow();
+        }
+        DEFAULT_SCHEDULER = newScheduler(DEFAULT_EXECUTOR);
+    }
+
+    private static ScheduledExecutorService newScheduler(Executor executor) {
+        Boolean enabled = timingWheelScheduler;
+        if (enabled == null ? Boolean.getBoolean(USE_TIMING_WHEEL_SCHEDULER_PROP_NAME) : enabled) {
+            return new TimingWheelScheduler(executor);
+        }
+        return new MutinyScheduler(executor);
     }
 
     public static ScheduledExecutorService getDefaultWorkerPool() {
@@ -272,6 +332,9 @@ public class Infrastructure {
 
     /**
      * Defines a custom caller thread blocking check supplier.
+     * <p>
+     * The supplier decides for every thread, including virtual threads. Blocking a virtual thread releases its carrier
+     * thread, so a supplier can allow it with {@link VirtualThreads#isCurrentThreadVirtual()}.
      *
      * @param supplier the supplier, must not be {@code null} and must not throw an exception or it will also be lost.
      */
@@ -280,6 +343,14 @@ public class Infrastructure {
         canCallerThreadBeBlockedSupplier = supplier;
     }
 
+    /**
+     * Checks whether the caller thread can be blocked, for example by {@code await().indefinitely()}.
+     * <p>
+     * The check is delegated to the supplier set with {@link #setCanCallerThreadBeBlockedSupplier(BooleanSupplier)}.
+     * The default supplier allows blocking any thread, virtual threads included.
+     *
+     * @return {@code true} if the caller thread can be blocked
+     */
     public static boolean canCallerThreadBeBlocked() {
         return canCallerThreadBeBlockedSupplier.getAsBoolean();
     }
@@ -328,10 +399,54 @@ public class Infrastructure {
         }
     }
 
+    public static void reloadMetricsCollectors() {
+        ServiceLoader<MetricsCollector> loader = ServiceLoader.load(MetricsCollector.class);
+        List<MetricsCollector> collectors = new ArrayList<>();
+        loader.forEach(collectors::add);
+        collectors.sort(Comparator.comparingInt(MutinyInterceptor::ordinal));
+        METRICS_COLLECTORS = collectors.toArray(METRICS_COLLECTORS);
+    }
+
     public static void clearInterceptors() {
         UNI_INTERCEPTORS = new UniInterceptor[0];
         MULTI_INTERCEPTORS = new MultiInterceptor[0];
         CALLBACK_DECORATORS = new CallbackDecorator[0];
+        METRICS_COLLECTORS = new MetricsCollector[0];
+        assemblyTracer = null;
+    }
+
+    /**
+     * Installs the given tracer as Uni and Multi interceptor, replacing the current one.
+     *
+     * @param tracer the tracer, {@code null} to disable the tracing
+     * @see AssemblyTracing
+     */
+    static synchronized void setAssemblyTracer(AssemblyTracer tracer) {
+        List<UniInterceptor> uniInterceptors = new ArrayList<>();
+        for (UniInterceptor interceptor : UNI_INTERCEPTORS) {
+            if (!(interceptor instanceof AssemblyTracer)) {
+                uniInterceptors.add(interceptor);
+            }
+        }
+        List<MultiInterceptor> multiInterceptors = new ArrayList<>();
+        for (MultiInterceptor interceptor : MULTI_INTERCEPTORS) {
+            if (!(interceptor instanceof AssemblyTracer)) {
+                multiInterceptors.add(interceptor);
+            }
+        }
+        if (tracer != null) {
+            uniInterceptors.add(tracer);
+            multiInterceptors.add(tracer);
+        }
+        uniInterceptors.sort(Comparator.comparingInt(MutinyInterceptor::ordinal));
+        multiInterceptors.sort(Comparator.comparingInt(MutinyInterceptor::ordinal));
+        UNI_INTERCEPTORS = uniInterceptors.toArray(new UniInterceptor[0]);
+        MULTI_INTERCEPTORS = multiInterceptors.toArray(new MultiInterceptor[0]);
+        assemblyTracer = tracer;
+    }
+
+    static AssemblyTracer getAssemblyTracer() {
+        return assemblyTracer;
     }
 
     // For testing purpose only
@@ -364,6 +479,54 @@ public class Infrastructure {
         return current;
     }
 
+    /**
+     * Captures the context of the current subscription, to restore it when an operator switches threads.
+     * <p>
+     * Operators submitting tasks to an executor call this method when they are subscribed, and decorate the submitted
+     * tasks with the returned operator.
+     *
+     * @return the operator decorating the tasks, returning the tasks unchanged if no {@link CallbackDecorator}
+     *         captures a context
+     * @see CallbackDecorator#captureForThreadHop()
+     */
+    public static UnaryOperator<Runnable> captureForThreadHop() {
+        UnaryOperator<Runnable> current = null;
+        for (CallbackDecorator interceptor : CALLBACK_DECORATORS) {
+            UnaryOperator<Runnable> capture = interceptor.captureForThreadHop();
+            if (capture == null) {
+                continue;
+            }
+            if (current == null) {
+                current = capture;
+            } else {
+                UnaryOperator<Runnable> previous = current;
+                current = task -> capture.apply(previous.apply(task));
+            }
+        }
+        return current == null ? NO_THREAD_HOP_CAPTURE : current;
+    }
+
+    /**
+     * Notifies the {@link MetricsCollector metrics collectors} that a reporting stage is subscribed.
+     * <p>
+     * This method should never be called directly but only from the operators reporting metrics. It does not allocate
+     * when no collector is installed.
+     *
+     * @param stage the name of the stage
+     * @return the object receiving the metrics of the subscription, {@code null} if no collector is interested by the
+     *         stage
+     */
+    public static StageMetrics onStageSubscription(String stage) {
+        StageMetrics current = null;
+        for (MetricsCollector collector : METRICS_COLLECTORS) {
+            StageMetrics metrics = collector.onSubscription(stage);
+            if (metrics != null) {
+                current = current == null ? metrics : new CompositeStageMetrics(current, metrics);
+            }
+        }
+        return current;
+    }
+
     /**
      * Log from an operator.
      *
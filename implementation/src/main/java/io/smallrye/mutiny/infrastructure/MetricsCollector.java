@@ -0,0 +1,33 @@
+package io.smallrye.mutiny.infrastructure;
+
+/**
+ * Collects metrics about the stages of the pipelines: item rate, demand, time to the first item and occupancy of the
+ * queues of the buffering operators.
+ * <p>
+ * The reporting stages are:
+ * <ul>
+ * <li>the stages named with {@link io.smallrye.mutiny.Multi#measure(String)}, which report all the events of their
+ * subscriptions,</li>
+ * <li>the buffering operators, which report the occupancy of their queue with {@link StageMetrics#onQueued(int)}. They
+ * are named {@code Multi.emitOn}, {@code Multi.flatMap}, {@code Multi.onOverflow.buffer} and
+ * {@code UnicastProcessor}.</li>
+ * </ul>
+ * When no collector is installed, the stages do not allocate anything to report metrics.
+ * <p>
+ * Implementations are expected to be exposed as SPI, and so the implementation class must be declared in the
+ * {@code META-INF/services/io.smallrye.mutiny.infrastructure.MetricsCollector} file.
+ */
+public interface MetricsCollector extends MutinyInterceptor {
+
+    /**
+     * Method called when a subscriber subscribes to a reporting stage. As a {@code UnicastProcessor} accepts a single
+     * subscriber, it calls this method when it is created, as it can queue items before being subscribed.
+     * <p>
+     * This method is called on the subscription path, so implementations should return quickly.
+     *
+     * @param stage the name of the stage
+     * @return the object receiving the metrics of this subscription, {@code null} if the collector is not interested by
+     *         this stage
+     */
+    StageMetrics onSubscription(String stage);
+}
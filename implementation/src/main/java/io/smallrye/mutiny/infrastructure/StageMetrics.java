@@ -0,0 +1,76 @@
+package io.smallrye.mutiny.infrastructure;
+
+/**
+ * Receives the metrics of a single subscription to a stage, see {@link MetricsCollector}.
+ * <p>
+ * The methods are called from the threads emitting the events, possibly concurrently (requests and items are often
+ * sent from different threads), so implementations must be thread-safe and should not block.
+ * All the methods do nothing by default.
+ */
+public interface StageMetrics {
+
+    /**
+     * Called when the downstream requests items.
+     *
+     * @param requests the number of requested items
+     * @param outstandingDemand the number of items requested and not yet emitted, {@link Long#MAX_VALUE} if the demand
+     *        is unbounded
+     */
+    default void onRequest(long requests, long outstandingDemand) {
+        // Do nothing by default.
+    }
+
+    /**
+     * Called when the stage emits an item.
+     *
+     * @param outstandingDemand the number of items requested and not yet emitted, {@link Long#MAX_VALUE} if the demand
+     *        is unbounded
+     */
+    default void onItem(long outstandingDemand) {
+        // Do nothing by default.
+    }
+
+    /**
+     * Called once, before {@link #onItem(long)}, when the stage emits its first item.
+     *
+     * @param nanos the time elapsed between the subscription and the first item, in nanoseconds
+     */
+    default void onFirstItem(long nanos) {
+        // Do nothing by default.
+    }
+
+    /**
+     * Called by the buffering operators when an item has been added to their queue.
+     * <p>
+     * The size is read with {@link java.util.Queue#size()}, so it is a snapshot when the queue is consumed
+     * concurrently.
+     *
+     * @param queueSize the number of items in the queue, including the added item
+     */
+    default void onQueued(int queueSize) {
+        // Do nothing by default.
+    }
+
+    /**
+     * Called when the stage completes.
+     */
+    default void onCompletion() {
+        // Do nothing by default.
+    }
+
+    /**
+     * Called when the stage emits a failure.
+     *
+     * @param failure the failure
+     */
+    default void onFailure(Throwable failure) {
+        // Do nothing by default.
+    }
+
+    /**
+     * Called when the downstream cancels the subscription.
+     */
+    default void onCancellation() {
+        // Do nothing by default.
+    }
+}
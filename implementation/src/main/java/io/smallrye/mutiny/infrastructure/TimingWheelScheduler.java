@@ -0,0 +1,565 @@
+package io.smallrye.mutiny.infrastructure;
+
+import static io.smallrye.mutiny.helpers.ParameterValidation.nonNull;
+import static io.smallrye.mutiny.helpers.ParameterValidation.positive;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import io.smallrye.common.annotation.Experimental;
+import io.smallrye.mutiny.helpers.queues.Queues;
+import io.smallrye.mutiny.helpers.queues.SpscArrayQueue;
+
+/**
+ * Implementation of {@link ScheduledExecutorService} based on a hashed timing wheel, delegating the execution of the
+ * tasks to a configured {@link Executor}.
+ * <p>
+ * The delayed tasks are stored in a wheel of {@code wheelSize} buckets, each bucket covering one {@code tick}.
+ * Scheduling and cancelling a task are O(1): the task is enqueued in a lock-free queue and moved to (or removed from)
+ * its bucket by the timer thread at the next tick. At each tick, the timer thread expires the tasks of the current
+ * bucket in batch and submits them to the executor. So, tasks never run before their delay, but may run up to one
+ * tick late.
+ * <p>
+ * This scheduler is designed for a large number of short-lived timers, most of them being cancelled before
+ * expiring (timeouts for example), for which a {@link ScheduledThreadPoolExecutor} heap becomes a contention point.
+ * <p>
+ * The timer thread only ticks while tasks are waiting in the wheel, it parks when nothing is scheduled and is woken
+ * up by the next scheduled task.
+ * <p>
+ * {@link #execute(Runnable)} submits the task to the executor directly. Periodic tasks never run concurrently with
+ * themselves: the next execution is scheduled once the current one completes.
+ * <p>
+ * As with the default {@link ScheduledThreadPoolExecutor} policies, {@link #shutdown()} cancels the periodic tasks
+ * but the delayed tasks already scheduled still run, the scheduler terminates once they have been submitted to the
+ * executor. {@link #shutdownNow()} returns the delayed tasks that were waiting in the wheel, without running them.
+ */
+@Experimental("Timing wheel scheduler is a new experimental API")
+public class TimingWheelScheduler extends AbstractExecutorService implements ScheduledExecutorService {
+
+    private static final int STATE_INIT = 0;
+    private static final int STATE_STARTED = 1;
+    private static final int STATE_SHUTDOWN = 2;
+    private static final int STATE_STOPPED = 3;
+
+    /**
+     * Maximum number of new tasks moved to the wheel per tick, so a flood of new tasks does not delay the expiration.
+     */
+    private static final int MAX_TRANSFERS_PER_TICK = 100_000;
+
+    private final Executor executor;
+    private final long tickNanos;
+    private final Bucket[] wheel;
+    private final int mask;
+
+    private final Queue<WheelTask<?>> pending = Queues.createMpscQueue();
+    private final Queue<WheelTask<?>> cancelled = Queues.createMpscQueue();
+
+    private final AtomicInteger state = new AtomicInteger(STATE_INIT);
+    private final CountDownLatch terminated = new CountDownLatch(1);
+    private final Thread worker;
+
+    /**
+     * Set while the timer thread is parked because no task is scheduled.
+     */
+    private volatile boolean idle;
+
+    /**
+     * The tasks which never ran, collected by the timer thread when {@link #shutdownNow()} is called.
+     */
+    private volatile List<Runnable> dropped = Collections.emptyList();
+
+    /**
+     * Number of tasks in the wheel buckets, only accessed from the timer thread.
+     */
+    private int scheduledTasks;
+
+    /**
+     * Reference time of the wheel, the deadlines are relative to this time.
+     */
+    private final long startTime = System.nanoTime();
+
+    /**
+     * Creates a new {@link TimingWheelScheduler} with a 1 ms tick and 512 buckets.
+     *
+     * @param executor the executor running the tasks, must not be {@code null}
+     */
+    public TimingWheelScheduler(Executor executor) {
+        this(executor, Duration.ofMillis(1), 512);
+    }
+
+    /**
+     * Creates a new {@link TimingWheelScheduler}.
+     *
+     * @param executor the executor running the tasks, must not be {@code null}
+     * @param tick the duration of a tick, must be at least 1 ms
+     * @param wheelSize the number of buckets of the wheel, rounded to the next power of 2, must be strictly positive
+     */
+    public TimingWheelScheduler(Executor executor, Duration tick, int wheelSize) {
+        this.executor = nonNull(executor, "executor");
+        nonNull(tick, "tick");
+        if (tick.toMillis() < 1) {
+            throw new IllegalArgumentException("`tick` must be at least 1 ms");
+        }
+        this.tickNanos = tick.toNanos();
+        int size = SpscArrayQueue.roundToPowerOfTwo(positive(wheelSize, "wheelSize"));
+        this.wheel = new Bucket[size];
+        for (int i = 0; i < size; i++) {
+            wheel[i] = new Bucket();
+        }
+        this.mask = size - 1;
+        this.worker = new Thread(this::runWheel, "mutiny-timing-wheel");
+        this.worker.setDaemon(true);
+    }
+
+    // ---- Scheduling
+
+    @Override
+    public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+        nonNull(command, "command");
+        nonNull(unit, "unit");
+        return enqueue(new WheelTask<Void>(Executors.callable(command, null), deadline(delay, unit), 0L));
+    }
+
+    @Override
+    public <V> ScheduledFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit) {
+        nonNull(callable, "callable");
+        nonNull(unit, "unit");
+        return enqueue(new WheelTask<>(callable, deadline(delay, unit), 0L));
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(Runnable command, long initialDelay, long period, TimeUnit unit) {
+        nonNull(command, "command");
+        nonNull(unit, "unit");
+        if (period <= 0) {
+            throw new IllegalArgumentException("`period` must be greater than zero");
+        }
+        return enqueue(new WheelTask<Void>(Executors.callable(command, null), deadline(initialDelay, unit),
+                unit.toNanos(period)));
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay, TimeUnit unit) {
+        nonNull(command, "command");
+        nonNull(unit, "unit");
+        if (delay <= 0) {
+            throw new IllegalArgumentException("`delay` must be greater than zero");
+        }
+        return enqueue(new WheelTask<Void>(Executors.callable(command, null), deadline(initialDelay, unit),
+                -unit.toNanos(delay)));
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        nonNull(command, "command");
+        if (isShutdown()) {
+            throw new RejectedExecutionException("The scheduler has been shut down");
+        }
+        executor.execute(command);
+    }
+
+    private long now() {
+        return System.nanoTime() - startTime;
+    }
+
+    private long deadline(long delay, TimeUnit unit) {
+        long d = unit.toNanos(Math.max(0L, delay));
+        long now = now();
+        // Guard against overflow
+        return (d > Long.MAX_VALUE - now) ? Long.MAX_VALUE : now + d;
+    }
+
+    private <V> WheelTask<V> enqueue(WheelTask<V> task) {
+        if (isShutdown()) {
+            throw new RejectedExecutionException("The scheduler has been shut down");
+        }
+        if (state.get() == STATE_INIT && state.compareAndSet(STATE_INIT, STATE_STARTED)) {
+            worker.start();
+        }
+        if (task.deadline <= now()) {
+            dispatch(task);
+        } else {
+            offer(task);
+        }
+        return task;
+    }
+
+    private void offer(WheelTask<?> task) {
+        pending.offer(task);
+        if (idle) {
+            LockSupport.unpark(worker);
+        }
+        if (isTerminated()) {
+            // Raced with the termination, nobody will ever run the task
+            task.cancel(false);
+        }
+    }
+
+    private void dispatch(WheelTask<?> task) {
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException rejected) {
+            task.reject(rejected);
+        }
+    }
+
+    // ---- Lifecycle
+
+    @Override
+    public void shutdown() {
+        for (;;) {
+            int current = state.get();
+            if (current >= STATE_SHUTDOWN) {
+                return;
+            }
+            if (state.compareAndSet(current, STATE_SHUTDOWN)) {
+                if (current == STATE_INIT) {
+                    terminated.countDown();
+                } else {
+                    // The timer thread terminates once the scheduled tasks have been dispatched
+                    LockSupport.unpark(worker);
+                }
+                return;
+            }
+        }
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        int previous = state.getAndSet(STATE_STOPPED);
+        if (previous == STATE_STOPPED) {
+            return Collections.emptyList();
+        }
+        if (previous == STATE_INIT) {
+            terminated.countDown();
+            return Collections.emptyList();
+        }
+        if (Thread.currentThread() == worker) {
+            // Called by a task run on the timer thread (caller-runs executor), the wheel can be drained directly
+            return drainTasks();
+        }
+        worker.interrupt();
+        boolean interrupted = false;
+        while (terminated.getCount() != 0) {
+            try {
+                terminated.await();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        return dropped;
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return state.get() >= STATE_SHUTDOWN;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return terminated.getCount() == 0;
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return terminated.await(timeout, unit);
+    }
+
+    // ---- Timer thread
+
+    private void runWheel() {
+        long tick = 0L;
+        boolean shutdownSeen = false;
+        try {
+            for (;;) {
+                int current = state.get();
+                if (current == STATE_STOPPED) {
+                    break;
+                }
+                if (current == STATE_SHUTDOWN && !shutdownSeen) {
+                    shutdownSeen = true;
+                    cancelPeriodicTasks();
+                }
+                if (scheduledTasks == 0 && pending.isEmpty()) {
+                    if (current == STATE_SHUTDOWN) {
+                        break;
+                    }
+                    park();
+                    // The buckets are empty, the ticks elapsed while parked can be skipped
+                    tick = Math.max(tick, now() / tickNanos);
+                    continue;
+                }
+                long tickDeadline = tickNanos * (tick + 1);
+                if (!waitUntil(tickDeadline)) {
+                    break;
+                }
+                removeCancelledTasks();
+                transferPendingTasks(tick);
+                expire(wheel[(int) (tick & mask)], tickDeadline);
+                tick++;
+            }
+        } finally {
+            dropped = drainTasks();
+            terminated.countDown();
+            // Tasks offered while draining are cancelled, so nobody waits for them forever
+            WheelTask<?> task;
+            while ((task = pending.poll()) != null) {
+                task.cancel(false);
+            }
+        }
+    }
+
+    private void park() {
+        idle = true;
+        while (pending.isEmpty() && state.get() == STATE_STARTED) {
+            LockSupport.park(this);
+            // Clear the interruption, the state is checked by the loop
+            Thread.interrupted();
+        }
+        idle = false;
+    }
+
+    // For testing purpose only
+    boolean isIdle() {
+        return idle;
+    }
+
+    private boolean waitUntil(long tickDeadline) {
+        for (;;) {
+            long sleep = tickDeadline - now();
+            if (sleep <= 0) {
+                return true;
+            }
+            try {
+                TimeUnit.NANOSECONDS.sleep(sleep);
+            } catch (InterruptedException e) {
+                if (state.get() == STATE_STOPPED) {
+                    return false;
+                }
+            }
+        }
+    }
+
+    private void removeCancelledTasks() {
+        WheelTask<?> task;
+        while ((task = cancelled.poll()) != null) {
+            if (task.bucket != null) {
+                remove(task);
+            }
+        }
+    }
+
+    private void cancelPeriodicTasks() {
+        for (Bucket bucket : wheel) {
+            WheelTask<?> task = bucket.head;
+            while (task != null) {
+                WheelTask<?> next = task.next;
+                if (task.isPeriodic()) {
+                    task.cancel(false);
+                    remove(task);
+                }
+                task = next;
+            }
+        }
+    }
+
+    /**
+     * Removes all the tasks from the wheel, only called from the timer thread.
+     *
+     * @return the tasks which are not cancelled
+     */
+    private List<Runnable> drainTasks() {
+        List<Runnable> tasks = new ArrayList<>();
+        for (Bucket bucket : wheel) {
+            WheelTask<?> task = bucket.head;
+            while (task != null) {
+                WheelTask<?> next = task.next;
+                if (!task.isCancelled()) {
+                    tasks.add(task);
+                }
+                remove(task);
+                task = next;
+            }
+        }
+        WheelTask<?> task;
+        while ((task = pending.poll()) != null) {
+            if (!task.isCancelled()) {
+                tasks.add(task);
+            }
+        }
+        cancelled.clear();
+        return tasks;
+    }
+
+    private void remove(WheelTask<?> task) {
+        task.bucket.remove(task);
+        scheduledTasks--;
+    }
+
+    private void transferPendingTasks(long currentTick) {
+        for (int i = 0; i < MAX_TRANSFERS_PER_TICK; i++) {
+            WheelTask<?> task = pending.poll();
+            if (task == null) {
+                return;
+            }
+            if (task.isCancelled()) {
+                continue;
+            }
+            if (task.isPeriodic() && isShutdown()) {
+                task.cancel(false);
+                continue;
+            }
+            // The task expires at the end of the tick containing its deadline, so it never runs early
+            long target = Math.max(task.deadline / tickNanos, currentTick);
+            task.remainingRounds = (target - currentTick) / wheel.length;
+            wheel[(int) (target & mask)].add(task);
+            scheduledTasks++;
+        }
+    }
+
+    private void expire(Bucket bucket, long tickDeadline) {
+        WheelTask<?> task = bucket.head;
+        while (task != null) {
+            WheelTask<?> next = task.next;
+            if (task.isCancelled()) {
+                remove(task);
+            } else if (task.remainingRounds <= 0 && task.deadline <= tickDeadline) {
+                remove(task);
+                dispatch(task);
+            } else {
+                task.remainingRounds--;
+            }
+            task = next;
+        }
+    }
+
+    /**
+     * A doubly-linked list of tasks, only accessed from the timer thread.
+     */
+    private static final class Bucket {
+        private WheelTask<?> head;
+        private WheelTask<?> tail;
+
+        void add(WheelTask<?> task) {
+            task.bucket = this;
+            if (head == null) {
+                head = task;
+                tail = task;
+            } else {
+                tail.next = task;
+                task.prev = tail;
+                tail = task;
+            }
+        }
+
+        void remove(WheelTask<?> task) {
+            WheelTask<?> next = task.next;
+            if (task.prev != null) {
+                task.prev.next = next;
+            }
+            if (task.next != null) {
+                task.next.prev = task.prev;
+            }
+            if (task == head) {
+                head = next;
+            }
+            if (task == tail) {
+                tail = task.prev;
+            }
+            task.prev = null;
+            task.next = null;
+            task.bucket = null;
+        }
+    }
+
+    private final class WheelTask<V> extends FutureTask<V> implements RunnableScheduledFuture<V> {
+
+        /**
+         * The deadline, relative to {@link #startTime}.
+         */
+        private volatile long deadline;
+
+        /**
+         * 0 for one-shot tasks, positive for fixed rate tasks, negative for fixed delay tasks.
+         */
+        private final long period;
+
+        // Only accessed from the timer thread
+        private long remainingRounds;
+        private Bucket bucket;
+        private WheelTask<?> prev;
+        private WheelTask<?> next;
+
+        WheelTask(Callable<V> callable, long deadline, long period) {
+            super(callable);
+            this.deadline = deadline;
+            this.period = period;
+        }
+
+        @Override
+        public boolean isPeriodic() {
+            return period != 0L;
+        }
+
+        @Override
+        public void run() {
+            if (!isPeriodic()) {
+                super.run();
+            } else if (super.runAndReset()) {
+                if (period > 0) {
+                    deadline += period;
+                } else {
+                    deadline = now() - period;
+                }
+                if (isShutdown()) {
+                    cancel(false);
+                } else {
+                    enqueuePeriodic();
+                }
+            }
+        }
+
+        private void enqueuePeriodic() {
+            if (deadline <= now()) {
+                dispatch(this);
+            } else {
+                offer(this);
+            }
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            boolean done = super.cancel(mayInterruptIfRunning);
+            if (done && state.get() != STATE_STOPPED) {
+                cancelled.offer(this);
+            }
+            return done;
+        }
+
+        void reject(RejectedExecutionException rejected) {
+            setException(rejected);
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(deadline - now(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            if (other == this) {
+                return 0;
+            }
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+        }
+    }
+}
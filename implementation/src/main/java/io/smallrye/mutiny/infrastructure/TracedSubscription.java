@@ -0,0 +1,53 @@
+package io.smallrye.mutiny.infrastructure;
+
+import java.time.Duration;
+
+/**
+ * A pending subscription to a traced operator, see {@link AssemblyTracing#snapshot()}.
+ * <p>
+ * A subscription to a {@link io.smallrye.mutiny.Uni} operator is pending until the operator emits its item or failure,
+ * or the subscription is cancelled. A subscription to a {@link io.smallrye.mutiny.Multi} operator is pending until
+ * the operator completes or fails, or the subscription is cancelled.
+ */
+public final class TracedSubscription {
+
+    private final String operator;
+    private final StackTraceElement assemblySite;
+    private final long subscriptionTime = System.nanoTime();
+
+    TracedSubscription(String operator, StackTraceElement assemblySite) {
+        this.operator = operator;
+        this.assemblySite = assemblySite;
+    }
+
+    /**
+     * @return the simple name of the operator class, such as {@code UniOnItemTransform}
+     */
+    public String operator() {
+        return operator;
+    }
+
+    /**
+     * @return the first frame outside of Mutiny in the stack trace captured when the operator was created,
+     *         {@code null} if the stack trace is not available
+     */
+    public StackTraceElement assemblySite() {
+        return assemblySite;
+    }
+
+    /**
+     * @return the time elapsed since the subscription
+     */
+    public Duration age() {
+        return Duration.ofNanos(System.nanoTime() - subscriptionTime);
+    }
+
+    long subscriptionTime() {
+        return subscriptionTime;
+    }
+
+    @Override
+    public String toString() {
+        return operator + " assembled at " + assemblySite + ", pending for " + age();
+    }
+}
@@ -0,0 +1,95 @@
+package io.smallrye.mutiny.infrastructure;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import io.smallrye.common.annotation.Experimental;
+
+/**
+ * Access to the virtual threads when running on a Java version supporting them (Java 21+).
+ * <p>
+ * Mutiny targets Java 8, so the virtual thread APIs are looked up at runtime. On older Java versions,
+ * {@link #isSupported()} returns {@code false}, {@link #isVirtual(Thread)} always returns {@code false}, and
+ * {@link #newVirtualThreadPerTaskExecutor()} throws an {@link UnsupportedOperationException}.
+ */
+@Experimental("Virtual threads support is a new experimental API")
+public final class VirtualThreads {
+
+    private static final MethodHandle IS_VIRTUAL;
+    private static final MethodHandle NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR;
+
+    static {
+        MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+        MethodHandle isVirtual;
+        MethodHandle newExecutor;
+        try {
+            isVirtual = lookup.findVirtual(Thread.class, "isVirtual", MethodType.methodType(boolean.class));
+            newExecutor = lookup.findStatic(Executors.class, "newVirtualThreadPerTaskExecutor",
+                    MethodType.methodType(ExecutorService.class));
+            // Fails when the virtual threads are a disabled preview feature (Java 19 / 20)
+            ((ExecutorService) newExecutor.invokeExact()).shutdown();
+        } catch (Throwable unsupported) {
+            isVirtual = null;
+            newExecutor = null;
+        }
+        IS_VIRTUAL = isVirtual;
+        NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR = newExecutor;
+    }
+
+    private VirtualThreads() {
+        // Avoid direct instantiation.
+    }
+
+    /**
+     * @return {@code true} if the current JVM supports virtual threads
+     */
+    public static boolean isSupported() {
+        return NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR != null;
+    }
+
+    /**
+     * Checks whether the given thread is a virtual thread.
+     *
+     * @param thread the thread, must not be {@code null}
+     * @return {@code true} if the thread is a virtual thread, {@code false} otherwise or if the JVM does not support
+     *         virtual threads
+     */
+    public static boolean isVirtual(Thread thread) {
+        if (IS_VIRTUAL == null) {
+            return false;
+        }
+        try {
+            return (boolean) IS_VIRTUAL.invokeExact(thread);
+        } catch (Throwable e) {
+            return false;
+        }
+    }
+
+    /**
+     * @return {@code true} if the current thread is a virtual thread
+     */
+    public static boolean isCurrentThreadVirtual() {
+        return isVirtual(Thread.currentThread());
+    }
+
+    /**
+     * Creates an executor starting a new virtual thread for each task.
+     *
+     * @return the executor
+     * @throws UnsupportedOperationException if the JVM does not support virtual threads
+     */
+    public static ExecutorService newVirtualThreadPerTaskExecutor() {
+        if (NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR == null) {
+            throw new UnsupportedOperationException("Virtual threads are not supported by this JVM ("
+                    + System.getProperty("java.version") + ")");
+        }
+        try {
+            return (ExecutorService) NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR.invokeExact();
+        } catch (Throwable e) {
+            throw new UnsupportedOperationException("Unable to create a virtual thread executor", e);
+        }
+    }
+}
@@ -1,7 +1,10 @@
 package io.smallrye.mutiny.operators;
 
 import static io.smallrye.mutiny.helpers.ParameterValidation.nonNull;
+import static io.smallrye.mutiny.helpers.ParameterValidation.positive;
+import static io.smallrye.mutiny.helpers.ParameterValidation.validate;
 
+import java.time.Duration;
 import java.util.Objects;
 import java.util.concurrent.Executor;
 import java.util.function.BiFunction;
@@ -80,11 +83,38 @@ public abstract class AbstractMulti<T> implements Multi<T> {
         return Infrastructure.onMultiCreation(new MultiCacheOp<>(this));
     }
 
+    @Override
+    public Multi<T> cache(int maxItems) {
+        return Infrastructure.onMultiCreation(new MultiCacheOp<>(this, positive(maxItems, "maxItems"), null));
+    }
+
+    @Override
+    public Multi<T> cache(Duration ttl) {
+        return Infrastructure.onMultiCreation(new MultiCacheOp<>(this, Long.MAX_VALUE, validate(ttl, "ttl")));
+    }
+
+    @Override
+    public Multi<T> cache(int maxItems, Duration ttl) {
+        return Infrastructure.onMultiCreation(
+                new MultiCacheOp<>(this, positive(maxItems, "maxItems"), validate(ttl, "ttl")));
+    }
+
     @Override
     public Multi<T> emitOn(Executor executor) {
         return Infrastructure.onMultiCreation(new MultiEmitOnOp<>(this, nonNull(executor, "executor")));
     }
 
+    @Override
+    public Multi<T> emitOn(Executor executor, int bufferSize) {
+        return emitOn(executor, bufferSize, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public Multi<T> emitOn(Executor executor, int bufferSize, int batchSize) {
+        return Infrastructure.onMultiCreation(
+                new MultiEmitOnOp<>(this, nonNull(executor, "executor"), bufferSize, batchSize));
+    }
+
     @Override
     public Multi<T> runSubscriptionOn(Executor executor) {
         return Infrastructure.onMultiCreation(new MultiSubscribeOnOp<>(this, executor));
@@ -155,6 +185,11 @@ public abstract class AbstractMulti<T> implements Multi<T> {
         return new MultiGroup<>(this);
     }
 
+    @Override
+    public MultiParallel<T> parallel(int rails) {
+        return new MultiParallel<>(this, rails);
+    }
+
     public Multi<T> toHotStream() {
         BroadcastProcessor<T> processor = BroadcastProcessor.create();
         this.subscribe(processor);
@@ -171,6 +206,11 @@ public abstract class AbstractMulti<T> implements Multi<T> {
         return log("Multi." + this.getClass().getSimpleName());
     }
 
+    @Override
+    public Multi<T> measure(String stage) {
+        return Infrastructure.onMultiCreation(new MultiMeasureOp<>(this, stage));
+    }
+
     @Override
     public <R> Multi<R> withContext(BiFunction<Multi<T>, Context, Multi<R>> builder) {
         return Infrastructure.onMultiCreation(new MultiWithContext<>(this, nonNull(builder, "builder")));
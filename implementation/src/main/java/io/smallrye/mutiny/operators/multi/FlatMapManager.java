@@ -3,19 +3,37 @@ package io.smallrye.mutiny.operators.multi;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
-abstract class FlatMapManager<T> {
+/**
+ * Registry of the inner subscribers of a flatMap-like operator.
+ * <p>
+ * The entries are stored in a slot table. Only {@link #add(Entry)} writes into the table: it is called from the
+ * (serialized) upstream {@code onItem} method, so the table has a single writer and can grow by copy without lock.
+ * {@link #remove(Entry)} is called from the drain loop: it does not touch the table, it marks the entry as removed and
+ * pushes it onto a lock-free free-list. The next {@link #add(Entry)} pops the entry and reuses its slot. In the steady
+ * state (when the number of active entries does not grow), no lock is taken and no array is copied.
+ * <p>
+ * Readers of {@link #get()} must skip the {@code null} slots and the slots containing removed entries.
+ *
+ * @param <T> the type of entries
+ */
+abstract class FlatMapManager<T extends FlatMapManager.Entry> {
 
     protected AtomicReference<T[]> inners = new AtomicReference<>(empty());
 
-    private int[] free = FREE_EMPTY;
+    /**
+     * Head of the free-list, linked using {@link Entry#nextFree}.
+     * Entries are pushed once (by {@link #remove(Entry)}) and popped once (by {@link #add(Entry)}), so there is no
+     * ABA issue.
+     */
+    private final AtomicReference<Entry> free = new AtomicReference<>();
 
-    private long producerIndex;
-    private long consumerIndex;
+    /**
+     * Number of slots of the table already used at least once, only accessed by {@link #add(Entry)}.
+     */
+    private int used;
 
     private final AtomicInteger size = new AtomicInteger();
 
-    private static final int[] FREE_EMPTY = new int[0];
-
     abstract T[] empty();
 
     abstract T[] terminated();
@@ -24,26 +42,23 @@ abstract class FlatMapManager<T> {
 
     abstract void unsubscribeEntry(T entry, boolean fromOnError);
 
-    abstract void setIndex(T entry, int index);
-
     final void unsubscribe() {
         unsubscribe(false);
     }
 
     final void unsubscribe(boolean fromOnError) {
-        T[] a;
         T[] t = terminated();
-        synchronized (this) {
-            a = inners.get();
-            if (a == t) {
-                return;
-            }
-            size.lazySet(0);
-            free = null;
-            inners.set(t);
+        if (inners.get() == t) {
+            return;
+        }
+        T[] a = inners.getAndSet(t);
+        if (a == t) {
+            return;
         }
+        size.lazySet(0);
+        free.lazySet(null);
         for (T e : a) {
-            if (e != null) {
+            if (e != null && !e.removed) {
                 unsubscribeEntry(e, fromOnError);
             }
         }
@@ -58,72 +73,91 @@ abstract class FlatMapManager<T> {
         if (a == terminated()) {
             return false;
         }
-        synchronized (this) {
-            a = inners.get();
-            if (a == terminated()) {
-                return false;
-            }
 
-            int idx = pollFree();
-            if (idx < 0) {
-                int n = a.length;
-                T[] b = n != 0 ? newArray(n << 1) : newArray(4);
-                System.arraycopy(a, 0, b, 0, n);
-
-                inners.set(b);
+        int idx;
+        Entry recycled = pollFree();
+        if (recycled != null) {
+            idx = recycled.index;
+        } else {
+            idx = used;
+            if (idx == a.length) {
+                T[] b = newArray(idx != 0 ? idx << 1 : 4);
+                System.arraycopy(a, 0, b, 0, idx);
+                if (!inners.compareAndSet(a, b)) {
+                    // Terminated concurrently
+                    return false;
+                }
                 a = b;
+            }
+            used = idx + 1;
+        }
 
-                int m = b.length;
-                int[] u = new int[m];
-                for (int i = n + 1; i < m; i++) {
-                    u[i] = i;
-                }
-                free = u;
-                consumerIndex = n + 1L;
-                producerIndex = m;
+        entry.index = idx;
+        a[idx] = entry;
+        size.incrementAndGet();
 
-                idx = n;
-            }
-            setIndex(entry, idx);
-            a[idx] = entry;
-            size.incrementAndGet();
+        if (inners.get() == terminated()) {
+            // Terminated concurrently, the entry may have been missed by unsubscribe.
+            a[idx] = null;
+            return false;
         }
         return true;
     }
 
-    final void remove(int index) {
-        synchronized (this) {
-            T[] a = inners.get();
-            if (a != terminated()) {
-                a[index] = null;
-                offerFree(index);
-                size.decrementAndGet();
-            }
+    final void remove(T entry) {
+        if (entry.removed || inners.get() == terminated()) {
+            return;
         }
+        entry.removed = true;
+        pushFree(entry);
+        size.decrementAndGet();
     }
 
-    private int pollFree() {
-        int[] a = free;
-        int m = a.length - 1;
-        long ci = consumerIndex;
-        if (producerIndex == ci) {
-            return -1;
+    private Entry pollFree() {
+        for (;;) {
+            Entry head = free.get();
+            if (head == null) {
+                return null;
+            }
+            if (free.compareAndSet(head, head.nextFree)) {
+                head.nextFree = null;
+                return head;
+            }
         }
-        int offset = (int) ci & m;
-        consumerIndex = ci + 1;
-        return a[offset];
     }
 
-    private void offerFree(int index) {
-        int[] a = free;
-        int m = a.length - 1;
-        long pi = producerIndex;
-        int offset = (int) pi & m;
-        a[offset] = index;
-        producerIndex = pi + 1;
+    private void pushFree(Entry entry) {
+        for (;;) {
+            Entry head = free.get();
+            entry.nextFree = head;
+            if (free.compareAndSet(head, entry)) {
+                return;
+            }
+        }
     }
 
     final boolean isEmpty() {
         return size.get() == 0;
     }
+
+    /**
+     * Base class of the entries managed by a {@link FlatMapManager}.
+     */
+    abstract static class Entry {
+
+        /**
+         * The slot of the entry in the table, written before the entry is published.
+         */
+        int index;
+
+        /**
+         * {@code true} once the entry has been removed, only accessed from the drain loop.
+         */
+        boolean removed;
+
+        /**
+         * The next entry in the free-list.
+         */
+        Entry nextFree;
+    }
 }
@@ -4,48 +4,73 @@ import java.time.Duration;
 
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.smallrye.mutiny.operators.multi.multicast.ConnectableMulti;
 import io.smallrye.mutiny.operators.multi.multicast.MultiPublishOp;
+import io.smallrye.mutiny.operators.multi.multicast.MultiRingPublishOp;
 
 public class MultiBroadcaster {
 
     public static <T> Multi<T> publish(Multi<T> upstream, int numberOfSubscribers, boolean cancelWhenNoOneIsListening,
             Duration delayAfterLastDeparture) {
+        return publish(upstream, numberOfSubscribers, cancelWhenNoOneIsListening, delayAfterLastDeparture, 0, 0);
+    }
 
+    /**
+     * Creates a multicast {@link Multi}.
+     *
+     * @param upstream the upstream
+     * @param numberOfSubscribers the number of subscribers to wait for before subscribing to the upstream, {@code 0}
+     *        to subscribe with the first subscriber
+     * @param cancelWhenNoOneIsListening whether the upstream is cancelled when the last subscriber leaves
+     * @param delayAfterLastDeparture the delay before cancelling the upstream, can be {@code null}
+     * @param ringCapacity the capacity of the shared ring buffer, {@code 0} to use per-subscriber buffers
+     * @param maxLag the maximum lag of a subscriber reading the shared ring buffer, {@code 0} to request the upstream
+     *        at the pace of the slowest subscriber
+     * @param <T> the type of item
+     * @return the multicast {@link Multi}
+     */
+    public static <T> Multi<T> publish(Multi<T> upstream, int numberOfSubscribers, boolean cancelWhenNoOneIsListening,
+            Duration delayAfterLastDeparture, int ringCapacity, int maxLag) {
+        ConnectableMulti<T> connectable;
+        if (ringCapacity > 0) {
+            connectable = MultiRingPublishOp.create(upstream, ringCapacity, maxLag);
+        } else {
+            connectable = MultiPublishOp.create(upstream);
+        }
         if (numberOfSubscribers > 0) {
-            return createPublishWithSubscribersThreshold(upstream, numberOfSubscribers, cancelWhenNoOneIsListening,
+            return createPublishWithSubscribersThreshold(connectable, numberOfSubscribers, cancelWhenNoOneIsListening,
                     delayAfterLastDeparture);
         } else {
-            return createPublishImmediate(upstream, cancelWhenNoOneIsListening, delayAfterLastDeparture);
+            return createPublishImmediate(connectable, cancelWhenNoOneIsListening, delayAfterLastDeparture);
         }
     }
 
-    private static <T> Multi<T> createPublishImmediate(Multi<T> upstream, boolean cancelWhenNoOneIsListening,
-            Duration delayAfterLastDeparture) {
+    private static <T> Multi<T> createPublishImmediate(ConnectableMulti<T> connectable,
+            boolean cancelWhenNoOneIsListening, Duration delayAfterLastDeparture) {
         if (cancelWhenNoOneIsListening) {
             if (delayAfterLastDeparture != null) {
-                return Infrastructure
-                        .onMultiCreation(MultiPublishOp.create(upstream).referenceCount(1, delayAfterLastDeparture));
+                return Infrastructure.onMultiCreation(connectable.referenceCount(1, delayAfterLastDeparture));
             } else {
-                return Infrastructure.onMultiCreation(MultiPublishOp.create(upstream).referenceCount());
+                return Infrastructure.onMultiCreation(connectable.referenceCount());
             }
         } else {
-            return Infrastructure.onMultiCreation(MultiPublishOp.create(upstream).connectAfter(1));
+            return Infrastructure.onMultiCreation(connectable.connectAfter(1));
         }
     }
 
-    private static <T> Multi<T> createPublishWithSubscribersThreshold(Multi<T> upstream, int numberOfSubscribers,
+    private static <T> Multi<T> createPublishWithSubscribersThreshold(ConnectableMulti<T> connectable,
+            int numberOfSubscribers,
             boolean cancelWhenNoOneIsListening, Duration delayAfterLastDeparture) {
         if (cancelWhenNoOneIsListening) {
             if (delayAfterLastDeparture != null) {
                 return Infrastructure.onMultiCreation(
-                        MultiPublishOp.create(upstream).referenceCount(numberOfSubscribers, delayAfterLastDeparture));
+                        connectable.referenceCount(numberOfSubscribers, delayAfterLastDeparture));
             } else {
                 // the duration can be `null`, it will be validated if not `null`.
-                return Infrastructure
-                        .onMultiCreation(MultiPublishOp.create(upstream).referenceCount(numberOfSubscribers, null));
+                return Infrastructure.onMultiCreation(connectable.referenceCount(numberOfSubscribers, null));
             }
         } else {
-            return Infrastructure.onMultiCreation(MultiPublishOp.create(upstream).connectAfter(numberOfSubscribers));
+            return Infrastructure.onMultiCreation(connectable.connectAfter(numberOfSubscribers));
         }
     }
 
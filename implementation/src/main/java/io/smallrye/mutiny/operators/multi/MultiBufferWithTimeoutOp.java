@@ -12,6 +12,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
 
 import org.reactivestreams.Subscription;
 
@@ -74,6 +75,7 @@ public final class MultiBufferWithTimeoutOp<T> extends AbstractMultiOperator<T,
         private final ScheduledExecutorService executor;
         private final Supplier<List<T>> supplier;
         private final Runnable flush;
+        private final UnaryOperator<Runnable> threadHop = Infrastructure.captureForThreadHop();
 
         private final AtomicInteger terminated = new AtomicInteger(RUNNING);
         private final AtomicLong requested = new AtomicLong();
@@ -175,7 +177,7 @@ public final class MultiBufferWithTimeoutOp<T> extends AbstractMultiOperator<T,
 
             if (index == 1) {
                 try {
-                    task = executor.schedule(flush, duration.toMillis(), TimeUnit.MILLISECONDS);
+                    task = executor.schedule(threadHop.apply(flush), duration.toMillis(), TimeUnit.MILLISECONDS);
                 } catch (RejectedExecutionException rejected) {
                     onFailure(rejected);
                     return;
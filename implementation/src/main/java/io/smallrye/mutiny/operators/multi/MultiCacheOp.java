@@ -1,16 +1,19 @@
 package io.smallrye.mutiny.operators.multi;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
 
 import io.smallrye.mutiny.Context;
 import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.helpers.ParameterValidation;
 import io.smallrye.mutiny.helpers.Subscriptions;
 import io.smallrye.mutiny.subscription.ContextSupport;
 import io.smallrye.mutiny.subscription.MultiSubscriber;
@@ -18,12 +21,32 @@ import io.smallrye.mutiny.subscription.MultiSubscriber;
 /**
  * A {@code multi} caching the events emitted from upstreams and replaying it to subscribers.
  * This multi can have several subscribers.
+ * <p>
+ * The items are stored in an append-only list of fixed-size segments, so appending an item is O(1). The cache can
+ * be bounded by a maximum number of items and / or a time-to-live. In this case, new subscribers start from the
+ * oldest retained item, and the segments containing only evicted items are released once the subscribers that
+ * are still reading them move forward. The expired segments are released when an item is appended, when the
+ * upstream terminates and when a new subscriber arrives, so they are not kept once the upstream is idle.
  *
  * @param <T> the type of item
  */
 @SuppressWarnings("SubscriberImplementation")
 public class MultiCacheOp<T> extends AbstractMultiOperator<T, T> implements Subscriber<T>, ContextSupport {
 
+    /**
+     * The number of items per segment.
+     */
+    static final int SEGMENT_SIZE = 32;
+
+    /**
+     * The segment following the last one, used as head once all the items of a terminated cache have expired.
+     */
+    private static final Segment EMPTY = new Segment(false);
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<MultiCacheOp, Head> HEAD_UPDATER = AtomicReferenceFieldUpdater
+            .newUpdater(MultiCacheOp.class, Head.class, "head");
+
     /**
      * Stores whether we already subscribed to the upstream.
      */
@@ -35,7 +58,31 @@ public class MultiCacheOp<T> extends AbstractMultiOperator<T, T> implements Subs
     private final List<CacheSubscription<T>> subscribers = new CopyOnWriteArrayList<>();
     private volatile boolean terminated;
 
-    private final CopyOnWriteArrayList<Node<T>> history = new CopyOnWriteArrayList<>();
+    /**
+     * The maximum number of retained items, {@code Long.MAX_VALUE} if unbounded.
+     */
+    private final long maxItems;
+
+    /**
+     * The time-to-live of the items in nanoseconds, {@code 0} if the items never expire.
+     */
+    private final long ttl;
+
+    /**
+     * The oldest segment still containing retained items, only moved forward with {@link #HEAD_UPDATER}.
+     */
+    private volatile Head head;
+
+    /**
+     * The segment receiving the next items, only accessed by the upstream thread.
+     */
+    private Segment tail;
+
+    /**
+     * The number of items received so far. Written after the item has been stored, so reading this field makes the
+     * items visible.
+     */
+    private volatile long size;
 
     private volatile Context context;
 
@@ -50,11 +97,28 @@ public class MultiCacheOp<T> extends AbstractMultiOperator<T, T> implements Subs
     private volatile boolean done;
 
     public MultiCacheOp(Multi<T> upstream) {
+        this(upstream, Long.MAX_VALUE, null);
+    }
+
+    public MultiCacheOp(Multi<T> upstream, long maxItems, Duration ttl) {
         super(upstream);
+        this.maxItems = ParameterValidation.positive(maxItems, "maxItems");
+        if (ttl != null) {
+            ParameterValidation.validate(ttl, "ttl");
+            this.ttl = ttl.toNanos();
+        } else {
+            this.ttl = 0L;
+        }
+        this.tail = new Segment(this.ttl != 0L);
+        this.head = new Head(tail, 0L);
     }
 
     @Override
     public void subscribe(MultiSubscriber<? super T> downstream) {
+        if (ttl != 0L) {
+            // The upstream may be idle, release the segments expired since the last item
+            evict();
+        }
         CacheSubscription<T> consumer = new CacheSubscription<>(downstream, this);
         downstream.onSubscribe(consumer);
         addDownstreamSubscription(consumer);
@@ -90,13 +154,63 @@ public class MultiCacheOp<T> extends AbstractMultiOperator<T, T> implements Subs
 
     @Override
     public synchronized void onNext(T item) {
-        history.add(new Node<>(item));
+        append(item);
         for (CacheSubscription<T> consumer : subscribers) {
             // replay
             consumer.replay();
         }
     }
 
+    private void append(T item) {
+        long index = size;
+        int offset = (int) (index % SEGMENT_SIZE);
+        if (offset == 0 && index != 0L) {
+            Segment next = new Segment(ttl != 0L);
+            tail.next = next;
+            tail = next;
+        }
+        tail.items[offset] = item;
+        if (ttl != 0L) {
+            tail.timestamps[offset] = System.nanoTime();
+        }
+        size = index + 1;
+        evict();
+    }
+
+    /**
+     * Releases the oldest segments while they only contain evicted items. The segment receiving the items is only
+     * released once the upstream has terminated.
+     * <p>
+     * This method is called by the upstream and by the new subscribers, the head only moves forward.
+     */
+    private void evict() {
+        boolean completed = done;
+        long count = size;
+        long firstRetained = count > maxItems ? count - maxItems : 0L;
+        long now = ttl != 0L ? System.nanoTime() : 0L;
+        for (;;) {
+            Head current = head;
+            Head h = current;
+            while (h.start < count) {
+                long next = h.start + SEGMENT_SIZE;
+                boolean last = next >= count;
+                if (last && !completed) {
+                    break;
+                }
+                long lastIndex = Math.min(next, count) - 1;
+                boolean evictedBySize = next <= firstRetained;
+                boolean expired = ttl != 0L && now - h.segment.timestamps[(int) (lastIndex - h.start)] >= ttl;
+                if (!evictedBySize && !expired) {
+                    break;
+                }
+                h = new Head(last ? EMPTY : h.segment.next, next);
+            }
+            if (h == current || HEAD_UPDATER.compareAndSet(this, current, h)) {
+                return;
+            }
+        }
+    }
+
     @Override
     public void onError(Throwable t) {
         if (done) {
@@ -105,6 +219,7 @@ public class MultiCacheOp<T> extends AbstractMultiOperator<T, T> implements Subs
         failure = t;
         done = true;
         terminated = true;
+        evict();
         for (CacheSubscription<T> consumer : subscribers) {
             consumer.replay();
         }
@@ -114,6 +229,7 @@ public class MultiCacheOp<T> extends AbstractMultiOperator<T, T> implements Subs
     public void onComplete() {
         done = true;
         terminated = true;
+        evict();
         for (CacheSubscription<T> consumer : subscribers) {
             consumer.replay();
         }
@@ -136,12 +252,57 @@ public class MultiCacheOp<T> extends AbstractMultiOperator<T, T> implements Subs
         private final MultiCacheOp<T> cache;
         private final AtomicLong requested = new AtomicLong();
         private final AtomicInteger wip = new AtomicInteger();
-        private int lastIndex;
+
+        // The cursor, only accessed from the replay loop
+
+        /**
+         * The segment containing the next item.
+         */
+        private Segment segment;
+
+        /**
+         * The index of the first item of {@link #segment}.
+         */
+        private long segmentStart;
+
+        /**
+         * The index of the next item to emit.
+         */
+        private long index;
 
         CacheSubscription(MultiSubscriber<? super T> downstream, MultiCacheOp<T> cache) {
             this.downstream = downstream;
             this.cache = cache;
-            this.lastIndex = -1;
+            moveToOldestRetainedItem();
+        }
+
+        private void moveToOldestRetainedItem() {
+            Head h = cache.head;
+            long count = cache.size;
+            long start = Math.max(h.start, count > cache.maxItems ? count - cache.maxItems : 0L);
+            segment = h.segment;
+            segmentStart = h.start;
+            index = start;
+            if (cache.ttl != 0L) {
+                // Skip the expired items, the upstream only evicts whole segments
+                long now = System.nanoTime();
+                while (index < count && now - timestamp() >= cache.ttl) {
+                    index++;
+                }
+            }
+            moveToSegmentOfIndex();
+        }
+
+        private long timestamp() {
+            moveToSegmentOfIndex();
+            return segment.timestamps[(int) (index - segmentStart)];
+        }
+
+        private void moveToSegmentOfIndex() {
+            while (index - segmentStart >= SEGMENT_SIZE && segment.next != null) {
+                segment = segment.next;
+                segmentStart += SEGMENT_SIZE;
+            }
         }
 
         @Override
@@ -152,12 +313,12 @@ public class MultiCacheOp<T> extends AbstractMultiOperator<T, T> implements Subs
             }
         }
 
+        @SuppressWarnings("unchecked")
         public void replay() {
             if (wip.getAndIncrement() != 0) {
                 return;
             }
             int missed = 1;
-            CopyOnWriteArrayList<Node<T>> history = cache.history;
 
             for (;;) {
 
@@ -176,9 +337,10 @@ public class MultiCacheOp<T> extends AbstractMultiOperator<T, T> implements Subs
                 }
 
                 if (consumerRequested > 0L && hasNext()) {
-                    lastIndex = lastIndex + 1;
-                    Node<T> node = history.get(lastIndex);
-                    downstream.onItem(node.item);
+                    moveToSegmentOfIndex();
+                    T item = (T) segment.items[(int) (index - segmentStart)];
+                    index++;
+                    downstream.onItem(item);
                     Subscriptions.subtract(requested, 1);
                     continue;
                 }
@@ -199,21 +361,40 @@ public class MultiCacheOp<T> extends AbstractMultiOperator<T, T> implements Subs
         }
 
         boolean hasNext() {
-            return lastIndex < cache.history.size() - 1;
+            return index < cache.size;
         }
     }
 
     /**
-     * Node stored in the list.
-     *
-     * @param <T> the type of item.
+     * A segment of the append-only list of items.
+     */
+    static final class Segment {
+
+        final Object[] items = new Object[SEGMENT_SIZE];
+
+        /**
+         * The reception time of each item, {@code null} if the items never expire.
+         */
+        final long[] timestamps;
+
+        volatile Segment next;
+
+        Segment(boolean timed) {
+            this.timestamps = timed ? new long[SEGMENT_SIZE] : null;
+        }
+    }
+
+    /**
+     * The oldest retained segment, and the index of its first item.
      */
-    static final class Node<T> {
+    static final class Head {
 
-        private final T item;
+        final Segment segment;
+        final long start;
 
-        Node(T item) {
-            this.item = item;
+        Head(Segment segment, long start) {
+            this.segment = segment;
+            this.start = start;
         }
     }
 }
@@ -6,6 +6,7 @@ import java.util.concurrent.atomic.AtomicReference;
 import org.reactivestreams.Publisher;
 
 import io.smallrye.mutiny.helpers.ParameterValidation;
+import io.smallrye.mutiny.helpers.ScalarSource;
 import io.smallrye.mutiny.helpers.Subscriptions;
 import io.smallrye.mutiny.infrastructure.Infrastructure;
 import io.smallrye.mutiny.operators.AbstractMulti;
@@ -106,7 +107,24 @@ public class MultiConcatOp<T> extends AbstractMulti<T> {
                         emitted = 0L;
                         emitted(c);
                     }
-                    p.subscribe(Infrastructure.onMultiSubscription(p, this));
+                    if (p instanceof ScalarSource) {
+                        T item;
+                        try {
+                            item = ((ScalarSource<? extends T>) p).scalarItem();
+                        } catch (Throwable e) {
+                            downstream.onFailure(e);
+                            return;
+                        }
+                        if (item == null) {
+                            // Empty source, move to the next one as if it had completed.
+                            currentIndex = ++i;
+                            wip.incrementAndGet();
+                            continue;
+                        }
+                        onSubscribe(Subscriptions.single(this, item));
+                    } else {
+                        p.subscribe(Infrastructure.onMultiSubscription(p, this));
+                    }
 
                     if (isCancelled()) {
                         return;
@@ -181,7 +199,24 @@ public class MultiConcatOp<T> extends AbstractMulti<T> {
                         produced = 0L;
                         emitted(c);
                     }
-                    p.subscribe(Infrastructure.onMultiSubscription(p, this));
+                    if (p instanceof ScalarSource) {
+                        T item;
+                        try {
+                            item = ((ScalarSource<? extends T>) p).scalarItem();
+                        } catch (Throwable e) {
+                            Subscriptions.addFailure(failure, e);
+                            item = null;
+                        }
+                        if (item == null) {
+                            // Empty (or failed) source, move to the next one as if it had completed.
+                            index = ++i;
+                            wip.incrementAndGet();
+                            continue;
+                        }
+                        onSubscribe(Subscriptions.single(this, item));
+                    } else {
+                        p.subscribe(Infrastructure.onMultiSubscription(p, this));
+                    }
 
                     if (isCancelled()) {
                         return;
@@ -14,44 +14,94 @@ import org.reactivestreams.Subscription;
 
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.helpers.ParameterValidation;
+import io.smallrye.mutiny.helpers.QueueSubscription;
 import io.smallrye.mutiny.helpers.Subscriptions;
 import io.smallrye.mutiny.helpers.queues.Queues;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.smallrye.mutiny.infrastructure.StageMetrics;
 import io.smallrye.mutiny.subscription.BackPressureFailure;
 import io.smallrye.mutiny.subscription.MultiSubscriber;
 
 /**
  * Emits events from upstream on a thread managed by the given scheduler.
+ * <p>
+ * The items are stored in a queue of {@code bufferSize} items. The upstream is requested {@code bufferSize} items
+ * first, and then replenished once 75% of them have been emitted. A task running on the executor emits at most
+ * {@code batchSize} items, and then re-submits itself to the executor to let the other tasks run.
  *
  * @param <T> the type of item
  */
 public class MultiEmitOnOp<T> extends AbstractMultiOperator<T, T> {
 
     private final Executor executor;
-    private final Supplier<? extends Queue<T>> queueSupplier = Queues.get(Queues.BUFFER_S);
+    private final Supplier<? extends Queue<T>> queueSupplier;
+    private final int prefetch;
+    private final int limit;
+    private final int batchSize;
 
     public MultiEmitOnOp(Multi<? extends T> upstream, Executor executor) {
+        this(upstream, executor, Queues.get(Queues.BUFFER_S), 16, 16, Integer.MAX_VALUE);
+    }
+
+    public MultiEmitOnOp(Multi<? extends T> upstream, Executor executor, int bufferSize, int batchSize) {
+        this(upstream, executor, Queues.get(ParameterValidation.positive(bufferSize, "bufferSize")),
+                bufferSize, Subscriptions.unboundedOrLimit(bufferSize),
+                ParameterValidation.positive(batchSize, "batchSize"));
+    }
+
+    private MultiEmitOnOp(Multi<? extends T> upstream, Executor executor, Supplier<? extends Queue<T>> queueSupplier,
+            int prefetch, int limit, int batchSize) {
         super(upstream);
         this.executor = ParameterValidation.nonNull(executor, "executor");
+        this.queueSupplier = queueSupplier;
+        this.prefetch = prefetch;
+        this.limit = limit;
+        this.batchSize = batchSize;
     }
 
     @Override
     public void subscribe(MultiSubscriber<? super T> downstream) {
         ParameterValidation.nonNullNpe(downstream, "subscriber");
-        upstream.subscribe().withSubscriber(new MultiEmitOnProcessor<>(downstream, executor, queueSupplier));
+        upstream.subscribe().withSubscriber(
+                new MultiEmitOnProcessor<>(downstream, executor, queueSupplier, prefetch, limit, batchSize));
     }
 
     static final class MultiEmitOnProcessor<T> extends MultiOperatorProcessor<T, T> implements Runnable {
 
         private final Executor executor;
 
+        /**
+         * The drain loop, decorated to restore the context captured at subscription time on the executor threads.
+         */
+        private final Runnable task;
+
+        private final int prefetch;
+
         private final int limit;
 
+        /**
+         * The maximum number of items emitted by a single executor task.
+         */
+        private final int batchSize;
+
+        private final Supplier<? extends Queue<T>> queueSupplier;
+
+        /**
+         * Receives the occupancy of the queue, {@code null} if no metrics collector is interested.
+         */
+        private final StageMetrics metrics;
+
         // State variables
 
         /**
-         * Store the items
+         * Store the items, or the upstream subscription itself when fused.
+         */
+        private Queue<T> queue;
+
+        /**
+         * The established fusion mode with the upstream, see {@link QueueSubscription}.
          */
-        private final Queue<T> queue;
+        private int sourceMode;
 
         /**
          * {@code true} if the subscription has been cancelled.
@@ -75,18 +125,44 @@ public class MultiEmitOnOp<T> extends AbstractMultiOperator<T, T> {
 
         MultiEmitOnProcessor(MultiSubscriber<? super T> downstream,
                 Executor executor,
-                Supplier<? extends Queue<T>> queueSupplier) {
+                Supplier<? extends Queue<T>> queueSupplier,
+                int prefetch, int limit, int batchSize) {
             super(downstream);
             this.executor = executor;
-            this.limit = 16;
-            this.queue = queueSupplier.get();
+            this.task = Infrastructure.captureForThreadHop().apply(this);
+            this.prefetch = prefetch;
+            this.limit = limit;
+            this.batchSize = batchSize;
+            this.queueSupplier = queueSupplier;
+            this.metrics = Infrastructure.onStageSubscription("Multi.emitOn");
         }
 
+        @SuppressWarnings("unchecked")
         @Override
         public void onSubscribe(Subscription subscription) {
             if (compareAndSetUpstreamSubscription(null, subscription)) {
+                if (subscription instanceof QueueSubscription) {
+                    // Poll the items directly from the upstream, saving a queue hop.
+                    QueueSubscription<T> qs = (QueueSubscription<T>) subscription;
+                    int mode = qs.requestFusion(QueueSubscription.ANY | QueueSubscription.BOUNDARY);
+                    if (mode == QueueSubscription.SYNC) {
+                        sourceMode = mode;
+                        queue = qs;
+                        done = true;
+                        downstream.onSubscribe(this);
+                        return;
+                    }
+                    if (mode == QueueSubscription.ASYNC) {
+                        sourceMode = mode;
+                        queue = qs;
+                        downstream.onSubscribe(this);
+                        subscription.request(Subscriptions.unboundedOrRequests(prefetch));
+                        return;
+                    }
+                }
+                queue = queueSupplier.get();
                 downstream.onSubscribe(this);
-                subscription.request(16);
+                subscription.request(Subscriptions.unboundedOrRequests(prefetch));
             } else {
                 subscription.cancel();
             }
@@ -99,6 +175,12 @@ public class MultiEmitOnOp<T> extends AbstractMultiOperator<T, T> {
                 return;
             }
 
+            if (sourceMode == QueueSubscription.ASYNC) {
+                // The item is a signal, the upstream holds the items.
+                schedule();
+                return;
+            }
+
             if (!queue.offer(t)) {
                 // queue full, this is a failure.
                 // onError will schedule.
@@ -106,6 +188,9 @@ public class MultiEmitOnOp<T> extends AbstractMultiOperator<T, T> {
                 onFailure(new BackPressureFailure("Queue is full, the upstream didn't enforce the requests"));
                 done = true;
             } else {
+                if (metrics != null) {
+                    metrics.onQueued(queue.size());
+                }
                 schedule();
             }
         }
@@ -157,9 +242,15 @@ public class MultiEmitOnOp<T> extends AbstractMultiOperator<T, T> {
                 // we already have a thread running the loop
                 return;
             }
-            // create a new thread.
+            execute();
+        }
+
+        /**
+         * Submits the drain loop to the executor, the caller must own the {@code wip} counter.
+         */
+        private void execute() {
             try {
-                executor.execute(this);
+                executor.execute(task);
             } catch (RejectedExecutionException rejected) {
                 Subscription subscription = getAndSetUpstreamSubscription(CANCELLED);
                 if (subscription != CANCELLED) {
@@ -174,15 +265,27 @@ public class MultiEmitOnOp<T> extends AbstractMultiOperator<T, T> {
 
         @Override
         public void run() {
+            if (sourceMode == QueueSubscription.SYNC) {
+                runSync();
+                return;
+            }
+
             int missed = 1;
             final Queue<T> q = queue;
             long emitted = produced;
+            int batch = 0;
 
             for (;;) {
                 long requests = requested.get();
                 while (emitted != requests) {
                     boolean wasDone = done;
-                    T item = q.poll();
+                    T item;
+                    try {
+                        item = q.poll();
+                    } catch (Throwable err) {
+                        failFused(err);
+                        return;
+                    }
 
                     boolean empty = item == null;
                     if (isDoneOrCancelled(wasDone, empty)) {
@@ -208,6 +311,13 @@ public class MultiEmitOnOp<T> extends AbstractMultiOperator<T, T> {
                         super.request(emitted);
                         emitted = 0L;
                     }
+
+                    if (++batch == batchSize) {
+                        // give the other tasks a chance to run, the wip counter is kept so no other task is scheduled
+                        produced = emitted;
+                        execute();
+                        return;
+                    }
                 }
 
                 // we have emitted `limits` items, reached the end of the queue, or reached the number of requests
@@ -230,6 +340,87 @@ public class MultiEmitOnOp<T> extends AbstractMultiOperator<T, T> {
             }
         }
 
+        /**
+         * Drains a synchronous fused upstream: the items are pulled on demand, a {@code null} item means completion.
+         */
+        private void runSync() {
+            int missed = 1;
+            final Queue<T> q = queue;
+            long emitted = produced;
+            int batch = 0;
+
+            for (;;) {
+                long requests = requested.get();
+                while (emitted != requests) {
+                    T item;
+                    try {
+                        item = q.poll();
+                    } catch (Throwable err) {
+                        failFused(err);
+                        return;
+                    }
+
+                    if (isCancelledOrFailedSync()) {
+                        return;
+                    }
+
+                    if (item == null) {
+                        downstream.onCompletion();
+                        return;
+                    }
+
+                    downstream.onItem(item);
+                    emitted++;
+
+                    if (++batch == batchSize) {
+                        produced = emitted;
+                        execute();
+                        return;
+                    }
+                }
+
+                if (isCancelledOrFailedSync()) {
+                    return;
+                }
+
+                if (q.isEmpty()) {
+                    downstream.onCompletion();
+                    return;
+                }
+
+                int w = wip.get();
+                if (missed == w) {
+                    produced = emitted;
+                    missed = wip.addAndGet(-missed);
+                    if (missed == 0) {
+                        break;
+                    }
+                } else {
+                    missed = w;
+                }
+            }
+        }
+
+        private boolean isCancelledOrFailedSync() {
+            if (cancelled) {
+                queue.clear();
+                return true;
+            }
+            // The upstream does not send failures, but invalid requests are reported using onFailure
+            Throwable maybeFailure = failure.get();
+            if (maybeFailure != null) {
+                failFused(maybeFailure);
+                return true;
+            }
+            return false;
+        }
+
+        private void failFused(Throwable failure) {
+            cancelUpstream();
+            queue.clear();
+            downstream.onFailure(failure);
+        }
+
         boolean isDoneOrCancelled(boolean upstreamDone, boolean queueEmpty) {
             if (cancelled) {
                 queue.clear();
@@ -41,6 +41,7 @@ public class MultiFailOnItemTimeout<I> extends MultiOperator<I, I> {
     public class MultiFailOnItemTimeoutProcessor extends MultiOperatorProcessor<I, I> {
 
         private volatile ScheduledFuture<?> timeoutFuture;
+        private final Runnable timeoutTask = Infrastructure.captureForThreadHop().apply(this::doTimeout);
 
         public MultiFailOnItemTimeoutProcessor(MultiSubscriber<? super I> downstream) {
             super(downstream);
@@ -124,7 +125,7 @@ public class MultiFailOnItemTimeout<I> extends MultiOperator<I, I> {
 
         private boolean scheduleTimeout() {
             try {
-                timeoutFuture = executor.schedule(this::doTimeout, timeout.toMillis(), TimeUnit.MILLISECONDS);
+                timeoutFuture = executor.schedule(timeoutTask, timeout.toMillis(), TimeUnit.MILLISECONDS);
                 return true;
             } catch (RejectedExecutionException e) {
                 // Executor out of service.
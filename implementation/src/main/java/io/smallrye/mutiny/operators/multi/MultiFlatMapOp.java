@@ -12,9 +12,12 @@ import org.reactivestreams.Subscription;
 import io.smallrye.mutiny.Context;
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.helpers.ParameterValidation;
+import io.smallrye.mutiny.helpers.QueueSubscription;
+import io.smallrye.mutiny.helpers.ScalarSource;
 import io.smallrye.mutiny.helpers.Subscriptions;
 import io.smallrye.mutiny.helpers.queues.Queues;
 import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.smallrye.mutiny.infrastructure.StageMetrics;
 import io.smallrye.mutiny.subscription.BackPressureFailure;
 import io.smallrye.mutiny.subscription.ContextSupport;
 import io.smallrye.mutiny.subscription.MultiSubscriber;
@@ -70,6 +73,11 @@ public final class MultiFlatMapOp<I, O> extends AbstractMultiOperator<I, O> {
 
         volatile Queue<O> queue;
 
+        /**
+         * Receives the occupancy of the queues, {@code null} if no metrics collector is interested.
+         */
+        final StageMetrics metrics;
+
         final AtomicReference<Throwable> failures = new AtomicReference<>();
 
         volatile boolean done;
@@ -105,6 +113,7 @@ public final class MultiFlatMapOp<I, O> extends AbstractMultiOperator<I, O> {
             this.requests = requests;
             this.innerQueueSupplier = requests == 0 ? Queues.getXsQueueSupplier() : Queues.get(requests);
             this.limit = Subscriptions.unboundedOrLimit(concurrency);
+            this.metrics = Infrastructure.onStageSubscription("Multi.flatMap");
         }
 
         @SuppressWarnings("unchecked")
@@ -125,11 +134,6 @@ public final class MultiFlatMapOp<I, O> extends AbstractMultiOperator<I, O> {
             return new FlatMapInner[size];
         }
 
-        @Override
-        void setIndex(FlatMapInner<O> entry, int index) {
-            entry.index = index;
-        }
-
         @Override
         void unsubscribeEntry(FlatMapInner<O> entry, boolean fromOnError) {
             entry.cancel(fromOnError);
@@ -180,11 +184,13 @@ public final class MultiFlatMapOp<I, O> extends AbstractMultiOperator<I, O> {
                     throw new NullPointerException(ParameterValidation.MAPPER_RETURNED_NULL);
                 }
             } catch (Throwable e) {
-                cancelled = true;
-                done = true;
-                Subscriptions.addFailure(failures, e);
-                cancelUpstream(false);
-                handleTerminationIfDone();
+                failAndCancel(e);
+                return;
+            }
+
+            if (p instanceof ScalarSource) {
+                // Fast path: no need to subscribe to the inner stream, and so no inner subscriber nor queue.
+                onScalarItem((ScalarSource<? extends O>) p);
                 return;
             }
 
@@ -194,6 +200,84 @@ public final class MultiFlatMapOp<I, O> extends AbstractMultiOperator<I, O> {
             }
         }
 
+        private void failAndCancel(Throwable failure) {
+            cancelled = true;
+            done = true;
+            Subscriptions.addFailure(failures, failure);
+            cancelUpstream(false);
+            handleTerminationIfDone();
+        }
+
+        private void onScalarItem(ScalarSource<? extends O> source) {
+            O item;
+            try {
+                item = source.scalarItem();
+            } catch (Throwable e) {
+                if (delayError) {
+                    Subscriptions.addFailure(failures, e);
+                    replenish();
+                    drain();
+                } else {
+                    failAndCancel(e);
+                }
+                return;
+            }
+            if (item == null) {
+                // Empty inner stream
+                replenish();
+            } else {
+                tryEmitScalar(item);
+            }
+        }
+
+        private void replenish() {
+            if (!done && !cancelled) {
+                upstream.request(1L);
+            }
+        }
+
+        void tryEmitScalar(O item) {
+            if (wip.compareAndSet(0, 1)) {
+                long req = requested.get();
+                Queue<O> q = queue;
+                if (req != 0L && (q == null || q.isEmpty())) {
+                    downstream.onItem(item);
+
+                    if (req != Long.MAX_VALUE) {
+                        requested.decrementAndGet();
+                    }
+
+                    replenish();
+                } else {
+                    if (q == null) {
+                        q = getOrCreateScalarQueue();
+                    }
+
+                    if (!q.offer(item)) {
+                        failOverflow();
+                        done = true;
+                        drainLoop();
+                        return;
+                    }
+                    reportQueued(q);
+                }
+                if (wip.decrementAndGet() == 0) {
+                    return;
+                }
+
+                drainLoop();
+            } else {
+                Queue<O> q = getOrCreateScalarQueue();
+                if (!q.offer(item)) {
+                    failOverflow();
+                    done = true;
+                } else {
+                    reportQueued(q);
+                }
+                drain();
+            }
+        }
+
         @Override
         public void onFailure(Throwable failure) {
             if (done) {
@@ -245,6 +329,7 @@ public final class MultiFlatMapOp<I, O> extends AbstractMultiOperator<I, O> {
                         drainLoop();
                         return;
                     }
+                    reportQueued(q);
                 }
                 if (wip.decrementAndGet() == 0) {
                     return;
@@ -256,11 +341,23 @@ public final class MultiFlatMapOp<I, O> extends AbstractMultiOperator<I, O> {
                 if (!q.offer(item)) {
                     failOverflow();
                     inner.done = true;
+                } else {
+                    reportQueued(q);
                 }
                 drain();
             }
         }
 
+        /**
+         * Reports the occupancy of the queue which has just received an item, either the scalar queue or the queue of
+         * an inner stream.
+         */
+        private void reportQueued(Queue<O> q) {
+            if (metrics != null) {
+                metrics.onQueued(q.size());
+            }
+        }
+
         void drain() {
             if (wip.getAndIncrement() != 0) {
                 return;
@@ -273,6 +370,10 @@ public final class MultiFlatMapOp<I, O> extends AbstractMultiOperator<I, O> {
 
             final MultiSubscriber<? super O> a = downstream;
 
+            // Number of completed inner streams (and emitted scalar items) not yet replenished from upstream.
+            // The upstream requests are batched over the iterations, and flushed before leaving the loop.
+            long replenishMain = 0L;
+
             for (;;) {
 
                 boolean d;
@@ -293,22 +394,18 @@ public final class MultiFlatMapOp<I, O> extends AbstractMultiOperator<I, O> {
 
                 long r = requested.get();
                 long e = 0L;
-                long replenishMain = 0L;
 
                 if (r != 0L && sq != null) {
 
                     while (e != r) {
-                        d = done;
-
-                        O v = sq.poll();
-
-                        boolean empty = v == null;
-
+                        // Check before polling, the termination check considers the items from the queue.
                         if (ifDoneOrCancelled()) {
                             return;
                         }
 
-                        if (empty) {
+                        O v = sq.poll();
+
+                        if (v == null) {
                             break;
                         }
 
@@ -336,11 +433,11 @@ public final class MultiFlatMapOp<I, O> extends AbstractMultiOperator<I, O> {
                         }
 
                         FlatMapInner<O> inner = as[j];
-                        if (inner != null) {
+                        if (inner != null && !inner.removed) {
                             d = inner.done;
                             Queue<O> q = inner.queue;
                             if (d && q == null) {
-                                remove(inner.index);
+                                remove(inner);
                                 again = true;
                                 replenishMain++;
                             } else if (q != null) {
@@ -352,7 +449,13 @@ public final class MultiFlatMapOp<I, O> extends AbstractMultiOperator<I, O> {
                                     try {
                                         v = q.poll();
                                     } catch (Throwable ex) {
+                                        // Only fused inner streams can fail while polling
+                                        if (!delayError) {
+                                            failAndCancel(ex);
+                                            return;
+                                        }
                                         Subscriptions.addFailure(failures, ex);
+                                        inner.cancel(false);
                                         v = null;
                                         d = true;
                                     }
@@ -364,7 +467,7 @@ public final class MultiFlatMapOp<I, O> extends AbstractMultiOperator<I, O> {
                                     }
 
                                     if (d && empty) {
-                                        remove(inner.index);
+                                        remove(inner);
                                         again = true;
                                         replenishMain++;
                                         break;
@@ -383,7 +486,7 @@ public final class MultiFlatMapOp<I, O> extends AbstractMultiOperator<I, O> {
                                     d = inner.done;
                                     boolean empty = q.isEmpty();
                                     if (d && empty) {
-                                        remove(inner.index);
+                                        remove(inner);
                                         again = true;
                                         replenishMain++;
                                     }
@@ -427,7 +530,7 @@ public final class MultiFlatMapOp<I, O> extends AbstractMultiOperator<I, O> {
                         }
 
                         FlatMapInner<O> inner = as[i];
-                        if (inner == null) {
+                        if (inner == null || inner.removed) {
                             continue;
                         }
 
@@ -441,15 +544,18 @@ public final class MultiFlatMapOp<I, O> extends AbstractMultiOperator<I, O> {
                         }
 
                         if (d && empty) {
-                            remove(inner.index);
+                            remove(inner);
                             again = true;
                             replenishMain++;
                         }
                     }
                 }
 
-                if (replenishMain != 0L && !done && !cancelled) {
-                    upstream.request(replenishMain);
+                if (replenishMain >= limit || (!again && replenishMain != 0L)) {
+                    if (!done && !cancelled) {
+                        upstream.request(replenishMain);
+                    }
+                    replenishMain = 0L;
                 }
 
                 if (again) {
@@ -495,27 +601,36 @@ public final class MultiFlatMapOp<I, O> extends AbstractMultiOperator<I, O> {
             if (delayError) {
                 if (wasDone && isEmpty) {
                     Throwable e = failures.get();
-                    if (e != null && e != Subscriptions.TERMINATED) {
+                    if (e != null) {
                         Throwable throwable = failures.getAndSet(Subscriptions.TERMINATED);
-                        downstream.onFailure(throwable);
-                    } else {
+                        if (throwable != Subscriptions.TERMINATED) {
+                            downstream.onFailure(throwable);
+                        }
+                    } else if (failures.compareAndSet(null, Subscriptions.TERMINATED)) {
                         downstream.onCompletion();
+                    } else {
+                        // A failure has been added concurrently
+                        return handleTerminationIfDone();
                     }
                     return true;
                 }
             } else {
-                if (wasDone) {
-                    Throwable e = failures.get();
-                    if (e != null && e != Subscriptions.TERMINATED) {
-                        Throwable throwable = failures.getAndSet(Subscriptions.TERMINATED);
-                        clearQueue();
-                        unsubscribe(true);
+                Throwable e = failures.get();
+                if (e != null) {
+                    // Propagate the failure of the upstream or of an inner stream without waiting for the others
+                    Throwable throwable = failures.getAndSet(Subscriptions.TERMINATED);
+                    cancelUpstream(true);
+                    if (throwable != Subscriptions.TERMINATED) {
                         downstream.onFailure(throwable);
-                        return true;
-                    } else if (isEmpty) {
-                        downstream.onCompletion();
-                        return true;
                     }
+                    return true;
+                } else if (wasDone && isEmpty) {
+                    if (!failures.compareAndSet(null, Subscriptions.TERMINATED)) {
+                        // A failure has been added concurrently
+                        return handleTerminationIfDone();
+                    }
+                    downstream.onCompletion();
+                    return true;
                 }
             }
             return false;
@@ -525,11 +640,7 @@ public final class MultiFlatMapOp<I, O> extends AbstractMultiOperator<I, O> {
             if (fail != null) {
                 if (Subscriptions.addFailure(failures, fail)) {
                     inner.done = true;
-                    if (!delayError) {
-                        cancelUpstream(true);
-                        downstream.onFailure(fail);
-                        return;
-                    }
+                    // The failure is propagated by the drain loop, so it is not emitted concurrently with an item
                     drain();
                 }
             } else {
@@ -549,6 +660,15 @@ public final class MultiFlatMapOp<I, O> extends AbstractMultiOperator<I, O> {
             drainLoop();
         }
 
+        Queue<O> getOrCreateScalarQueue() {
+            Queue<O> q = queue;
+            if (q == null) {
+                q = mainQueueSupplier.get();
+                queue = q;
+            }
+            return q;
+        }
+
         Queue<O> getOrCreateInnerQueue(FlatMapInner<O> inner) {
             Queue<O> q = inner.queue;
             if (q == null) {
@@ -568,7 +688,8 @@ public final class MultiFlatMapOp<I, O> extends AbstractMultiOperator<I, O> {
         }
     }
 
-    static final class FlatMapInner<O> implements Subscription, MultiSubscriber<O>, ContextSupport {
+    static final class FlatMapInner<O> extends FlatMapManager.Entry
+            implements Subscription, MultiSubscriber<O>, ContextSupport {
 
         final FlatMapMainSubscriber<?, O> parent;
 
@@ -586,7 +707,10 @@ public final class MultiFlatMapOp<I, O> extends AbstractMultiOperator<I, O> {
 
         volatile boolean done;
 
-        int index;
+        /**
+         * {@code true} if the inner stream is a synchronous source polled directly, without requests.
+         */
+        boolean fused;
 
         FlatMapInner(FlatMapMainSubscriber<?, O> parent, int requests) {
             this.parent = parent;
@@ -598,6 +722,18 @@ public final class MultiFlatMapOp<I, O> extends AbstractMultiOperator<I, O> {
         public void onSubscribe(Subscription s) {
             Objects.requireNonNull(s);
             if (SUBSCRIPTION_UPDATER.compareAndSet(this, null, s)) {
+                if (s instanceof QueueSubscription) {
+                    @SuppressWarnings("unchecked")
+                    QueueSubscription<O> qs = (QueueSubscription<O>) s;
+                    if (qs.requestFusion(QueueSubscription.SYNC) == QueueSubscription.SYNC) {
+                        // The items are polled from the source by the drain loop.
+                        fused = true;
+                        queue = qs;
+                        done = true;
+                        parent.drain();
+                        return;
+                    }
+                }
                 s.request(Subscriptions.unboundedOrRequests(requests));
             }
         }
@@ -622,6 +758,9 @@ public final class MultiFlatMapOp<I, O> extends AbstractMultiOperator<I, O> {
 
         @Override
         public void request(long n) {
+            if (fused) {
+                return;
+            }
             long p = produced + n;
             if (p >= limit) {
                 produced = 0L;
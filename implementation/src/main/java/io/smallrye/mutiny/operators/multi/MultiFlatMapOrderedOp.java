@@ -0,0 +1,408 @@
+package io.smallrye.mutiny.operators.multi;
+
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscription;
+
+import io.smallrye.mutiny.Context;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.helpers.ParameterValidation;
+import io.smallrye.mutiny.helpers.Subscriptions;
+import io.smallrye.mutiny.helpers.queues.Queues;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.smallrye.mutiny.subscription.BackPressureFailure;
+import io.smallrye.mutiny.subscription.ContextSupport;
+import io.smallrye.mutiny.subscription.MultiSubscriber;
+
+/**
+ * FlatMap operator subscribing to up to {@code concurrency} inner streams concurrently, but emitting their items in
+ * the order of the upstream items: all the items of the inner stream produced for the first upstream item, then all
+ * the items of the inner stream produced for the second upstream item, and so on.
+ * <p>
+ * Each inner stream buffers up to {@code requests} items in its own queue until it becomes the <em>current</em>
+ * inner stream, so the reorder buffer is bounded by {@code concurrency * requests} items. When the current inner
+ * stream completes, the next one (in upstream order) becomes the current one, and one more item is requested from
+ * upstream.
+ * <p>
+ * Code inspired from Reactor's FluxMergeSequential.
+ *
+ * @param <I> the type of the upstream items
+ * @param <O> the type of the produced items
+ */
+public final class MultiFlatMapOrderedOp<I, O> extends AbstractMultiOperator<I, O> {
+
+    private final Function<? super I, ? extends Publisher<? extends O>> mapper;
+    private final boolean postponeFailurePropagation;
+    private final int concurrency;
+    private final int requests;
+
+    public MultiFlatMapOrderedOp(Multi<? extends I> upstream,
+            Function<? super I, ? extends Publisher<? extends O>> mapper,
+            boolean postponeFailurePropagation,
+            int concurrency,
+            int requests) {
+        super(upstream);
+        this.mapper = ParameterValidation.nonNull(mapper, "mapper");
+        this.postponeFailurePropagation = postponeFailurePropagation;
+        this.concurrency = ParameterValidation.positive(concurrency, "concurrency");
+        this.requests = ParameterValidation.positive(requests, "requests");
+    }
+
+    @Override
+    public void subscribe(MultiSubscriber<? super O> subscriber) {
+        if (subscriber == null) {
+            throw new NullPointerException("The subscriber must not be `null`");
+        }
+        OrderedMainSubscriber<I, O> sub = new OrderedMainSubscriber<>(subscriber, mapper,
+                postponeFailurePropagation, concurrency, requests);
+        upstream.subscribe(Infrastructure.onMultiSubscription(upstream, sub));
+    }
+
+    static final class OrderedMainSubscriber<I, O> implements MultiSubscriber<I>, Subscription, ContextSupport {
+
+        final MultiSubscriber<? super O> downstream;
+        final Function<? super I, ? extends Publisher<? extends O>> mapper;
+        final boolean delayError;
+        final int concurrency;
+        final int requests;
+
+        /**
+         * The subscribed inner streams, in upstream order.
+         */
+        final Queue<OrderedInner<O>> inners;
+
+        final AtomicReference<Subscription> upstream = new AtomicReference<>();
+        final AtomicReference<Throwable> failures = new AtomicReference<>();
+        final AtomicLong requested = new AtomicLong();
+        final AtomicInteger wip = new AtomicInteger();
+
+        volatile boolean done;
+        volatile boolean cancelled;
+
+        /**
+         * The inner stream whose items are currently emitted, only accessed from the drain loop.
+         */
+        OrderedInner<O> current;
+
+        OrderedMainSubscriber(MultiSubscriber<? super O> downstream,
+                Function<? super I, ? extends Publisher<? extends O>> mapper,
+                boolean delayError, int concurrency, int requests) {
+            this.downstream = downstream;
+            this.mapper = mapper;
+            this.delayError = delayError;
+            this.concurrency = concurrency;
+            this.requests = requests;
+            this.inners = Queues.<OrderedInner<O>> unbounded(Queues.BUFFER_XS).get();
+        }
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            if (upstream.compareAndSet(null, s)) {
+                downstream.onSubscribe(this);
+                s.request(Subscriptions.unboundedOrRequests(concurrency));
+            } else {
+                s.cancel();
+            }
+        }
+
+        @Override
+        public void onItem(I item) {
+            if (done || cancelled) {
+                return;
+            }
+
+            Publisher<? extends O> publisher;
+            try {
+                publisher = mapper.apply(item);
+                if (publisher == null) {
+                    throw new NullPointerException(ParameterValidation.MAPPER_RETURNED_NULL);
+                }
+            } catch (Throwable e) {
+                Subscriptions.cancel(upstream);
+                onFailure(e);
+                return;
+            }
+
+            OrderedInner<O> inner = new OrderedInner<>(this, requests);
+            // Enqueue before subscribing, the inner stream may emit during the subscription
+            inners.offer(inner);
+            if (cancelled) {
+                // The drain loop cancels the inner streams
+                drain();
+                return;
+            }
+            publisher.subscribe(inner);
+        }
+
+        @Override
+        public void onFailure(Throwable failure) {
+            if (done || !Subscriptions.addFailure(failures, failure)) {
+                Infrastructure.handleDroppedException(failure);
+                return;
+            }
+            done = true;
+            drain();
+        }
+
+        @Override
+        public void onCompletion() {
+            if (done) {
+                return;
+            }
+            done = true;
+            drain();
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                cancel();
+                downstream.onFailure(Subscriptions.getInvalidRequestException());
+                return;
+            }
+            Subscriptions.add(requested, n);
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            if (!cancelled) {
+                cancelled = true;
+                Subscriptions.cancel(upstream);
+                drain();
+            }
+        }
+
+        void innerItem(OrderedInner<O> inner, O item) {
+            if (inner.done) {
+                return;
+            }
+            if (!inner.queue.offer(item)) {
+                // Only the drain loop consumes the queue, so it also clears it
+                inner.cancelSubscription();
+                innerFailure(inner, new BackPressureFailure("Buffer full, cannot emit item"));
+                return;
+            }
+            drain();
+        }
+
+        void innerFailure(OrderedInner<O> inner, Throwable failure) {
+            if (!Subscriptions.addFailure(failures, failure)) {
+                Infrastructure.handleDroppedException(failure);
+                return;
+            }
+            inner.done = true;
+            if (!delayError) {
+                Subscriptions.cancel(upstream);
+            }
+            drain();
+        }
+
+        void innerComplete(OrderedInner<O> inner) {
+            inner.done = true;
+            drain();
+        }
+
+        void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+
+            int missed = 1;
+            OrderedInner<O> inner = current;
+
+            for (;;) {
+                long r = requested.get();
+                long e = 0L;
+                long replenish = 0L;
+
+                for (;;) {
+                    if (isCancelledOrFailed(inner)) {
+                        return;
+                    }
+
+                    if (inner == null) {
+                        boolean d = done;
+                        inner = inners.poll();
+                        if (inner == null) {
+                            if (d) {
+                                Subscriptions.terminateAndPropagate(failures, downstream);
+                                return;
+                            }
+                            break;
+                        }
+                    }
+
+                    Queue<O> q = inner.queue;
+                    boolean innerDone = false;
+
+                    while (e != r) {
+                        if (isCancelledOrFailed(inner)) {
+                            return;
+                        }
+
+                        boolean d = inner.done;
+                        O item = q.poll();
+                        if (item == null) {
+                            innerDone = d;
+                            break;
+                        }
+
+                        downstream.onItem(item);
+                        e++;
+                        inner.requestOne();
+                    }
+
+                    if (e == r && !innerDone) {
+                        if (isCancelledOrFailed(inner)) {
+                            return;
+                        }
+                        innerDone = inner.done && q.isEmpty();
+                    }
+
+                    if (!innerDone) {
+                        break;
+                    }
+
+                    // The current inner stream is exhausted, move to the next one
+                    inner = null;
+                    replenish++;
+                }
+
+                if (e != 0L && r != Long.MAX_VALUE) {
+                    requested.addAndGet(-e);
+                }
+
+                if (replenish != 0L && concurrency != Integer.MAX_VALUE && !done && !cancelled) {
+                    upstream.get().request(replenish);
+                }
+
+                current = inner;
+                missed = wip.addAndGet(-missed);
+                if (missed == 0) {
+                    break;
+                }
+            }
+        }
+
+        private boolean isCancelledOrFailed(OrderedInner<O> inner) {
+            if (cancelled) {
+                cancelInners(inner);
+                return true;
+            }
+            if (!delayError && failures.get() != null) {
+                Subscriptions.cancel(upstream);
+                cancelInners(inner);
+                Throwable failure = Subscriptions.markFailureAsTerminated(failures);
+                if (failure != Subscriptions.TERMINATED) {
+                    downstream.onFailure(failure);
+                }
+                return true;
+            }
+            return false;
+        }
+
+        private void cancelInners(OrderedInner<O> inner) {
+            current = null;
+            if (inner != null) {
+                inner.cancel();
+            }
+            OrderedInner<O> next;
+            while ((next = inners.poll()) != null) {
+                next.cancel();
+            }
+        }
+
+        @Override
+        public Context context() {
+            if (downstream instanceof ContextSupport) {
+                return ((ContextSupport) downstream).context();
+            } else {
+                return Context.empty();
+            }
+        }
+    }
+
+    static final class OrderedInner<O> implements MultiSubscriber<O>, ContextSupport {
+
+        final OrderedMainSubscriber<?, O> parent;
+        final Queue<O> queue;
+        final int requests;
+        final int limit;
+
+        final AtomicReference<Subscription> subscription = new AtomicReference<>();
+
+        volatile boolean done;
+
+        /**
+         * Number of items consumed since the last request, only accessed from the drain loop.
+         */
+        long produced;
+
+        OrderedInner(OrderedMainSubscriber<?, O> parent, int requests) {
+            this.parent = parent;
+            this.requests = requests;
+            this.limit = Subscriptions.unboundedOrLimit(requests);
+            this.queue = Queues.<O> get(requests).get();
+        }
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            if (subscription.compareAndSet(null, s)) {
+                s.request(Subscriptions.unboundedOrRequests(requests));
+            } else {
+                s.cancel();
+            }
+        }
+
+        @Override
+        public void onItem(O item) {
+            parent.innerItem(this, item);
+        }
+
+        @Override
+        public void onFailure(Throwable failure) {
+            parent.innerFailure(this, failure);
+        }
+
+        @Override
+        public void onCompletion() {
+            parent.innerComplete(this);
+        }
+
+        void requestOne() {
+            if (requests == Integer.MAX_VALUE) {
+                return;
+            }
+            long p = produced + 1;
+            if (p == limit) {
+                produced = 0L;
+                subscription.get().request(p);
+            } else {
+                produced = p;
+            }
+        }
+
+        void cancelSubscription() {
+            Subscriptions.cancel(subscription);
+        }
+
+        /**
+         * Cancels the inner stream and clears its queue, must only be called from the drain loop.
+         */
+        void cancel() {
+            cancelSubscription();
+            queue.clear();
+        }
+
+        @Override
+        public Context context() {
+            return parent.context();
+        }
+    }
+}
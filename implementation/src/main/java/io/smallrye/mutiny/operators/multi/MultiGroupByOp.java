@@ -2,10 +2,18 @@ package io.smallrye.mutiny.operators.multi;
 
 import static io.smallrye.mutiny.helpers.Subscriptions.CANCELLED;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
@@ -18,30 +26,84 @@ import org.reactivestreams.Subscription;
 
 import io.smallrye.mutiny.GroupedMulti;
 import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.groups.MultiGroupIntoMultis.GroupOverflow;
 import io.smallrye.mutiny.helpers.Subscriptions;
 import io.smallrye.mutiny.helpers.queues.Queues;
 import io.smallrye.mutiny.infrastructure.Infrastructure;
 import io.smallrye.mutiny.operators.AbstractMulti;
 import io.smallrye.mutiny.subscription.MultiSubscriber;
 
+/**
+ * Groups the items by key.
+ * <p>
+ * The groups live until the upstream terminates, unless they are bounded:
+ * <ul>
+ * <li>groups that have not received any item for {@code idleTimeout} are completed and discarded,</li>
+ * <li>when {@code maxGroups} groups are live, a new key either completes the least recently active group or fails,
+ * depending on the {@link GroupOverflow} strategy.</li>
+ * </ul>
+ * A discarded group is replaced by a new group if its key is received again.
+ *
+ * @param <T> the type of the upstream items
+ * @param <K> the type of key
+ * @param <V> the type of the items emitted by the groups
+ */
 public final class MultiGroupByOp<T, K, V> extends AbstractMultiOperator<T, GroupedMulti<K, V>> {
     private final Function<? super T, ? extends K> keySelector;
     private final Function<? super T, ? extends V> valueSelector;
+    private final long idleTimeout;
+    private final int maxGroups;
+    private final GroupOverflow overflow;
+    private final int groupBufferSize;
+    private final ScheduledExecutorService scheduler;
 
     public MultiGroupByOp(Multi<T> upstream,
             Function<? super T, ? extends K> keySelector,
             Function<? super T, ? extends V> valueSelector) {
+        this(upstream, keySelector, valueSelector, 0L, Integer.MAX_VALUE, GroupOverflow.FAIL, Queues.BUFFER_S, null);
+    }
+
+    /**
+     * Creates a new {@link MultiGroupByOp}.
+     *
+     * @param upstream the upstream
+     * @param keySelector the key selector
+     * @param valueSelector the value selector
+     * @param idleTimeout the idle duration in nanoseconds after which a group is completed, {@code 0} to never evict
+     *        idle groups
+     * @param maxGroups the maximum number of live groups, {@code Integer.MAX_VALUE} if unbounded
+     * @param overflow what to do when a new group would exceed {@code maxGroups}
+     * @param groupBufferSize the size of the chunks of the per-group queues
+     * @param scheduler the scheduler used to evict the idle groups, only used if {@code idleTimeout} is set
+     */
+    public MultiGroupByOp(Multi<T> upstream,
+            Function<? super T, ? extends K> keySelector,
+            Function<? super T, ? extends V> valueSelector,
+            long idleTimeout, int maxGroups, GroupOverflow overflow, int groupBufferSize,
+            ScheduledExecutorService scheduler) {
         super(upstream);
         this.keySelector = keySelector;
         this.valueSelector = valueSelector;
+        this.idleTimeout = idleTimeout;
+        this.maxGroups = maxGroups;
+        this.overflow = overflow;
+        this.groupBufferSize = groupBufferSize;
+        this.scheduler = scheduler;
     }
 
     @Override
     public void subscribe(MultiSubscriber<? super GroupedMulti<K, V>> downstream) {
         Objects.requireNonNull(downstream, "The subscriber must not be `null`");
-        final Map<Object, GroupedUnicast<K, V>> groups = new ConcurrentHashMap<>();
-        MultiGroupByProcessor<T, K, V> processor = new MultiGroupByProcessor<>(downstream, keySelector, valueSelector,
-                groups);
+        MultiGroupByProcessor<T, K, V> processor;
+        if (idleTimeout == 0L && maxGroups == Integer.MAX_VALUE) {
+            final Map<Object, GroupedUnicast<K, V>> groups = new ConcurrentHashMap<>();
+            processor = new MultiGroupByProcessor<>(downstream, keySelector, valueSelector, groups);
+        } else {
+            // Ordered from the least recently active group to the most recently active one, guarded by itself
+            final Map<Object, GroupedUnicast<K, V>> groups = new LinkedHashMap<>(16, 0.75f, true);
+            processor = new MultiGroupByProcessor<>(downstream, keySelector, valueSelector, groups,
+                    idleTimeout, maxGroups, overflow, groupBufferSize, scheduler);
+        }
         upstream.subscribe().withSubscriber(processor);
     }
 
@@ -51,6 +113,14 @@ public final class MultiGroupByOp<T, K, V> extends AbstractMultiOperator<T, Grou
         private final Map<Object, GroupedUnicast<K, V>> groups;
         private final Queue<GroupedMulti<K, V>> queue;
 
+        private final boolean bounded;
+        private final long idleTimeout;
+        private final int maxGroups;
+        private final GroupOverflow overflow;
+        private final int groupBufferSize;
+        private final ScheduledExecutorService scheduler;
+        private volatile ScheduledFuture<?> idleGroupsEviction;
+
         private static final Object NO_KEY = new Object();
 
         private final AtomicBoolean cancelled = new AtomicBoolean();
@@ -68,11 +138,27 @@ public final class MultiGroupByOp<T, K, V> extends AbstractMultiOperator<T, Grou
                 Function<? super T, ? extends K> keySelector,
                 Function<? super T, ? extends V> valueSelector,
                 Map<Object, GroupedUnicast<K, V>> groups) {
+            this(downstream, keySelector, valueSelector, groups, 0L, Integer.MAX_VALUE, GroupOverflow.FAIL,
+                    Queues.BUFFER_S, null);
+        }
+
+        public MultiGroupByProcessor(MultiSubscriber<? super GroupedMulti<K, V>> downstream,
+                Function<? super T, ? extends K> keySelector,
+                Function<? super T, ? extends V> valueSelector,
+                Map<Object, GroupedUnicast<K, V>> groups,
+                long idleTimeout, int maxGroups, GroupOverflow overflow, int groupBufferSize,
+                ScheduledExecutorService scheduler) {
             super(downstream);
             this.keySelector = keySelector;
             this.valueSelector = valueSelector;
             this.groups = groups;
             this.queue = Queues.<GroupedMulti<K, V>> unbounded(Queues.BUFFER_S).get();
+            this.bounded = idleTimeout != 0L || maxGroups != Integer.MAX_VALUE;
+            this.idleTimeout = idleTimeout;
+            this.maxGroups = maxGroups;
+            this.overflow = overflow;
+            this.groupBufferSize = groupBufferSize;
+            this.scheduler = scheduler;
         }
 
         @Override
@@ -80,17 +166,67 @@ public final class MultiGroupByOp<T, K, V> extends AbstractMultiOperator<T, Grou
             if (compareAndSetUpstreamSubscription(null, subscription)) {
                 // Propagate subscription to downstream.
                 downstream.onSubscribe(this);
+                if (idleTimeout != 0L) {
+                    scheduleIdleGroupsEviction();
+                }
                 subscription.request(128);
             } else {
                 subscription.cancel();
             }
         }
 
+        private void scheduleIdleGroupsEviction() {
+            long period = Math.max(idleTimeout / 2, TimeUnit.MILLISECONDS.toNanos(1));
+            try {
+                idleGroupsEviction = scheduler.scheduleAtFixedRate(this::evictIdleGroups, period, period,
+                        TimeUnit.NANOSECONDS);
+            } catch (RejectedExecutionException e) {
+                failAndCancelAll(e);
+            }
+        }
+
+        private void stopIdleGroupsEviction() {
+            ScheduledFuture<?> future = idleGroupsEviction;
+            if (future != null) {
+                future.cancel(false);
+            }
+        }
+
+        private void evictIdleGroups() {
+            long now = System.nanoTime();
+            List<GroupedUnicast<K, V>> evicted = new ArrayList<>();
+            synchronized (groups) {
+                Iterator<GroupedUnicast<K, V>> iterator = groups.values().iterator();
+                while (iterator.hasNext()) {
+                    GroupedUnicast<K, V> group = iterator.next();
+                    if (group.emitting || now - group.lastActivity < idleTimeout) {
+                        // The next groups are more recently active
+                        break;
+                    }
+                    iterator.remove();
+                    evicted.add(group);
+                }
+            }
+            evicted.forEach(this::completeEvictedGroup);
+        }
+
+        private void completeEvictedGroup(GroupedUnicast<K, V> group) {
+            group.onComplete();
+            if (groupCount.decrementAndGet() == 0) {
+                stopIdleGroupsEviction();
+                cancelUpstream();
+            }
+        }
+
         @Override
         public void onItem(T item) {
             if (isDone()) {
                 return;
             }
+            if (bounded) {
+                onItemWithBoundedGroups(item);
+                return;
+            }
 
             K key;
             try {
@@ -109,7 +245,7 @@ public final class MultiGroupByOp<T, K, V> extends AbstractMultiOperator<T, Grou
                     return;
                 }
 
-                group = GroupedUnicast.createWith(key, this);
+                group = GroupedUnicast.createWith(key, this, Queues.BUFFER_S);
                 groups.put(mapKey, group);
                 groupCount.getAndIncrement();
                 newGroup = true;
@@ -134,13 +270,96 @@ public final class MultiGroupByOp<T, K, V> extends AbstractMultiOperator<T, Grou
             }
         }
 
+        private void onItemWithBoundedGroups(T item) {
+            K key;
+            V value;
+            try {
+                key = keySelector.apply(item);
+                value = valueSelector.apply(item);
+                if (value == null) {
+                    throw new NullPointerException("The selector returned `null`");
+                }
+            } catch (Throwable ex) {
+                super.onFailure(ex);
+                super.cancel();
+                return;
+            }
+
+            Object mapKey = key != null ? key : NO_KEY;
+            GroupedUnicast<K, V> group;
+            GroupedUnicast<K, V> evicted = null;
+            boolean newGroup = false;
+            synchronized (groups) {
+                group = groups.get(mapKey);
+                if (group == null) {
+                    if (isCancelled()) {
+                        return;
+                    }
+                    if (groups.size() >= maxGroups && overflow == GroupOverflow.COMPLETE_LEAST_RECENTLY_ACTIVE) {
+                        Iterator<GroupedUnicast<K, V>> iterator = groups.values().iterator();
+                        evicted = iterator.next();
+                        iterator.remove();
+                    }
+                    if (groups.size() < maxGroups) {
+                        group = GroupedUnicast.createWith(key, this, groupBufferSize);
+                        groups.put(mapKey, group);
+                        groupCount.getAndIncrement();
+                        newGroup = true;
+                    }
+                }
+                if (group != null && idleTimeout != 0L) {
+                    group.emitting = true;
+                }
+            }
+
+            if (group == null) {
+                failAndCancelAll(new IllegalStateException(
+                        "Unable to create a new group: the maximum number of groups (" + maxGroups + ") is reached"));
+                return;
+            }
+            // The item is emitted outside of the lock, so a slow group subscriber does not block the other groups
+            group.onItem(value);
+            if (idleTimeout != 0L) {
+                group.lastActivity = System.nanoTime();
+                group.emitting = false;
+            }
+            if (evicted != null) {
+                completeEvictedGroup(evicted);
+            }
+            if (newGroup) {
+                this.queue.offer(group);
+                drain();
+            }
+        }
+
+        private List<GroupedUnicast<K, V>> removeAllGroups() {
+            if (!bounded) {
+                List<GroupedUnicast<K, V>> all = new ArrayList<>(groups.values());
+                groups.clear();
+                return all;
+            }
+            synchronized (groups) {
+                List<GroupedUnicast<K, V>> all = new ArrayList<>(groups.values());
+                groups.clear();
+                return all;
+            }
+        }
+
+        private void failAndCancelAll(Throwable throwable) {
+            Subscription subscription = getUpstreamSubscription();
+            onFailure(throwable);
+            if (subscription != null && subscription != CANCELLED) {
+                subscription.cancel();
+            }
+        }
+
         @Override
         public void onFailure(Throwable throwable) {
             Subscription subscription = getAndSetUpstreamSubscription(CANCELLED);
             if (subscription != CANCELLED) {
+                stopIdleGroupsEviction();
                 done = true;
-                groups.values().forEach(group -> group.onFailure(throwable));
-                groups.clear();
+                removeAllGroups().forEach(group -> group.onFailure(throwable));
                 failure = throwable;
                 finished = true;
                 drain();
@@ -153,9 +372,9 @@ public final class MultiGroupByOp<T, K, V> extends AbstractMultiOperator<T, Grou
         public void onCompletion() {
             Subscription subscription = getAndSetUpstreamSubscription(CANCELLED);
             if (subscription != CANCELLED) {
+                stopIdleGroupsEviction();
                 done = true;
-                groups.values().forEach(GroupedUnicast::onComplete);
-                groups.clear();
+                removeAllGroups().forEach(GroupedUnicast::onComplete);
                 finished = true;
                 drain();
             }
@@ -175,15 +394,28 @@ public final class MultiGroupByOp<T, K, V> extends AbstractMultiOperator<T, Grou
             // but running groups still require new values
             if (cancelled.compareAndSet(false, true)) {
                 if (groupCount.decrementAndGet() == 0) {
+                    stopIdleGroupsEviction();
                     cancelUpstream();
                 }
             }
         }
 
-        public void cancel(K key) {
+        public void cancel(K key, GroupedUnicast<K, V> group) {
             Object mapKey = key != null ? key : NO_KEY;
-            groups.remove(mapKey);
+            boolean removed;
+            if (bounded) {
+                synchronized (groups) {
+                    removed = groups.get(mapKey) == group && groups.remove(mapKey) != null;
+                }
+            } else {
+                removed = groups.remove(mapKey, group);
+            }
+            if (!removed) {
+                // Already completed, e.g., evicted
+                return;
+            }
             if (groupCount.decrementAndGet() == 0) {
+                stopIdleGroupsEviction();
                 cancelUpstream();
 
                 if (wip.getAndIncrement() == 0) {
@@ -266,10 +498,22 @@ public final class MultiGroupByOp<T, K, V> extends AbstractMultiOperator<T, Grou
         private final State<T, K> downstream;
         private final K key;
 
+        /**
+         * The last time an item has been received, only maintained when idle groups are evicted.
+         */
+        volatile long lastActivity = System.nanoTime();
+
+        /**
+         * Set while an item is passed to the group outside of the lock, so the group is not evicted concurrently.
+         */
+        volatile boolean emitting;
+
         static <T, K> GroupedUnicast<K, T> createWith(K key,
-                MultiGroupByProcessor<?, K, T> parent) {
-            State<T, K> state = new State<>(parent, key);
-            return new GroupedUnicast<>(key, state);
+                MultiGroupByProcessor<?, K, T> parent, int bufferSize) {
+            State<T, K> state = new State<>(parent, key, bufferSize);
+            GroupedUnicast<K, T> group = new GroupedUnicast<>(key, state);
+            state.group = group;
+            return group;
         }
 
         private GroupedUnicast(K key, State<T, K> downstream) {
@@ -312,13 +556,14 @@ public final class MultiGroupByOp<T, K, V> extends AbstractMultiOperator<T, Grou
         private final K key;
         private final Queue<T> queue;
         private final MultiGroupByProcessor<?, K, T> parent;
+        private GroupedUnicast<K, T> group;
 
         private Throwable failure;
 
         @SuppressWarnings("unchecked")
-        State(MultiGroupByProcessor<?, K, T> parent, K key) {
+        State(MultiGroupByProcessor<?, K, T> parent, K key, int bufferSize) {
             this.parent = parent;
-            this.queue = (Queue<T>) Queues.unbounded(Queues.BUFFER_S).get();
+            this.queue = (Queue<T>) Queues.unbounded(bufferSize).get();
             this.key = key;
         }
 
@@ -333,7 +578,7 @@ public final class MultiGroupByOp<T, K, V> extends AbstractMultiOperator<T, Grou
         @Override
         public void cancel() {
             if (cancelled.compareAndSet(false, true)) {
-                parent.cancel(key);
+                parent.cancel(key, group);
                 drain();
             }
         }
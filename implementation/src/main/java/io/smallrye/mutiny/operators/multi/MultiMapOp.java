@@ -4,8 +4,11 @@ import static io.smallrye.mutiny.helpers.ParameterValidation.MAPPER_RETURNED_NUL
 
 import java.util.function.Function;
 
+import org.reactivestreams.Subscription;
+
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.helpers.ParameterValidation;
+import io.smallrye.mutiny.helpers.QueueSubscription;
 import io.smallrye.mutiny.subscription.MultiSubscriber;
 
 public final class MultiMapOp<T, U> extends AbstractMultiOperator<T, U> {
@@ -24,14 +27,61 @@ public final class MultiMapOp<T, U> extends AbstractMultiOperator<T, U> {
         upstream.subscribe().withSubscriber(new MapProcessor<T, U>(downstream, mapper));
     }
 
-    public static class MapProcessor<I, O> extends MultiOperatorProcessor<I, O> {
+    public static class MapProcessor<I, O> extends MultiOperatorProcessor<I, O> implements QueueSubscription<O> {
         private final Function<? super I, ? extends O> mapper;
 
+        /**
+         * The upstream subscription when it supports fusion, {@code null} otherwise.
+         */
+        private QueueSubscription<I> fusable;
+
         public MapProcessor(MultiSubscriber<? super O> actual, Function<? super I, ? extends O> mapper) {
             super(actual);
             this.mapper = mapper;
         }
 
+        @SuppressWarnings("unchecked")
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            if (subscription instanceof QueueSubscription) {
+                fusable = (QueueSubscription<I>) subscription;
+            }
+            super.onSubscribe(subscription);
+        }
+
+        @Override
+        public int requestFusion(int mode) {
+            // Only synchronous sources are fused, and not across a thread boundary, so the mapper keeps running on
+            // the thread emitting the items.
+            if (fusable == null || (mode & SYNC) == 0 || (mode & BOUNDARY) != 0) {
+                return NONE;
+            }
+            return fusable.requestFusion(SYNC);
+        }
+
+        @Override
+        public O poll() {
+            I item = fusable.poll();
+            if (item == null) {
+                return null;
+            }
+            O v = mapper.apply(item);
+            if (v == null) {
+                throw new NullPointerException(MAPPER_RETURNED_NULL);
+            }
+            return v;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return fusable.isEmpty();
+        }
+
+        @Override
+        public void clear() {
+            fusable.clear();
+        }
+
         @Override
         public void onItem(I item) {
             if (isDone()) {
@@ -0,0 +1,103 @@
+package io.smallrye.mutiny.operators.multi;
+
+import static io.smallrye.mutiny.helpers.ParameterValidation.nonNull;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.helpers.Subscriptions;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.smallrye.mutiny.infrastructure.StageMetrics;
+import io.smallrye.mutiny.subscription.MultiSubscriber;
+
+/**
+ * Reports the events passing through a named stage to the {@link io.smallrye.mutiny.infrastructure.MetricsCollector}
+ * installed in the {@link Infrastructure}.
+ * <p>
+ * When no collector is interested by the stage, the downstream subscribes directly to the upstream, and so this
+ * operator does not add any cost to the subscription.
+ *
+ * @param <T> the type of item
+ */
+public class MultiMeasureOp<T> extends AbstractMultiOperator<T, T> {
+
+    private final String stage;
+
+    public MultiMeasureOp(Multi<? extends T> upstream, String stage) {
+        super(nonNull(upstream, "upstream"));
+        String name = nonNull(stage, "stage");
+        if (name.isEmpty()) {
+            throw new IllegalArgumentException("The stage cannot be an empty string");
+        }
+        this.stage = name;
+    }
+
+    @Override
+    public void subscribe(MultiSubscriber<? super T> subscriber) {
+        nonNull(subscriber, "subscriber");
+        StageMetrics metrics = Infrastructure.onStageSubscription(stage);
+        if (metrics == null) {
+            upstream.subscribe().withSubscriber(subscriber);
+        } else {
+            upstream.subscribe().withSubscriber(new MultiMeasureProcessor<>(subscriber, metrics));
+        }
+    }
+
+    static final class MultiMeasureProcessor<T> extends MultiOperatorProcessor<T, T> {
+
+        private final StageMetrics metrics;
+        private final long subscriptionTime = System.nanoTime();
+        private final AtomicLong demand = new AtomicLong();
+        private boolean emitted;
+
+        MultiMeasureProcessor(MultiSubscriber<? super T> downstream, StageMetrics metrics) {
+            super(downstream);
+            this.metrics = metrics;
+        }
+
+        @Override
+        public void onItem(T item) {
+            if (!isDone()) {
+                if (!emitted) {
+                    emitted = true;
+                    metrics.onFirstItem(System.nanoTime() - subscriptionTime);
+                }
+                metrics.onItem(Subscriptions.produced(demand, 1L));
+                super.onItem(item);
+            }
+        }
+
+        @Override
+        public void onFailure(Throwable failure) {
+            if (!isDone()) {
+                metrics.onFailure(failure);
+                super.onFailure(failure);
+            }
+        }
+
+        @Override
+        public void onCompletion() {
+            if (!isDone()) {
+                metrics.onCompletion();
+                super.onCompletion();
+            }
+        }
+
+        @Override
+        public void request(long numberOfItems) {
+            if (numberOfItems > 0 && !isDone()) {
+                long outstanding = Subscriptions.add(Subscriptions.add(demand, numberOfItems), numberOfItems);
+                metrics.onRequest(numberOfItems, outstanding);
+            }
+            super.request(numberOfItems);
+        }
+
+        @Override
+        public void cancel() {
+            if (!isDone()) {
+                metrics.onCancellation();
+            }
+            super.cancel();
+        }
+    }
+}
@@ -8,6 +8,7 @@ import org.reactivestreams.Subscription;
 
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.helpers.ParameterValidation;
+import io.smallrye.mutiny.helpers.QueueSubscription;
 import io.smallrye.mutiny.subscription.MultiSubscriber;
 
 /**
@@ -30,11 +31,27 @@ public class MultiSelectWhereOp<T> extends AbstractMultiOperator<T, T> {
         upstream.subscribe().withSubscriber(new MultiSelectWhereProcessor<>(subscriber, predicate));
     }
 
-    static final class MultiSelectWhereProcessor<T> extends MultiOperatorProcessor<T, T> {
+    static final class MultiSelectWhereProcessor<T> extends MultiOperatorProcessor<T, T>
+            implements QueueSubscription<T> {
 
         private final Predicate<? super T> predicate;
         private boolean requestedMax = false;
 
+        /**
+         * The upstream subscription when it supports fusion, {@code null} otherwise.
+         */
+        private QueueSubscription<T> fusable;
+
+        /**
+         * In fused mode, the next item that passed the predicate, retrieved by {@link #isEmpty()}.
+         */
+        private T next;
+
+        /**
+         * In fused mode, the failure thrown while looking ahead in {@link #isEmpty()}, rethrown by {@link #poll()}.
+         */
+        private RuntimeException lookAheadFailure;
+
         MultiSelectWhereProcessor(MultiSubscriber<? super T> downstream, Predicate<? super T> predicate) {
             super(downstream);
             this.predicate = predicate;
@@ -61,6 +78,68 @@ public class MultiSelectWhereOp<T> extends AbstractMultiOperator<T, T> {
             }
         }
 
+        @SuppressWarnings("unchecked")
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            if (subscription instanceof QueueSubscription) {
+                fusable = (QueueSubscription<T>) subscription;
+            }
+            super.onSubscribe(subscription);
+        }
+
+        @Override
+        public int requestFusion(int mode) {
+            // Only synchronous sources are fused, and not across a thread boundary, so the predicate keeps running on
+            // the thread emitting the items.
+            if (fusable == null || (mode & SYNC) == 0 || (mode & BOUNDARY) != 0) {
+                return NONE;
+            }
+            return fusable.requestFusion(SYNC);
+        }
+
+        @Override
+        public T poll() {
+            RuntimeException failure = lookAheadFailure;
+            if (failure != null) {
+                lookAheadFailure = null;
+                throw failure;
+            }
+            T item = next;
+            if (item != null) {
+                next = null;
+                return item;
+            }
+            for (;;) {
+                item = fusable.poll();
+                if (item == null || predicate.test(item)) {
+                    return item;
+                }
+            }
+        }
+
+        @Override
+        public boolean isEmpty() {
+            // Look ahead, so the completion is not delayed by trailing items not passing the predicate.
+            if (lookAheadFailure != null) {
+                return false;
+            }
+            if (next == null) {
+                try {
+                    next = poll();
+                } catch (RuntimeException e) {
+                    lookAheadFailure = e;
+                    return false;
+                }
+            }
+            return next == null;
+        }
+
+        @Override
+        public void clear() {
+            next = null;
+            fusable.clear();
+        }
+
         @Override
         public void request(long numberOfItems) {
             Subscription subscription = getUpstreamSubscription();
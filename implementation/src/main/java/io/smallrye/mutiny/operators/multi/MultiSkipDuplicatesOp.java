@@ -0,0 +1,298 @@
+package io.smallrye.mutiny.operators.multi;
+
+import static io.smallrye.mutiny.helpers.ParameterValidation.MAPPER_RETURNED_NULL;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.helpers.ParameterValidation;
+import io.smallrye.mutiny.subscription.MultiSubscriber;
+
+/**
+ * Eliminates the duplicated items from the upstream, remembering a bounded set of keys.
+ * <p>
+ * Unlike {@link MultiDistinctOp}, the keys are not kept for the lifetime of the stream: the {@link SeenKeys} created
+ * for each subscription decides which keys are remembered, so the operator can be used on unbounded streams.
+ *
+ * @param <T> the type of items
+ */
+public final class MultiSkipDuplicatesOp<T> extends AbstractMultiOperator<T, T> {
+
+    private final Function<? super T, ?> keyExtractor;
+    private final Supplier<? extends SeenKeys> seenKeys;
+
+    public MultiSkipDuplicatesOp(Multi<? extends T> upstream, Function<? super T, ?> keyExtractor,
+            Supplier<? extends SeenKeys> seenKeys) {
+        super(upstream);
+        this.keyExtractor = ParameterValidation.nonNull(keyExtractor, "keyExtractor");
+        this.seenKeys = ParameterValidation.nonNull(seenKeys, "seenKeys");
+    }
+
+    @Override
+    public void subscribe(MultiSubscriber<? super T> subscriber) {
+        upstream.subscribe(new SkipDuplicatesProcessor<>(ParameterValidation.nonNullNpe(subscriber, "subscriber"),
+                keyExtractor, seenKeys.get()));
+    }
+
+    /**
+     * The keys remembered by a subscription.
+     */
+    public abstract static class SeenKeys {
+
+        /**
+         * Records the given key.
+         *
+         * @param key the key, not {@code null}
+         * @return {@code true} if the key was not already remembered, {@code false} if it is a duplicate
+         */
+        abstract boolean add(Object key);
+
+        /**
+         * Forgets all the keys.
+         */
+        abstract void clear();
+
+        /**
+         * Remembers the last {@code size} distinct keys. A duplicate counts as a use of its key, so the least recently
+         * seen key is forgotten first.
+         *
+         * @param size the number of keys, must be strictly positive
+         * @return the supplier of {@link SeenKeys}, one per subscription
+         */
+        public static Supplier<SeenKeys> lastKeys(int size) {
+            ParameterValidation.positive(size, "size");
+            return () -> new LastKeys(size);
+        }
+
+        /**
+         * Remembers the keys during {@code ttl} after their first occurrence, and at most {@code maxSize} keys. When
+         * the maximum size is reached, the oldest key is forgotten first.
+         *
+         * @param ttl the time during which a key is remembered, must be strictly positive
+         * @param maxSize the maximum number of keys, must be strictly positive
+         * @return the supplier of {@link SeenKeys}, one per subscription
+         */
+        public static Supplier<SeenKeys> keysWithin(long ttl, int maxSize) {
+            ParameterValidation.positive(ttl, "ttl");
+            ParameterValidation.positive(maxSize, "maxSize");
+            return () -> new KeysWithin(ttl, maxSize);
+        }
+
+        /**
+         * Remembers the keys in a pair of Bloom filters, each holding up to {@code expectedKeys} keys. When the
+         * current filter is full, the previous one is dropped and a new filter is started, so the last
+         * {@code expectedKeys} distinct keys at least are remembered in constant memory.
+         *
+         * @param expectedKeys the number of keys held by each filter, must be strictly positive
+         * @param falsePositiveRate the probability of reporting an unseen key as a duplicate, in {@code ]0, 1[}
+         * @return the supplier of {@link SeenKeys}, one per subscription
+         */
+        public static Supplier<SeenKeys> approximateKeys(int expectedKeys, double falsePositiveRate) {
+            ParameterValidation.positive(expectedKeys, "expectedKeys");
+            if (!(falsePositiveRate > 0.0 && falsePositiveRate < 1.0)) {
+                throw new IllegalArgumentException("`falsePositiveRate` must be in ]0, 1[");
+            }
+            return () -> new ApproximateKeys(expectedKeys, falsePositiveRate);
+        }
+    }
+
+    static final class LastKeys extends SeenKeys {
+
+        private final Map<Object, Boolean> keys;
+
+        LastKeys(int size) {
+            this.keys = new LinkedHashMap<Object, Boolean>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Object, Boolean> eldest) {
+                    return size() > size;
+                }
+            };
+        }
+
+        @Override
+        boolean add(Object key) {
+            // In access order, re-inserting a key moves it to the most recently used position.
+            return keys.put(key, Boolean.TRUE) == null;
+        }
+
+        @Override
+        void clear() {
+            keys.clear();
+        }
+    }
+
+    static final class KeysWithin extends SeenKeys {
+
+        private final long ttl;
+        private final Map<Object, Long> keys;
+
+        KeysWithin(long ttl, int maxSize) {
+            this.ttl = ttl;
+            // In insertion order, the oldest key is the first one.
+            this.keys = new LinkedHashMap<Object, Long>() {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Object, Long> eldest) {
+                    return size() > maxSize;
+                }
+            };
+        }
+
+        @Override
+        boolean add(Object key) {
+            long now = System.nanoTime();
+            Iterator<Long> iterator = keys.values().iterator();
+            while (iterator.hasNext() && now - iterator.next() >= ttl) {
+                iterator.remove();
+            }
+            if (keys.containsKey(key)) {
+                return false;
+            }
+            keys.put(key, now);
+            return true;
+        }
+
+        @Override
+        void clear() {
+            keys.clear();
+        }
+    }
+
+    static final class ApproximateKeys extends SeenKeys {
+
+        private final int expectedKeys;
+        private final int bits;
+        private final int hashes;
+
+        private long[] current;
+        private long[] previous;
+        private int count;
+
+        ApproximateKeys(int expectedKeys, double falsePositiveRate) {
+            this.expectedKeys = expectedKeys;
+            // A key is checked against both filters, so each of them gets half of the false positive rate.
+            double rate = falsePositiveRate / 2;
+            double ln2 = Math.log(2);
+            this.bits = (int) Math.min(Integer.MAX_VALUE - 63,
+                    Math.max(64, Math.ceil(-expectedKeys * Math.log(rate) / (ln2 * ln2))));
+            this.hashes = Math.max(1, (int) Math.round((double) bits / expectedKeys * ln2));
+            this.current = new long[(bits + 63) >>> 6];
+            this.previous = new long[current.length];
+        }
+
+        @Override
+        boolean add(Object key) {
+            long hash = mix(key.hashCode());
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32) | 1;
+            if (contains(current, h1, h2)) {
+                return false;
+            }
+            boolean seen = contains(previous, h1, h2);
+            if (count == expectedKeys) {
+                long[] recycled = previous;
+                previous = current;
+                Arrays.fill(recycled, 0L);
+                current = recycled;
+                count = 0;
+            }
+            // The keys found in the previous filter are also copied, so the redelivered keys survive the rotation.
+            for (int i = 0; i < hashes; i++) {
+                int index = index(h1, h2, i);
+                current[index >>> 6] |= 1L << index;
+            }
+            count++;
+            return !seen;
+        }
+
+        private boolean contains(long[] filter, int h1, int h2) {
+            for (int i = 0; i < hashes; i++) {
+                int index = index(h1, h2, i);
+                if ((filter[index >>> 6] & (1L << index)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private int index(int h1, int h2, int i) {
+            return ((h1 + i * h2) & Integer.MAX_VALUE) % bits;
+        }
+
+        private static long mix(int hashCode) {
+            // SplitMix64 finalizer, spreading the 32 bits hash code over the 64 bits used by the double hashing.
+            long z = (hashCode & 0xFFFFFFFFL) + 0x9E3779B97F4A7C15L;
+            z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+            z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+            return z ^ (z >>> 31);
+        }
+
+        @Override
+        void clear() {
+            Arrays.fill(current, 0L);
+            Arrays.fill(previous, 0L);
+            count = 0;
+        }
+    }
+
+    static final class SkipDuplicatesProcessor<T> extends MultiOperatorProcessor<T, T> {
+
+        private final Function<? super T, ?> keyExtractor;
+        private final SeenKeys seenKeys;
+
+        SkipDuplicatesProcessor(MultiSubscriber<? super T> downstream, Function<? super T, ?> keyExtractor,
+                SeenKeys seenKeys) {
+            super(downstream);
+            this.keyExtractor = keyExtractor;
+            this.seenKeys = seenKeys;
+        }
+
+        @Override
+        public void onItem(T t) {
+            if (isDone()) {
+                return;
+            }
+
+            boolean added;
+            try {
+                Object key = keyExtractor.apply(t);
+                if (key == null) {
+                    throw new NullPointerException(MAPPER_RETURNED_NULL);
+                }
+                added = seenKeys.add(key);
+            } catch (Throwable e) {
+                // catch exception thrown by the key extractor, or the hashCode / equals methods of the key
+                failAndCancel(e);
+                return;
+            }
+
+            if (added) {
+                downstream.onItem(t);
+            } else {
+                request(1);
+            }
+        }
+
+        @Override
+        public void onFailure(Throwable t) {
+            super.onFailure(t);
+            seenKeys.clear();
+        }
+
+        @Override
+        public void onCompletion() {
+            super.onCompletion();
+            seenKeys.clear();
+        }
+
+        @Override
+        public void cancel() {
+            super.cancel();
+            seenKeys.clear();
+        }
+    }
+}
@@ -17,12 +17,14 @@ package io.smallrye.mutiny.operators.multi;
 
 import java.util.concurrent.Executor;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.function.UnaryOperator;
 
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
 
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.helpers.ParameterValidation;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
 import io.smallrye.mutiny.subscription.MultiSubscriber;
 
 /**
@@ -50,6 +52,7 @@ public class MultiSubscribeOnOp<T> extends AbstractMultiOperator<T, T> {
     static final class SubscribeOnProcessor<T> extends MultiOperatorProcessor<T, T> {
 
         private final Executor executor;
+        private final UnaryOperator<Runnable> threadHop = Infrastructure.captureForThreadHop();
 
         SubscribeOnProcessor(MultiSubscriber<? super T> downstream, Executor executor) {
             super(downstream);
@@ -67,7 +70,7 @@ public class MultiSubscribeOnOp<T> extends AbstractMultiOperator<T, T> {
 
         void requestUpstream(final long n, final Subscription s) {
             try {
-                executor.execute(() -> s.request(n));
+                executor.execute(threadHop.apply(() -> s.request(n)));
             } catch (RejectedExecutionException rejected) {
                 super.onFailure(rejected);
             }
@@ -75,7 +78,7 @@ public class MultiSubscribeOnOp<T> extends AbstractMultiOperator<T, T> {
 
         void scheduleSubscription(Multi<? extends T> upstream, Subscriber<? super T> downstream) {
             try {
-                executor.execute(() -> upstream.subscribe().withSubscriber(this));
+                executor.execute(threadHop.apply(() -> upstream.subscribe().withSubscriber(this)));
             } catch (RejectedExecutionException rejected) {
                 if (!isDone()) {
                     downstream.onError(rejected);
@@ -13,6 +13,7 @@ import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscription;
 
 import io.smallrye.mutiny.Context;
+import io.smallrye.mutiny.helpers.QueueSubscription;
 import io.smallrye.mutiny.helpers.Subscriptions;
 import io.smallrye.mutiny.helpers.queues.Queues;
 import io.smallrye.mutiny.infrastructure.Infrastructure;
@@ -123,6 +124,13 @@ public final class MultiZipOp<O> extends AbstractMulti<O> {
             }
         }
 
+        private void failFused(Throwable failure) {
+            // Only fused upstreams can fail while polling
+            cancelAll();
+            Subscriptions.addFailure(failures, failure);
+            Subscriptions.terminateAndPropagate(failures, downstream);
+        }
+
         private void drain() {
             if (wip.getAndIncrement() != 0) {
                 return;
@@ -155,7 +163,13 @@ public final class MultiZipOp<O> extends AbstractMulti<O> {
                             boolean d = inner.done;
                             Queue<Object> q = inner.queue;
 
-                            Object v = q != null ? q.poll() : null;
+                            Object v;
+                            try {
+                                v = q != null ? q.poll() : null;
+                            } catch (Throwable ex) {
+                                failFused(ex);
+                                return;
+                            }
 
                             boolean sourceEmpty = v == null;
                             if (d && sourceEmpty) {
@@ -211,7 +225,13 @@ public final class MultiZipOp<O> extends AbstractMulti<O> {
                         if (values.get(j) == null) {
                             boolean d = inner.done;
                             Queue<Object> q = inner.queue;
-                            Object v = q != null ? q.poll() : null;
+                            Object v;
+                            try {
+                                v = q != null ? q.poll() : null;
+                            } catch (Throwable ex) {
+                                failFused(ex);
+                                return;
+                            }
 
                             boolean empty = v == null;
                             if (d && empty) {
@@ -256,6 +276,7 @@ public final class MultiZipOp<O> extends AbstractMulti<O> {
         private Queue<Object> queue;
         private long produced;
         private volatile boolean done;
+        private boolean fused;
 
         ZipSubscriber(Context context, ZipCoordinator<R> parent, int prefetch) {
             this.context = context;
@@ -267,6 +288,18 @@ public final class MultiZipOp<O> extends AbstractMulti<O> {
         @Override
         public void onSubscribe(Subscription s) {
             if (upstream.compareAndSet(null, s)) {
+                if (s instanceof QueueSubscription) {
+                    @SuppressWarnings("unchecked")
+                    QueueSubscription<Object> qs = (QueueSubscription<Object>) s;
+                    if (qs.requestFusion(QueueSubscription.SYNC) == QueueSubscription.SYNC) {
+                        // The items are polled from the source by the coordinator.
+                        fused = true;
+                        queue = qs;
+                        done = true;
+                        parent.drain();
+                        return;
+                    }
+                }
                 queue = Queues.get(prefetch).get();
                 s.request(prefetch);
             }
@@ -296,6 +329,9 @@ public final class MultiZipOp<O> extends AbstractMulti<O> {
 
         @Override
         public void request(long n) {
+            if (fused) {
+                return;
+            }
             long p = produced + n;
             if (p >= limit) {
                 produced = 0L;
@@ -3,9 +3,8 @@ package io.smallrye.mutiny.operators.multi.builders;
 import java.util.*;
 import java.util.concurrent.atomic.AtomicLong;
 
-import org.reactivestreams.Subscription;
-
 import io.smallrye.mutiny.helpers.ParameterValidation;
+import io.smallrye.mutiny.helpers.QueueSubscription;
 import io.smallrye.mutiny.helpers.Subscriptions;
 import io.smallrye.mutiny.operators.AbstractMulti;
 import io.smallrye.mutiny.subscription.MultiSubscriber;
@@ -37,7 +36,7 @@ public class CollectionBasedMulti<T> extends AbstractMulti<T> {
         actual.onSubscribe(new CollectionSubscription<>(actual, collection));
     }
 
-    private static final class CollectionSubscription<T> implements Subscription {
+    private static final class CollectionSubscription<T> implements QueueSubscription<T> {
 
         private final MultiSubscriber<? super T> downstream;
         private final List<T> collection; // Immutable
@@ -136,6 +135,31 @@ public class CollectionBasedMulti<T> extends AbstractMulti<T> {
         public void cancel() {
             cancelled = true;
         }
+
+        @Override
+        public int requestFusion(int mode) {
+            return mode & SYNC;
+        }
+
+        @Override
+        public T poll() {
+            int i = index;
+            if (i == collection.size()) {
+                return null;
+            }
+            index = i + 1;
+            return collection.get(i);
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return index == collection.size();
+        }
+
+        @Override
+        public void clear() {
+            index = collection.size();
+        }
     }
 
 }
@@ -54,7 +54,7 @@ public final class EmitterBasedMulti<T> extends AbstractMulti<T> {
                 if (bufferSize == -1) {
                     emitter = new BufferItemMultiEmitter<>(downstream, Queues.<T> unbounded(HINT).get());
                 } else {
-                    emitter = new BufferItemMultiEmitter<>(downstream, Queues.createStrictSizeQueue(bufferSize));
+                    emitter = new MpscBufferItemMultiEmitter<>(downstream, bufferSize);
                 }
                 break;
 
@@ -4,6 +4,7 @@ import org.reactivestreams.Publisher;
 
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.helpers.ParameterValidation;
+import io.smallrye.mutiny.helpers.ScalarSource;
 import io.smallrye.mutiny.helpers.Subscriptions;
 import io.smallrye.mutiny.operators.AbstractMulti;
 import io.smallrye.mutiny.subscription.MultiSubscriber;
@@ -11,7 +12,7 @@ import io.smallrye.mutiny.subscription.MultiSubscriber;
 /**
  * Implements a {@link org.reactivestreams.Publisher} which only calls {@code onComplete} immediately after subscription.
  */
-public final class EmptyMulti extends AbstractMulti<Object> {
+public final class EmptyMulti extends AbstractMulti<Object> implements ScalarSource<Object> {
 
     private static final Multi<Object> EMPTY = new EmptyMulti();
 
@@ -30,4 +31,9 @@ public final class EmptyMulti extends AbstractMulti<Object> {
         Subscriptions.complete(downstream);
     }
 
+    @Override
+    public Object scalarItem() {
+        return null;
+    }
+
 }
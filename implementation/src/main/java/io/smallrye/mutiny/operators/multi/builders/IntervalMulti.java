@@ -11,6 +11,7 @@ import org.reactivestreams.Subscription;
 
 import io.smallrye.mutiny.helpers.ParameterValidation;
 import io.smallrye.mutiny.helpers.Subscriptions;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
 import io.smallrye.mutiny.operators.AbstractMulti;
 import io.smallrye.mutiny.subscription.BackPressureFailure;
 import io.smallrye.mutiny.subscription.MultiSubscriber;
@@ -51,6 +52,10 @@ public class IntervalMulti extends AbstractMulti<Long> {
         private final Duration period;
         private final Duration initialDelay;
         private final ScheduledExecutorService executor;
+        /**
+         * This runnable, decorated to restore the context captured at subscription time on the executor threads.
+         */
+        private final Runnable task;
         private volatile boolean cancelled;
         private volatile boolean once = true;
 
@@ -63,16 +68,17 @@ public class IntervalMulti extends AbstractMulti<Long> {
             this.period = period;
             this.initialDelay = initial;
             this.executor = executor;
+            this.task = Infrastructure.captureForThreadHop().apply(this);
         }
 
         public void start() {
             try {
                 synchronized (this) {
                     if (initialDelay != null) {
-                        future = executor.scheduleAtFixedRate(this, initialDelay.toMillis(), period.toMillis(),
+                        future = executor.scheduleAtFixedRate(task, initialDelay.toMillis(), period.toMillis(),
                                 TimeUnit.MILLISECONDS);
                     } else {
-                        future = executor.scheduleAtFixedRate(this, 0, period.toMillis(),
+                        future = executor.scheduleAtFixedRate(task, 0, period.toMillis(),
                                 TimeUnit.MILLISECONDS);
                     }
                 }
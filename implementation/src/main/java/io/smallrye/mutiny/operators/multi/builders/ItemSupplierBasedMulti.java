@@ -0,0 +1,47 @@
+package io.smallrye.mutiny.operators.multi.builders;
+
+import java.util.function.Supplier;
+
+import io.smallrye.mutiny.helpers.ParameterValidation;
+import io.smallrye.mutiny.helpers.ScalarSource;
+import io.smallrye.mutiny.helpers.Subscriptions;
+import io.smallrye.mutiny.operators.AbstractMulti;
+import io.smallrye.mutiny.subscription.MultiSubscriber;
+
+/**
+ * Specialized {@link io.smallrye.mutiny.Multi} implementation for the case where the single item is produced by a
+ * supplier called at subscription time.
+ * If the supplier produces {@code null}, the stream is empty.
+ *
+ * @param <T> the type of item
+ */
+public final class ItemSupplierBasedMulti<T> extends AbstractMulti<T> implements ScalarSource<T> {
+
+    private final Supplier<? extends T> supplier;
+
+    public ItemSupplierBasedMulti(Supplier<? extends T> supplier) {
+        this.supplier = ParameterValidation.nonNull(supplier, "supplier");
+    }
+
+    @Override
+    public void subscribe(MultiSubscriber<? super T> downstream) {
+        ParameterValidation.nonNullNpe(downstream, "subscriber");
+        T item;
+        try {
+            item = supplier.get();
+        } catch (Throwable err) {
+            Subscriptions.fail(downstream, err);
+            return;
+        }
+        if (item == null) {
+            Subscriptions.complete(downstream);
+        } else {
+            downstream.onSubscribe(Subscriptions.single(downstream, item));
+        }
+    }
+
+    @Override
+    public T scalarItem() {
+        return supplier.get();
+    }
+}
@@ -6,6 +6,7 @@ import java.util.concurrent.atomic.AtomicLong;
 import org.reactivestreams.Subscription;
 
 import io.smallrye.mutiny.helpers.ParameterValidation;
+import io.smallrye.mutiny.helpers.QueueSubscription;
 import io.smallrye.mutiny.helpers.Subscriptions;
 import io.smallrye.mutiny.operators.AbstractMulti;
 import io.smallrye.mutiny.subscription.MultiSubscriber;
@@ -49,7 +50,7 @@ public class IterableBasedMulti<T> extends AbstractMulti<T> {
         downstream.onSubscribe(new IteratorSubscription<T>(downstream, iterator));
     }
 
-    private static final class IteratorSubscription<T> implements Subscription {
+    private static final class IteratorSubscription<T> implements QueueSubscription<T> {
 
         private final Iterator<? extends T> iterator;
         private final MultiSubscriber<? super T> downstream;
@@ -57,6 +58,11 @@ public class IterableBasedMulti<T> extends AbstractMulti<T> {
         private volatile boolean cancelled;
         private final AtomicLong requested = new AtomicLong();
 
+        // Fused mode state, only accessed by the polling thread.
+        // The iterator is known to have a next item when the subscription is created.
+        private boolean checkNext;
+        private boolean exhausted;
+
         IteratorSubscription(MultiSubscriber<? super T> downstream, Iterator<? extends T> iterator) {
             this.downstream = downstream;
             this.iterator = iterator;
@@ -82,6 +88,58 @@ public class IterableBasedMulti<T> extends AbstractMulti<T> {
             cancelled = true;
         }
 
+        @Override
+        public int requestFusion(int mode) {
+            return mode & SYNC;
+        }
+
+        @Override
+        public T poll() {
+            if (exhausted) {
+                return null;
+            }
+            if (checkNext) {
+                if (!iterator.hasNext()) {
+                    exhausted = true;
+                    return null;
+                }
+            } else {
+                checkNext = true;
+            }
+            T t = iterator.next();
+            if (t == null) {
+                throw new NullPointerException("Iterator.next() returned a null value");
+            }
+            return t;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            if (exhausted) {
+                return true;
+            }
+            if (checkNext) {
+                boolean hasNext;
+                try {
+                    hasNext = iterator.hasNext();
+                } catch (Throwable e) {
+                    // Not empty, poll() calls hasNext() again and propagates the failure
+                    return false;
+                }
+                if (!hasNext) {
+                    exhausted = true;
+                    return true;
+                }
+                checkNext = false;
+            }
+            return false;
+        }
+
+        @Override
+        public void clear() {
+            exhausted = true;
+        }
+
         private void fastPath() {
             for (;;) {
                 if (cancelled) {
@@ -0,0 +1,33 @@
+package io.smallrye.mutiny.operators.multi.builders;
+
+import io.smallrye.mutiny.helpers.ParameterValidation;
+import io.smallrye.mutiny.helpers.ScalarSource;
+import io.smallrye.mutiny.helpers.Subscriptions;
+import io.smallrye.mutiny.operators.AbstractMulti;
+import io.smallrye.mutiny.subscription.MultiSubscriber;
+
+/**
+ * Specialized {@link io.smallrye.mutiny.Multi} implementation for the case where the single item is known.
+ * The item must not be {@code null}.
+ *
+ * @param <T> the type of item
+ */
+public final class KnownItemMulti<T> extends AbstractMulti<T> implements ScalarSource<T> {
+
+    private final T item;
+
+    public KnownItemMulti(T item) {
+        this.item = ParameterValidation.nonNull(item, "item");
+    }
+
+    @Override
+    public void subscribe(MultiSubscriber<? super T> downstream) {
+        ParameterValidation.nonNullNpe(downstream, "subscriber");
+        downstream.onSubscribe(Subscriptions.single(downstream, item));
+    }
+
+    @Override
+    public T scalarItem() {
+        return item;
+    }
+}
@@ -0,0 +1,195 @@
+package io.smallrye.mutiny.operators.multi.builders;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import io.smallrye.mutiny.helpers.Subscriptions;
+import io.smallrye.mutiny.helpers.queues.MpscArrayQueue;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.smallrye.mutiny.operators.multi.builders.BufferItemMultiEmitter.EmitterBufferOverflowException;
+import io.smallrye.mutiny.subscription.MultiEmitter;
+import io.smallrye.mutiny.subscription.MultiSubscriber;
+
+/**
+ * An emitter buffering the items in a bounded multi-producer queue, so it can be called concurrently without being
+ * wrapped into a {@link SerializedMultiEmitter}.
+ * <p>
+ * Producers offer the items into a lock-free {@link MpscArrayQueue}, and the thread winning the {@code wip} counter
+ * drains the queue, in batches bounded by the downstream requests. When there is no contention, no pending items and
+ * outstanding requests, the item is passed directly to the downstream, without going through the queue.
+ * <p>
+ * If the buffer is full, an {@link EmitterBufferOverflowException} is propagated downstream, after the buffered items.
+ *
+ * @param <T> the type of item
+ */
+final class MpscBufferItemMultiEmitter<T> extends BaseMultiEmitter<T> {
+
+    private final MpscArrayQueue<T> queue;
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+    private volatile boolean done;
+    private final AtomicInteger wip = new AtomicInteger();
+
+    MpscBufferItemMultiEmitter(MultiSubscriber<? super T> actual, int bufferSize) {
+        super(actual);
+        this.queue = new MpscArrayQueue<>(bufferSize);
+    }
+
+    @Override
+    public MultiEmitter<T> emit(T t) {
+        if (done || isCancelled()) {
+            return this;
+        }
+
+        if (t == null) {
+            fail(new NullPointerException("`emit` called with `null`."));
+            return this;
+        }
+
+        if (wip.get() == 0 && wip.compareAndSet(0, 1)) {
+            // Fast path: no concurrent producer and no drain in progress
+            if (requested.get() != 0L && queue.isEmpty()) {
+                try {
+                    downstream.onItem(t);
+                } catch (Throwable x) {
+                    cancel();
+                }
+                Subscriptions.produced(requested, 1);
+            } else if (!queue.offer(t)) {
+                overflow();
+            }
+            if (wip.decrementAndGet() == 0) {
+                return this;
+            }
+        } else {
+            if (!queue.offer(t)) {
+                overflow();
+            }
+            if (wip.getAndIncrement() != 0) {
+                return this;
+            }
+        }
+        drainLoop();
+        return this;
+    }
+
+    private void overflow() {
+        if (failure.compareAndSet(null, new EmitterBufferOverflowException())) {
+            done = true;
+        }
+    }
+
+    @Override
+    public MultiEmitter<T> serialize() {
+        // Already safe to use from multiple threads
+        return this;
+    }
+
+    @Override
+    public void failed(Throwable failure) {
+        if (failure == null) {
+            failure = new NullPointerException("`fail` called with `null`.");
+        }
+        if (done || isCancelled() || !this.failure.compareAndSet(null, failure)) {
+            Infrastructure.handleDroppedException(failure);
+            return;
+        }
+        done = true;
+        drain();
+    }
+
+    @Override
+    public void completion() {
+        if (done || isCancelled()) {
+            return;
+        }
+        done = true;
+        drain();
+    }
+
+    @Override
+    void onRequested() {
+        drain();
+    }
+
+    @Override
+    void onUnsubscribed() {
+        if (wip.getAndIncrement() == 0) {
+            queue.clear();
+        }
+    }
+
+    void drain() {
+        if (wip.getAndIncrement() != 0) {
+            return;
+        }
+        drainLoop();
+    }
+
+    void drainLoop() {
+        int missed = 1;
+        final MpscArrayQueue<T> q = queue;
+
+        do {
+            long r = requested.get();
+            long e = 0L;
+
+            while (e != r) {
+                if (isCancelled()) {
+                    q.clear();
+                    return;
+                }
+
+                boolean d = done;
+
+                T o = q.poll();
+
+                boolean empty = o == null;
+
+                if (d && empty) {
+                    terminate();
+                    return;
+                }
+
+                if (empty) {
+                    break;
+                }
+
+                try {
+                    downstream.onItem(o);
+                } catch (Throwable x) {
+                    cancel();
+                }
+
+                e++;
+            }
+
+            if (e == r) {
+                if (isCancelled()) {
+                    q.clear();
+                    return;
+                }
+
+                if (done && q.isEmpty()) {
+                    terminate();
+                    return;
+                }
+            }
+
+            if (e != 0) {
+                // Requests are accounted once per batch
+                Subscriptions.produced(requested, e);
+            }
+
+            missed = wip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private void terminate() {
+        Throwable f = failure.get();
+        if (f != null) {
+            super.failed(f);
+        } else {
+            super.completion();
+        }
+    }
+}
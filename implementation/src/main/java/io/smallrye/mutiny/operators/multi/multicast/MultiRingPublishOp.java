@@ -0,0 +1,522 @@
+package io.smallrye.mutiny.operators.multi.multicast;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import io.smallrye.mutiny.Context;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.helpers.Subscriptions;
+import io.smallrye.mutiny.helpers.queues.SpscArrayQueue;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.smallrye.mutiny.subscription.BackPressureFailure;
+import io.smallrye.mutiny.subscription.Cancellable;
+import io.smallrye.mutiny.subscription.ContextSupport;
+import io.smallrye.mutiny.subscription.MultiSubscriber;
+
+/**
+ * A connectable multi sharing an underlying source, and dispatching its items through a single ring buffer read by
+ * all the subscribers.
+ * <p>
+ * Unlike {@link MultiPublishOp}, there is no per-subscriber queue: the upstream writes each item once in a
+ * pre-allocated ring, and each subscriber reads the ring with its own sequence cursor, at the pace of its requests.
+ * The memory used by the multicast is therefore bounded by the ring capacity, whatever the number of subscribers.
+ * <p>
+ * Two modes are supported:
+ * <ul>
+ * <li>without maximum lag, the upstream is requested at the pace of the slowest subscriber: the ring is never
+ * overwritten before all the subscribers have read it,</li>
+ * <li>with a maximum lag, the upstream is consumed without back-pressure, and the subscribers lagging behind the
+ * upstream by more than the maximum lag are failed with a {@link BackPressureFailure}.</li>
+ * </ul>
+ * A new subscriber starts from the oldest item still waiting for a subscriber in the ring (without maximum lag), or
+ * from the next item (with a maximum lag). Subscribers never receive the items emitted before their subscription that
+ * the other subscribers have already consumed.
+ *
+ * @param <T> the value type
+ */
+public final class MultiRingPublishOp<T> extends ConnectableMulti<T> {
+
+    /**
+     * Holds the current subscriber that is, will be or just was subscribed to the source observable.
+     */
+    private final AtomicReference<RingSubscriber<T>> current = new AtomicReference<>();
+
+    /**
+     * The ring capacity, a power of 2.
+     */
+    private final int capacity;
+
+    /**
+     * The maximum lag of a subscriber, {@code 0} if the upstream is requested at the pace of the slowest subscriber.
+     */
+    private final int maxLag;
+
+    /**
+     * Creates a new {@link ConnectableMulti} multicasting through a single ring buffer.
+     *
+     * @param upstream the upstream
+     * @param capacity the minimum capacity of the ring, rounded to the next power of 2
+     * @param maxLag the maximum number of items a subscriber can lag behind the upstream, {@code 0} to request the
+     *        upstream at the pace of the slowest subscriber instead; must not exceed {@code capacity}
+     * @param <T> the type of item
+     * @return the connectable multi
+     */
+    public static <T> ConnectableMulti<T> create(Multi<T> upstream, int capacity, int maxLag) {
+        return new MultiRingPublishOp<>(upstream, SpscArrayQueue.roundToPowerOfTwo(capacity), maxLag);
+    }
+
+    private MultiRingPublishOp(Multi<T> upstream, int capacity, int maxLag) {
+        super(upstream);
+        this.capacity = capacity;
+        this.maxLag = maxLag;
+    }
+
+    @Override
+    public void subscribe(MultiSubscriber<? super T> s) {
+        Subscriber<? super T> child = Infrastructure.onMultiSubscription(upstream, s);
+        Cursor<T> cursor = new Cursor<>(child);
+        child.onSubscribe(cursor);
+        for (;;) {
+            RingSubscriber<T> ring = getOrCreateRing(contextOf(child));
+            if (ring == null) {
+                continue;
+            }
+            if (ring.add(cursor)) {
+                cursor.parent = ring;
+                if (cursor.isCancelled()) {
+                    ring.remove(cursor);
+                }
+                cursor.drain();
+                break;
+            }
+        }
+    }
+
+    @Override
+    public void connect(ConnectableMultiConnection connection) {
+        Context context = connection != null ? contextOf(connection.getSubscriber()) : Context.empty();
+        RingSubscriber<T> ring;
+        do {
+            ring = getOrCreateRing(context);
+        } while (ring == null);
+
+        // if connect() was called concurrently, only one of them should actually connect to the source
+        boolean doConnect = !ring.shouldConnect.get() && ring.shouldConnect.compareAndSet(false, true);
+        if (connection != null) {
+            connection.accept(ring);
+        }
+        if (doConnect) {
+            upstream.subscribe(Infrastructure.onMultiSubscription(upstream, ring));
+        }
+    }
+
+    /**
+     * Gets the current subscriber-to-source, or creates one if there is none or if it has been cancelled.
+     *
+     * @return the subscriber-to-source, {@code null} if a concurrent subscription has changed it and the caller must
+     *         retry
+     */
+    private RingSubscriber<T> getOrCreateRing(Context context) {
+        RingSubscriber<T> ring = current.get();
+        if (ring == null || ring.cancelled.get()) {
+            RingSubscriber<T> created = new RingSubscriber<>(current, capacity, maxLag, context);
+            if (!current.compareAndSet(ring, created)) {
+                return null;
+            }
+            ring = created;
+        }
+        return ring;
+    }
+
+    private static Context contextOf(Object subscriber) {
+        if (subscriber instanceof ContextSupport) {
+            return ((ContextSupport) subscriber).context();
+        } else {
+            return Context.empty();
+        }
+    }
+
+    /**
+     * The subscriber-to-source, writing the items into the ring.
+     * <p>
+     * The items are written by the upstream thread only. An item is published by writing its slot and then the
+     * {@code published} sequence, so the cursors reading {@code published} see the item.
+     *
+     * @param <T> the value type
+     */
+    @SuppressWarnings({ "rawtypes", "SubscriberImplementation" })
+    static final class RingSubscriber<T> implements Cancellable, MultiSubscriber<T>, ContextSupport {
+
+        static final Cursor[] EMPTY = new Cursor[0];
+        static final Cursor[] TERMINATED = new Cursor[0];
+
+        final AtomicReference<RingSubscriber<T>> current;
+        final AtomicReference<Cursor<T>[]> cursors;
+        final AtomicBoolean shouldConnect = new AtomicBoolean();
+        final AtomicBoolean cancelled = new AtomicBoolean();
+        final AtomicReference<Subscription> upstream = new AtomicReference<>();
+
+        final AtomicReferenceArray<T> ring;
+        final int mask;
+        final int maxLag;
+
+        /**
+         * The upstream has been requested the items up to this sequence (exclusive), when paced by the slowest cursor.
+         * Written while holding the lock on {@code this}, so it is consistent with the cursors joining.
+         */
+        volatile long requestedUpTo;
+
+        /**
+         * The number of items written in the ring so far.
+         */
+        volatile long published;
+
+        /**
+         * The terminal event: the failure or {@code COMPLETED}, written before the last cursor check.
+         */
+        volatile Throwable terminal;
+        static final Throwable COMPLETED = new Exception();
+
+        private final Context context;
+
+        @SuppressWarnings("unchecked")
+        RingSubscriber(AtomicReference<RingSubscriber<T>> current, int capacity, int maxLag, Context context) {
+            this.current = current;
+            this.cursors = new AtomicReference<>(EMPTY);
+            this.ring = new AtomicReferenceArray<>(capacity);
+            this.mask = capacity - 1;
+            this.maxLag = maxLag;
+            this.context = context;
+        }
+
+        @Override
+        public Context context() {
+            return context;
+        }
+
+        @Override
+        public void cancel() {
+            if (cancelled.compareAndSet(false, true)) {
+                cursors.set(TERMINATED);
+                current.compareAndSet(this, null);
+                Subscriptions.cancel(upstream);
+            }
+        }
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            if (upstream.compareAndSet(null, s)) {
+                if (maxLag > 0) {
+                    s.request(Long.MAX_VALUE);
+                } else {
+                    requestedUpTo = ring.length();
+                    s.request(ring.length());
+                }
+            } else {
+                s.cancel();
+            }
+        }
+
+        @Override
+        public void onItem(T item) {
+            long sequence = published;
+            if (maxLag == 0 && sequence >= requestedUpTo) {
+                onFailure(new BackPressureFailure("The ring buffer is full, the upstream emitted more than requested"));
+                return;
+            }
+            Cursor<T>[] current = cursors.get();
+            if (maxLag > 0) {
+                // Disconnect the laggards before overwriting the slots they still have to read
+                for (Cursor<T> cursor : current) {
+                    if (sequence - cursor.sequence >= maxLag) {
+                        cursor.disconnect();
+                    }
+                }
+            }
+            ring.lazySet((int) sequence & mask, item);
+            published = sequence + 1;
+            for (Cursor<T> cursor : current) {
+                cursor.drain();
+            }
+        }
+
+        @Override
+        public void onFailure(Throwable failure) {
+            terminate(failure);
+        }
+
+        @Override
+        public void onCompletion() {
+            terminate(COMPLETED);
+        }
+
+        @SuppressWarnings("unchecked")
+        private void terminate(Throwable event) {
+            if (terminal != null) {
+                return;
+            }
+            terminal = event;
+            for (Cursor<T> cursor : cursors.get()) {
+                cursor.drain();
+            }
+            finishIfAllCursorsAreDone();
+        }
+
+        /**
+         * Once terminated and all the cursors have received the terminal event, rejects the new cursors, so the next
+         * subscribers create a new subscriber-to-source. Until then, new cursors can still read the remaining items.
+         */
+        private void finishIfAllCursorsAreDone() {
+            if (terminal == null) {
+                return;
+            }
+            for (;;) {
+                Cursor<T>[] c = cursors.get();
+                if (c.length != 0 || c == TERMINATED) {
+                    return;
+                }
+                if (cursors.compareAndSet(c, TERMINATED)) {
+                    current.compareAndSet(this, null);
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Adds a cursor, starting from the slowest cursor when paced by the slowest cursor, so it receives the items
+         * that are still in the ring, or from the next item otherwise.
+         * The lock prevents a concurrent {@link #requestMore()} from ignoring the new cursor.
+         *
+         * @param cursor the cursor
+         * @return {@code true} if the cursor has been added, {@code false} if this subscriber-to-source has terminated
+         */
+        synchronized boolean add(Cursor<T> cursor) {
+            for (;;) {
+                Cursor<T>[] c = cursors.get();
+                if (c == TERMINATED) {
+                    return false;
+                }
+                long start = published;
+                if (maxLag == 0) {
+                    for (Cursor<T> other : c) {
+                        start = Math.min(start, other.sequence);
+                    }
+                }
+                cursor.sequence = start;
+                int len = c.length;
+                @SuppressWarnings("unchecked")
+                Cursor<T>[] u = new Cursor[len + 1];
+                System.arraycopy(c, 0, u, 0, len);
+                u[len] = cursor;
+                if (cursors.compareAndSet(c, u)) {
+                    return true;
+                }
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        void remove(Cursor<T> cursor) {
+            for (;;) {
+                Cursor<T>[] c = cursors.get();
+                int len = c.length;
+                int j = -1;
+                for (int i = 0; i < len; i++) {
+                    if (c[i] == cursor) {
+                        j = i;
+                        break;
+                    }
+                }
+                if (j < 0) {
+                    return;
+                }
+                Cursor<T>[] u;
+                if (len == 1) {
+                    u = EMPTY;
+                } else {
+                    u = new Cursor[len - 1];
+                    System.arraycopy(c, 0, u, 0, j);
+                    System.arraycopy(c, j + 1, u, j, len - j - 1);
+                }
+                if (cursors.compareAndSet(c, u)) {
+                    // The removed cursor may have been the slowest one
+                    requestMore();
+                    finishIfAllCursorsAreDone();
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Requests the upstream so the ring gets filled up to the slowest cursor.
+         * The requests are batched: nothing is requested until half of the ring can be refilled.
+         */
+        void requestMore() {
+            Subscription subscription = upstream.get();
+            if (maxLag > 0 || subscription == null || cancelled.get()) {
+                return;
+            }
+            long n;
+            synchronized (this) {
+                long slowest = published;
+                for (Cursor<T> cursor : cursors.get()) {
+                    slowest = Math.min(slowest, cursor.sequence);
+                }
+                long target = slowest + ring.length();
+                n = target - requestedUpTo;
+                if (n < (ring.length() >> 1)) {
+                    return;
+                }
+                requestedUpTo = target;
+            }
+            subscription.request(n);
+        }
+    }
+
+    /**
+     * The subscription of a subscriber, reading the ring from its own sequence.
+     *
+     * @param <T> the value type
+     */
+    static final class Cursor<T> implements Subscription {
+
+        private final Subscriber<? super T> downstream;
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+
+        /**
+         * The subscriber-to-source, set once the cursor has been added to it.
+         */
+        volatile RingSubscriber<T> parent;
+
+        /**
+         * The sequence of the next item to read, only written by the drain loop (and before the cursor is added).
+         */
+        volatile long sequence;
+
+        private volatile boolean disconnected;
+
+        Cursor(Subscriber<? super T> downstream) {
+            this.downstream = downstream;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n > 0) {
+                Subscriptions.add(requested, n);
+                drain();
+            }
+        }
+
+        @Override
+        public void cancel() {
+            if (requested.getAndSet(Long.MIN_VALUE) != Long.MIN_VALUE) {
+                RingSubscriber<T> p = parent;
+                if (p != null) {
+                    p.remove(this);
+                }
+            }
+        }
+
+        boolean isCancelled() {
+            return requested.get() == Long.MIN_VALUE;
+        }
+
+        void disconnect() {
+            disconnected = true;
+            RingSubscriber<T> p = parent;
+            if (p != null) {
+                p.remove(this);
+            }
+            drain();
+        }
+
+        void drain() {
+            RingSubscriber<T> p = parent;
+            if (p == null || wip.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            long seq = sequence;
+            for (;;) {
+                long r = requested.get();
+                long emitted = 0L;
+
+                while (emitted != r) {
+                    if (isCancelled()) {
+                        return;
+                    }
+                    if (disconnected) {
+                        failSlowSubscriber(p);
+                        return;
+                    }
+                    Throwable terminal = p.terminal;
+                    if (seq == p.published) {
+                        if (terminal != null) {
+                            terminate(p, terminal);
+                            return;
+                        }
+                        break;
+                    }
+                    T item = p.ring.get((int) seq & p.mask);
+                    // The slot is overwritten only after the cursor has been disconnected
+                    if (disconnected) {
+                        failSlowSubscriber(p);
+                        return;
+                    }
+                    sequence = ++seq;
+                    downstream.onNext(item);
+                    emitted++;
+                }
+
+                if (emitted == r) {
+                    if (isCancelled()) {
+                        return;
+                    }
+                    if (disconnected) {
+                        failSlowSubscriber(p);
+                        return;
+                    }
+                    Throwable terminal = p.terminal;
+                    if (terminal != null && seq == p.published) {
+                        terminate(p, terminal);
+                        return;
+                    }
+                }
+
+                if (emitted != 0L) {
+                    if (r != Long.MAX_VALUE) {
+                        requested.addAndGet(-emitted);
+                    }
+                    p.requestMore();
+                }
+
+                missed = wip.addAndGet(-missed);
+                if (missed == 0) {
+                    break;
+                }
+            }
+        }
+
+        private void failSlowSubscriber(RingSubscriber<T> p) {
+            requested.set(Long.MIN_VALUE);
+            downstream.onError(new BackPressureFailure(
+                    "The subscriber is lagging behind the upstream by more than " + p.maxLag + " items"));
+        }
+
+        private void terminate(RingSubscriber<T> p, Throwable terminal) {
+            requested.set(Long.MIN_VALUE);
+            p.remove(this);
+            if (terminal == RingSubscriber.COMPLETED) {
+                downstream.onComplete();
+            } else {
+                downstream.onError(terminal);
+            }
+        }
+    }
+}
@@ -15,6 +15,8 @@ import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.helpers.Subscriptions;
 import io.smallrye.mutiny.helpers.queues.Queues;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.smallrye.mutiny.infrastructure.StageMetrics;
 import io.smallrye.mutiny.operators.multi.AbstractMultiOperator;
 import io.smallrye.mutiny.operators.multi.MultiOperatorProcessor;
 import io.smallrye.mutiny.subscription.BackPressureFailure;
@@ -46,6 +48,11 @@ public class MultiOnOverflowBufferOp<T> extends AbstractMultiOperator<T, T> {
 
         private final Queue<T> queue;
 
+        /**
+         * Receives the occupancy of the queue, {@code null} if no metrics collector is interested.
+         */
+        private final StageMetrics metrics;
+
         Throwable failure;
 
         private final AtomicLong requested = new AtomicLong();
@@ -57,6 +64,7 @@ public class MultiOnOverflowBufferOp<T> extends AbstractMultiOperator<T, T> {
         OnOverflowBufferProcessor(MultiSubscriber<? super T> downstream, int bufferSize, boolean unbounded) {
             super(downstream);
             this.queue = unbounded ? Queues.<T> unbounded(bufferSize).get() : Queues.createStrictSizeQueue(bufferSize);
+            this.metrics = Infrastructure.onStageSubscription("Multi.onOverflow.buffer");
         }
 
         @Override
@@ -80,6 +88,9 @@ public class MultiOnOverflowBufferOp<T> extends AbstractMultiOperator<T, T> {
                     notifyOnOverflowInvoke(t, bpf);
                 }
             } else {
+                if (metrics != null) {
+                    metrics.onQueued(queue.size());
+                }
                 drain();
             }
         }
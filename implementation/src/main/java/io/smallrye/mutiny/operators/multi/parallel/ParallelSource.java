@@ -0,0 +1,351 @@
+package io.smallrye.mutiny.operators.multi.parallel;
+
+import static io.smallrye.mutiny.helpers.ParameterValidation.nonNull;
+import static io.smallrye.mutiny.helpers.ParameterValidation.positive;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.reactivestreams.Subscription;
+
+import io.smallrye.mutiny.Context;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.helpers.Subscriptions;
+import io.smallrye.mutiny.helpers.queues.Queues;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.smallrye.mutiny.operators.AbstractMulti;
+import io.smallrye.mutiny.subscription.BackPressureFailure;
+import io.smallrye.mutiny.subscription.ContextSupport;
+import io.smallrye.mutiny.subscription.MultiSubscriber;
+
+/**
+ * Splits an upstream {@link Multi} into a fixed number of <em>rails</em>, each rail being a {@link Multi} that can be
+ * subscribed only once.
+ * <p>
+ * The upstream is subscribed once all the rails have a subscriber. Its items are stored in a bounded SPSC queue
+ * ({@code prefetch} items), and dispatched in a round-robin fashion: each item is passed to the next rail having
+ * outstanding requests, the rails without requests are skipped. Slow rails do not block the other rails, they just
+ * receive fewer items.
+ * <p>
+ * The upstream is replenished in batches, once 75% of the prefetched items have been dispatched. Upstream failures
+ * are propagated to all the rails eagerly, the completion is propagated once all the items have been dispatched.
+ * The upstream is cancelled when all the rails are cancelled.
+ *
+ * @param <T> the type of item
+ */
+public final class ParallelSource<T> implements MultiSubscriber<T>, ContextSupport {
+
+    private final Multi<? extends T> upstream;
+    private final int prefetch;
+    private final int limit;
+    private final List<Multi<T>> rails;
+
+    private final AtomicReferenceArray<MultiSubscriber<? super T>> registrations;
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final AtomicInteger cancelledCount = new AtomicInteger();
+
+    /**
+     * The rail subscribers, copied from {@link #registrations} before the upstream is subscribed.
+     */
+    private final MultiSubscriber<? super T>[] subscribers;
+    private final RailSubscription[] subscriptions;
+
+    private final Queue<T> queue;
+
+    private final AtomicReference<Subscription> subscription = new AtomicReference<>();
+    private final AtomicInteger wip = new AtomicInteger();
+
+    private volatile boolean done;
+    private volatile boolean cancelled;
+    private Throwable failure;
+
+    /**
+     * Set once {@link #subscribers} is populated, the drain loop must not run before.
+     */
+    private volatile boolean ready;
+
+    /**
+     * Set when a rail made an invalid request, its failure is delivered from the drain loop.
+     */
+    private volatile boolean railFailures;
+
+    // Only accessed from the drain loop
+    private int index;
+    private int produced;
+
+    @SuppressWarnings("unchecked")
+    public ParallelSource(Multi<? extends T> upstream, int rails, int prefetch) {
+        this.upstream = nonNull(upstream, "upstream");
+        int count = positive(rails, "rails");
+        this.prefetch = positive(prefetch, "prefetch");
+        this.limit = Subscriptions.unboundedOrLimit(prefetch);
+        this.queue = (Queue<T>) Queues.get(prefetch).get();
+        this.registrations = new AtomicReferenceArray<>(count);
+        this.subscribers = new MultiSubscriber[count];
+        this.subscriptions = new RailSubscription[count];
+        List<Multi<T>> list = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            subscriptions[i] = new RailSubscription(this, i);
+            list.add(Infrastructure.onMultiCreation(new Rail(i)));
+        }
+        this.rails = Collections.unmodifiableList(list);
+    }
+
+    /**
+     * @return the rails, each rail can be subscribed only once
+     */
+    public List<Multi<T>> rails() {
+        return rails;
+    }
+
+    private void register(int rail, MultiSubscriber<? super T> subscriber) {
+        if (!registrations.compareAndSet(rail, null, subscriber)) {
+            Subscriptions.fail(subscriber, new IllegalStateException("The rail " + rail + " is already subscribed"));
+            return;
+        }
+        subscriber.onSubscribe(subscriptions[rail]);
+        if (subscriberCount.incrementAndGet() == subscribers.length) {
+            // Every rail has a subscriber, the items are dispatched once the upstream is subscribed.
+            for (int i = 0; i < subscribers.length; i++) {
+                subscribers[i] = registrations.get(i);
+            }
+            ready = true;
+            // Deliver the failures of the rails which made an invalid request while subscribing.
+            drain();
+            upstream.subscribe().withSubscriber(this);
+        }
+    }
+
+    @Override
+    public void onSubscribe(Subscription s) {
+        if (subscription.compareAndSet(null, s)) {
+            s.request(prefetch);
+        } else {
+            s.cancel();
+        }
+    }
+
+    @Override
+    public void onItem(T item) {
+        if (done) {
+            return;
+        }
+        if (!queue.offer(item)) {
+            Subscription s = subscription.getAndSet(Subscriptions.CANCELLED);
+            if (s != null) {
+                s.cancel();
+            }
+            onFailure(new BackPressureFailure("Could not dispatch the item, the queue is full"));
+            return;
+        }
+        drain();
+    }
+
+    @Override
+    public void onFailure(Throwable failure) {
+        if (done) {
+            Infrastructure.handleDroppedException(failure);
+            return;
+        }
+        this.failure = failure;
+        done = true;
+        drain();
+    }
+
+    @Override
+    public void onCompletion() {
+        if (done) {
+            return;
+        }
+        done = true;
+        drain();
+    }
+
+    private void cancelRail() {
+        if (cancelledCount.incrementAndGet() == subscribers.length) {
+            cancelled = true;
+            Subscription s = subscription.getAndSet(Subscriptions.CANCELLED);
+            if (s != null) {
+                s.cancel();
+            }
+            drain();
+        }
+    }
+
+    private void drain() {
+        if (wip.getAndIncrement() != 0) {
+            return;
+        }
+
+        int missed = 1;
+        final Queue<T> q = queue;
+        final MultiSubscriber<? super T>[] a = subscribers;
+        final RailSubscription[] rs = subscriptions;
+        final int n = a.length;
+        int idx = index;
+        int consumed = produced;
+
+        for (;;) {
+            int notReady = 0;
+
+            for (;;) {
+                if (cancelled) {
+                    q.clear();
+                    return;
+                }
+
+                if (railFailures) {
+                    railFailures = false;
+                    for (int i = 0; i < n; i++) {
+                        RailSubscription rail = rs[i];
+                        Throwable f = rail.failure;
+                        if (f != null && !rail.cancelled) {
+                            rail.cancel();
+                            a[i].onFailure(f);
+                        }
+                    }
+                    continue;
+                }
+
+                boolean d = done;
+                if (d) {
+                    Throwable f = failure;
+                    if (f != null) {
+                        q.clear();
+                        for (int i = 0; i < n; i++) {
+                            if (!rs[i].cancelled) {
+                                a[i].onFailure(f);
+                            }
+                        }
+                        return;
+                    }
+                }
+
+                boolean empty = q.isEmpty();
+
+                if (d && empty) {
+                    for (int i = 0; i < n; i++) {
+                        if (!rs[i].cancelled) {
+                            a[i].onCompletion();
+                        }
+                    }
+                    return;
+                }
+
+                if (empty) {
+                    break;
+                }
+
+                RailSubscription rail = rs[idx];
+                if (!rail.cancelled && rail.requested.get() != rail.emitted) {
+                    T item = q.poll();
+                    if (item == null) {
+                        break;
+                    }
+                    a[idx].onItem(item);
+                    rail.emitted++;
+
+                    if (++consumed == limit) {
+                        consumed = 0;
+                        subscription.get().request(limit);
+                    }
+                    notReady = 0;
+                } else {
+                    notReady++;
+                }
+
+                if (++idx == n) {
+                    idx = 0;
+                }
+
+                if (notReady == n) {
+                    // No rail can receive an item
+                    break;
+                }
+            }
+
+            index = idx;
+            produced = consumed;
+            missed = wip.addAndGet(-missed);
+            if (missed == 0) {
+                break;
+            }
+        }
+    }
+
+    @Override
+    public Context context() {
+        MultiSubscriber<? super T> first = registrations.get(0);
+        if (first instanceof ContextSupport) {
+            return ((ContextSupport) first).context();
+        } else {
+            return Context.empty();
+        }
+    }
+
+    private final class Rail extends AbstractMulti<T> {
+
+        private final int rail;
+
+        private Rail(int rail) {
+            this.rail = rail;
+        }
+
+        @Override
+        public void subscribe(MultiSubscriber<? super T> subscriber) {
+            register(rail, nonNull(subscriber, "subscriber"));
+        }
+    }
+
+    private static final class RailSubscription implements Subscription {
+
+        private final ParallelSource<?> parent;
+        private final int rail;
+        private final AtomicLong requested = new AtomicLong();
+        private volatile boolean cancelled;
+
+        /**
+         * The failure caused by an invalid request, delivered from the drain loop to keep the signals serialized.
+         */
+        private volatile Throwable failure;
+
+        /**
+         * Number of items passed to the rail, only accessed from the drain loop.
+         */
+        private long emitted;
+
+        private RailSubscription(ParallelSource<?> parent, int rail) {
+            this.parent = parent;
+            this.rail = rail;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                if (failure == null) {
+                    failure = Subscriptions.getInvalidRequestException();
+                    parent.railFailures = true;
+                }
+            } else {
+                Subscriptions.add(requested, n);
+            }
+            if (parent.ready) {
+                parent.drain();
+            }
+        }
+
+        @Override
+        public void cancel() {
+            if (!cancelled) {
+                cancelled = true;
+                parent.cancelRail();
+            }
+        }
+    }
+}
@@ -0,0 +1,421 @@
+package io.smallrye.mutiny.operators.multi.processors;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+import org.reactivestreams.Processor;
+import org.reactivestreams.Subscription;
+
+import io.smallrye.common.annotation.Experimental;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.helpers.ParameterValidation;
+import io.smallrye.mutiny.helpers.Subscriptions;
+import io.smallrye.mutiny.operators.AbstractMulti;
+import io.smallrye.mutiny.subscription.BackPressureFailure;
+import io.smallrye.mutiny.subscription.MultiSubscriber;
+
+/**
+ * Implementation of {@link org.reactivestreams.Processor} that broadcasts all subsequently observed items to its current
+ * subscribers, buffering the items of each subscriber in a bounded ring buffer.
+ * <p>
+ * Unlike {@link BroadcastProcessor}, a subscriber without outstanding requests is not failed right away: the items
+ * are stored in its buffer until they are requested. When the buffer of a subscriber is full, the
+ * {@link SlowSubscriberPolicy} decides what happens, without impacting the other subscribers.
+ * <p>
+ * The subscribers are kept in an immutable array replaced atomically when a subscriber joins or leaves, so
+ * {@link #onNext(Object)} does not take any lock. As for any {@link org.reactivestreams.Subscriber}, the calls to
+ * {@link #onNext(Object)}, {@link #onError(Throwable)} and {@link #onComplete()} must be serialized (see
+ * {@link #serialized()}).
+ * <p>
+ * The subscribers can receive the items one by one ({@link #subscribe()}), or in batches of the items available in
+ * their buffer ({@link #batches(int)}), which reduces the per-item overhead of high-rate fan-outs.
+ * <p>
+ * When this processor is terminated via {@link #onError(Throwable)} or {@link #onComplete()}, the subscribers receive
+ * the items remaining in their buffer before the terminal event, and late subscribers only receive the terminal event.
+ * The {@code BufferedBroadcastProcessor} does not retain items for future subscribers.
+ *
+ * @param <T> the type of item
+ */
+@Experimental("BufferedBroadcastProcessor is a new experimental API")
+public class BufferedBroadcastProcessor<T> extends AbstractMulti<T> implements Processor<T, T> {
+
+    /**
+     * What to do when an item is received while the buffer of a subscriber is full.
+     */
+    public enum SlowSubscriberPolicy {
+        /**
+         * Drop the oldest item of the buffer to store the new item.
+         */
+        DROP_OLDEST,
+        /**
+         * Drop the new item.
+         */
+        DROP_NEWEST,
+        /**
+         * Cancel the subscription and fail the subscriber with a {@link BackPressureFailure}, without delivering the
+         * buffered items.
+         */
+        DISCONNECT
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static final RingSubscription[] EMPTY = new RingSubscription[0];
+
+    @SuppressWarnings("rawtypes")
+    private static final RingSubscription[] TERMINATED = new RingSubscription[0];
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<BufferedBroadcastProcessor, RingSubscription[]> SUBSCRIBERS_UPDATER = AtomicReferenceFieldUpdater
+            .newUpdater(BufferedBroadcastProcessor.class, RingSubscription[].class, "subscribers");
+
+    private final int bufferSize;
+    private final SlowSubscriberPolicy policy;
+
+    /**
+     * The current subscribers, never modified in place.
+     */
+    @SuppressWarnings("unchecked")
+    private volatile RingSubscription<T>[] subscribers = EMPTY;
+
+    /**
+     * The failure, written before terminating and read after checking subscribers.
+     */
+    private Throwable failure;
+
+    /**
+     * Creates a new {@code BufferedBroadcastProcessor}.
+     *
+     * @param bufferSize the size of the buffer of each subscriber, must be strictly positive
+     * @param policy the policy applied when the buffer of a subscriber is full, must not be {@code null}
+     * @param <T> the type of item
+     * @return the new {@code BufferedBroadcastProcessor}
+     */
+    public static <T> BufferedBroadcastProcessor<T> create(int bufferSize, SlowSubscriberPolicy policy) {
+        return new BufferedBroadcastProcessor<>(ParameterValidation.positive(bufferSize, "bufferSize"),
+                ParameterValidation.nonNull(policy, "policy"));
+    }
+
+    private BufferedBroadcastProcessor(int bufferSize, SlowSubscriberPolicy policy) {
+        this.bufferSize = bufferSize;
+        this.policy = policy;
+    }
+
+    public SerializedProcessor<T, T> serialized() {
+        return new SerializedProcessor<>(this);
+    }
+
+    /**
+     * Gets a {@link Multi} emitting the items of this processor in batches: each requested item is a list of the items
+     * available in the subscriber buffer, containing at most {@code maxBatchSize} items.
+     *
+     * @param maxBatchSize the maximum number of items per batch, must be strictly positive
+     * @return the {@link Multi} emitting the batches
+     */
+    public Multi<List<T>> batches(int maxBatchSize) {
+        ParameterValidation.positive(maxBatchSize, "maxBatchSize");
+        return new AbstractMulti<List<T>>() {
+            @Override
+            public void subscribe(MultiSubscriber<? super List<T>> downstream) {
+                BufferedBroadcastProcessor.this.subscribe(downstream, maxBatchSize);
+            }
+        };
+    }
+
+    @Override
+    public void subscribe(MultiSubscriber<? super T> downstream) {
+        subscribe(downstream, 0);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void subscribe(MultiSubscriber<?> downstream, int maxBatchSize) {
+        RingSubscription<T> subscription = new RingSubscription<>((MultiSubscriber<Object>) downstream, this,
+                bufferSize, maxBatchSize);
+        downstream.onSubscribe(subscription);
+        if (add(subscription)) {
+            // if cancellation happened while a successful add, the remove() didn't work so we need to do it again
+            if (subscription.cancelled) {
+                remove(subscription);
+            }
+        } else {
+            subscription.terminate(failure);
+        }
+    }
+
+    private boolean add(RingSubscription<T> subscription) {
+        for (;;) {
+            RingSubscription<T>[] current = subscribers;
+            if (current == TERMINATED) {
+                return false;
+            }
+            int n = current.length;
+            @SuppressWarnings("unchecked")
+            RingSubscription<T>[] next = new RingSubscription[n + 1];
+            System.arraycopy(current, 0, next, 0, n);
+            next[n] = subscription;
+            if (SUBSCRIBERS_UPDATER.compareAndSet(this, current, next)) {
+                return true;
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    void remove(RingSubscription<T> subscription) {
+        for (;;) {
+            RingSubscription<T>[] current = subscribers;
+            int n = current.length;
+            int index = -1;
+            for (int i = 0; i < n; i++) {
+                if (current[i] == subscription) {
+                    index = i;
+                    break;
+                }
+            }
+            if (index < 0) {
+                return;
+            }
+            RingSubscription<T>[] next;
+            if (n == 1) {
+                next = EMPTY;
+            } else {
+                next = new RingSubscription[n - 1];
+                System.arraycopy(current, 0, next, 0, index);
+                System.arraycopy(current, index + 1, next, index, n - index - 1);
+            }
+            if (SUBSCRIBERS_UPDATER.compareAndSet(this, current, next)) {
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void onSubscribe(Subscription subscription) {
+        if (subscribers == TERMINATED) {
+            subscription.cancel();
+            return;
+        }
+        subscription.request(Long.MAX_VALUE);
+    }
+
+    @Override
+    public void onNext(T item) {
+        ParameterValidation.nonNullNpe(item, "item");
+        for (RingSubscription<T> subscription : subscribers) {
+            subscription.offer(item, policy);
+        }
+    }
+
+    @Override
+    public void onError(Throwable failure) {
+        ParameterValidation.nonNullNpe(failure, "failure");
+        if (subscribers == TERMINATED) {
+            return;
+        }
+        this.failure = failure;
+        terminate(failure);
+    }
+
+    @Override
+    public void onComplete() {
+        if (subscribers == TERMINATED) {
+            return;
+        }
+        terminate(null);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void terminate(Throwable failure) {
+        for (RingSubscription<T> subscription : SUBSCRIBERS_UPDATER.getAndSet(this, TERMINATED)) {
+            subscription.terminate(failure);
+        }
+    }
+
+    /**
+     * The subscription of a subscriber, holding its ring buffer.
+     * <p>
+     * The processor is the only producer: it publishes an item by writing its slot and then the {@code tail} index.
+     * The subscriber consumes an item by reading its slot and then moving the {@code head} index with a CAS, as the
+     * producer also moves {@code head} when it drops the oldest item. A consumer losing this race discards the item
+     * it has read, since the producer overwrites a slot only once {@code head} has moved past it.
+     *
+     * @param <T> the type of item
+     */
+    static final class RingSubscription<T> implements Subscription {
+
+        private final MultiSubscriber<Object> downstream;
+        private final BufferedBroadcastProcessor<T> parent;
+        private final int maxBatchSize;
+
+        private final AtomicReferenceArray<T> ring;
+        private final int capacity;
+        private final AtomicLong head = new AtomicLong();
+        private volatile long tail;
+
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+
+        private volatile boolean done;
+        private Throwable failure;
+        private volatile boolean disconnected;
+        volatile boolean cancelled;
+
+        RingSubscription(MultiSubscriber<Object> downstream, BufferedBroadcastProcessor<T> parent, int capacity,
+                int maxBatchSize) {
+            this.downstream = downstream;
+            this.parent = parent;
+            this.capacity = capacity;
+            this.maxBatchSize = maxBatchSize;
+            this.ring = new AtomicReferenceArray<>(capacity);
+        }
+
+        void offer(T item, SlowSubscriberPolicy policy) {
+            if (cancelled || disconnected) {
+                return;
+            }
+            long t = tail;
+            if (t - head.get() >= capacity) {
+                switch (policy) {
+                    case DROP_NEWEST:
+                        return;
+                    case DROP_OLDEST:
+                        long h = head.get();
+                        while (t - h >= capacity && !head.compareAndSet(h, h + 1)) {
+                            h = head.get();
+                        }
+                        break;
+                    default:
+                        disconnected = true;
+                        parent.remove(this);
+                        drain();
+                        return;
+                }
+            }
+            ring.lazySet((int) (t % capacity), item);
+            tail = t + 1;
+            drain();
+        }
+
+        void terminate(Throwable failure) {
+            this.failure = failure;
+            done = true;
+            drain();
+        }
+
+        @Override
+        public void request(long n) {
+            if (n > 0) {
+                Subscriptions.add(requested, n);
+                drain();
+            }
+        }
+
+        @Override
+        public void cancel() {
+            if (!cancelled) {
+                cancelled = true;
+                parent.remove(this);
+                drain();
+            }
+        }
+
+        /**
+         * Takes the oldest item of the ring, {@code null} if the ring is empty.
+         */
+        private T poll() {
+            for (;;) {
+                long h = head.get();
+                if (h >= tail) {
+                    return null;
+                }
+                T item = ring.get((int) (h % capacity));
+                if (head.compareAndSet(h, h + 1)) {
+                    return item;
+                }
+            }
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            for (;;) {
+                long r = requested.get();
+                long emitted = 0L;
+
+                while (emitted != r) {
+                    if (cancelled) {
+                        return;
+                    }
+                    if (disconnected) {
+                        disconnect();
+                        return;
+                    }
+                    boolean d = done;
+                    Object next = maxBatchSize == 0 ? poll() : pollBatch();
+                    if (next == null) {
+                        if (d) {
+                            complete();
+                            return;
+                        }
+                        break;
+                    }
+                    downstream.onItem(next);
+                    emitted++;
+                }
+
+                if (cancelled) {
+                    return;
+                }
+                if (disconnected) {
+                    disconnect();
+                    return;
+                }
+                if (emitted == r && done && head.get() >= tail) {
+                    complete();
+                    return;
+                }
+
+                if (emitted != 0L && r != Long.MAX_VALUE) {
+                    requested.addAndGet(-emitted);
+                }
+
+                missed = wip.addAndGet(-missed);
+                if (missed == 0) {
+                    break;
+                }
+            }
+        }
+
+        private List<T> pollBatch() {
+            T item = poll();
+            if (item == null) {
+                return null;
+            }
+            List<T> batch = new ArrayList<>(Math.min(maxBatchSize, capacity));
+            batch.add(item);
+            while (batch.size() < maxBatchSize && (item = poll()) != null) {
+                batch.add(item);
+            }
+            return batch;
+        }
+
+        private void disconnect() {
+            cancelled = true;
+            downstream.onFailure(new BackPressureFailure(
+                    "The subscriber buffer is full (" + capacity + " items), the subscriber is too slow"));
+        }
+
+        private void complete() {
+            cancelled = true;
+            if (failure != null) {
+                downstream.onFailure(failure);
+            } else {
+                downstream.onCompletion();
+            }
+        }
+    }
+}
@@ -27,6 +27,7 @@ public class SerializedProcessor<I, O> implements Processor<I, O> {
 
     /**
      * If not null, it holds the missed notifications events.
+     * Items are stored as-is, the other events are wrapped.
      */
     private List<Object> queue;
 
@@ -97,7 +98,7 @@ public class SerializedProcessor<I, O> implements Processor<I, O> {
             }
             if (emitting) {
                 List<Object> q = getOrCreateQueue();
-                q.add(new ItemEvent<>(item));
+                q.add(item);
                 return;
             }
             emitting = true;
@@ -178,20 +179,14 @@ public class SerializedProcessor<I, O> implements Processor<I, O> {
             if (event != null) {
                 if (event instanceof SerializedProcessor.SubscriptionEvent) {
                     subscriber.onSubscribe(((SubscriptionEvent) event).subscription);
-                }
-
-                if (event instanceof SerializedProcessor.FailureEvent) {
+                } else if (event instanceof SerializedProcessor.FailureEvent) {
                     subscriber.onError(((FailureEvent) event).failure);
                     return;
-                }
-
-                if (event instanceof SerializedProcessor.CompletionEvent) {
+                } else if (event instanceof SerializedProcessor.CompletionEvent) {
                     subscriber.onComplete();
                     return;
-                }
-
-                if (event instanceof SerializedProcessor.ItemEvent) {
-                    subscriber.onNext(((ItemEvent<I>) event).item);
+                } else {
+                    subscriber.onNext((I) event);
                 }
             }
         }
@@ -205,14 +200,6 @@ public class SerializedProcessor<I, O> implements Processor<I, O> {
         }
     }
 
-    private static class ItemEvent<T> {
-        private final T item;
-
-        private ItemEvent(T item) {
-            this.item = item;
-        }
-    }
-
     private static class FailureEvent {
         private final Throwable failure;
 
@@ -11,8 +11,11 @@ import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
 
 import io.smallrye.mutiny.helpers.ParameterValidation;
+import io.smallrye.mutiny.helpers.QueueSubscription;
 import io.smallrye.mutiny.helpers.Subscriptions;
 import io.smallrye.mutiny.helpers.queues.Queues;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.smallrye.mutiny.infrastructure.StageMetrics;
 import io.smallrye.mutiny.operators.AbstractMulti;
 import io.smallrye.mutiny.subscription.BackPressureFailure;
 import io.smallrye.mutiny.subscription.MultiSubscriber;
@@ -44,6 +47,27 @@ public class UnicastProcessor<T> extends AbstractMulti<T> implements Processor<T
 
     private volatile boolean hasUpstream;
 
+    /**
+     * {@code true} if the downstream polls the items directly from the queue (asynchronous fusion).
+     */
+    private volatile boolean outputFused;
+
+    /**
+     * {@code true} if the queue supports concurrent producers, so {@link #onNext(Object)} does not need to hold the lock.
+     */
+    private final boolean multiProducerQueue;
+
+    /**
+     * Receives the occupancy of the queue, {@code null} if no metrics collector is interested.
+     */
+    private final StageMetrics metrics;
+
+    /**
+     * The number of items in the queue, only tracked when {@link #metrics} is set. The queue is not asked for its size,
+     * as it may not be computed in constant time.
+     */
+    private final AtomicInteger queued;
+
     /**
      * Creates a new {@link UnicastProcessor} using a new unbounded queue.
      *
@@ -56,6 +80,9 @@ public class UnicastProcessor<T> extends AbstractMulti<T> implements Processor<T
 
     /**
      * Creates a new {@link UnicastProcessor} using the given queue.
+     * <p>
+     * When the processor is fed from several threads, passing a multi-producer queue (such as the queues created by
+     * {@link Queues#createMpscQueue(int)}) avoids serializing the calls to {@link #onNext(Object)} with a lock.
      *
      * @param queue the queue, must not be {@code null}
      * @param onTermination the termination callback, can be {@code null}
@@ -69,6 +96,9 @@ public class UnicastProcessor<T> extends AbstractMulti<T> implements Processor<T
     private UnicastProcessor(Queue<T> queue, Runnable onTermination) {
         this.queue = ParameterValidation.nonNull(queue, "queue");
         this.onTermination = onTermination;
+        this.multiProducerQueue = Queues.isMultiProducer(queue);
+        this.metrics = Infrastructure.onStageSubscription("UnicastProcessor");
+        this.queued = metrics == null ? null : new AtomicInteger();
     }
 
     private void onTerminate() {
@@ -100,6 +130,7 @@ public class UnicastProcessor<T> extends AbstractMulti<T> implements Processor<T
                     break;
                 }
 
+                onDequeued();
                 actual.onNext(t);
 
                 e++;
@@ -122,6 +153,37 @@ public class UnicastProcessor<T> extends AbstractMulti<T> implements Processor<T
         }
     }
 
+    void drainFused(Subscriber<? super T> actual) {
+        int missed = 1;
+
+        for (;;) {
+            if (cancelled) {
+                // The downstream owns the queue, and clears it on cancellation.
+                return;
+            }
+
+            boolean wasDone = done;
+
+            // Signal that items are available, the downstream polls them.
+            actual.onNext(null);
+
+            if (wasDone) {
+                Throwable failed = failure;
+                if (failed != null) {
+                    actual.onError(failed);
+                } else {
+                    actual.onComplete();
+                }
+                return;
+            }
+
+            missed = wip.addAndGet(-missed);
+            if (missed == 0) {
+                break;
+            }
+        }
+    }
+
     private void drain() {
         if (wip.getAndIncrement() != 0) {
             return;
@@ -131,7 +193,11 @@ public class UnicastProcessor<T> extends AbstractMulti<T> implements Processor<T
         for (;;) {
             Subscriber<? super T> actual = downstream;
             if (actual != null) {
-                drainWithDownstream(actual);
+                if (outputFused) {
+                    drainFused(actual);
+                } else {
+                    drainWithDownstream(actual);
+                }
                 return;
             }
             missed = wip.addAndGet(-missed);
@@ -178,7 +244,7 @@ public class UnicastProcessor<T> extends AbstractMulti<T> implements Processor<T
     public void subscribe(MultiSubscriber<? super T> downstream) {
         ParameterValidation.nonNull(downstream, "downstream");
         if (DOWNSTREAM_UPDATER.compareAndSet(this, null, downstream)) {
-            downstream.onSubscribe(this);
+            downstream.onSubscribe(new UnicastSubscription());
             if (!cancelled) {
                 drain();
             }
@@ -188,7 +254,17 @@ public class UnicastProcessor<T> extends AbstractMulti<T> implements Processor<T
     }
 
     @Override
-    public synchronized void onNext(T t) {
+    public void onNext(T t) {
+        if (multiProducerQueue) {
+            offerAndDrain(t);
+        } else {
+            synchronized (this) {
+                offerAndDrain(t);
+            }
+        }
+    }
+
+    private void offerAndDrain(T t) {
         if (isDoneOrCancelled()) {
             return;
         }
@@ -197,9 +273,18 @@ public class UnicastProcessor<T> extends AbstractMulti<T> implements Processor<T
             onError(overflow);
             return;
         }
+        if (metrics != null) {
+            metrics.onQueued(queued.incrementAndGet());
+        }
         drain();
     }
 
+    private void onDequeued() {
+        if (queued != null) {
+            queued.decrementAndGet();
+        }
+    }
+
     private boolean isDoneOrCancelled() {
         return done || cancelled;
     }
@@ -244,7 +329,8 @@ public class UnicastProcessor<T> extends AbstractMulti<T> implements Processor<T
         this.cancelled = true;
         if (DOWNSTREAM_UPDATER.getAndSet(this, null) != null) {
             onTerminate();
-            if (wip.getAndIncrement() == 0) {
+            // When fused, the downstream owns the queue and clears it.
+            if (!outputFused && wip.getAndIncrement() == 0) {
                 queue.clear();
             }
         }
@@ -263,4 +349,49 @@ public class UnicastProcessor<T> extends AbstractMulti<T> implements Processor<T
     public SerializedProcessor<T, T> serialized() {
         return new SerializedProcessor<>(this);
     }
+
+    /**
+     * The subscription passed to the downstream, supporting the asynchronous fusion: the downstream polls the items
+     * from the processor queue instead of receiving them with {@code onItem}.
+     */
+    private final class UnicastSubscription implements QueueSubscription<T> {
+
+        @Override
+        public void request(long n) {
+            UnicastProcessor.this.request(n);
+        }
+
+        @Override
+        public void cancel() {
+            UnicastProcessor.this.cancel();
+        }
+
+        @Override
+        public int requestFusion(int mode) {
+            if ((mode & ASYNC) != 0) {
+                outputFused = true;
+                return ASYNC;
+            }
+            return NONE;
+        }
+
+        @Override
+        public T poll() {
+            T item = queue.poll();
+            if (item != null) {
+                onDequeued();
+            }
+            return item;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return queue.isEmpty();
+        }
+
+        @Override
+        public void clear() {
+            queue.clear();
+        }
+    }
 }
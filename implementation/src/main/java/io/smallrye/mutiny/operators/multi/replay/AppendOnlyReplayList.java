@@ -17,14 +17,15 @@ import static io.smallrye.mutiny.helpers.ParameterValidation.nonNull;
  * Bounded replays shall have earlier cells before the head be eventually garbage collected as there are only forward
  * references.
  */
-public class AppendOnlyReplayList {
+public class AppendOnlyReplayList implements ReplayLog {
 
-    public class Cursor {
+    public class Cursor implements ReplayLog.Cursor {
 
         private Cell current = SENTINEL_EMPTY;
         private boolean start = true;
         private boolean currentHasBeenRead = false;
 
+        @Override
         public boolean hasNext() {
             if (current == SENTINEL_EMPTY) {
                 Cell currentHead = head;
@@ -41,6 +42,7 @@ public class AppendOnlyReplayList {
             }
         }
 
+        @Override
         public void moveToNext() {
             if (start) {
                 start = false;
@@ -51,24 +53,29 @@ public class AppendOnlyReplayList {
             currentHasBeenRead = false;
         }
 
+        @Override
         public Object read() {
             currentHasBeenRead = true;
             return current.value;
         }
 
+        @Override
         public boolean hasReachedCompletion() {
             return current.value instanceof Completion;
         }
 
+        @Override
         public boolean hasReachedFailure() {
             return current.value instanceof Failure;
         }
 
+        @Override
         public Throwable readFailure() {
             currentHasBeenRead = true;
             return ((Failure) current.value).failure;
         }
 
+        @Override
         public void readCompletion() {
             currentHasBeenRead = true;
         }
@@ -120,6 +127,7 @@ public class AppendOnlyReplayList {
         }
     }
 
+    @Override
     public void push(Object item) {
         assert !(tail.value instanceof Terminal);
         Cell newCell = new Cell(nonNull(item, "item"), SENTINEL_END);
@@ -137,14 +145,17 @@ public class AppendOnlyReplayList {
         }
     }
 
+    @Override
     public void pushFailure(Throwable failure) {
         push(new Failure(failure));
     }
 
+    @Override
     public void pushCompletion() {
         push(new Completion());
     }
 
+    @Override
     public Cursor newCursor() {
         return new Cursor();
     }
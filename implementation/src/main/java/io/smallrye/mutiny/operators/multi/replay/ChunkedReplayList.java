@@ -0,0 +1,266 @@
+package io.smallrye.mutiny.operators.multi.replay;
+
+import static io.smallrye.mutiny.helpers.ParameterValidation.nonNull;
+
+import java.util.function.ToLongFunction;
+
+/*
+ * Replay is being captured in a linked list of fixed-size array chunks, while consumers can make progress using cursors.
+ *
+ * Compared to AppendOnlyReplayList there is no per-item node, and cursors mostly move within an array.
+ *
+ * The retained items can be bounded by:
+ * - a number of items,
+ * - an age, where items older than the time-to-live are evicted,
+ * - a total weight, where the weight of each item is given by a weigher (the most recent item is always retained).
+ *
+ * The upstream evicts items as it pushes new ones, and publishes the position of the oldest retained item. A new cursor
+ * starts from that position, and skips the items that have expired since the last push. Chunks that only contain
+ * evicted items are unlinked from the head, so they get garbage collected once no cursor reads them.
+ *
+ * The code assumes reactive streams semantics, especially that there are no concurrent appends because of
+ * serial events.
+ */
+public class ChunkedReplayList implements ReplayLog {
+
+    public static final int DEFAULT_CHUNK_SIZE = 128;
+
+    public class Cursor implements ReplayLog.Cursor {
+
+        private Chunk chunk;
+        private long chunkStart;
+        private long index;
+        private Object current;
+
+        private Cursor(Head head, long count) {
+            this.chunk = head.chunk;
+            this.chunkStart = head.chunkStart;
+            this.index = head.first;
+            if (ttl != 0L) {
+                long now = System.nanoTime();
+                while (index < count) {
+                    moveToChunkOfIndex();
+                    int offset = (int) (index - chunkStart);
+                    if (chunk.items[offset] instanceof Terminal || now - chunk.timestamps[offset] < ttl) {
+                        break;
+                    }
+                    index++;
+                }
+            }
+        }
+
+        private void moveToChunkOfIndex() {
+            while (index - chunkStart >= chunkSize) {
+                chunk = chunk.next;
+                chunkStart += chunkSize;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index < size;
+        }
+
+        @Override
+        public void moveToNext() {
+            moveToChunkOfIndex();
+            current = chunk.items[(int) (index - chunkStart)];
+            index++;
+        }
+
+        @Override
+        public Object read() {
+            return current;
+        }
+
+        @Override
+        public boolean hasReachedCompletion() {
+            return current instanceof Completion;
+        }
+
+        @Override
+        public boolean hasReachedFailure() {
+            return current instanceof Failure;
+        }
+
+        @Override
+        public Throwable readFailure() {
+            return ((Failure) current).failure;
+        }
+
+        @Override
+        public void readCompletion() {
+            // Nothing to do
+        }
+    }
+
+    private static abstract class Terminal {
+
+    }
+
+    private static final class Completion extends Terminal {
+
+    }
+
+    private static final class Failure extends Terminal {
+        final Throwable failure;
+
+        Failure(Throwable failure) {
+            this.failure = failure;
+        }
+    }
+
+    private static final class Chunk {
+        final Object[] items;
+        final long[] timestamps;
+        final long[] weights;
+        volatile Chunk next;
+
+        Chunk(int size, boolean timed, boolean weighted) {
+            this.items = new Object[size];
+            this.timestamps = timed ? new long[size] : null;
+            this.weights = weighted ? new long[size] : null;
+        }
+    }
+
+    private static final class Head {
+        final Chunk chunk;
+        final long chunkStart;
+        final long first;
+
+        Head(Chunk chunk, long chunkStart, long first) {
+            this.chunk = chunk;
+            this.chunkStart = chunkStart;
+            this.first = first;
+        }
+    }
+
+    private final long itemsToReplay;
+    private final long ttl;
+    private final long maxWeight;
+    private final ToLongFunction<Object> weigher;
+    private final int chunkSize;
+
+    // Only accessed by the upstream
+    private Chunk tail;
+    private Chunk headChunk;
+    private long headChunkStart;
+    private long first;
+    private long totalWeight;
+    private boolean terminated;
+
+    private volatile Head head;
+    private volatile long size;
+
+    /**
+     * Creates a new chunked replay list.
+     *
+     * @param numberOfItemsToReplay the maximum number of retained items, {@code Long.MAX_VALUE} if unbounded
+     * @param ttl the time-to-live of the items in nanoseconds, {@code 0} if the items never expire
+     * @param maxWeight the maximum total weight of the retained items, ignored if {@code weigher} is {@code null}
+     * @param weigher the weigher, {@code null} to not bound the replay by weight
+     * @param chunkSize the number of items per chunk
+     * @param seed the seed items, can be {@code null}
+     */
+    public ChunkedReplayList(long numberOfItemsToReplay, long ttl, long maxWeight, ToLongFunction<Object> weigher,
+            int chunkSize, Iterable<?> seed) {
+        assert numberOfItemsToReplay > 0;
+        assert ttl >= 0L;
+        assert chunkSize > 0;
+        this.itemsToReplay = numberOfItemsToReplay;
+        this.ttl = ttl;
+        this.maxWeight = maxWeight;
+        this.weigher = weigher;
+        this.chunkSize = chunkSize;
+        this.tail = newChunk();
+        this.headChunk = tail;
+        this.head = new Head(tail, 0L, 0L);
+        if (seed != null) {
+            seed.forEach(this::push);
+        }
+    }
+
+    private Chunk newChunk() {
+        return new Chunk(chunkSize, ttl != 0L, weigher != null);
+    }
+
+    @Override
+    public void push(Object item) {
+        nonNull(item, "item");
+        long weight = 0L;
+        if (weigher != null && !(item instanceof Terminal)) {
+            weight = weigher.applyAsLong(item);
+            if (weight < 0L) {
+                throw new IllegalArgumentException("The weigher returned a negative weight for " + item);
+            }
+        }
+        append(item, weight);
+    }
+
+    private void append(Object item, long weight) {
+        assert !terminated;
+        long index = size;
+        int offset = (int) (index % chunkSize);
+        if (offset == 0 && index != 0L) {
+            Chunk next = newChunk();
+            tail.next = next;
+            tail = next;
+        }
+        tail.items[offset] = item;
+        if (ttl != 0L) {
+            tail.timestamps[offset] = System.nanoTime();
+        }
+        if (weigher != null) {
+            tail.weights[offset] = weight;
+            totalWeight += weight;
+        }
+        size = index + 1;
+        if (item instanceof Terminal) {
+            terminated = true;
+        } else {
+            evict(index + 1);
+        }
+    }
+
+    private void evict(long count) {
+        long previous = first;
+        long now = ttl != 0L ? System.nanoTime() : 0L;
+        while (first < count) {
+            if (first - headChunkStart == chunkSize) {
+                headChunk = headChunk.next;
+                headChunkStart += chunkSize;
+            }
+            long retained = count - first;
+            int offset = (int) (first - headChunkStart);
+            boolean evict = retained > itemsToReplay
+                    || (weigher != null && retained > 1 && totalWeight > maxWeight)
+                    || (ttl != 0L && now - headChunk.timestamps[offset] >= ttl);
+            if (!evict) {
+                break;
+            }
+            if (weigher != null) {
+                totalWeight -= headChunk.weights[offset];
+            }
+            first++;
+        }
+        if (first != previous) {
+            head = new Head(headChunk, headChunkStart, first);
+        }
+    }
+
+    @Override
+    public void pushFailure(Throwable failure) {
+        append(new Failure(failure), 0L);
+    }
+
+    @Override
+    public void pushCompletion() {
+        append(new Completion(), 0L);
+    }
+
+    @Override
+    public Cursor newCursor() {
+        Head current = head;
+        return new Cursor(current, size);
+    }
+}
@@ -0,0 +1,35 @@
+package io.smallrye.mutiny.operators.multi.replay;
+
+/*
+ * A replay log records the upstream events, and each subscriber reads them at its own pace through a cursor.
+ *
+ * Implementations assume reactive streams semantics: the push methods are never called concurrently, while the
+ * cursors can be used from other threads.
+ */
+public interface ReplayLog {
+
+    interface Cursor {
+
+        boolean hasNext();
+
+        void moveToNext();
+
+        Object read();
+
+        boolean hasReachedCompletion();
+
+        boolean hasReachedFailure();
+
+        Throwable readFailure();
+
+        void readCompletion();
+    }
+
+    void push(Object item);
+
+    void pushFailure(Throwable failure);
+
+    void pushCompletion();
+
+    Cursor newCursor();
+}
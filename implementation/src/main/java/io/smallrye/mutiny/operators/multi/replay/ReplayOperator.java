@@ -18,7 +18,7 @@ public class ReplayOperator<T> extends AbstractMulti<T> {
 
     private final Multi<T> upstream;
 
-    private final AppendOnlyReplayList replayList;
+    private final ReplayLog replayList;
 
     private final AtomicBoolean upstreamSubscriptionRequested = new AtomicBoolean();
     private volatile Subscription upstreamSubscription = null;
@@ -34,6 +34,11 @@ public class ReplayOperator<T> extends AbstractMulti<T> {
         this.replayList = new AppendOnlyReplayList(numberOfItemsToReplay, seed);
     }
 
+    public ReplayOperator(Multi<T> upstream, ReplayLog replayLog) {
+        this.upstream = upstream;
+        this.replayList = replayLog;
+    }
+
     @Override
     public void subscribe(MultiSubscriber<? super T> subscriber) {
         if (upstreamSubscriptionRequested.compareAndSet(false, true)) {
@@ -49,7 +54,7 @@ public class ReplayOperator<T> extends AbstractMulti<T> {
         private final MultiSubscriber<? super T> downstream;
         private final AtomicLong demand = new AtomicLong();
         private volatile boolean done = false;
-        private final AppendOnlyReplayList.Cursor cursor;
+        private final ReplayLog.Cursor cursor;
 
         private ReplaySubscription(MultiSubscriber<? super T> downstream) {
             this.downstream = downstream;
@@ -134,12 +139,25 @@ public class ReplayOperator<T> extends AbstractMulti<T> {
 
         @Override
         public void onItem(T item) {
-            replayList.push(item);
+            if (upstreamSubscription == Subscriptions.CANCELLED) {
+                return;
+            }
+            try {
+                replayList.push(item);
+            } catch (Throwable failure) {
+                // The replay log rejected the item (e.g., a failing weigher)
+                upstreamSubscription.cancel();
+                onFailure(failure);
+                return;
+            }
             triggerDrainLoops();
         }
 
         @Override
         public void onFailure(Throwable failure) {
+            if (upstreamSubscription == Subscriptions.CANCELLED) {
+                return;
+            }
             replayList.pushFailure(failure);
             markAsDone();
             triggerDrainLoops();
@@ -147,6 +165,9 @@ public class ReplayOperator<T> extends AbstractMulti<T> {
 
         @Override
         public void onCompletion() {
+            if (upstreamSubscription == Subscriptions.CANCELLED) {
+                return;
+            }
             replayList.pushCompletion();
             markAsDone();
             triggerDrainLoops();
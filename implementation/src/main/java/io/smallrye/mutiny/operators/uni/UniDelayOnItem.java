@@ -7,8 +7,10 @@ import java.time.Duration;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
 
 import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
 import io.smallrye.mutiny.operators.AbstractUni;
 import io.smallrye.mutiny.operators.UniOperator;
 import io.smallrye.mutiny.subscription.UniSubscriber;
@@ -31,6 +33,7 @@ public class UniDelayOnItem<T> extends UniOperator<T, T> {
     private class UniDelayOnItemProcessor extends UniOperatorProcessor<T, T> {
 
         private volatile ScheduledFuture<?> scheduledFuture;
+        private final UnaryOperator<Runnable> threadHop = Infrastructure.captureForThreadHop();
 
         public UniDelayOnItemProcessor(UniSubscriber<? super T> downstream) {
             super(downstream);
@@ -50,7 +53,7 @@ public class UniDelayOnItem<T> extends UniOperator<T, T> {
         public void onItem(T item) {
             if (!isCancelled()) {
                 try {
-                    Runnable dispatch = () -> downstream.onItem(item);
+                    Runnable dispatch = threadHop.apply(() -> downstream.onItem(item));
                     scheduledFuture = executor.schedule(dispatch, duration.toMillis(), TimeUnit.MILLISECONDS);
                 } catch (Throwable err) {
                     downstream.onFailure(err);
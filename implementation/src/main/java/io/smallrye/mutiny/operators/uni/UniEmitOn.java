@@ -3,8 +3,10 @@ package io.smallrye.mutiny.operators.uni;
 import static io.smallrye.mutiny.helpers.ParameterValidation.nonNull;
 
 import java.util.concurrent.Executor;
+import java.util.function.UnaryOperator;
 
 import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
 import io.smallrye.mutiny.operators.AbstractUni;
 import io.smallrye.mutiny.operators.UniOperator;
 import io.smallrye.mutiny.subscription.UniSubscriber;
@@ -24,6 +26,8 @@ public class UniEmitOn<I> extends UniOperator<I, I> {
 
     private class UniEmitOnProcessor extends UniOperatorProcessor<I, I> {
 
+        private final UnaryOperator<Runnable> threadHop = Infrastructure.captureForThreadHop();
+
         public UniEmitOnProcessor(UniSubscriber<? super I> downstream) {
             super(downstream);
         }
@@ -31,14 +35,14 @@ public class UniEmitOn<I> extends UniOperator<I, I> {
         @Override
         public void onItem(I item) {
             if (!isCancelled()) {
-                executor.execute(() -> downstream.onItem(item));
+                executor.execute(threadHop.apply(() -> downstream.onItem(item)));
             }
         }
 
         @Override
         public void onFailure(Throwable failure) {
             if (!isCancelled()) {
-                executor.execute(() -> downstream.onFailure(failure));
+                executor.execute(threadHop.apply(() -> downstream.onFailure(failure)));
             }
         }
     }
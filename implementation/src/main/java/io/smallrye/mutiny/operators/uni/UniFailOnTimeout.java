@@ -47,7 +47,8 @@ public class UniFailOnTimeout<I> extends UniOperator<I, I> {
         @Override
         public void onSubscribe(UniSubscription subscription) {
             try {
-                timeoutFuture = executor.schedule(this::doTimeout, timeout.toMillis(), TimeUnit.MILLISECONDS);
+                timeoutFuture = executor.schedule(Infrastructure.captureForThreadHop().apply(this::doTimeout),
+                        timeout.toMillis(), TimeUnit.MILLISECONDS);
             } catch (RejectedExecutionException e) {
                 // Executor out of service.
                 getAndSetUpstreamSubscription(CANCELLED);
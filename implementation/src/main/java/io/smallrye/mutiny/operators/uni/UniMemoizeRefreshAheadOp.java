@@ -0,0 +1,186 @@
+package io.smallrye.mutiny.operators.uni;
+
+import static io.smallrye.mutiny.helpers.ParameterValidation.nonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import io.smallrye.mutiny.Context;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.operators.AbstractUni;
+import io.smallrye.mutiny.operators.UniOperator;
+import io.smallrye.mutiny.subscription.UniSubscriber;
+import io.smallrye.mutiny.subscription.UniSubscription;
+
+/**
+ * Memoizes the item from the upstream, and refreshes it in the background before it expires.
+ * <p>
+ * An item is fresh during {@code refreshAfter}: subscribers get it immediately.
+ * Between {@code refreshAfter} and {@code expireAfter}, subscribers still get the (stale) item immediately, and the
+ * first of them triggers a refresh, that is, a new subscription to the upstream.
+ * After {@code expireAfter}, or when no item has been received yet, subscribers wait for the refresh.
+ * <p>
+ * There is at most one refresh in flight: the subscribers that need to wait all join the same refresh.
+ * Failures are not memoized: they are forwarded to the waiting subscribers, while the current item (if any) is kept.
+ *
+ * @param <I> the type of item
+ */
+public class UniMemoizeRefreshAheadOp<I> extends UniOperator<I, I> {
+
+    private final long refreshAfter;
+    private final long expireAfter;
+
+    private volatile Entry<I> entry;
+    private final AtomicReference<Refresh> inflight = new AtomicReference<>();
+
+    /**
+     * Creates a new {@link UniMemoizeRefreshAheadOp}.
+     *
+     * @param upstream the upstream, must not be {@code null}
+     * @param refreshAfter the duration in nanoseconds after which an item gets refreshed
+     * @param expireAfter the duration in nanoseconds after which an item is not served anymore,
+     *        {@code Long.MAX_VALUE} if items never expire
+     */
+    public UniMemoizeRefreshAheadOp(Uni<? extends I> upstream, long refreshAfter, long expireAfter) {
+        super(nonNull(upstream, "upstream"));
+        this.refreshAfter = refreshAfter;
+        this.expireAfter = expireAfter;
+    }
+
+    @Override
+    public void subscribe(UniSubscriber<? super I> subscriber) {
+        Waiter<I> waiter = new Waiter<>(subscriber);
+        subscriber.onSubscribe(waiter);
+
+        Entry<I> current = entry;
+        if (current != null) {
+            long age = System.nanoTime() - current.timestamp;
+            if (age < expireAfter) {
+                if (!waiter.cancelled) {
+                    subscriber.onItem(current.item);
+                }
+                if (age >= refreshAfter && entry == current) {
+                    refresh(subscriber.context());
+                }
+                return;
+            }
+        }
+
+        refresh(subscriber.context()).add(waiter);
+    }
+
+    private Refresh refresh(Context context) {
+        for (;;) {
+            Refresh current = inflight.get();
+            if (current != null) {
+                return current;
+            }
+            Refresh refresh = new Refresh(context);
+            if (inflight.compareAndSet(null, refresh)) {
+                AbstractUni.subscribe(upstream(), refresh);
+                return refresh;
+            }
+        }
+    }
+
+    private static final class Entry<I> {
+        final I item;
+        final long timestamp;
+
+        Entry(I item, long timestamp) {
+            this.item = item;
+            this.timestamp = timestamp;
+        }
+    }
+
+    private static final class Waiter<I> implements UniSubscription {
+        final UniSubscriber<? super I> subscriber;
+        volatile boolean cancelled;
+
+        Waiter(UniSubscriber<? super I> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+    }
+
+    /**
+     * An upstream subscription, shared by all the subscribers waiting for an item.
+     */
+    private final class Refresh implements UniSubscriber<I> {
+
+        private final Context context;
+        private List<Waiter<I>> waiters = new ArrayList<>();
+        private boolean done;
+        private I item;
+        private Throwable failure;
+
+        Refresh(Context context) {
+            this.context = context;
+        }
+
+        @Override
+        public Context context() {
+            return context;
+        }
+
+        void add(Waiter<I> waiter) {
+            synchronized (this) {
+                if (!done) {
+                    waiters.add(waiter);
+                    return;
+                }
+            }
+            dispatch(waiter);
+        }
+
+        @Override
+        public void onSubscribe(UniSubscription subscription) {
+            // A refresh is never cancelled, as its item is memoized even when all the waiters are gone
+        }
+
+        @Override
+        public void onItem(I item) {
+            entry = new Entry<>(item, System.nanoTime());
+            complete(item, null);
+        }
+
+        @Override
+        public void onFailure(Throwable failure) {
+            complete(null, failure);
+        }
+
+        private void complete(I item, Throwable failure) {
+            List<Waiter<I>> toNotify;
+            synchronized (this) {
+                if (done) {
+                    return;
+                }
+                this.item = item;
+                this.failure = failure;
+                done = true;
+                toNotify = waiters;
+                waiters = null;
+            }
+            inflight.compareAndSet(this, null);
+            for (Waiter<I> waiter : toNotify) {
+                dispatch(waiter);
+            }
+        }
+
+        private void dispatch(Waiter<I> waiter) {
+            if (waiter.cancelled) {
+                return;
+            }
+            if (failure != null) {
+                waiter.subscriber.onFailure(failure);
+            } else {
+                waiter.subscriber.onItem(item);
+            }
+        }
+    }
+}
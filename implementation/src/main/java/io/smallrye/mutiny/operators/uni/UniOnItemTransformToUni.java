@@ -6,6 +6,7 @@ import java.util.function.Function;
 
 import io.smallrye.mutiny.CompositeException;
 import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.ScalarSource;
 import io.smallrye.mutiny.operators.AbstractUni;
 import io.smallrye.mutiny.operators.UniOperator;
 import io.smallrye.mutiny.subscription.UniSubscriber;
@@ -78,9 +79,27 @@ public class UniOnItemTransformToUni<I, O> extends UniOperator<I, O> {
                 downstream.onFailure(new NullPointerException(MAPPER_RETURNED_NULL));
                 return;
             }
+            if (uni instanceof ScalarSource) {
+                // Fast path: the item is computed directly, without subscribing to the inner Uni.
+                emitScalarItem((ScalarSource<? extends O>) uni);
+                return;
+            }
             AbstractUni.subscribe(uni, (UniSubscriber) this); // not a pretty cast
         }
 
+        private void emitScalarItem(ScalarSource<? extends O> source) {
+            O result;
+            try {
+                result = source.scalarItem();
+            } catch (Throwable e) {
+                onFailure(e);
+                return;
+            }
+            if (!isCancelled()) {
+                downstream.onItem(result);
+            }
+        }
+
         @Override
         public void cancel() {
             if (innerSubscription != null) {
@@ -6,6 +6,7 @@ import static io.smallrye.mutiny.helpers.ParameterValidation.nonNull;
 import java.util.concurrent.Executor;
 
 import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
 import io.smallrye.mutiny.operators.AbstractUni;
 import io.smallrye.mutiny.operators.UniOperator;
 import io.smallrye.mutiny.subscription.UniSubscriber;
@@ -22,13 +23,13 @@ public class UniRunSubscribeOn<I> extends UniOperator<I, I> {
     @Override
     public void subscribe(UniSubscriber<? super I> subscriber) {
         try {
-            executor.execute(() -> {
+            executor.execute(Infrastructure.captureForThreadHop().apply(() -> {
                 try {
                     AbstractUni.subscribe(upstream(), new UniRunSubscribeOnProcessor(subscriber));
                 } catch (Throwable woops) {
                     forwardFailure(subscriber, woops);
                 }
-            });
+            }));
         } catch (Throwable err) {
             forwardFailure(subscriber, err);
         }
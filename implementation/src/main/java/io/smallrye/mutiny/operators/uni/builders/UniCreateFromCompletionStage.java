@@ -5,7 +5,9 @@ import static io.smallrye.mutiny.helpers.EmptyUniSubscription.propagateFailureEv
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
 
+import io.smallrye.mutiny.infrastructure.Infrastructure;
 import io.smallrye.mutiny.operators.AbstractUni;
 import io.smallrye.mutiny.subscription.UniSubscriber;
 import io.smallrye.mutiny.subscription.UniSubscription;
@@ -48,7 +50,9 @@ public class UniCreateFromCompletionStage<T> extends AbstractUni<T> {
 
         public void forward() {
             subscriber.onSubscribe(this);
-            stage.whenComplete(this::forwardResult);
+            // The stage may complete on a thread owned by another library
+            UnaryOperator<Runnable> threadHop = Infrastructure.captureForThreadHop();
+            stage.whenComplete((res, fail) -> threadHop.apply(() -> forwardResult(res, fail)).run());
         }
 
         private void forwardResult(T res, Throwable fail) {
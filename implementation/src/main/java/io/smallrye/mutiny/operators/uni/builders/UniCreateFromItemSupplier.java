@@ -2,7 +2,11 @@ package io.smallrye.mutiny.operators.uni.builders;
 
 import java.util.function.Supplier;
 
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.converters.uni.UniToScalarMulti;
 import io.smallrye.mutiny.helpers.EmptyUniSubscription;
+import io.smallrye.mutiny.helpers.ScalarSource;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
 import io.smallrye.mutiny.operators.AbstractUni;
 import io.smallrye.mutiny.subscription.UniSubscriber;
 
@@ -12,7 +16,7 @@ import io.smallrye.mutiny.subscription.UniSubscriber;
  *
  * @param <T> the type of the item
  */
-public class UniCreateFromItemSupplier<T> extends AbstractUni<T> {
+public class UniCreateFromItemSupplier<T> extends AbstractUni<T> implements ScalarSource<T> {
 
     private final Supplier<? extends T> supplier;
 
@@ -31,4 +35,14 @@ public class UniCreateFromItemSupplier<T> extends AbstractUni<T> {
             subscriber.onFailure(err);
         }
     }
+
+    @Override
+    public T scalarItem() {
+        return supplier.get();
+    }
+
+    @Override
+    public Multi<T> toMulti() {
+        return Infrastructure.onMultiCreation(new UniToScalarMulti<>(this));
+    }
 }
@@ -1,5 +1,9 @@
 package io.smallrye.mutiny.operators.uni.builders;
 
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.converters.uni.UniToScalarMulti;
+import io.smallrye.mutiny.helpers.ScalarSource;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
 import io.smallrye.mutiny.operators.AbstractUni;
 import io.smallrye.mutiny.subscription.UniSubscriber;
 import io.smallrye.mutiny.subscription.UniSubscription;
@@ -10,7 +14,7 @@ import io.smallrye.mutiny.subscription.UniSubscription;
  *
  * @param <T> the type of the item
  */
-public class UniCreateFromKnownItem<T> extends AbstractUni<T> {
+public class UniCreateFromKnownItem<T> extends AbstractUni<T> implements ScalarSource<T> {
 
     private final T item;
 
@@ -23,6 +27,16 @@ public class UniCreateFromKnownItem<T> extends AbstractUni<T> {
         new KnownItemSubscription(subscriber).forward();
     }
 
+    @Override
+    public T scalarItem() {
+        return item;
+    }
+
+    @Override
+    public Multi<T> toMulti() {
+        return Infrastructure.onMultiCreation(new UniToScalarMulti<>(this));
+    }
+
     private class KnownItemSubscription implements UniSubscription {
 
         private final UniSubscriber<? super T> subscriber;
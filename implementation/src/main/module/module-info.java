@@ -4,6 +4,7 @@ open module io.smallrye.mutiny {
     requires transitive smallrye.common.annotation;
 
     exports io.smallrye.mutiny;
+    exports io.smallrye.mutiny.cache;
     exports io.smallrye.mutiny.groups;
     exports io.smallrye.mutiny.helpers.spies;
     exports io.smallrye.mutiny.helpers.test;
@@ -166,6 +166,77 @@ class ContextTest {
             context.put("bar", "baz");
             Set<String> k2 = context.keys();
             assertThat(k1).isNotSameAs(k2);
+            assertThat(k1).containsExactlyInAnyOrder("foo", "123");
+            assertThat(k2).containsExactlyInAnyOrder("foo", "123", "bar");
+            assertThatThrownBy(() -> k1.add("yolo")).isInstanceOf(UnsupportedOperationException.class);
+        }
+
+        @Test
+        void growAndShrinkBeyondTheSmallContextSize() {
+            Context context = Context.empty();
+            for (int i = 0; i < 20; i++) {
+                context.put("key-" + i, i);
+                assertThat(context.keys()).hasSize(i + 1);
+            }
+            for (int i = 0; i < 20; i++) {
+                assertThat(context.<Integer> get("key-" + i)).isEqualTo(i);
+            }
+            context.put("key-3", 333);
+            assertThat(context.<Integer> get("key-3")).isEqualTo(333);
+            for (int i = 0; i < 20; i++) {
+                context.delete("key-" + i);
+            }
+            assertThat(context.isEmpty()).isTrue();
+            assertThat(context.keys()).isEmpty();
+        }
+
+        @Test
+        void duplicatedKeysAndEquality() {
+            Context small = Context.of("foo", "bar", "foo", "baz", "abc", "def");
+            assertThat(small.keys()).containsExactlyInAnyOrder("foo", "abc");
+            assertThat(small.<String> get("foo")).isEqualTo("baz");
+
+            Map<String, Object> map = new HashMap<>();
+            Object[] pairs = new Object[40];
+            for (int i = 0; i < 20; i++) {
+                map.put("key-" + i, i);
+                pairs[2 * i] = "key-" + i;
+                pairs[2 * i + 1] = i;
+            }
+            Context large = Context.from(map);
+            Context built = Context.empty();
+            map.forEach(built::put);
+            assertThat(large).isEqualTo(Context.of(pairs)).isEqualTo(built);
+            assertThat(large.hashCode()).isEqualTo(built.hashCode()).isEqualTo(map.hashCode());
+
+            for (int i = 2; i < 20; i++) {
+                built.delete("key-" + i);
+            }
+            assertThat(built).isEqualTo(Context.of("key-0", 0, "key-1", 1));
+            assertThat(built.hashCode()).isEqualTo(Context.of("key-1", 1, "key-0", 0).hashCode());
+        }
+
+        @Test
+        void concurrentUpdates() throws InterruptedException {
+            Context context = Context.empty();
+            ExecutorService executor = Executors.newFixedThreadPool(4);
+            try {
+                for (int t = 0; t < 4; t++) {
+                    int thread = t;
+                    executor.submit(() -> {
+                        for (int i = 0; i < 1000; i++) {
+                            context.put(thread + "-" + (i % 5), i);
+                        }
+                    });
+                }
+            } finally {
+                executor.shutdown();
+                assertThat(executor.awaitTermination(10, java.util.concurrent.TimeUnit.SECONDS)).isTrue();
+            }
+            assertThat(context.keys()).hasSize(20);
+            for (int t = 0; t < 4; t++) {
+                assertThat(context.<Integer> get(t + "-4")).isEqualTo(999);
+            }
         }
     }
 
@@ -0,0 +1,229 @@
+package io.smallrye.mutiny.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
+import io.smallrye.mutiny.subscription.UniEmitter;
+
+class UniCacheTest {
+
+    private final Map<String, AtomicInteger> loads = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    void reset() {
+        loads.clear();
+    }
+
+    private Uni<String> load(String key) {
+        return Uni.createFrom().item(() -> key + "-" + loads.computeIfAbsent(key, k -> new AtomicInteger()).incrementAndGet());
+    }
+
+    @Test
+    void rejectBadArguments() {
+        assertThatThrownBy(() -> UniCache.builder().maximumSize(0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("maximumSize");
+        assertThatThrownBy(() -> UniCache.builder().eviction(null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("eviction");
+        assertThatThrownBy(() -> UniCache.builder().expireAfterLoad(Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("ttl");
+        assertThatThrownBy(() -> UniCache.builder().build(null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("loader");
+        assertThatThrownBy(() -> UniCache.builder().<String, String> build(this::load).get(null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("key");
+    }
+
+    @Test
+    void cacheValuesPerKey() {
+        UniCache<String, String> cache = UniCache.builder().build(this::load);
+
+        assertThat(cache.get("a").await().indefinitely()).isEqualTo("a-1");
+        assertThat(cache.get("a").await().indefinitely()).isEqualTo("a-1");
+        assertThat(cache.get("b").await().indefinitely()).isEqualTo("b-1");
+        assertThat(cache.size()).isEqualTo(2);
+
+        UniCache.Stats stats = cache.stats();
+        assertThat(stats.hitCount()).isEqualTo(1);
+        assertThat(stats.missCount()).isEqualTo(2);
+        assertThat(stats.loadSuccessCount()).isEqualTo(2);
+        assertThat(stats.loadFailureCount()).isZero();
+        assertThat(stats.hitRate()).isEqualTo(1.0 / 3);
+
+        cache.invalidate("a");
+        assertThat(cache.get("a").await().indefinitely()).isEqualTo("a-2");
+        cache.invalidateAll();
+        assertThat(cache.size()).isZero();
+        assertThat(cache.get("b").await().indefinitely()).isEqualTo("b-2");
+    }
+
+    @Test
+    void singleFlightLoading() {
+        List<UniEmitter<? super String>> emitters = new CopyOnWriteArrayList<>();
+        UniCache<String, String> cache = UniCache.builder()
+                .build(key -> Uni.createFrom().<String> emitter(emitters::add));
+
+        Uni<String> uni = cache.get("a");
+        List<UniAssertSubscriber<String>> subscribers = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            subscribers.add(uni.subscribe().withSubscriber(UniAssertSubscriber.create()));
+        }
+        subscribers.add(cache.get("a").subscribe().withSubscriber(UniAssertSubscriber.create()));
+        assertThat(emitters).hasSize(1);
+
+        subscribers.get(0).cancel();
+        emitters.get(0).complete("hello");
+        subscribers.subList(1, subscribers.size()).forEach(s -> s.assertItem("hello"));
+        assertThat(cache.stats().missCount()).isEqualTo(1);
+        assertThat(cache.stats().hitCount()).isEqualTo(10);
+    }
+
+    @Test
+    void failuresAreNotCached() {
+        AtomicInteger attempts = new AtomicInteger();
+        UniCache<String, String> cache = UniCache.builder().build(key -> {
+            if (attempts.incrementAndGet() == 1) {
+                return Uni.createFrom().failure(new IOException("boom"));
+            }
+            return Uni.createFrom().item(key);
+        });
+
+        cache.get("a").subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertFailedWith(IOException.class, "boom");
+        assertThat(cache.size()).isZero();
+        cache.get("a").subscribe().withSubscriber(UniAssertSubscriber.create()).assertItem("a");
+        assertThat(cache.stats().loadFailureCount()).isEqualTo(1);
+        assertThat(cache.stats().loadSuccessCount()).isEqualTo(1);
+    }
+
+    @Test
+    void loaderThrowingIsAFailure() {
+        UniCache<String, String> cache = UniCache.builder().build(key -> {
+            throw new IllegalStateException("boom");
+        });
+        cache.get("a").subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertFailedWith(IllegalStateException.class, "boom");
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void expireAfterLoad() {
+        UniCache<String, String> cache = UniCache.builder()
+                .expireAfterLoad(Duration.ofMillis(50))
+                .build(this::load);
+
+        assertThat(cache.get("a").await().indefinitely()).isEqualTo("a-1");
+        assertThat(cache.get("b").await().indefinitely()).isEqualTo("b-1");
+        assertThat(cache.get("a").await().indefinitely()).isEqualTo("a-1");
+        await().pollDelay(Duration.ofMillis(100)).until(() -> true);
+        assertThat(cache.get("a").await().indefinitely()).isEqualTo("a-2");
+
+        cache.cleanUp();
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void lruEviction() {
+        UniCache<String, String> cache = UniCache.builder()
+                .maximumSize(3)
+                .eviction(UniCache.Eviction.LRU)
+                .build(this::load);
+
+        cache.get("a").await().indefinitely();
+        cache.get("b").await().indefinitely();
+        cache.get("c").await().indefinitely();
+        cache.get("a").await().indefinitely();
+        cache.get("d").await().indefinitely();
+
+        assertThat(cache.size()).isEqualTo(3);
+        assertThat(cache.stats().evictionCount()).isEqualTo(1);
+        // "b" was the least recently used
+        assertThat(cache.get("a").await().indefinitely()).isEqualTo("a-1");
+        assertThat(cache.get("b").await().indefinitely()).isEqualTo("b-2");
+    }
+
+    @Test
+    void tinyLfuEvictionRetainsFrequentlyUsedEntries() {
+        assertThat(hotEntriesRetainedAfterScan(UniCache.Eviction.W_TINY_LFU)).isGreaterThanOrEqualTo(45);
+        // The scan flushes the hot entries out of a LRU cache
+        assertThat(hotEntriesRetainedAfterScan(UniCache.Eviction.LRU)).isZero();
+    }
+
+    private int hotEntriesRetainedAfterScan(UniCache.Eviction eviction) {
+        loads.clear();
+        UniCache<String, String> cache = UniCache.builder()
+                .maximumSize(100)
+                .eviction(eviction)
+                .build(this::load);
+
+        for (int round = 0; round < 5; round++) {
+            for (int i = 0; i < 50; i++) {
+                cache.get("hot-" + i).await().indefinitely();
+            }
+        }
+        // A scan of keys accessed once
+        for (int i = 0; i < 1000; i++) {
+            cache.get("scan-" + i).await().indefinitely();
+        }
+        assertThat(cache.size()).isLessThanOrEqualTo(100);
+
+        int retained = 0;
+        for (int i = 0; i < 50; i++) {
+            if (cache.get("hot-" + i).await().indefinitely().equals("hot-" + i + "-1")) {
+                retained++;
+            }
+        }
+        return retained;
+    }
+
+    @Test
+    void sizeIsBoundedUnderConcurrency() throws InterruptedException {
+        UniCache<Integer, Integer> cache = UniCache.builder()
+                .maximumSize(64)
+                .build(key -> Uni.createFrom().item(key));
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        AtomicInteger mismatches = new AtomicInteger();
+        try {
+            for (int t = 0; t < 8; t++) {
+                int seed = t;
+                executor.execute(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        int key = (i * 31 + seed) % 500;
+                        if (cache.get(key).await().indefinitely() != key) {
+                            mismatches.incrementAndGet();
+                        }
+                    }
+                });
+            }
+        } finally {
+            executor.shutdown();
+            assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+        }
+        assertThat(mismatches).hasValue(0);
+        assertThat(cache.size()).isLessThanOrEqualTo(64);
+        UniCache.Stats stats = cache.stats();
+        assertThat(stats.hitCount() + stats.missCount()).isEqualTo(80_000);
+    }
+}
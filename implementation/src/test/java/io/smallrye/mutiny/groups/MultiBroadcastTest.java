@@ -2,10 +2,16 @@ package io.smallrye.mutiny.groups;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.io.IOException;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.parallel.ResourceAccessMode;
@@ -14,6 +20,7 @@ import org.junit.jupiter.api.parallel.ResourceLock;
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.helpers.MultiEmitterProcessor;
 import io.smallrye.mutiny.helpers.test.AssertSubscriber;
+import io.smallrye.mutiny.subscription.BackPressureFailure;
 import junit5.support.InfrastructureResource;
 
 @ResourceLock(value = InfrastructureResource.NAME, mode = ResourceAccessMode.READ)
@@ -307,4 +314,111 @@ public class MultiBroadcastTest {
         subscriber2.awaitCompletion();
         assertThat(subscriber2.getItems()).hasSize(1000);
     }
+
+    @Test
+    public void testSharedRingBufferPacedBySlowestSubscriber() {
+        AtomicLong requested = new AtomicLong();
+        Multi<Integer> multi = Multi.createFrom().range(0, 1000)
+                .onRequest().invoke(requested::addAndGet)
+                .broadcast().withSharedRingBuffer(16).toAtLeast(2);
+
+        AssertSubscriber<Integer> fast = multi.subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+        AssertSubscriber<Integer> slow = multi.subscribe().withSubscriber(AssertSubscriber.create(0));
+
+        // The ring is full, the slow subscriber has not read anything
+        assertThat(fast.getItems()).hasSize(16);
+        assertThat(requested).hasValue(16L);
+        fast.assertNotTerminated();
+
+        slow.request(4);
+        slow.assertItems(0, 1, 2, 3);
+        assertThat(fast.getItems()).hasSize(16);
+
+        slow.request(Long.MAX_VALUE);
+        fast.assertCompleted();
+        slow.assertCompleted();
+        assertThat(fast.getItems()).hasSize(1000).isSorted();
+        assertThat(slow.getItems()).isEqualTo(fast.getItems());
+    }
+
+    @Test
+    public void testSharedRingBufferDroppingLaggards() {
+        MultiEmitterProcessor<Integer> processor = MultiEmitterProcessor.create();
+        Multi<Integer> multi = processor.toMulti().broadcast().withSharedRingBuffer(8, 4).toAtLeast(2);
+
+        AssertSubscriber<Integer> fast = multi.subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+        AssertSubscriber<Integer> slow = multi.subscribe().withSubscriber(AssertSubscriber.create(1));
+
+        for (int i = 0; i < 10; i++) {
+            processor.emit(i);
+        }
+        slow.assertItems(0).assertFailedWith(BackPressureFailure.class, "lagging behind");
+        fast.assertItems(0, 1, 2, 3, 4, 5, 6, 7, 8, 9).assertNotTerminated();
+
+        processor.complete();
+        fast.assertCompleted();
+    }
+
+    @Test
+    public void testSharedRingBufferDeliversFailureAfterItems() {
+        MultiEmitterProcessor<Integer> processor = MultiEmitterProcessor.create();
+        Multi<Integer> multi = processor.toMulti().broadcast().withSharedRingBuffer(8).toAtLeast(2);
+
+        AssertSubscriber<Integer> s1 = multi.subscribe().withSubscriber(AssertSubscriber.create(10));
+        AssertSubscriber<Integer> s2 = multi.subscribe().withSubscriber(AssertSubscriber.create(1));
+
+        processor.emit(1).emit(2).emit(3);
+        processor.fail(new IOException("boom"));
+
+        s1.assertItems(1, 2, 3).assertFailedWith(IOException.class, "boom");
+        s2.assertItems(1).assertNotTerminated();
+        s2.request(10);
+        s2.assertItems(1, 2, 3).assertFailedWith(IOException.class, "boom");
+    }
+
+    @Test
+    public void testSharedRingBufferWithCancellationAfterLastDeparture() {
+        AtomicBoolean cancelled = new AtomicBoolean();
+        Multi<Long> multi = Multi.createFrom().ticks().every(Duration.ofMillis(1))
+                .onCancellation().invoke(() -> cancelled.set(true))
+                .broadcast().withSharedRingBuffer(32).withCancellationAfterLastSubscriberDeparture()
+                .toAllSubscribers();
+
+        AssertSubscriber<Long> s1 = multi.subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+        AssertSubscriber<Long> s2 = multi.subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+        await().until(() -> s2.getItems().size() >= 10);
+
+        s1.cancel();
+        assertThat(cancelled).isFalse();
+        s2.cancel();
+        await().untilTrue(cancelled);
+    }
+
+    @Test
+    public void testSharedRingBufferWithManySubscribers() {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Multi<Integer> multi = Multi.createFrom().range(0, 10_000)
+                    .broadcast().withSharedRingBuffer(64).toAtLeast(100);
+            List<AssertSubscriber<Integer>> subscribers = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                subscribers.add(multi.emitOn(executor).subscribe()
+                        .withSubscriber(AssertSubscriber.create(Long.MAX_VALUE)));
+            }
+            for (AssertSubscriber<Integer> subscriber : subscribers) {
+                subscriber.awaitCompletion(Duration.ofSeconds(10));
+                assertThat(subscriber.getItems()).hasSize(10_000).isSorted();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testSharedRingBufferWithInvalidParameters() {
+        MultiBroadcast<Integer> broadcast = Multi.createFrom().range(0, 10).broadcast();
+        assertThrows(IllegalArgumentException.class, () -> broadcast.withSharedRingBuffer(0));
+        assertThrows(IllegalArgumentException.class, () -> broadcast.withSharedRingBuffer(16, 0));
+        assertThrows(IllegalArgumentException.class, () -> broadcast.withSharedRingBuffer(16, 17));
+    }
 }
@@ -5,6 +5,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.awaitility.Awaitility.await;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -12,6 +13,7 @@ import java.util.Random;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.junit.jupiter.api.Test;
 import org.reactivestreams.Subscription;
@@ -19,6 +21,7 @@ import org.reactivestreams.Subscription;
 import io.smallrye.mutiny.Context;
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.helpers.test.AssertSubscriber;
+import io.smallrye.mutiny.subscription.MultiEmitter;
 import io.smallrye.mutiny.subscription.MultiSubscriber;
 
 class MultiReplayTest {
@@ -46,6 +49,26 @@ class MultiReplayTest {
         assertThatThrownBy(() -> Multi.createBy().replaying().upTo(-10))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("must be greater than zero");
+
+        assertThatThrownBy(() -> Multi.createBy().replaying().withinLast(null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("duration");
+
+        assertThatThrownBy(() -> Multi.createBy().replaying().withinLast(Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("duration");
+
+        assertThatThrownBy(() -> Multi.createBy().replaying().upToWeight(0, item -> 1L))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("maxWeight");
+
+        assertThatThrownBy(() -> Multi.createBy().replaying().upToWeight(10, null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("weigher");
+
+        assertThatThrownBy(() -> Multi.createBy().replaying().inChunksOf(0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("chunkSize");
     }
 
     @Test
@@ -115,6 +138,92 @@ class MultiReplayTest {
         sub.assertItems(7, 8, 9);
     }
 
+    @Test
+    void replayInChunks() {
+        Multi<Integer> upstream = Multi.createFrom().range(0, 1000);
+        Multi<Integer> replay = Multi.createBy().replaying().inChunksOf(16).ofMulti(upstream);
+
+        AssertSubscriber<Integer> sub = replay.subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+        sub.assertCompleted();
+        assertThat(sub.getItems()).hasSize(1000).startsWith(0, 1, 2).endsWith(998, 999);
+
+        sub = replay.subscribe().withSubscriber(AssertSubscriber.create(10));
+        assertThat(sub.getItems()).containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+        sub.request(Long.MAX_VALUE);
+        sub.assertCompleted();
+        assertThat(sub.getItems()).hasSize(1000).endsWith(998, 999);
+
+        sub = Multi.createBy().replaying().upTo(3).inChunksOf(2).ofMulti(upstream)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+        sub.assertCompleted();
+        assertThat(sub.getItems()).containsExactly(997, 998, 999);
+    }
+
+    @Test
+    void replayWithinLast() {
+        AtomicReference<MultiEmitter<? super Integer>> emitter = new AtomicReference<>();
+        Multi<Integer> replay = Multi.createBy().replaying().withinLast(Duration.ofMillis(100))
+                .ofMulti(Multi.createFrom().<Integer> emitter(emitter::set));
+
+        AssertSubscriber<Integer> first = replay.subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+        emitter.get().emit(1).emit(2).emit(3);
+        replay.subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE))
+                .assertItems(1, 2, 3);
+
+        await().pollDelay(Duration.ofMillis(150)).until(() -> true);
+        replay.subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE))
+                .assertHasNotReceivedAnyItem();
+
+        emitter.get().emit(4).emit(5).complete();
+        replay.subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE))
+                .assertItems(4, 5)
+                .assertCompleted();
+        first.assertItems(1, 2, 3, 4, 5).assertCompleted();
+    }
+
+    @Test
+    void replayUpToWeight() {
+        Multi<String> upstream = Multi.createFrom().items("a", "bb", "ccc", "dddd", "eeeee");
+        Multi<String> replay = Multi.createBy().replaying()
+                .upToWeight(9, item -> ((String) item).length())
+                .ofMulti(upstream);
+
+        replay.subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE))
+                .assertItems("dddd", "eeeee")
+                .assertCompleted();
+
+        replay = Multi.createBy().replaying()
+                .upTo(1)
+                .upToWeight(9, item -> ((String) item).length())
+                .ofSeedAndMulti(Arrays.asList("x", "y"), upstream);
+        replay.subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE))
+                .assertItems("eeeee")
+                .assertCompleted();
+    }
+
+    @Test
+    void replayWithFailingWeigher() {
+        AtomicBoolean cancelled = new AtomicBoolean();
+        Multi<Integer> upstream = Multi.createFrom().range(0, 10)
+                .onCancellation().invoke(() -> cancelled.set(true));
+        Multi<Integer> replay = Multi.createBy().replaying()
+                .upToWeight(100, item -> {
+                    if (item.equals(3)) {
+                        throw new IllegalStateException("boom");
+                    }
+                    return 1L;
+                })
+                .ofMulti(upstream);
+
+        replay.subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE))
+                .assertItems(0, 1, 2)
+                .assertFailedWith(IllegalStateException.class, "boom");
+        replay.subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE))
+                .assertItems(0, 1, 2)
+                .assertFailedWith(IllegalStateException.class, "boom");
+        assertThat(cancelled).isTrue();
+    }
+
     @Test
     void replayWithSeed() {
         List<Integer> seed = Arrays.asList(-100, -10, -1);
@@ -1,6 +1,7 @@
 package io.smallrye.mutiny.groups;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.time.Duration;
@@ -30,6 +31,7 @@ import io.smallrye.mutiny.helpers.spies.UniOnSubscribeSpy;
 import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
 import io.smallrye.mutiny.operators.uni.UniMemoizeOp;
 import io.smallrye.mutiny.subscription.Cancellable;
+import io.smallrye.mutiny.subscription.UniEmitter;
 import io.smallrye.mutiny.subscription.UniSubscriber;
 import io.smallrye.mutiny.subscription.UniSubscription;
 import junit5.support.InfrastructureResource;
@@ -519,4 +521,146 @@ class UniMemoizeTest {
         subscriber2.awaitItem().assertItem("hello-1");
     }
 
+    @Test
+    void testRefreshingAfterWithInvalidArguments() {
+        Uni<Integer> uni = Uni.createFrom().item(1);
+        assertThrows(IllegalArgumentException.class, () -> uni.memoize().refreshingAfter(null));
+        assertThrows(IllegalArgumentException.class, () -> uni.memoize().refreshingAfter(Duration.ZERO));
+        assertThrows(IllegalArgumentException.class,
+                () -> uni.memoize().refreshingAfter(Duration.ofSeconds(1), null));
+        assertThrows(IllegalArgumentException.class,
+                () -> uni.memoize().refreshingAfter(Duration.ofSeconds(1), Duration.ofSeconds(1)));
+    }
+
+    @Test
+    void testRefreshingAfterCollapsesTheInitialSubscriptions() {
+        AtomicInteger subscriptions = new AtomicInteger();
+        List<UniEmitter<? super Integer>> emitters = new CopyOnWriteArrayList<>();
+        Uni<Integer> uni = Uni.createFrom().<Integer> emitter(emitters::add)
+                .onSubscription().invoke(subscriptions::incrementAndGet)
+                .memoize().refreshingAfter(Duration.ofMinutes(1));
+
+        List<UniAssertSubscriber<Integer>> subscribers = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            subscribers.add(uni.subscribe().withSubscriber(UniAssertSubscriber.create()));
+        }
+        assertThat(subscriptions).hasValue(1);
+        subscribers.forEach(UniAssertSubscriber::assertNotTerminated);
+
+        emitters.get(0).complete(42);
+        subscribers.forEach(subscriber -> subscriber.assertItem(42));
+        uni.subscribe().withSubscriber(UniAssertSubscriber.create()).assertItem(42);
+        assertThat(subscriptions).hasValue(1);
+    }
+
+    @Test
+    void testRefreshingAfterServesTheStaleItemWhileRefreshing() {
+        List<UniEmitter<? super Integer>> emitters = new CopyOnWriteArrayList<>();
+        Uni<Integer> uni = Uni.createFrom().<Integer> emitter(emitters::add)
+                .memoize().refreshingAfter(Duration.ofMillis(50));
+
+        UniAssertSubscriber<Integer> first = uni.subscribe().withSubscriber(UniAssertSubscriber.create());
+        emitters.get(0).complete(1);
+        first.assertItem(1);
+
+        await().pollDelay(Duration.ofMillis(100)).until(() -> true);
+        // The refresh is triggered, but the stale item is served meanwhile
+        for (int i = 0; i < 10; i++) {
+            uni.subscribe().withSubscriber(UniAssertSubscriber.create()).assertItem(1);
+        }
+        assertThat(emitters).hasSize(2);
+
+        emitters.get(1).complete(2);
+        uni.subscribe().withSubscriber(UniAssertSubscriber.create()).assertItem(2);
+        assertThat(emitters).hasSize(2);
+    }
+
+    @Test
+    void testRefreshingAfterKeepsTheStaleItemOnFailure() {
+        AtomicInteger count = new AtomicInteger();
+        Uni<Integer> uni = Uni.createFrom().item(count::incrementAndGet)
+                .onItem().transform(i -> {
+                    if (i % 2 == 0) {
+                        throw new IllegalStateException("boom-" + i);
+                    }
+                    return i;
+                })
+                .memoize().refreshingAfter(Duration.ofMillis(50));
+
+        uni.subscribe().withSubscriber(UniAssertSubscriber.create()).assertItem(1);
+        await().pollDelay(Duration.ofMillis(100)).until(() -> true);
+        // Triggers a failing refresh
+        uni.subscribe().withSubscriber(UniAssertSubscriber.create()).assertItem(1);
+        uni.subscribe().withSubscriber(UniAssertSubscriber.create()).assertItem(1);
+        assertThat(count).hasValue(3);
+        // The second refresh succeeds
+        uni.subscribe().withSubscriber(UniAssertSubscriber.create()).assertItem(3);
+    }
+
+    @Test
+    void testRefreshingAfterDoesNotMemoizeFailures() {
+        AtomicInteger count = new AtomicInteger();
+        Uni<Integer> uni = Uni.createFrom().item(count::incrementAndGet)
+                .onItem().transform(i -> {
+                    if (i == 1) {
+                        throw new IllegalStateException("boom");
+                    }
+                    return i;
+                })
+                .memoize().refreshingAfter(Duration.ofMinutes(1));
+
+        uni.subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertFailedWith(IllegalStateException.class, "boom");
+        uni.subscribe().withSubscriber(UniAssertSubscriber.create()).assertItem(2);
+        uni.subscribe().withSubscriber(UniAssertSubscriber.create()).assertItem(2);
+    }
+
+    @Test
+    void testRefreshingAfterWithExpiration() {
+        List<UniEmitter<? super Integer>> emitters = new CopyOnWriteArrayList<>();
+        Uni<Integer> uni = Uni.createFrom().<Integer> emitter(emitters::add)
+                .memoize().refreshingAfter(Duration.ofMillis(20), Duration.ofMillis(50));
+
+        UniAssertSubscriber<Integer> first = uni.subscribe().withSubscriber(UniAssertSubscriber.create());
+        emitters.get(0).complete(1);
+        first.assertItem(1);
+
+        await().pollDelay(Duration.ofMillis(100)).until(() -> true);
+        // The item has expired, so the subscribers wait for the refresh
+        UniAssertSubscriber<Integer> second = uni.subscribe().withSubscriber(UniAssertSubscriber.create());
+        UniAssertSubscriber<Integer> third = uni.subscribe().withSubscriber(UniAssertSubscriber.create());
+        UniAssertSubscriber<Integer> cancelled = uni.subscribe().withSubscriber(UniAssertSubscriber.create());
+        cancelled.cancel();
+        second.assertNotTerminated();
+        third.assertNotTerminated();
+        assertThat(emitters).hasSize(2);
+
+        emitters.get(1).complete(2);
+        second.assertItem(2);
+        third.assertItem(2);
+        cancelled.assertNotTerminated();
+    }
+
+    @Test
+    void testRefreshingAfterWithConcurrentSubscribers() throws InterruptedException {
+        AtomicInteger count = new AtomicInteger();
+        Uni<Integer> uni = Uni.createFrom().item(count::incrementAndGet)
+                .onItem().delayIt().by(Duration.ofMillis(5))
+                .memoize().refreshingAfter(Duration.ofMillis(10));
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Integer> items = new CopyOnWriteArrayList<>();
+        try {
+            for (int i = 0; i < 1000; i++) {
+                executor.execute(() -> items.add(uni.await().atMost(Duration.ofSeconds(5))));
+            }
+        } finally {
+            executor.shutdown();
+            assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        }
+        assertThat(items).hasSize(1000);
+        // There is at most one refresh in flight
+        assertThat(count.get()).isLessThan(1000);
+        assertThat(items).allMatch(i -> i >= 1 && i <= count.get());
+    }
 }
@@ -8,6 +8,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.util.*;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
@@ -496,4 +497,247 @@ public class QueuesTest {
                 .isInstanceOf(UnsupportedOperationException.class);
     }
 
+    @Test
+    public void testThatMpscArrayQueueCannotReceiveNull() {
+        MpscArrayQueue<Integer> q = new MpscArrayQueue<>(4);
+        assertThrows(NullPointerException.class, () -> q.offer(null));
+    }
+
+    @Test
+    public void testMpscArrayQueueStrictCapacity() {
+        MpscArrayQueue<Integer> q = new MpscArrayQueue<>(5);
+        assertThat(q.capacity()).isEqualTo(5);
+        assertThat(q.isEmpty()).isTrue();
+        for (int i = 0; i < 5; i++) {
+            assertThat(q.offer(i)).isTrue();
+        }
+        // The buffer is rounded to 8, but the capacity is strict
+        assertThat(q.offer(5)).isFalse();
+        assertThat(q.size()).isEqualTo(5);
+        assertThat(q.peek()).isEqualTo(0);
+        assertThat(q.poll()).isEqualTo(0);
+        assertThat(q.offer(5)).isTrue();
+        assertThat(q.offer(6)).isFalse();
+        for (int i = 1; i < 6; i++) {
+            assertThat(q.poll()).isEqualTo(i);
+        }
+        assertThat(q.poll()).isNull();
+        assertThat(q.peek()).isNull();
+        assertThat(q.isEmpty()).isTrue();
+
+        q.offer(1);
+        q.offer(2);
+        q.clear();
+        assertThat(q.isEmpty()).isTrue();
+        assertThat(q.size()).isEqualTo(0);
+
+        assertThatThrownBy(() -> new MpscArrayQueue<>(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testMpscArrayQueueWithConcurrentProducers() throws Exception {
+        int producers = 4;
+        int count = 10_000;
+        MpscArrayQueue<Integer> q = new MpscArrayQueue<>(128);
+        CountDownLatch start = new CountDownLatch(producers);
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            int base = p * count;
+            Thread thread = new Thread(() -> {
+                start.countDown();
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                for (int i = 0; i < count; i++) {
+                    while (!q.offer(base + i)) {
+                        Thread.yield();
+                    }
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+
+        int[] last = new int[producers];
+        Arrays.fill(last, -1);
+        int received = 0;
+        while (received != producers * count) {
+            Integer item = q.poll();
+            if (item == null) {
+                Thread.yield();
+                continue;
+            }
+            // Items from a given producer are received in order
+            int producer = item / count;
+            assertThat(item % count).isEqualTo(last[producer] + 1);
+            last[producer] = item % count;
+            received++;
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertThat(q.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void testUnsupportedAPIFromMpscArrayQueue() {
+        MpscArrayQueue<Integer> q = new MpscArrayQueue<>(3);
+        q.offer(1);
+
+        assertThatThrownBy(() -> q.add(3))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(q::remove)
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> q.contains(1))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(q::element)
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(q::iterator)
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(q::toArray)
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    public void testMultiProducerQueueCreation() {
+        assertThat(Queues.createMpscQueue()).isInstanceOf(MpscLinkedQueue.class);
+        assertThat(Queues.createMpscQueue(10)).isInstanceOf(MpscArrayQueue.class);
+        assertThat(Queues.createMpmcQueue(10)).isInstanceOf(MpmcArrayQueue.class);
+        assertThat(Queues.createStrictSizeQueue(10)).isInstanceOf(MpmcArrayQueue.class);
+
+        assertThat(Queues.isMultiProducer(Queues.createMpscQueue())).isTrue();
+        assertThat(Queues.isMultiProducer(Queues.createMpscQueue(10))).isTrue();
+        assertThat(Queues.isMultiProducer(Queues.createMpmcQueue(10))).isTrue();
+        assertThat(Queues.isMultiProducer(Queues.get(10).get())).isFalse();
+        assertThat(Queues.isMultiProducer(Queues.unbounded(10).get())).isFalse();
+    }
+
+    @Test
+    public void testThatMpmcArrayQueueCannotReceiveNull() {
+        MpmcArrayQueue<Integer> q = new MpmcArrayQueue<>(4);
+        assertThrows(NullPointerException.class, () -> q.offer(null));
+    }
+
+    @Test
+    public void testMpmcArrayQueueStrictCapacity() {
+        MpmcArrayQueue<Integer> q = new MpmcArrayQueue<>(5);
+        assertThat(q.capacity()).isEqualTo(5);
+        assertThat(q.isEmpty()).isTrue();
+        // Go around the buffer several times
+        for (int lap = 0; lap < 4; lap++) {
+            for (int i = 0; i < 5; i++) {
+                assertThat(q.offer(i)).isTrue();
+            }
+            // The buffer is rounded to 8, but the capacity is strict
+            assertThat(q.offer(5)).isFalse();
+            assertThat(q.size()).isEqualTo(5);
+            assertThat(q.peek()).isEqualTo(0);
+            assertThat(q.poll()).isEqualTo(0);
+            assertThat(q.offer(5)).isTrue();
+            assertThat(q.offer(6)).isFalse();
+            for (int i = 1; i < 6; i++) {
+                assertThat(q.poll()).isEqualTo(i);
+            }
+            assertThat(q.poll()).isNull();
+            assertThat(q.peek()).isNull();
+            assertThat(q.isEmpty()).isTrue();
+        }
+
+        MpmcArrayQueue<Integer> power = new MpmcArrayQueue<>(4);
+        for (int i = 0; i < 4; i++) {
+            assertThat(power.offer(i)).isTrue();
+        }
+        assertThat(power.offer(4)).isFalse();
+        power.clear();
+        assertThat(power.isEmpty()).isTrue();
+        assertThat(power.size()).isEqualTo(0);
+        assertThat(power.offer(4)).isTrue();
+
+        assertThatThrownBy(() -> new MpmcArrayQueue<>(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testMpmcArrayQueueWithConcurrentProducersAndConsumers() throws Exception {
+        int producers = 4;
+        int consumers = 3;
+        int count = 10_000;
+        MpmcArrayQueue<Integer> q = new MpmcArrayQueue<>(100);
+        CountDownLatch start = new CountDownLatch(producers + consumers);
+        AtomicInteger received = new AtomicInteger();
+        AtomicBoolean duplicate = new AtomicBoolean();
+        boolean[] seen = new boolean[producers * count];
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            int base = p * count;
+            threads.add(new Thread(() -> {
+                start.countDown();
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                for (int i = 0; i < count; i++) {
+                    while (!q.offer(base + i)) {
+                        Thread.yield();
+                    }
+                }
+            }));
+        }
+        for (int c = 0; c < consumers; c++) {
+            threads.add(new Thread(() -> {
+                start.countDown();
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                while (received.get() != producers * count) {
+                    Integer item = q.poll();
+                    if (item == null) {
+                        Thread.yield();
+                        continue;
+                    }
+                    synchronized (seen) {
+                        if (seen[item]) {
+                            duplicate.set(true);
+                        }
+                        seen[item] = true;
+                    }
+                    received.incrementAndGet();
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertThat(received.get()).isEqualTo(producers * count);
+        assertThat(duplicate).isFalse();
+        for (boolean b : seen) {
+            assertThat(b).isTrue();
+        }
+        assertThat(q.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void testUnsupportedAPIFromMpmcArrayQueue() {
+        MpmcArrayQueue<Integer> q = new MpmcArrayQueue<>(3);
+        q.offer(1);
+
+        assertThatThrownBy(() -> q.add(3))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(q::remove)
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> q.contains(1))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(q::element)
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(q::iterator)
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(q::toArray)
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
 }
@@ -0,0 +1,130 @@
+package io.smallrye.mutiny.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.ResourceAccessMode;
+import org.junit.jupiter.api.parallel.ResourceLock;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.test.AssertSubscriber;
+import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
+import io.smallrye.mutiny.operators.uni.UniOnItemTransform;
+import junit5.support.InfrastructureResource;
+
+@ResourceLock(value = InfrastructureResource.NAME, mode = ResourceAccessMode.READ_WRITE)
+public class AssemblyTracingTest {
+
+    @AfterEach
+    public void cleanup() {
+        AssemblyTracing.disable();
+    }
+
+    /**
+     * @return the pending subscriptions to the operators assembled in this test class
+     */
+    private List<TracedSubscription> pending() {
+        return AssemblyTracing.snapshot().stream()
+                .filter(s -> s.assemblySite() != null
+                        && s.assemblySite().getClassName().equals(AssemblyTracingTest.class.getName()))
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    public void testDisabledByDefault() {
+        assertThat(AssemblyTracing.isEnabled()).isFalse();
+        assertThat(AssemblyTracing.snapshot()).isEmpty();
+
+        Uni<Integer> uni = Uni.createFrom().item(1).onItem().transform(i -> i + 1);
+        assertThat(uni).isInstanceOf(UniOnItemTransform.class);
+    }
+
+    @Test
+    public void testInvalidSampleRate() {
+        assertThatThrownBy(() -> AssemblyTracing.enable(0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> AssemblyTracing.enable(-1)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(AssemblyTracing.isEnabled()).isFalse();
+    }
+
+    @Test
+    public void testPendingUniSubscriptions() {
+        AssemblyTracing.enable(1);
+        assertThat(AssemblyTracing.isEnabled()).isTrue();
+
+        UniAssertSubscriber<Integer> subscriber = Uni.createFrom().<Integer> emitter(e -> {
+            // Never emits
+        })
+                .onItem().transform(i -> i + 1)
+                .subscribe().withSubscriber(UniAssertSubscriber.create());
+
+        List<TracedSubscription> pending = pending();
+        assertThat(pending).extracting(TracedSubscription::operator)
+                .containsExactly("UniOnItemTransform", "UniCreateWithEmitter");
+        assertThat(pending).allSatisfy(s -> {
+            assertThat(s.assemblySite().getMethodName()).isEqualTo("testPendingUniSubscriptions");
+            assertThat(s.age().isNegative()).isFalse();
+            assertThat(s.toString()).contains(s.operator()).contains("AssemblyTracingTest");
+        });
+
+        subscriber.cancel();
+        assertThat(pending()).isEmpty();
+    }
+
+    @Test
+    public void testTerminatedUniSubscriptions() {
+        AssemblyTracing.enable(1);
+
+        Uni.createFrom().item(1)
+                .onItem().transform(i -> i + 1)
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertItem(2);
+        Uni.createFrom().<Integer> failure(new Exception("boom"))
+                .onItem().transform(i -> i + 1)
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertFailedWith(Exception.class, "boom");
+
+        assertThat(pending()).isEmpty();
+    }
+
+    @Test
+    public void testPendingMultiSubscriptions() {
+        AssemblyTracing.enable(1);
+
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().<Integer> emitter(e -> e.emit(1))
+                .onItem().transform(i -> i + 1)
+                .subscribe().withSubscriber(AssertSubscriber.create(10));
+        subscriber.assertItems(2);
+
+        assertThat(pending()).extracting(TracedSubscription::operator)
+                .containsExactly("MultiMapOp", "EmitterBasedMulti");
+
+        subscriber.cancel();
+        assertThat(pending()).isEmpty();
+
+        Multi.createFrom().range(0, 3)
+                .onItem().transform(i -> i + 1)
+                .subscribe().withSubscriber(AssertSubscriber.create(10))
+                .assertCompleted()
+                .assertItems(1, 2, 3);
+        assertThat(pending()).isEmpty();
+    }
+
+    @Test
+    public void testDisablingTheTracing() {
+        AssemblyTracing.enable(1);
+        Uni<Integer> traced = Uni.createFrom().<Integer> emitter(e -> {
+            // Never emits
+        });
+        AssemblyTracing.disable();
+
+        assertThat(Uni.createFrom().item(1).onItem().transform(i -> i + 1)).isInstanceOf(UniOnItemTransform.class);
+        traced.subscribe().withSubscriber(UniAssertSubscriber.create());
+        assertThat(AssemblyTracing.snapshot()).isEmpty();
+    }
+}
@@ -3,6 +3,9 @@ package io.smallrye.mutiny.infrastructure;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.fail;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.*;
 
 import org.junit.jupiter.api.AfterEach;
@@ -10,6 +13,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.parallel.ResourceAccessMode;
 import org.junit.jupiter.api.parallel.ResourceLock;
 
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.helpers.test.AssertSubscriber;
 import io.smallrye.mutiny.tuples.Functions;
 import junit5.support.InfrastructureResource;
 
@@ -186,4 +191,69 @@ public class CallbackDecoratorTest {
 
         assertThat(Infrastructure.decorate(runnable)).isSameAs(another).isNotSameAs(runnable);
     }
+
+    @Test
+    public void testThatTheDuplicatesKeyExtractorIsDecorated() {
+        AtomicInteger invocations = new AtomicInteger();
+        InfrastructureHelper.registerCallbackDecorator(new CallbackDecorator() {
+            @Override
+            public <I, O> Function<I, O> decorate(Function<I, O> function) {
+                return i -> {
+                    invocations.incrementAndGet();
+                    return function.apply(i);
+                };
+            }
+        });
+
+        Multi.createFrom().items(1, 2, 11, 3)
+                .skip().duplicates().by(i -> i % 10).amongLast(5)
+                .subscribe().withSubscriber(AssertSubscriber.create(10))
+                .assertCompleted()
+                .assertItems(1, 2, 3);
+        assertThat(invocations).hasValue(4);
+    }
+
+    @Test
+    public void testCaptureForThreadHop() throws InterruptedException {
+        assertThat(Infrastructure.captureForThreadHop().apply(runnable)).isSameAs(runnable);
+
+        ThreadLocal<String> local = new ThreadLocal<>();
+        CallbackDecorator capturing = new CallbackDecorator() {
+            @Override
+            public UnaryOperator<Runnable> captureForThreadHop() {
+                String captured = local.get();
+                return task -> () -> {
+                    local.set(captured);
+                    try {
+                        task.run();
+                    } finally {
+                        local.remove();
+                    }
+                };
+            }
+        };
+        InfrastructureHelper.registerCallbackDecorator(capturing);
+        CallbackDecorator notCapturing = new CallbackDecorator() {
+            // Only decorates callbacks, so it does not decorate the thread hops
+        };
+        assertThat(notCapturing.captureForThreadHop()).isNull();
+        InfrastructureHelper.registerCallbackDecorator(notCapturing);
+
+        // Callbacks are left unchanged
+        assertThat(Infrastructure.decorate(function)).isSameAs(function);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            local.set("captured");
+            AssertSubscriber<String> subscriber = Multi.createFrom().items(1, 2, 3)
+                    .emitOn(executor)
+                    .map(i -> i + "-" + local.get())
+                    .subscribe().withSubscriber(AssertSubscriber.create(10));
+            local.remove();
+
+            subscriber.awaitCompletion().assertItems("1-captured", "2-captured", "3-captured");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
 }
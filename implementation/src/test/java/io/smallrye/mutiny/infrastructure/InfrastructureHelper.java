@@ -11,15 +11,19 @@ public class InfrastructureHelper {
 
     private static final Field callback_decorators;
 
+    private static final Field metrics_collectors;
+
     static {
         try {
             uni_interceptors = Infrastructure.class.getDeclaredField("UNI_INTERCEPTORS");
             multi_interceptors = Infrastructure.class.getDeclaredField("MULTI_INTERCEPTORS");
             callback_decorators = Infrastructure.class.getDeclaredField("CALLBACK_DECORATORS");
+            metrics_collectors = Infrastructure.class.getDeclaredField("METRICS_COLLECTORS");
 
             uni_interceptors.setAccessible(true);
             multi_interceptors.setAccessible(true);
             callback_decorators.setAccessible(true);
+            metrics_collectors.setAccessible(true);
         } catch (NoSuchFieldException e) {
             throw new IllegalStateException(e);
         }
@@ -50,6 +54,18 @@ public class InfrastructureHelper {
         }
     }
 
+    public static void registerMetricsCollector(MetricsCollector collector) {
+        try {
+            MetricsCollector[] array = (MetricsCollector[]) metrics_collectors.get(null);
+            List<MetricsCollector> list = new ArrayList<>(Arrays.asList(array));
+            list.add(collector);
+            list.sort(Comparator.comparingInt(MutinyInterceptor::ordinal));
+            metrics_collectors.set(null, list.toArray(new MetricsCollector[0]));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
     public static List<UniInterceptor> getUniInterceptors() {
         try {
             UniInterceptor[] itcp = (UniInterceptor[]) uni_interceptors.get(null);
@@ -0,0 +1,286 @@
+package io.smallrye.mutiny.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.ResourceAccessMode;
+import org.junit.jupiter.api.parallel.ResourceLock;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.helpers.queues.Queues;
+import io.smallrye.mutiny.helpers.test.AssertSubscriber;
+import io.smallrye.mutiny.operators.multi.processors.UnicastProcessor;
+import junit5.support.InfrastructureResource;
+
+@ResourceLock(value = InfrastructureResource.NAME, mode = ResourceAccessMode.READ_WRITE)
+public class MetricsCollectorTest {
+
+    @AfterEach
+    public void cleanup() {
+        Infrastructure.clearInterceptors();
+    }
+
+    @Test
+    public void testWithoutCollector() {
+        assertThat(Infrastructure.onStageSubscription("orders")).isNull();
+
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().range(0, 5)
+                .measure("orders")
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+        subscriber.assertCompleted().assertItems(0, 1, 2, 3, 4);
+    }
+
+    @Test
+    public void testInvalidStageName() {
+        assertThatThrownBy(() -> Multi.createFrom().item(1).measure(null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Multi.createFrom().item(1).measure(""))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testMeasuredStage() {
+        RecordingCollector collector = new RecordingCollector();
+        InfrastructureHelper.registerMetricsCollector(collector);
+
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().range(0, 5)
+                .measure("orders")
+                .subscribe().withSubscriber(AssertSubscriber.create(3));
+        subscriber.assertItems(0, 1, 2);
+
+        RecordingMetrics metrics = collector.get("orders");
+        assertThat(metrics.events).containsExactly("request 3 3", "first", "item 2", "item 1", "item 0");
+        assertThat(metrics.firstItemNanos).isNotNegative();
+
+        subscriber.request(5);
+        subscriber.assertCompleted().assertItems(0, 1, 2, 3, 4);
+        assertThat(metrics.events).containsSubsequence("request 5 5", "item 4", "item 3", "completion");
+        assertThat(metrics.events).containsOnlyOnce("first");
+    }
+
+    @Test
+    public void testMeasuredStageWithUnboundedDemand() {
+        RecordingCollector collector = new RecordingCollector();
+        InfrastructureHelper.registerMetricsCollector(collector);
+
+        Multi.createFrom().items(1, 2)
+                .measure("orders")
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE))
+                .assertCompleted();
+
+        assertThat(collector.get("orders").events).containsExactly(
+                "request " + Long.MAX_VALUE + " " + Long.MAX_VALUE, "first", "item " + Long.MAX_VALUE,
+                "item " + Long.MAX_VALUE, "completion");
+    }
+
+    @Test
+    public void testMeasuredStageFailureAndCancellation() {
+        RecordingCollector collector = new RecordingCollector();
+        InfrastructureHelper.registerMetricsCollector(collector);
+
+        Multi.createFrom().<Integer> failure(new IOException("boom"))
+                .measure("failing")
+                .subscribe().withSubscriber(AssertSubscriber.create(1))
+                .assertFailedWith(IOException.class, "boom");
+        assertThat(collector.get("failing").events).containsExactly("request 1 1", "failure boom");
+
+        Multi.createFrom().<Integer> emitter(e -> {
+            // Never emits
+        })
+                .measure("cancelled")
+                .subscribe().withSubscriber(AssertSubscriber.create(1))
+                .cancel();
+        assertThat(collector.get("cancelled").events).containsExactly("request 1 1", "cancellation");
+    }
+
+    @Test
+    public void testCollectorIgnoringTheStage() {
+        RecordingCollector collector = new RecordingCollector();
+        InfrastructureHelper.registerMetricsCollector(collector);
+
+        Multi.createFrom().items(1, 2)
+                .measure("ignored")
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE))
+                .assertCompleted()
+                .assertItems(1, 2);
+        assertThat(collector.stages).containsExactly("ignored");
+        assertThat(collector.metrics).isEmpty();
+    }
+
+    @Test
+    public void testSeveralCollectors() {
+        RecordingCollector first = new RecordingCollector();
+        RecordingCollector second = new RecordingCollector();
+        InfrastructureHelper.registerMetricsCollector(first);
+        InfrastructureHelper.registerMetricsCollector(second);
+
+        Multi.createFrom().items(1)
+                .measure("orders")
+                .subscribe().withSubscriber(AssertSubscriber.create(1))
+                .assertCompleted();
+
+        assertThat(first.get("orders").events).containsExactly("request 1 1", "first", "item 0", "completion");
+        assertThat(second.get("orders").events).isEqualTo(first.get("orders").events);
+    }
+
+    @Test
+    public void testQueueOccupancyOfEmitOn() {
+        RecordingCollector collector = new RecordingCollector();
+        InfrastructureHelper.registerMetricsCollector(collector);
+        List<Runnable> tasks = new ArrayList<>();
+
+        Multi.createFrom().<Integer> emitter(e -> e.emit(1).emit(2).emit(3))
+                .emitOn(tasks::add)
+                .subscribe().withSubscriber(AssertSubscriber.create(10));
+
+        assertThat(collector.get("Multi.emitOn").events).containsExactly("queued 1", "queued 2", "queued 3");
+    }
+
+    @Test
+    public void testQueueOccupancyOfFlatMap() {
+        RecordingCollector collector = new RecordingCollector();
+        InfrastructureHelper.registerMetricsCollector(collector);
+
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().items(1, 2, 3)
+                .onItem().transformToMultiAndMerge(i -> Multi.createFrom().item(i))
+                .subscribe().withSubscriber(AssertSubscriber.create(0));
+
+        assertThat(collector.get("Multi.flatMap").events).containsExactly("queued 1", "queued 2", "queued 3");
+        subscriber.request(3).assertItems(1, 2, 3);
+    }
+
+    @Test
+    public void testQueueOccupancyOfOverflowBuffer() {
+        RecordingCollector collector = new RecordingCollector();
+        InfrastructureHelper.registerMetricsCollector(collector);
+
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().<Integer> emitter(e -> e.emit(1).emit(2))
+                .onOverflow().buffer(5)
+                .subscribe().withSubscriber(AssertSubscriber.create(0));
+
+        assertThat(collector.get("Multi.onOverflow.buffer").events).containsExactly("queued 1", "queued 2");
+        subscriber.request(2).assertItems(1, 2);
+    }
+
+    @Test
+    public void testQueueOccupancyOfUnicastProcessor() {
+        RecordingCollector collector = new RecordingCollector();
+        InfrastructureHelper.registerMetricsCollector(collector);
+
+        UnicastProcessor<Integer> processor = UnicastProcessor.create();
+        processor.onNext(1);
+        processor.onNext(2);
+
+        assertThat(collector.get("UnicastProcessor").events).containsExactly("queued 1", "queued 2");
+        AssertSubscriber<Integer> subscriber = processor.subscribe().withSubscriber(AssertSubscriber.create(2))
+                .assertItems(1, 2);
+
+        // The queue does not compute its size, the processor counts the items it holds
+        processor.onNext(3);
+        subscriber.request(1).assertItems(1, 2, 3);
+        processor.onNext(4);
+        assertThat(collector.get("UnicastProcessor").events)
+                .containsExactly("queued 1", "queued 2", "queued 1", "queued 1");
+    }
+
+    @Test
+    public void testQueueOccupancyOfUnicastProcessorWithMultiProducerQueue() {
+        RecordingCollector collector = new RecordingCollector();
+        InfrastructureHelper.registerMetricsCollector(collector);
+
+        UnicastProcessor<Integer> processor = UnicastProcessor.create(Queues.createMpscQueue(), null);
+        processor.onNext(1);
+        processor.onNext(2);
+        AssertSubscriber<Integer> subscriber = processor.subscribe().withSubscriber(AssertSubscriber.create(1))
+                .assertItems(1);
+        processor.onNext(3);
+
+        assertThat(collector.get("UnicastProcessor").events).containsExactly("queued 1", "queued 2", "queued 2");
+        subscriber.request(2).assertItems(1, 2, 3);
+    }
+
+    /**
+     * Records the stages subscribed from the test thread, so the operators used concurrently by other tests are
+     * ignored.
+     */
+    static class RecordingCollector implements MetricsCollector {
+
+        private final Thread thread = Thread.currentThread();
+        final List<String> stages = new CopyOnWriteArrayList<>();
+        final List<RecordingMetrics> metrics = new CopyOnWriteArrayList<>();
+
+        @Override
+        public StageMetrics onSubscription(String stage) {
+            if (Thread.currentThread() != thread) {
+                return null;
+            }
+            stages.add(stage);
+            if (stage.equals("ignored")) {
+                return null;
+            }
+            RecordingMetrics recording = new RecordingMetrics(stage);
+            metrics.add(recording);
+            return recording;
+        }
+
+        RecordingMetrics get(String stage) {
+            return metrics.stream().filter(m -> m.stage.equals(stage)).findFirst()
+                    .orElseThrow(() -> new AssertionError("Stage " + stage + " not subscribed"));
+        }
+    }
+
+    static class RecordingMetrics implements StageMetrics {
+
+        final String stage;
+        final List<String> events = Collections.synchronizedList(new ArrayList<>());
+        volatile long firstItemNanos = -1;
+
+        RecordingMetrics(String stage) {
+            this.stage = stage;
+        }
+
+        @Override
+        public void onRequest(long requests, long outstandingDemand) {
+            events.add("request " + requests + " " + outstandingDemand);
+        }
+
+        @Override
+        public void onItem(long outstandingDemand) {
+            events.add("item " + outstandingDemand);
+        }
+
+        @Override
+        public void onFirstItem(long nanos) {
+            firstItemNanos = nanos;
+            events.add("first");
+        }
+
+        @Override
+        public void onQueued(int queueSize) {
+            events.add("queued " + queueSize);
+        }
+
+        @Override
+        public void onCompletion() {
+            events.add("completion");
+        }
+
+        @Override
+        public void onFailure(Throwable failure) {
+            events.add("failure " + failure.getMessage());
+        }
+
+        @Override
+        public void onCancellation() {
+            events.add("cancellation");
+        }
+    }
+}
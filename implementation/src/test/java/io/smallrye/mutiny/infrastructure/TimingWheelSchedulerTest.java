@@ -0,0 +1,213 @@
+package io.smallrye.mutiny.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.ResourceAccessMode;
+import org.junit.jupiter.api.parallel.ResourceLock;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.TimeoutException;
+import io.smallrye.mutiny.Uni;
+import junit5.support.InfrastructureResource;
+
+public class TimingWheelSchedulerTest {
+
+    private ExecutorService executor;
+    private TimingWheelScheduler scheduler;
+
+    @BeforeEach
+    public void init() {
+        executor = Executors.newFixedThreadPool(4);
+        scheduler = new TimingWheelScheduler(executor, Duration.ofMillis(1), 64);
+    }
+
+    @AfterEach
+    public void shutdown() throws InterruptedException {
+        scheduler.shutdownNow();
+        assertThat(scheduler.awaitTermination(1, TimeUnit.SECONDS)).isTrue();
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testInvalidConfiguration() {
+        assertThatThrownBy(() -> new TimingWheelScheduler(null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("executor");
+        assertThatThrownBy(() -> new TimingWheelScheduler(executor, Duration.ofNanos(100), 64))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("tick");
+        assertThatThrownBy(() -> new TimingWheelScheduler(executor, Duration.ofMillis(1), 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("wheelSize");
+        assertThatThrownBy(() -> scheduler.scheduleAtFixedRate(() -> {
+        }, 0, 0, TimeUnit.MILLISECONDS))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("period");
+    }
+
+    @Test
+    public void testThatTasksNeverRunEarly() throws Exception {
+        List<ScheduledFuture<Long>> futures = new ArrayList<>();
+        List<Long> starts = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            starts.add(System.nanoTime());
+            // Some delays exceed the wheel size (64 ticks) and need several rounds
+            futures.add(scheduler.schedule(System::nanoTime, i, TimeUnit.MILLISECONDS));
+        }
+        for (int i = 0; i < futures.size(); i++) {
+            long ranAt = futures.get(i).get(5, TimeUnit.SECONDS);
+            assertThat(ranAt - starts.get(i)).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(i));
+        }
+    }
+
+    @Test
+    public void testImmediateExecution() throws Exception {
+        assertThat(scheduler.schedule(() -> "hello", 0, TimeUnit.MILLISECONDS).get(1, TimeUnit.SECONDS))
+                .isEqualTo("hello");
+        assertThat(scheduler.submit(() -> "hello").get(1, TimeUnit.SECONDS)).isEqualTo("hello");
+        CountDownLatch latch = new CountDownLatch(1);
+        scheduler.execute(latch::countDown);
+        assertThat(latch.await(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    public void testCancellation() throws InterruptedException {
+        AtomicInteger executed = new AtomicInteger();
+        List<ScheduledFuture<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            futures.add(scheduler.schedule(executed::incrementAndGet, 1000 + (i % 100), TimeUnit.MILLISECONDS));
+        }
+        for (ScheduledFuture<?> future : futures) {
+            assertThat(future.cancel(false)).isTrue();
+        }
+        ScheduledFuture<?> kept = scheduler.schedule(executed::incrementAndGet, 1200, TimeUnit.MILLISECONDS);
+
+        await().until(kept::isDone);
+        Thread.sleep(100);
+        assertThat(executed).hasValue(1);
+        assertThat(futures).allMatch(ScheduledFuture::isCancelled);
+    }
+
+    @Test
+    public void testFixedRate() {
+        AtomicInteger count = new AtomicInteger();
+        ScheduledFuture<?> future = scheduler.scheduleAtFixedRate(count::incrementAndGet, 0, 5, TimeUnit.MILLISECONDS);
+        await().until(() -> count.get() >= 10);
+        assertThat(future.cancel(false)).isTrue();
+        assertThat(future.isCancelled()).isTrue();
+    }
+
+    @Test
+    public void testFixedDelayAndCancellation() throws InterruptedException {
+        AtomicInteger count = new AtomicInteger();
+        ScheduledFuture<?> future = scheduler.scheduleWithFixedDelay(count::incrementAndGet, 5, 5,
+                TimeUnit.MILLISECONDS);
+        await().until(() -> count.get() >= 5);
+        future.cancel(false);
+        int value = count.get();
+        Thread.sleep(50);
+        assertThat(count.get()).isBetween(value, value + 1);
+    }
+
+    @Test
+    public void testShutdown() throws Exception {
+        ScheduledFuture<?> delayed = scheduler.schedule(() -> 1, 50, TimeUnit.MILLISECONDS);
+        ScheduledFuture<?> periodic = scheduler.scheduleAtFixedRate(() -> {
+        }, 10, 10, TimeUnit.MILLISECONDS);
+        scheduler.shutdown();
+        assertThat(scheduler.isShutdown()).isTrue();
+
+        assertThatThrownBy(() -> scheduler.schedule(() -> {
+        }, 10, TimeUnit.MILLISECONDS)).isInstanceOf(RejectedExecutionException.class);
+        assertThatThrownBy(() -> scheduler.execute(() -> {
+        })).isInstanceOf(RejectedExecutionException.class);
+
+        // The delayed tasks still run, the periodic tasks are cancelled
+        assertThat(delayed.get(1, TimeUnit.SECONDS)).isEqualTo(1);
+        await().until(scheduler::isTerminated);
+        assertThat(periodic.isCancelled()).isTrue();
+    }
+
+    @Test
+    public void testShutdownNow() {
+        AtomicInteger count = new AtomicInteger();
+        ScheduledFuture<?> future = scheduler.schedule(count::incrementAndGet, 10, TimeUnit.SECONDS);
+        ScheduledFuture<?> cancelled = scheduler.schedule(count::incrementAndGet, 10, TimeUnit.SECONDS);
+        cancelled.cancel(false);
+
+        List<Runnable> dropped = scheduler.shutdownNow();
+        assertThat(scheduler.isShutdown()).isTrue();
+        assertThat(scheduler.isTerminated()).isTrue();
+        assertThat(dropped).containsExactly((Runnable) future);
+        assertThat(future.isDone()).isFalse();
+
+        dropped.forEach(Runnable::run);
+        assertThat(count).hasValue(1);
+    }
+
+    @Test
+    public void testShutdownBeforeScheduling() {
+        scheduler.shutdown();
+        assertThat(scheduler.isTerminated()).isTrue();
+        assertThat(scheduler.shutdownNow()).isEmpty();
+    }
+
+    @Test
+    public void testThatTheTimerThreadParksWhenNothingIsScheduled() throws Exception {
+        scheduler.schedule(() -> {
+        }, 5, TimeUnit.MILLISECONDS).get(1, TimeUnit.SECONDS);
+        await().until(scheduler::isIdle);
+
+        // A new task wakes the timer thread up
+        ScheduledFuture<Integer> future = scheduler.schedule(() -> 2, 5, TimeUnit.MILLISECONDS);
+        assertThat(future.get(1, TimeUnit.SECONDS)).isEqualTo(2);
+        await().until(scheduler::isIdle);
+    }
+
+    @Test
+    public void testRejectionByTheExecutor() {
+        executor.shutdownNow();
+        ScheduledFuture<?> future = scheduler.schedule(() -> {
+        }, 5, TimeUnit.MILLISECONDS);
+        assertThatThrownBy(() -> future.get(1, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(RejectedExecutionException.class);
+    }
+
+    @Test
+    @ResourceLock(value = InfrastructureResource.NAME, mode = ResourceAccessMode.READ_WRITE)
+    public void testAsDefaultWorkerPool() {
+        Infrastructure.setTimingWheelScheduler(true);
+        try {
+            assertThat(Infrastructure.getDefaultWorkerPool()).isInstanceOf(TimingWheelScheduler.class);
+
+            assertThatThrownBy(() -> Uni.createFrom().nothing()
+                    .ifNoItem().after(Duration.ofMillis(10)).fail()
+                    .await().atMost(Duration.ofSeconds(5)))
+                    .isInstanceOf(TimeoutException.class);
+
+            assertThat(Uni.createFrom().item(1)
+                    .onItem().delayIt().by(Duration.ofMillis(10))
+                    .await().atMost(Duration.ofSeconds(5))).isEqualTo(1);
+
+            assertThat(Multi.createFrom().ticks().every(Duration.ofMillis(2))
+                    .select().first(5)
+                    .collect().asList()
+                    .await().atMost(Duration.ofSeconds(5))).containsExactly(0L, 1L, 2L, 3L, 4L);
+        } finally {
+            Infrastructure.setTimingWheelScheduler(false);
+        }
+        assertThat(Infrastructure.getDefaultWorkerPool()).isInstanceOf(MutinyScheduler.class);
+    }
+}
@@ -0,0 +1,121 @@
+package io.smallrye.mutiny.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.ResourceAccessMode;
+import org.junit.jupiter.api.parallel.ResourceLock;
+
+import io.smallrye.mutiny.Uni;
+import junit5.support.InfrastructureResource;
+
+@ResourceLock(value = InfrastructureResource.NAME, mode = ResourceAccessMode.READ_WRITE)
+public class VirtualThreadsTest {
+
+    @AfterEach
+    public void reset() {
+        System.clearProperty("mutiny.useVirtualThreads");
+        Infrastructure.resetCanCallerThreadBeBlockedSupplier();
+        Infrastructure.setDefaultExecutor();
+    }
+
+    @Test
+    public void testThatPlatformThreadsAreNotVirtual() {
+        assertThat(VirtualThreads.isVirtual(Thread.currentThread())).isFalse();
+        assertThat(VirtualThreads.isCurrentThreadVirtual()).isFalse();
+    }
+
+    @Test
+    public void testWithoutVirtualThreadSupport() {
+        assumeFalse(VirtualThreads.isSupported());
+
+        assertThatThrownBy(VirtualThreads::newVirtualThreadPerTaskExecutor)
+                .isInstanceOf(UnsupportedOperationException.class)
+                .hasMessageContaining("not supported");
+        assertThatThrownBy(Infrastructure::setDefaultExecutorToVirtualThreads)
+                .isInstanceOf(UnsupportedOperationException.class);
+
+        // The property is ignored, the default executor uses platform threads
+        System.setProperty("mutiny.useVirtualThreads", "true");
+        Infrastructure.setDefaultExecutor();
+        Thread thread = Uni.createFrom().item(Thread::currentThread)
+                .runSubscriptionOn(Infrastructure.getDefaultExecutor())
+                .await().atMost(Duration.ofSeconds(5));
+        assertThat(thread).isNotEqualTo(Thread.currentThread());
+        assertThat(VirtualThreads.isVirtual(thread)).isFalse();
+    }
+
+    @Test
+    public void testDefaultExecutorUsingVirtualThreads() {
+        assumeTrue(VirtualThreads.isSupported());
+
+        System.setProperty("mutiny.useVirtualThreads", "true");
+        Infrastructure.setDefaultExecutor();
+        Thread thread = Uni.createFrom().item(Thread::currentThread)
+                .runSubscriptionOn(Infrastructure.getDefaultWorkerPool())
+                .await().atMost(Duration.ofSeconds(5));
+        assertThat(VirtualThreads.isVirtual(thread)).isTrue();
+
+        Infrastructure.setDefaultExecutor();
+        Infrastructure.setDefaultExecutorToVirtualThreads();
+        thread = Uni.createFrom().item(1)
+                .emitOn(Infrastructure.getDefaultExecutor())
+                .onItem().transform(x -> Thread.currentThread())
+                .await().atMost(Duration.ofSeconds(5));
+        assertThat(VirtualThreads.isVirtual(thread)).isTrue();
+    }
+
+    @Test
+    public void testThatVirtualThreadsCanBeBlockedByDefault() throws Exception {
+        assumeTrue(VirtualThreads.isSupported());
+
+        ExecutorService executor = VirtualThreads.newVirtualThreadPerTaskExecutor();
+        try {
+            List<CompletableFuture<Integer>> results = new ArrayList<>();
+            for (int i = 0; i < 1000; i++) {
+                int value = i;
+                CompletableFuture<Integer> future = new CompletableFuture<>();
+                executor.execute(() -> future.complete(Uni.createFrom().item(value)
+                        .onItem().delayIt().by(Duration.ofMillis(50))
+                        .await().indefinitely()));
+                results.add(future);
+            }
+            int sum = 0;
+            for (CompletableFuture<Integer> result : results) {
+                sum += result.get();
+            }
+            assertThat(sum).isEqualTo(999 * 1000 / 2);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testThatTheCustomSupplierDecidesForVirtualThreads() throws Exception {
+        assumeTrue(VirtualThreads.isSupported());
+
+        ExecutorService executor = VirtualThreads.newVirtualThreadPerTaskExecutor();
+        try {
+            Infrastructure.setCanCallerThreadBeBlockedSupplier(VirtualThreads::isCurrentThreadVirtual);
+            assertThatThrownBy(() -> Uni.createFrom().item(1).await().indefinitely())
+                    .isInstanceOf(IllegalStateException.class);
+            assertThat(executor.submit(() -> Uni.createFrom().item(1).await().indefinitely()).get()).isEqualTo(1);
+
+            Infrastructure.setCanCallerThreadBeBlockedSupplier(() -> false);
+            assertThatThrownBy(() -> executor.submit(() -> Uni.createFrom().item(1).await().indefinitely()).get())
+                    .hasCauseInstanceOf(IllegalStateException.class);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -1,8 +1,21 @@
 package io.smallrye.mutiny.operators;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
 import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.Test;
 
@@ -67,4 +80,157 @@ public class MultiCacheTest {
         s1.assertItems(1, 2).request(1).assertItems(1, 2, 3).assertCompleted();
         s2.assertItems(1, 2, 3).assertCompleted();
     }
+
+    @Test
+    public void testInvalidBounds() {
+        Multi<Integer> multi = Multi.createFrom().items(1, 2, 3);
+        assertThatThrownBy(() -> multi.cache(0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("maxItems");
+        assertThatThrownBy(() -> multi.cache(null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("ttl");
+        assertThatThrownBy(() -> multi.cache(10, Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("ttl");
+    }
+
+    @Test
+    public void testOrderAcrossSegments() {
+        List<Integer> expected = IntStream.range(0, 1000).boxed().collect(Collectors.toList());
+        Multi<Integer> multi = Multi.createFrom().iterable(expected).cache();
+
+        multi.subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE))
+                .assertCompleted()
+                .assertItems(expected.toArray(new Integer[0]));
+        AssertSubscriber<Integer> subscriber = multi.subscribe().withSubscriber(AssertSubscriber.create(100))
+                .assertNotTerminated();
+        assertThat(subscriber.getItems()).containsExactlyElementsOf(expected.subList(0, 100));
+        subscriber.request(Long.MAX_VALUE)
+                .assertCompleted();
+        assertThat(subscriber.getItems()).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    public void testThatLateSubscribersStartFromTheOldestRetainedItem() {
+        AtomicReference<MultiEmitter<? super Integer>> reference = new AtomicReference<>();
+        Multi<Integer> multi = Multi.createFrom().<Integer> emitter(reference::set).cache(50);
+
+        AssertSubscriber<Integer> first = multi.subscribe().withSubscriber(AssertSubscriber.create(10));
+        for (int i = 0; i < 200; i++) {
+            reference.get().emit(i);
+        }
+        // The existing subscriber is not affected by the eviction
+        first.assertItems(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+
+        AssertSubscriber<Integer> late = multi.subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+        assertThat(late.getItems()).containsExactlyElementsOf(
+                IntStream.range(150, 200).boxed().collect(Collectors.toList()));
+
+        reference.get().emit(200).complete();
+        late.assertCompleted();
+        assertThat(late.getItems()).hasSize(51).endsWith(200);
+        first.request(Long.MAX_VALUE).assertCompleted();
+        assertThat(first.getItems()).containsExactlyElementsOf(
+                IntStream.rangeClosed(0, 200).boxed().collect(Collectors.toList()));
+
+        multi.subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE))
+                .assertCompleted();
+        assertThat(multi.subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE)).getItems())
+                .containsExactlyElementsOf(IntStream.rangeClosed(151, 200).boxed().collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testThatExpiredItemsAreNotReplayed() {
+        AtomicReference<MultiEmitter<? super Integer>> reference = new AtomicReference<>();
+        Multi<Integer> multi = Multi.createFrom().<Integer> emitter(reference::set).cache(Duration.ofMillis(100));
+
+        multi.subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+        for (int i = 0; i < 100; i++) {
+            reference.get().emit(i);
+        }
+        multi.subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE))
+                .assertNotTerminated();
+
+        await().pollDelay(Duration.ofMillis(150)).until(() -> true);
+        reference.get().emit(100).emit(101);
+        multi.subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE))
+                .assertItems(100, 101);
+
+        await().pollDelay(Duration.ofMillis(150)).until(() -> true);
+        reference.get().complete();
+        multi.subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE))
+                .assertHasNotReceivedAnyItem()
+                .assertCompleted();
+    }
+
+    @Test
+    public void testThatExpiredItemsAreReleasedOnceTheUpstreamIsDone() {
+        List<WeakReference<Object>> references = new CopyOnWriteArrayList<>();
+        Multi<Object> multi = Multi.createFrom().range(0, 100)
+                .map(i -> new Object())
+                .onItem().invoke(item -> references.add(new WeakReference<>(item)))
+                .cache(Duration.ofMillis(100));
+
+        multi.subscribe().with(item -> {
+        });
+        assertThat(references).hasSize(100);
+
+        await().pollDelay(Duration.ofMillis(150)).until(() -> true);
+        // The new subscriber releases the segments expired since the completion
+        multi.subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE))
+                .assertHasNotReceivedAnyItem()
+                .assertCompleted();
+        await().atMost(5, TimeUnit.SECONDS).until(() -> {
+            System.gc();
+            return references.subList(0, 64).stream().allMatch(reference -> reference.get() == null);
+        });
+    }
+
+    @Test
+    public void testSizeAndTimeBounds() {
+        Multi<Integer> multi = Multi.createFrom().range(0, 100).cache(10, Duration.ofMinutes(1));
+        multi.subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE))
+                .assertCompleted();
+        assertThat(multi.subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE)).getItems())
+                .containsExactly(90, 91, 92, 93, 94, 95, 96, 97, 98, 99);
+    }
+
+    @Test
+    public void testConcurrentSubscribers() throws InterruptedException {
+        AtomicReference<MultiEmitter<? super Integer>> reference = new AtomicReference<>();
+        Multi<Integer> multi = Multi.createFrom().<Integer> emitter(reference::set).cache(100);
+        AssertSubscriber<Integer> first = multi.subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<AssertSubscriber<Integer>> subscribers = new CopyOnWriteArrayList<>();
+        try {
+            executor.submit(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    reference.get().emit(i);
+                }
+                reference.get().complete();
+            });
+            for (int i = 0; i < 100; i++) {
+                executor.submit(() -> subscribers.add(multi.subscribe()
+                        .withSubscriber(AssertSubscriber.create(Long.MAX_VALUE))));
+            }
+        } finally {
+            executor.shutdown();
+            assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        }
+
+        first.awaitCompletion();
+        assertThat(first.getItems()).hasSize(10_000);
+        assertThat(subscribers).hasSize(100);
+        for (AssertSubscriber<Integer> subscriber : subscribers) {
+            subscriber.awaitCompletion();
+            List<Integer> items = subscriber.getItems();
+            assertThat(items.size()).isLessThanOrEqualTo(10_000);
+            // Each subscriber receives a contiguous suite of items ending with the last one
+            for (int i = 0; i < items.size(); i++) {
+                assertThat(items.get(i)).isEqualTo(10_000 - items.size() + i);
+            }
+        }
+    }
 }
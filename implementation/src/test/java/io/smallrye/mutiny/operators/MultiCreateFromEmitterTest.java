@@ -8,6 +8,10 @@ import java.io.IOException;
 import java.nio.BufferOverflowException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
@@ -626,4 +630,64 @@ public class MultiCreateFromEmitterTest {
         subscriber.request(10);
         subscriber.assertFailedWith(BufferOverflowException.class, "emitter");
     }
+
+    @Test
+    public void testEmitterWithBufferSizeAndConcurrentProducers() throws InterruptedException {
+        int producers = 8;
+        int count = 5_000;
+        ExecutorService pool = Executors.newFixedThreadPool(producers);
+        AtomicReference<MultiEmitter<? super Integer>> reference = new AtomicReference<>();
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().<Integer> emitter(reference::set, producers * count)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        MultiEmitter<? super Integer> emitter = reference.get();
+        CountDownLatch done = new CountDownLatch(producers);
+        for (int p = 0; p < producers; p++) {
+            int base = p * count;
+            pool.submit(() -> {
+                for (int i = 0; i < count; i++) {
+                    emitter.emit(base + i);
+                }
+                done.countDown();
+            });
+        }
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        emitter.complete();
+        pool.shutdown();
+
+        subscriber.awaitCompletion();
+        List<Integer> items = subscriber.getItems();
+        assertThat(items).hasSize(producers * count).doesNotHaveDuplicates();
+        // Items emitted by a given producer are received in order
+        for (int p = 0; p < producers; p++) {
+            int producer = p;
+            assertThat(items.stream().filter(i -> i / count == producer)).isSorted();
+        }
+    }
+
+    @Test
+    public void testEmitterWithBufferSizeIsNotSerialized() {
+        AtomicReference<MultiEmitter<? super Integer>> reference = new AtomicReference<>();
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().<Integer> emitter(reference::set, 4)
+                .subscribe().withSubscriber(AssertSubscriber.create(2));
+
+        assertThat(reference.get().getClass().getSimpleName()).isEqualTo("MpscBufferItemMultiEmitter");
+        reference.get().emit(1).emit(2).emit(3);
+        subscriber.assertItems(1, 2);
+        assertThat(reference.get().requested()).isEqualTo(0L);
+        subscriber.request(5).assertItems(1, 2, 3);
+        assertThat(reference.get().requested()).isEqualTo(4L);
+        reference.get().emit(4);
+        reference.get().complete();
+        subscriber.assertCompleted().assertItems(1, 2, 3, 4);
+    }
+
+    @Test
+    public void testEmitterWithBufferSizeAndNullItem() {
+        Multi.createFrom().<Integer> emitter(e -> e.emit(1).emit(null).emit(2), 4)
+                .subscribe().withSubscriber(AssertSubscriber.create(10))
+                .assertFailedWith(NullPointerException.class, "null")
+                .assertItems(1);
+    }
+
 }
@@ -1,11 +1,13 @@
 package io.smallrye.mutiny.operators;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
 
 import java.io.IOException;
 import java.time.Duration;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
@@ -352,6 +354,134 @@ public class MultiDistinctTest {
                 .assertItems(1, 3);
     }
 
+    @Test
+    public void testSkipDuplicatesAmongLast() {
+        Multi.createFrom().items(1, 2, 1, 3, 4, 1)
+                .skip().duplicates().amongLast(2)
+                .subscribe().withSubscriber(AssertSubscriber.create(10))
+                .assertCompleted()
+                .assertItems(1, 2, 3, 4, 1);
+    }
+
+    @Test
+    public void testSkipDuplicatesAmongLastRefreshesTheDuplicates() {
+        Multi.createFrom().items(1, 2, 1, 3, 1)
+                .skip().duplicates().amongLast(2)
+                .subscribe().withSubscriber(AssertSubscriber.create(10))
+                .assertCompleted()
+                .assertItems(1, 2, 3);
+    }
+
+    @Test
+    public void testSkipDuplicatesByKey() {
+        Multi.createFrom().items("a", "bb", "c", "dd", "eee")
+                .skip().duplicates().by(String::length).amongLast(10)
+                .subscribe().withSubscriber(AssertSubscriber.create(10))
+                .assertCompleted()
+                .assertItems("a", "bb", "eee");
+    }
+
+    @Test
+    public void testSkipDuplicatesWithin() throws InterruptedException {
+        AtomicReference<MultiEmitter<? super Integer>> emitter = new AtomicReference<>();
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().<Integer> emitter(emitter::set)
+                .skip().duplicates().within(Duration.ofMillis(100))
+                .subscribe().withSubscriber(AssertSubscriber.create(10));
+
+        emitter.get().emit(1).emit(2).emit(1);
+        subscriber.assertItems(1, 2);
+
+        Thread.sleep(200);
+        emitter.get().emit(1).emit(2).emit(3).emit(3).complete();
+        subscriber.assertCompleted().assertItems(1, 2, 1, 2, 3);
+    }
+
+    @Test
+    public void testSkipDuplicatesWithinAndMaxSize() {
+        Multi.createFrom().items(1, 2, 1, 3, 1, 2)
+                .skip().duplicates().within(Duration.ofMinutes(1), 2)
+                .subscribe().withSubscriber(AssertSubscriber.create(10))
+                .assertCompleted()
+                .assertItems(1, 2, 3, 1, 2);
+    }
+
+    @Test
+    public void testSkipDuplicatesApproximately() {
+        List<Integer> items = Multi.createFrom().range(0, 10_000)
+                .onItem().transformToMultiAndConcatenate(i -> Multi.createFrom().items(i, i))
+                .skip().duplicates().approximately(10_000, 0.000_001)
+                .collect().asList()
+                .await().indefinitely();
+        assertThat(items).hasSize(10_000).doesNotHaveDuplicates();
+    }
+
+    @Test
+    public void testSkipDuplicatesApproximatelyForgetsTheOldestItems() {
+        // Each filter holds 100 items: only the last 100 to 200 items are remembered
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().range(0, 1_000)
+                .onCompletion().switchTo(Multi.createFrom().items(0, 950))
+                .skip().duplicates().approximately(100, 0.000_001)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE))
+                .assertCompleted();
+        assertThat(subscriber.getItems()).hasSize(1_001).startsWith(0, 1, 2).endsWith(998, 999, 0);
+    }
+
+    @Test
+    public void testSkipDuplicatesWithFailingKeyExtractor() {
+        Multi.createFrom().items(1, 2, 3)
+                .skip().duplicates().by(i -> {
+                    if (i == 2) {
+                        throw new TestException("boom");
+                    }
+                    return i;
+                }).amongLast(10)
+                .subscribe().withSubscriber(AssertSubscriber.create(10))
+                .assertFailedWith(TestException.class, "boom")
+                .assertItems(1);
+    }
+
+    @Test
+    public void testSkipDuplicatesWithKeyExtractorReturningNull() {
+        Multi.createFrom().items(1, 2, 3)
+                .skip().duplicates().by(i -> null).within(Duration.ofSeconds(1))
+                .subscribe().withSubscriber(AssertSubscriber.create(10))
+                .assertFailedWith(NullPointerException.class, "");
+    }
+
+    @Test
+    public void testSkipDuplicatesExceptionInHashCode() {
+        Multi.createFrom().items(new BadlyComparableStuffOnHashCode())
+                .skip().duplicates().approximately(10, 0.01)
+                .subscribe().withSubscriber(AssertSubscriber.create(10))
+                .assertFailedWith(TestException.class, "boom");
+    }
+
+    @Test
+    public void testSkipDuplicatesWithUpstreamFailure() {
+        Multi.createFrom().<Integer> failure(new IOException("boom"))
+                .skip().duplicates().amongLast(10)
+                .subscribe().withSubscriber(AssertSubscriber.create(10))
+                .assertFailedWith(IOException.class, "boom");
+    }
+
+    @Test
+    public void testSkipDuplicatesInvalidParameters() {
+        Multi<Integer> multi = Multi.createFrom().items(1, 2, 3);
+        assertThatThrownBy(() -> multi.skip().duplicates().by(null)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> multi.skip().duplicates().amongLast(0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> multi.skip().duplicates().within(null)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> multi.skip().duplicates().within(Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> multi.skip().duplicates().within(Duration.ofSeconds(1), 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> multi.skip().duplicates().approximately(0, 0.01))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> multi.skip().duplicates().approximately(10, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> multi.skip().duplicates().approximately(10, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
     private static class BadlyComparableStuffOnHashCode {
 
         @SuppressWarnings("EqualsWhichDoesntCheckParameterClass")
@@ -1,12 +1,19 @@
 package io.smallrye.mutiny.operators;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.awaitility.Awaitility.await;
 import static org.mockito.Mockito.mock;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -92,4 +99,108 @@ public class MultiEmitOnTest {
         subscriber.assertFailedWith(BackPressureFailure.class, "");
     }
 
+    @Test
+    public void testInvalidBufferAndBatchSizes() {
+        assertThatThrownBy(() -> Multi.createFrom().items(1, 2, 3).emitOn(executor, 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("bufferSize");
+        assertThatThrownBy(() -> Multi.createFrom().items(1, 2, 3).emitOn(executor, 16, 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("batchSize");
+        assertThatThrownBy(() -> Multi.createFrom().items(1, 2, 3).emitOn(null, 16))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("executor");
+    }
+
+    @Test
+    public void testThatTheBufferSizeBoundsTheUpstreamRequests() {
+        List<Long> requests = Collections.synchronizedList(new ArrayList<>());
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().range(0, 100)
+                .onRequest().invoke(requests::add)
+                .emitOn(executor, 8)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        subscriber.awaitCompletion();
+        assertThat(subscriber.getItems()).hasSize(100);
+        // 8 items requested first, and then replenished by batches of 6 items (75%)
+        assertThat(requests.get(0)).isEqualTo(8L);
+        assertThat(requests.subList(1, requests.size())).isNotEmpty().allMatch(n -> n == 6L);
+    }
+
+    @RepeatedTest(10)
+    public void testThatBatchesAreReScheduled() {
+        AtomicInteger tasks = new AtomicInteger();
+        Executor counting = task -> {
+            tasks.incrementAndGet();
+            executor.execute(task);
+        };
+
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().range(0, 1000)
+                .emitOn(counting, 256, 10)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        subscriber.awaitCompletion();
+        assertThat(subscriber.getItems()).hasSize(1000).isSorted();
+        assertThat(tasks.get()).isGreaterThanOrEqualTo(100);
+    }
+
+    @Test
+    public void testThatBatchesLetOtherStreamsRunOnASharedThread() {
+        ExecutorService single = Executors.newSingleThreadExecutor();
+        CountDownLatch latch = new CountDownLatch(1);
+        // Block the thread until both streams are subscribed
+        single.execute(() -> {
+            try {
+                latch.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        try {
+            List<String> events = Collections.synchronizedList(new ArrayList<>());
+            AssertSubscriber<String> first = Multi.createFrom().range(0, 100)
+                    .onItem().transform(i -> "a")
+                    .emitOn(single, 128, 10)
+                    .onItem().invoke(events::add)
+                    .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+            AssertSubscriber<String> second = Multi.createFrom().range(0, 100)
+                    .onItem().transform(i -> "b")
+                    .emitOn(single, 128, 10)
+                    .onItem().invoke(events::add)
+                    .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+            latch.countDown();
+
+            first.awaitCompletion();
+            second.awaitCompletion();
+            assertThat(events).hasSize(200);
+            // The streams are interleaved by batches of 10 items
+            assertThat(events.subList(0, 10)).containsOnly("a");
+            assertThat(events.subList(10, 20)).containsOnly("b");
+            assertThat(events.subList(20, 30)).containsOnly("a");
+        } finally {
+            single.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testWithShutdownExecutorWhileReScheduling() {
+        ExecutorService single = Executors.newSingleThreadExecutor();
+        AtomicInteger tasks = new AtomicInteger();
+        Executor failing = task -> {
+            if (tasks.incrementAndGet() > 1) {
+                throw new RejectedExecutionException("rejected");
+            }
+            single.execute(task);
+        };
+        try {
+            AssertSubscriber<Integer> subscriber = Multi.createFrom().range(0, 100)
+                    .emitOn(failing, 128, 10)
+                    .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+            subscriber.awaitFailure().assertFailedWith(RejectedExecutionException.class, "rejected");
+            assertThat(subscriber.getItems()).hasSize(10);
+        } finally {
+            single.shutdownNow();
+        }
+    }
 }
@@ -10,6 +10,9 @@ import static org.mockito.Mockito.verify;
 import java.io.IOException;
 import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
@@ -27,6 +30,7 @@ import io.smallrye.mutiny.GroupedMulti;
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.TestException;
 import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.groups.MultiGroupIntoMultis;
 import io.smallrye.mutiny.helpers.spies.MultiOnCancellationSpy;
 import io.smallrye.mutiny.helpers.spies.Spy;
 import io.smallrye.mutiny.helpers.test.AssertSubscriber;
@@ -924,4 +928,158 @@ public class MultiGroupTest {
             assertThat(batch.size()).isBetween(1, 3);
         }
     }
+
+    @Test
+    public void testGroupByEvictingIdleGroups() {
+        AtomicReference<MultiEmitter<? super Integer>> emitter = new AtomicReference<>();
+        AssertSubscriber<GroupedMulti<Integer, Integer>> subscriber = Multi.createFrom().<Integer> emitter(emitter::set)
+                .group().intoMultis().evictingIdleGroupsAfter(Duration.ofMillis(100))
+                .by(i -> i % 2)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        emitter.get().emit(1).emit(2);
+        assertThat(subscriber.getItems()).hasSize(2);
+        AssertSubscriber<Integer> odd = subscriber.getItems().get(0).subscribe()
+                .withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+        AssertSubscriber<Integer> even = subscriber.getItems().get(1).subscribe()
+                .withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        // Keep the odd group active while the even group becomes idle
+        for (int i = 0; i < 5; i++) {
+            await().pollDelay(Duration.ofMillis(40)).until(() -> true);
+            emitter.get().emit(3 + 2 * i);
+        }
+        even.awaitCompletion().assertItems(2);
+        odd.assertNotTerminated();
+
+        // The key of an evicted group creates a new group
+        emitter.get().emit(20);
+        assertThat(subscriber.getItems()).hasSize(3);
+        assertThat(subscriber.getItems().get(2).key()).isEqualTo(0);
+        AssertSubscriber<Integer> newEven = subscriber.getItems().get(2).subscribe()
+                .withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+        newEven.assertItems(20);
+
+        emitter.get().complete();
+        odd.awaitCompletion().assertItems(1, 3, 5, 7, 9, 11);
+        newEven.assertCompleted();
+        subscriber.assertCompleted();
+    }
+
+    @Test
+    public void testThatASlowGroupSubscriberDoesNotBlockTheOtherGroups() throws Exception {
+        AtomicReference<MultiEmitter<? super Integer>> emitter = new AtomicReference<>();
+        AssertSubscriber<GroupedMulti<Integer, Integer>> subscriber = Multi.createFrom().<Integer> emitter(emitter::set)
+                .group().intoMultis().evictingIdleGroupsAfter(Duration.ofMillis(50))
+                .by(i -> i % 2)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        emitter.get().emit(1).emit(2);
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AssertSubscriber<Integer> odd = subscriber.getItems().get(0)
+                .onItem().invoke(i -> {
+                    if (i == 3) {
+                        blocked.countDown();
+                        try {
+                            release.await();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                    }
+                })
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+        AssertSubscriber<Integer> even = subscriber.getItems().get(1).subscribe()
+                .withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        CompletableFuture<Void> emission = CompletableFuture.runAsync(() -> emitter.get().emit(3));
+        try {
+            assertThat(blocked.await(1, TimeUnit.SECONDS)).isTrue();
+            // The even group can be cancelled while the odd group subscriber is busy
+            CompletableFuture.runAsync(even::cancel).get(1, TimeUnit.SECONDS);
+        } finally {
+            release.countDown();
+        }
+        emission.get(1, TimeUnit.SECONDS);
+        odd.assertItems(1, 3).assertNotTerminated();
+        even.assertItems(2);
+    }
+
+    @Test
+    public void testGroupByCompletingTheLeastRecentlyActiveGroup() {
+        AtomicReference<MultiEmitter<? super Integer>> emitter = new AtomicReference<>();
+        AssertSubscriber<GroupedMulti<Integer, String>> subscriber = Multi.createFrom().<Integer> emitter(emitter::set)
+                .group().intoMultis()
+                .withMaxGroups(2, MultiGroupIntoMultis.GroupOverflow.COMPLETE_LEAST_RECENTLY_ACTIVE)
+                .by(i -> i % 3, i -> Integer.toString(i))
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+        List<AssertSubscriber<String>> groups = new ArrayList<>();
+        Consumer<Integer> subscribeToGroup = index -> groups.add(subscriber.getItems().get(index).subscribe()
+                .withSubscriber(AssertSubscriber.create(Long.MAX_VALUE)));
+
+        emitter.get().emit(0).emit(1);
+        subscribeToGroup.accept(0);
+        subscribeToGroup.accept(1);
+        // Group 0 becomes the most recently active one
+        emitter.get().emit(3);
+        // Group 1 is completed to make room for group 2
+        emitter.get().emit(2);
+        subscribeToGroup.accept(2);
+        groups.get(1).assertCompleted().assertItems("1");
+        groups.get(0).assertNotTerminated();
+
+        // Group 0 is completed, and key 1 gets a new group
+        emitter.get().emit(4);
+        subscribeToGroup.accept(3);
+        groups.get(0).assertCompleted().assertItems("0", "3");
+        assertThat(subscriber.getItems()).extracting(GroupedMulti::key).containsExactly(0, 1, 2, 1);
+
+        emitter.get().complete();
+        groups.get(2).assertCompleted().assertItems("2");
+        groups.get(3).assertCompleted().assertItems("4");
+        subscriber.assertCompleted();
+    }
+
+    @Test
+    public void testGroupByFailingWhenTooManyGroups() {
+        AtomicBoolean cancelled = new AtomicBoolean();
+        AssertSubscriber<GroupedMulti<Integer, Integer>> subscriber = Multi.createFrom().range(0, 10)
+                .onCancellation().invoke(() -> cancelled.set(true))
+                .group().intoMultis()
+                .withMaxGroups(3, MultiGroupIntoMultis.GroupOverflow.FAIL)
+                .by(i -> i)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        subscriber.assertFailedWith(IllegalStateException.class, "maximum number of groups (3)");
+        assertThat(subscriber.getItems()).hasSize(3);
+        assertThat(cancelled).isTrue();
+        subscriber.getItems().get(0).subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE))
+                .assertFailedWith(IllegalStateException.class, "maximum number of groups (3)");
+    }
+
+    @Test
+    public void testGroupByWithGroupBufferSize() {
+        AssertSubscriber<List<Integer>> subscriber = Multi.createFrom().range(0, 1000)
+                .group().intoMultis().withGroupBufferSize(4)
+                .by(i -> i % 100)
+                .onItem().transformToUni(group -> group.collect().asList()).merge(100)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        subscriber.assertCompleted();
+        assertThat(subscriber.getItems()).hasSize(100).allSatisfy(list -> assertThat(list).hasSize(10)
+                .allSatisfy(i -> assertThat(i % 100).isEqualTo(list.get(0) % 100)));
+    }
+
+    @Test
+    public void testBoundedGroupByWithInvalidParameters() {
+        MultiGroupIntoMultis<Integer> group = Multi.createFrom().range(0, 10).group().intoMultis();
+        assertThrows(IllegalArgumentException.class, () -> group.evictingIdleGroupsAfter(null));
+        assertThrows(IllegalArgumentException.class, () -> group.evictingIdleGroupsAfter(Duration.ZERO));
+        assertThrows(IllegalArgumentException.class,
+                () -> group.withMaxGroups(0, MultiGroupIntoMultis.GroupOverflow.FAIL));
+        assertThrows(IllegalArgumentException.class, () -> group.withMaxGroups(10, null));
+        assertThrows(IllegalArgumentException.class, () -> group.withGroupBufferSize(0));
+        assertThrows(IllegalArgumentException.class, () -> group.by(null));
+        assertThrows(IllegalArgumentException.class, () -> group.by(i -> i, null));
+    }
 }
@@ -0,0 +1,246 @@
+package io.smallrye.mutiny.operators;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscription;
+
+import io.smallrye.mutiny.CompositeException;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.test.AssertSubscriber;
+import io.smallrye.mutiny.subscription.BackPressureFailure;
+
+public class MultiMergeOrderedTest {
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    public void init() {
+        executor = Executors.newFixedThreadPool(8);
+    }
+
+    @AfterEach
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testInvalidConcurrency() {
+        assertThatThrownBy(() -> Multi.createFrom().range(0, 10)
+                .onItem().transformToUni(i -> Uni.createFrom().item(i))
+                .mergeOrdered(0))
+                        .isInstanceOf(IllegalArgumentException.class)
+                        .hasMessageContaining("concurrency");
+    }
+
+    @RepeatedTest(10)
+    public void testThatResultsAreEmittedInUpstreamOrder() {
+        Random random = new Random();
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+
+        List<Integer> list = Multi.createFrom().range(0, 200)
+                .onItem().transformToUni(i -> Uni.createFrom().item(i)
+                        .onItem().invoke(() -> maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max))
+                        .onItem().delayIt().by(Duration.ofMillis(1 + random.nextInt(5)))
+                        .onItem().invoke(inFlight::decrementAndGet)
+                        .runSubscriptionOn(executor))
+                .mergeOrdered(8)
+                .collect().asList()
+                .await().atMost(Duration.ofSeconds(10));
+
+        assertThat(list).containsExactlyElementsOf(IntStream.range(0, 200).boxed().collect(Collectors.toList()));
+        assertThat(maxInFlight.get()).isLessThanOrEqualTo(8);
+    }
+
+    @Test
+    public void testThatInnerStreamsRunConcurrently() {
+        AtomicInteger subscribed = new AtomicInteger();
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().range(0, 10)
+                .onItem().transformToUni(i -> Uni.createFrom().<Integer> nothing()
+                        .onSubscription().invoke(subscribed::incrementAndGet))
+                .mergeOrdered(4)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        subscriber.assertNotTerminated();
+        assertThat(subscribed).hasValue(4);
+        subscriber.cancel();
+    }
+
+    @Test
+    public void testWithMultis() {
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().range(0, 3)
+                .onItem().transformToMulti(i -> Multi.createFrom().range(i * 10, i * 10 + 3)
+                        .onItem().call(x -> Uni.createFrom().voidItem()
+                                .onItem().delayIt().by(Duration.ofMillis(10 - i * 3))))
+                .withRequests(2)
+                .mergeOrdered(3)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        subscriber.awaitCompletion()
+                .assertItems(0, 1, 2, 10, 11, 12, 20, 21, 22);
+    }
+
+    @Test
+    public void testBackPressure() {
+        AtomicInteger requested = new AtomicInteger();
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().range(0, 100)
+                .onRequest().invoke(n -> requested.addAndGet((int) Math.min(n, Integer.MAX_VALUE)))
+                .onItem().transformToUni(i -> Uni.createFrom().item(i))
+                .mergeOrdered(4)
+                .subscribe().withSubscriber(AssertSubscriber.create(0));
+
+        subscriber.assertHasNotReceivedAnyItem();
+        // The reorder buffer is full, no more items are requested
+        assertThat(requested).hasValue(4);
+
+        subscriber.request(2).assertItems(0, 1);
+        assertThat(requested).hasValue(6);
+
+        subscriber.request(Long.MAX_VALUE).assertCompleted();
+        assertThat(subscriber.getItems()).hasSize(100);
+    }
+
+    @Test
+    public void testThatNullItemsAreSkipped() {
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().range(0, 6)
+                .onItem().transformToUni(i -> i % 2 == 0 ? Uni.createFrom().item(i) : Uni.createFrom().<Integer> nullItem())
+                .mergeOrdered(2)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        subscriber.assertCompleted().assertItems(0, 2, 4);
+    }
+
+    @Test
+    public void testFailureCancelsTheOtherInnerStreams() {
+        AtomicBoolean cancelled = new AtomicBoolean();
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().range(0, 10)
+                .onItem().transformToUni(i -> {
+                    if (i == 1) {
+                        return Uni.createFrom().<Integer> failure(new IOException("boom"));
+                    }
+                    return Uni.createFrom().<Integer> nothing().onCancellation().invoke(() -> cancelled.set(true));
+                })
+                .mergeOrdered(4)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        subscriber.assertFailedWith(IOException.class, "boom");
+        assertThat(cancelled).isTrue();
+    }
+
+    @Test
+    public void testFailuresCollection() {
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().range(0, 5)
+                .onItem().transformToUni(i -> {
+                    if (i == 1 || i == 3) {
+                        return Uni.createFrom().<Integer> failure(new IOException("boom-" + i));
+                    }
+                    return Uni.createFrom().item(i);
+                })
+                .collectFailures()
+                .mergeOrdered(2)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        subscriber.assertItems(0, 2, 4)
+                .assertFailedWith(CompositeException.class, "boom-1");
+        assertThat(((CompositeException) subscriber.getFailure()).getCauses()).hasSize(2);
+    }
+
+    @Test
+    public void testMapperFailure() {
+        Multi.createFrom().range(0, 5)
+                .onItem().transformToUni(i -> {
+                    if (i == 2) {
+                        throw new IllegalStateException("boom");
+                    }
+                    return Uni.createFrom().item(i);
+                })
+                .mergeOrdered(2)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE))
+                .assertItems(0, 1)
+                .assertFailedWith(IllegalStateException.class, "boom");
+    }
+
+    @Test
+    public void testUpstreamFailure() {
+        Multi.createFrom().<Integer> failure(new IOException("boom"))
+                .onItem().transformToUni(i -> Uni.createFrom().item(i))
+                .mergeOrdered(2)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE))
+                .assertFailedWith(IOException.class, "boom");
+    }
+
+    @Test
+    public void testCancellation() {
+        AtomicBoolean upstreamCancelled = new AtomicBoolean();
+        AtomicInteger innerCancelled = new AtomicInteger();
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().range(0, 10)
+                .onCancellation().invoke(() -> upstreamCancelled.set(true))
+                .onItem().transformToUni(i -> Uni.createFrom().<Integer> nothing()
+                        .onCancellation().invoke(innerCancelled::incrementAndGet))
+                .mergeOrdered(3)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        subscriber.cancel();
+        assertThat(upstreamCancelled).isTrue();
+        assertThat(innerCancelled).hasValue(3);
+    }
+
+    @Test
+    public void testInvalidRequest() {
+        Multi.createFrom().range(0, 10)
+                .onItem().transformToUni(i -> Uni.createFrom().item(i))
+                .mergeOrdered(2)
+                .subscribe().withSubscriber(AssertSubscriber.create(0))
+                .request(-1)
+                .assertFailedWith(IllegalArgumentException.class, "");
+    }
+
+    @Test
+    public void testInnerStreamOverflow() {
+        AtomicBoolean cancelled = new AtomicBoolean();
+        Publisher<Integer> misbehaving = subscriber -> {
+            subscriber.onSubscribe(new Subscription() {
+                @Override
+                public void request(long n) {
+                    // Ignored
+                }
+
+                @Override
+                public void cancel() {
+                    cancelled.set(true);
+                }
+            });
+            // Ignores the requests, the items after the overflow are dropped
+            for (int i = 0; i < 10; i++) {
+                subscriber.onNext(i);
+            }
+        };
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().range(0, 2)
+                .onItem().transformToMulti(i -> i == 0 ? Multi.createFrom().<Integer> nothing() : misbehaving)
+                .withRequests(2)
+                .mergeOrdered(2)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        subscriber.assertFailedWith(BackPressureFailure.class, "Buffer full");
+        assertThat(subscriber.getItems()).isEmpty();
+        assertThat(cancelled).isTrue();
+    }
+}
@@ -0,0 +1,356 @@
+package io.smallrye.mutiny.operators;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.groups.MultiParallel;
+import io.smallrye.mutiny.helpers.test.AssertSubscriber;
+import io.smallrye.mutiny.operators.multi.parallel.ParallelSource;
+import io.smallrye.mutiny.subscription.MultiEmitter;
+import io.smallrye.mutiny.subscription.MultiSubscriber;
+
+public class MultiParallelTest {
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    public void init() {
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testInvalidRails() {
+        assertThatThrownBy(() -> Multi.createFrom().range(0, 10).parallel(0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("rails");
+        assertThatThrownBy(() -> Multi.createFrom().range(0, 10).parallel(2).map(null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("mapper");
+        assertThatThrownBy(() -> Multi.createFrom().range(0, 10).parallel(2).runOn(null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("executor");
+    }
+
+    @Test
+    public void testRoundRobinDispatchWithoutExecutor() {
+        MultiParallel<Integer> parallel = Multi.createFrom().range(0, 10).parallel(3);
+        assertThat(parallel.rails()).isEqualTo(3);
+
+        AssertSubscriber<Integer> subscriber = parallel
+                .map(i -> i * 2)
+                .sequential()
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        subscriber.assertCompleted();
+        assertThat(subscriber.getItems()).containsExactlyInAnyOrder(0, 2, 4, 6, 8, 10, 12, 14, 16, 18);
+    }
+
+    @RepeatedTest(10)
+    public void testParallelProcessingWithExecutor() {
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().range(0, 10_000)
+                .parallel(4)
+                .runOn(executor)
+                .map(i -> {
+                    threads.add(Thread.currentThread().getName());
+                    return i + 1;
+                })
+                .filter(i -> i % 2 == 0)
+                .sequential()
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        subscriber.awaitCompletion();
+        assertThat(subscriber.getItems()).hasSize(5_000).doesNotHaveDuplicates().allMatch(i -> i % 2 == 0);
+        assertThat(threads).isNotEmpty().allMatch(name -> name.startsWith("pool-"));
+    }
+
+    @Test
+    public void testThatItemsKeepTheUpstreamOrderWithinARail() {
+        List<ArrayList<Integer>> rails = Multi.createFrom().range(0, 1000)
+                .parallel(4)
+                .runOn(executor)
+                .reduce(ArrayList<Integer>::new, (list, item) -> {
+                    list.add(item);
+                    return list;
+                })
+                .sequential()
+                .collect().asList()
+                .await().indefinitely();
+
+        assertThat(rails).hasSize(4);
+        int total = 0;
+        for (List<Integer> rail : rails) {
+            assertThat(rail).isSorted();
+            total += rail.size();
+        }
+        assertThat(total).isEqualTo(1000);
+    }
+
+    @Test
+    public void testBackPressureIsPreserved() {
+        AtomicInteger requested = new AtomicInteger();
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().range(0, 1000)
+                .onRequest().invoke(n -> requested.addAndGet((int) Math.min(n, Integer.MAX_VALUE)))
+                .parallel(2)
+                .sequential()
+                .subscribe().withSubscriber(AssertSubscriber.create(5));
+
+        subscriber.assertItems(0, 1, 2, 3, 4).assertNotTerminated();
+        // The upstream is bounded by the prefetch
+        assertThat(requested.get()).isLessThan(1000);
+
+        subscriber.request(Long.MAX_VALUE).assertCompleted();
+        assertThat(subscriber.getItems()).hasSize(1000);
+    }
+
+    @Test
+    public void testPerRailReduction() {
+        List<Integer> sums = Multi.createFrom().range(1, 101)
+                .parallel(4)
+                .runOn(executor)
+                .reduce(() -> 0, Integer::sum)
+                .sequential()
+                .collect().asList()
+                .await().indefinitely();
+
+        assertThat(sums).hasSize(4);
+        assertThat(sums.stream().mapToInt(Integer::intValue).sum()).isEqualTo(5050);
+    }
+
+    @Test
+    public void testPerRailReductionOfEmptyRails() {
+        List<Integer> sums = Multi.createFrom().items(1)
+                .parallel(3)
+                .reduce(() -> 10, Integer::sum)
+                .sequential()
+                .collect().asList()
+                .await().indefinitely();
+
+        assertThat(sums).containsExactlyInAnyOrder(11, 10, 10);
+    }
+
+    @Test
+    public void testGlobalReduction() {
+        Integer sum = Multi.createFrom().range(1, 101)
+                .parallel(4)
+                .runOn(executor)
+                .reduce(Integer::sum)
+                .await().indefinitely();
+        assertThat(sum).isEqualTo(5050);
+
+        Integer none = Multi.createFrom().<Integer> empty()
+                .parallel(4)
+                .reduce(Integer::sum)
+                .await().indefinitely();
+        assertThat(none).isNull();
+    }
+
+    @Test
+    public void testSequentialSorted() {
+        List<Integer> shuffled = IntStream.range(0, 1000).map(i -> (i * 7919) % 1000).boxed()
+                .collect(Collectors.toList());
+
+        List<Integer> sorted = Multi.createFrom().iterable(shuffled)
+                .parallel(4)
+                .runOn(executor)
+                .map(i -> i * 2)
+                .sequentialSorted(Comparator.naturalOrder())
+                .collect().asList()
+                .await().indefinitely();
+
+        assertThat(sorted).hasSize(1000).isSorted();
+        assertThat(sorted.get(0)).isEqualTo(0);
+        assertThat(sorted.get(999)).isEqualTo(1998);
+    }
+
+    @Test
+    public void testFailurePropagation() {
+        Multi.createFrom().range(0, 10)
+                .onItem().transform(i -> {
+                    if (i == 5) {
+                        throw new IllegalStateException("boom");
+                    }
+                    return i;
+                })
+                .parallel(2)
+                .runOn(executor)
+                .sequential()
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE))
+                .awaitFailure()
+                .assertFailedWith(IllegalStateException.class, "boom");
+
+        Multi.createFrom().range(0, 10)
+                .parallel(2)
+                .map(i -> {
+                    if (i == 5) {
+                        throw new IllegalStateException("boom");
+                    }
+                    return i;
+                })
+                .sequential()
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE))
+                .assertFailedWith(IllegalStateException.class, "boom");
+    }
+
+    @Test
+    public void testFailureFromUpstream() {
+        Multi.createFrom().<Integer> failure(new IOException("boom"))
+                .parallel(3)
+                .sequential()
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE))
+                .assertFailedWith(IOException.class, "boom");
+    }
+
+    @Test
+    public void testCancellationCancelsTheUpstream() {
+        AtomicBoolean cancelled = new AtomicBoolean();
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().ticks().every(Duration.ofMillis(1))
+                .onItem().transform(Long::intValue)
+                .onCancellation().invoke(() -> cancelled.set(true))
+                .parallel(2)
+                .runOn(executor)
+                .sequential()
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        subscriber.awaitItems(10).cancel();
+        assertThat(cancelled).isTrue();
+    }
+
+    @Test
+    public void testThatTheMergedRailsCanBeSubscribedSeveralTimes() {
+        MultiParallel<Integer> parallel = Multi.createFrom().range(0, 10).parallel(2)
+                .runOn(executor)
+                .map(i -> i * 2);
+        Multi<Integer> multi = parallel.sequential();
+        Multi<Integer> sorted = parallel.sequentialSorted(Comparator.naturalOrder());
+
+        for (int i = 0; i < 2; i++) {
+            assertThat(multi.collect().asList().await().indefinitely())
+                    .containsExactlyInAnyOrder(0, 2, 4, 6, 8, 10, 12, 14, 16, 18);
+            assertThat(sorted.collect().asList().await().indefinitely())
+                    .containsExactly(0, 2, 4, 6, 8, 10, 12, 14, 16, 18);
+        }
+
+        Uni<Integer> sum = parallel.reduce(Integer::sum);
+        assertThat(sum.await().indefinitely()).isEqualTo(90);
+        assertThat(sum.await().indefinitely()).isEqualTo(90);
+    }
+
+    @Test
+    public void testRetryAfterAFailure() {
+        AtomicInteger attempts = new AtomicInteger();
+        List<Integer> items = Multi.createFrom().range(0, 10)
+                .parallel(2)
+                .runOn(executor)
+                .map(i -> {
+                    if (i == 5 && attempts.incrementAndGet() == 1) {
+                        throw new IllegalStateException("boom");
+                    }
+                    return i;
+                })
+                .sequential()
+                .onFailure().retry().atMost(1)
+                .collect().asList()
+                .await().indefinitely();
+
+        assertThat(attempts).hasValue(2);
+        assertThat(items).contains(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+    }
+
+    @Test
+    public void testInvalidRequestOnRail() {
+        Multi.createFrom().range(0, 10)
+                .parallel(1)
+                .sequential()
+                .subscribe().withSubscriber(AssertSubscriber.create(0))
+                .request(0)
+                .assertFailedWith(IllegalArgumentException.class, "");
+    }
+
+    @Test
+    public void testInvalidRequestIsDeliveredToTheRailOnly() {
+        AtomicReference<MultiEmitter<? super Integer>> emitter = new AtomicReference<>();
+        ParallelSource<Integer> source = new ParallelSource<>(Multi.createFrom().<Integer> emitter(emitter::set), 2, 16);
+        AssertSubscriber<Integer> first = source.rails().get(0).subscribe()
+                .withSubscriber(AssertSubscriber.create(10));
+        RailSubscriber second = new RailSubscriber();
+        source.rails().get(1).subscribe().withSubscriber(second);
+
+        second.subscription.request(0);
+        assertThat(second.failure).isInstanceOf(IllegalArgumentException.class);
+
+        emitter.get().emit(1).emit(2).complete();
+        first.assertCompleted().assertItems(1, 2);
+        assertThat(second.completed).isFalse();
+    }
+
+    @Test
+    public void testInvalidRequestBeforeAllTheRailsAreSubscribed() {
+        ParallelSource<Integer> source = new ParallelSource<>(Multi.createFrom().range(0, 10), 2, 16);
+        RailSubscriber first = new RailSubscriber();
+        source.rails().get(0).subscribe().withSubscriber(first);
+        first.subscription.request(-1);
+        // The rails are not ready to receive signals yet
+        assertThat(first.failure).isNull();
+
+        AssertSubscriber<Integer> second = source.rails().get(1).subscribe()
+                .withSubscriber(AssertSubscriber.create(10));
+        assertThat(first.failure).isInstanceOf(IllegalArgumentException.class);
+        second.assertCompleted().assertItems(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+    }
+
+    private static class RailSubscriber implements MultiSubscriber<Integer> {
+
+        volatile Subscription subscription;
+        volatile Throwable failure;
+        volatile boolean completed;
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            subscription = s;
+        }
+
+        @Override
+        public void onItem(Integer item) {
+            // Never requested
+        }
+
+        @Override
+        public void onFailure(Throwable failure) {
+            this.failure = failure;
+        }
+
+        @Override
+        public void onCompletion() {
+            completed = true;
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package io.smallrye.mutiny.operators;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.ScalarSource;
+import io.smallrye.mutiny.helpers.test.AssertSubscriber;
+import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
+
+public class ScalarSourceFusionTest {
+
+    @Test
+    public void testScalarSources() {
+        assertThat(Uni.createFrom().item(1)).isInstanceOf(ScalarSource.class);
+        assertThat(Uni.createFrom().item(() -> 1)).isInstanceOf(ScalarSource.class);
+        assertThat(Uni.createFrom().item(1).toMulti()).isInstanceOf(ScalarSource.class);
+        assertThat(Multi.createFrom().item(1)).isInstanceOf(ScalarSource.class);
+        assertThat(Multi.createFrom().item(() -> 1)).isInstanceOf(ScalarSource.class);
+        assertThat(Multi.createFrom().items(1)).isInstanceOf(ScalarSource.class);
+        assertThat(Multi.createFrom().empty()).isInstanceOf(ScalarSource.class);
+        assertThat(Multi.createFrom().items(1, 2)).isNotInstanceOf(ScalarSource.class);
+    }
+
+    @Test
+    public void testMultiFromItemRequestValidation() {
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().item(1)
+                .subscribe().withSubscriber(AssertSubscriber.create(0));
+        subscriber.assertNotTerminated().request(0);
+        subscriber.assertFailedWith(IllegalArgumentException.class, "request");
+    }
+
+    @Test
+    public void testMultiFromItemSupplierCalledAtSubscriptionTime() {
+        AtomicInteger count = new AtomicInteger();
+        Multi<Integer> multi = Multi.createFrom().item(count::incrementAndGet);
+        assertThat(count).hasValue(0);
+
+        AssertSubscriber<Integer> subscriber = multi.subscribe().withSubscriber(AssertSubscriber.create(0));
+        assertThat(count).hasValue(1);
+        subscriber.assertNotTerminated().request(1).assertItems(1).assertCompleted();
+    }
+
+    @Test
+    public void testMergeWithScalarUnisAndBackPressure() {
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().range(0, 1000)
+                .onItem().transformToUni(i -> Uni.createFrom().item(i))
+                .merge(4)
+                .subscribe().withSubscriber(AssertSubscriber.create(0));
+
+        subscriber.assertHasNotReceivedAnyItem().request(10);
+        assertThat(subscriber.getItems()).containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+        subscriber.assertNotTerminated().request(Long.MAX_VALUE).assertCompleted();
+        assertThat(subscriber.getItems()).hasSize(1000);
+    }
+
+    @Test
+    public void testMergeWithScalarNullItemsAndEmptyMultis() {
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().range(0, 10)
+                .onItem().transformToMulti(i -> {
+                    if (i % 3 == 0) {
+                        return Uni.createFrom().<Integer> nullItem().toMulti();
+                    } else if (i % 3 == 1) {
+                        return Multi.createFrom().<Integer> empty();
+                    }
+                    return Multi.createFrom().item(() -> i);
+                })
+                .merge(2)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        subscriber.assertCompleted().assertItems(2, 5, 8);
+    }
+
+    @Test
+    public void testMergeWithScalarFailure() {
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().range(0, 10)
+                .onItem().transformToUni(i -> Uni.createFrom().item(() -> {
+                    if (i == 3) {
+                        throw new IllegalStateException("boom");
+                    }
+                    return i;
+                }))
+                .merge(4)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        subscriber.assertFailedWith(IllegalStateException.class, "boom").assertItems(0, 1, 2);
+    }
+
+    @Test
+    public void testMergeWithScalarFailureAndCollectFailures() {
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().range(0, 10)
+                .onItem().transformToUni(i -> Uni.createFrom().item(() -> {
+                    if (i == 3) {
+                        throw new IllegalStateException("boom");
+                    }
+                    return i;
+                }))
+                .collectFailures()
+                .merge(4)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        subscriber.assertFailedWith(IllegalStateException.class, "boom").assertItems(0, 1, 2, 4, 5, 6, 7, 8, 9);
+    }
+
+    @Test
+    public void testConcatenateMixingScalarAndAsynchronousUnis() {
+        List<Integer> list = Multi.createFrom().range(0, 20)
+                .onItem().transformToUni(i -> {
+                    if (i % 2 == 0) {
+                        return Uni.createFrom().item(i);
+                    }
+                    return Uni.createFrom().completionStage(CompletableFuture.supplyAsync(() -> i));
+                })
+                .concatenate()
+                .collect().asList()
+                .await().atMost(Duration.ofSeconds(5));
+
+        assertThat(list).hasSize(20).isSorted();
+    }
+
+    @Test
+    public void testMergeMixingScalarAndAsynchronousUnis() {
+        List<Integer> list = Multi.createFrom().range(0, 1000)
+                .onItem().transformToUni(i -> {
+                    if (i % 2 == 0) {
+                        return Uni.createFrom().item(i);
+                    }
+                    return Uni.createFrom().completionStage(CompletableFuture.supplyAsync(() -> i));
+                })
+                .merge(8)
+                .collect().asList()
+                .await().atMost(Duration.ofSeconds(5));
+
+        assertThat(list).hasSize(1000).doesNotHaveDuplicates();
+    }
+
+    @Test
+    public void testConcatenatingScalarSources() {
+        AtomicInteger count = new AtomicInteger();
+        AssertSubscriber<Integer> subscriber = Multi.createBy().concatenating()
+                .streams(Multi.createFrom().item(1), Multi.createFrom().empty(),
+                        Multi.createFrom().item(count::incrementAndGet), Multi.createFrom().items(3, 4),
+                        Uni.createFrom().item(5).toMulti())
+                .subscribe().withSubscriber(AssertSubscriber.create(0));
+
+        subscriber.assertHasNotReceivedAnyItem().request(2).assertItems(1, 1).assertNotTerminated();
+        subscriber.request(10).assertItems(1, 1, 3, 4, 5).assertCompleted();
+        assertThat(count).hasValue(1);
+    }
+
+    @Test
+    public void testConcatenatingScalarSourcesWithFailure() {
+        Multi<Integer> failing = Multi.createFrom().item(() -> {
+            throw new IllegalStateException("boom");
+        });
+
+        Multi.createBy().concatenating()
+                .streams(Multi.createFrom().item(1), failing, Multi.createFrom().item(2))
+                .subscribe().withSubscriber(AssertSubscriber.create(10))
+                .assertFailedWith(IllegalStateException.class, "boom")
+                .assertItems(1);
+
+        Multi.createBy().concatenating().collectFailures()
+                .streams(Multi.createFrom().item(1), failing, Multi.createFrom().item(2))
+                .subscribe().withSubscriber(AssertSubscriber.create(10))
+                .assertFailedWith(IllegalStateException.class, "boom")
+                .assertItems(1, 2);
+    }
+
+    @Test
+    public void testUniTransformToScalarUni() {
+        Uni.createFrom().item(1)
+                .onItem().transformToUni(i -> Uni.createFrom().item(i + 1))
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertItem(2);
+
+        Uni.createFrom().item(1)
+                .onItem().transformToUni(i -> Uni.createFrom().nullItem())
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertItem(null);
+
+        Uni.createFrom().item(1)
+                .onItem().transformToUni(i -> Uni.createFrom().item(() -> {
+                    throw new IllegalStateException("boom");
+                }))
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertFailedWith(IllegalStateException.class, "boom");
+    }
+
+    @Test
+    public void testUniTransformToScalarUniAfterCancellation() {
+        UniAssertSubscriber<Integer> subscriber = new UniAssertSubscriber<>(true);
+        Uni.createFrom().item(1)
+                .onItem().transformToUni(i -> Uni.createFrom().item(i + 1))
+                .subscribe().withSubscriber(subscriber);
+        subscriber.assertNotTerminated();
+    }
+
+    @Test
+    public void testUniTransformToScalarUniFromAsyncUpstream() {
+        int result = Uni.createFrom().completionStage(CompletableFuture.supplyAsync(() -> 20))
+                .onItem().transformToUni(i -> Uni.createFrom().item(() -> i + 22))
+                .await().atMost(Duration.ofSeconds(5));
+        assertThat(result).isEqualTo(42);
+    }
+}
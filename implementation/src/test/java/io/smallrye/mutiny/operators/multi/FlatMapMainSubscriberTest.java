@@ -5,15 +5,23 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.RepeatedTest;
 import org.junit.jupiter.api.Test;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
 
 import io.reactivex.processors.PublishProcessor;
 import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.helpers.queues.Queues;
 import io.smallrye.mutiny.helpers.test.AssertSubscriber;
 import io.smallrye.mutiny.operators.AbstractMulti;
+import io.smallrye.mutiny.operators.multi.processors.UnicastProcessor;
 import io.smallrye.mutiny.subscription.BackPressureFailure;
 import io.smallrye.mutiny.test.Mocks;
 
@@ -195,4 +203,54 @@ public class FlatMapMainSubscriberTest {
         subscriber.request(1)
                 .assertItems(1);
     }
+
+    @Test
+    public void testThatInnerSlotsAreReused() {
+        AssertSubscriber<Integer> subscriber = AssertSubscriber.create(Long.MAX_VALUE);
+        List<UnicastProcessor<Integer>> inners = new ArrayList<>();
+
+        MultiFlatMapOp.FlatMapMainSubscriber<Integer, Integer> sub = new MultiFlatMapOp.FlatMapMainSubscriber<>(
+                toMultiSubscriber(subscriber),
+                i -> {
+                    UnicastProcessor<Integer> processor = UnicastProcessor.create();
+                    inners.add(processor);
+                    return processor;
+                },
+                false,
+                4,
+                Queues.get(4),
+                10);
+
+        Multi.createFrom().range(0, 100)
+                .subscribe().withSubscriber(sub);
+
+        assertThat(inners).hasSize(4);
+        for (int i = 0; i < 100; i++) {
+            UnicastProcessor<Integer> processor = inners.get(i);
+            processor.onNext(i);
+            processor.onComplete();
+            // The slot of the completed inner stream is reused by the next one, the table does not grow
+            assertThat(sub.get()).hasSize(4);
+        }
+
+        assertThat(inners).hasSize(100);
+        subscriber.assertCompleted();
+        assertThat(subscriber.getItems()).hasSize(100).doesNotHaveDuplicates();
+    }
+
+    @RepeatedTest(10)
+    public void testWithInnerStreamsCompletingOnOtherThreads() {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            AssertSubscriber<Integer> subscriber = Multi.createFrom().range(0, 10_000)
+                    .onItem().transformToUni(i -> Uni.createFrom().item(i).emitOn(executor))
+                    .merge(64)
+                    .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+            subscriber.awaitCompletion();
+            assertThat(subscriber.getItems()).hasSize(10_000).doesNotHaveDuplicates();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
 }
@@ -0,0 +1,361 @@
+package io.smallrye.mutiny.operators.multi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.helpers.QueueSubscription;
+import io.smallrye.mutiny.helpers.test.AssertSubscriber;
+import io.smallrye.mutiny.operators.multi.processors.UnicastProcessor;
+import io.smallrye.mutiny.subscription.MultiSubscriber;
+import io.smallrye.mutiny.tuples.Tuple2;
+
+public class QueueSubscriptionFusionTest {
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    public void init() {
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    @Test
+    public void testSynchronousFusionThroughMapAndFilter() {
+        QueueSubscription<Integer> qs = subscribeAndGetSubscription(Multi.createFrom().range(0, 10)
+                .onItem().transform(i -> i * 2)
+                .select().where(i -> i % 3 == 0));
+
+        assertThat(qs.requestFusion(QueueSubscription.ASYNC)).isEqualTo(QueueSubscription.NONE);
+        assertThat(qs.requestFusion(QueueSubscription.ANY)).isEqualTo(QueueSubscription.SYNC);
+        assertThat(qs.isEmpty()).isFalse();
+        assertThat(qs.poll()).isEqualTo(0);
+        assertThat(qs.poll()).isEqualTo(6);
+        assertThat(qs.poll()).isEqualTo(12);
+        assertThat(qs.isEmpty()).isFalse();
+        assertThat(qs.poll()).isEqualTo(18);
+        // 20 and 40 are filtered out
+        assertThat(qs.isEmpty()).isTrue();
+        assertThat(qs.poll()).isNull();
+    }
+
+    @Test
+    public void testSynchronousFusionWithCollection() {
+        QueueSubscription<String> qs = subscribeAndGetSubscription(Multi.createFrom().items("a", "b", "c"));
+
+        assertThat(qs.requestFusion(QueueSubscription.SYNC)).isEqualTo(QueueSubscription.SYNC);
+        assertThat(qs.poll()).isEqualTo("a");
+        qs.clear();
+        assertThat(qs.isEmpty()).isTrue();
+        assertThat(qs.poll()).isNull();
+    }
+
+    @RepeatedTest(10)
+    public void testEmitOnWithFusedUpstream() {
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().range(0, 1000)
+                .onItem().transform(i -> i + 1)
+                .select().where(i -> i % 2 == 0)
+                .emitOn(executor)
+                .subscribe().withSubscriber(AssertSubscriber.create(10));
+
+        subscriber.awaitItems(10);
+        assertThat(subscriber.getItems()).containsExactly(2, 4, 6, 8, 10, 12, 14, 16, 18, 20);
+        subscriber.request(Long.MAX_VALUE).awaitCompletion();
+        assertThat(subscriber.getItems()).hasSize(500);
+    }
+
+    @Test
+    public void testEmitOnCompletesWhenTrailingItemsAreFilteredOut() {
+        Multi.createFrom().range(0, 10)
+                .select().where(i -> i < 5)
+                .emitOn(executor)
+                .subscribe().withSubscriber(AssertSubscriber.create(5))
+                .awaitCompletion()
+                .assertItems(0, 1, 2, 3, 4);
+    }
+
+    @Test
+    public void testEmitOnWithFailingMapper() {
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().range(0, 10)
+                .onItem().transform(i -> {
+                    if (i == 3) {
+                        throw new IllegalStateException("boom");
+                    }
+                    return i;
+                })
+                .emitOn(executor)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        // The mapper is not fused across emitOn, so the failure may overtake the items still queued
+        subscriber.awaitFailure().assertFailedWith(IllegalStateException.class, "boom");
+        assertThat(subscriber.getItems()).isSubsetOf(0, 1, 2);
+    }
+
+    @Test
+    public void testSynchronousFusionWithFailingPredicateWhileLookingAhead() {
+        QueueSubscription<Integer> qs = subscribeAndGetSubscription(Multi.createFrom().range(0, 10)
+                .select().where(i -> {
+                    if (i == 2) {
+                        throw new IllegalStateException("boom");
+                    }
+                    return true;
+                }));
+
+        assertThat(qs.requestFusion(QueueSubscription.SYNC)).isEqualTo(QueueSubscription.SYNC);
+        assertThat(qs.poll()).isEqualTo(0);
+        // Looking ahead for the next item fails, the failure is reported when the next item is polled
+        assertThat(qs.poll()).isEqualTo(1);
+        assertThatThrownBy(qs::poll).isInstanceOf(IllegalStateException.class).hasMessage("boom");
+    }
+
+    @Test
+    public void testMapAndFilterRejectFusionAcrossABoundary() {
+        QueueSubscription<Integer> qs = subscribeAndGetSubscription(Multi.createFrom().range(0, 10)
+                .onItem().transform(i -> i * 2));
+        assertThat(qs.requestFusion(QueueSubscription.ANY | QueueSubscription.BOUNDARY))
+                .isEqualTo(QueueSubscription.NONE);
+
+        qs = subscribeAndGetSubscription(Multi.createFrom().range(0, 10)
+                .select().where(i -> i % 2 == 0));
+        assertThat(qs.requestFusion(QueueSubscription.ANY | QueueSubscription.BOUNDARY))
+                .isEqualTo(QueueSubscription.NONE);
+    }
+
+    @Test
+    public void testEmitOnRunsTheMapperOnTheEmittingThread() {
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        // The items are emitted when emitOn subscribes and requests its buffer, so from the test thread
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().range(0, 10)
+                .onItem().transform(i -> {
+                    threads.add(Thread.currentThread().getName());
+                    return i + 1;
+                })
+                .select().where(i -> {
+                    threads.add(Thread.currentThread().getName());
+                    return true;
+                })
+                .emitOn(executor)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        subscriber.awaitCompletion().assertItems(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+        assertThat(threads).containsExactly(Thread.currentThread().getName());
+    }
+
+    @Test
+    public void testEmitOnWithFailingPredicate() {
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().range(0, 10)
+                .select().where(i -> {
+                    if (i == 2) {
+                        throw new IllegalStateException("boom");
+                    }
+                    return true;
+                })
+                .emitOn(executor)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        // The predicate is not fused across emitOn, so the failure may overtake the items still queued
+        subscriber.awaitFailure().assertFailedWith(IllegalStateException.class, "boom");
+        assertThat(subscriber.getItems()).isSubsetOf(0, 1);
+    }
+
+    @Test
+    public void testEmitOnWithFailingIterator() {
+        Iterable<Integer> iterable = () -> new Iterator<Integer>() {
+            int count;
+
+            @Override
+            public boolean hasNext() {
+                if (count == 2) {
+                    throw new IllegalStateException("boom");
+                }
+                return true;
+            }
+
+            @Override
+            public Integer next() {
+                return count++;
+            }
+        };
+
+        Multi.createFrom().iterable(iterable)
+                .emitOn(executor)
+                .subscribe().withSubscriber(AssertSubscriber.create(10))
+                .awaitFailure()
+                .assertFailedWith(IllegalStateException.class, "boom")
+                .assertItems(0, 1);
+    }
+
+    @Test
+    public void testEmitOnCancellationWithFusedUpstream() {
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().range(0, 100)
+                .emitOn(executor)
+                .subscribe().withSubscriber(AssertSubscriber.create(5));
+
+        subscriber.awaitItems(5).cancel();
+        subscriber.request(10);
+        subscriber.assertNotTerminated().assertItems(0, 1, 2, 3, 4);
+    }
+
+    @RepeatedTest(10)
+    public void testEmitOnWithAsynchronousFusionWithUnicastProcessor() {
+        UnicastProcessor<Integer> processor = UnicastProcessor.create();
+        AssertSubscriber<Integer> subscriber = processor
+                .emitOn(executor)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        executor.submit(() -> {
+            for (int i = 0; i < 1000; i++) {
+                processor.onNext(i);
+            }
+            processor.onComplete();
+        });
+
+        subscriber.awaitCompletion();
+        assertThat(subscriber.getItems()).hasSize(1000).isSorted();
+    }
+
+    @Test
+    public void testEmitOnWithAsynchronousFusionAndItemsEmittedBeforeSubscription() {
+        UnicastProcessor<Integer> processor = UnicastProcessor.create();
+        processor.onNext(1);
+        processor.onNext(2);
+        processor.onComplete();
+
+        processor.emitOn(executor)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE))
+                .awaitCompletion()
+                .assertItems(1, 2);
+    }
+
+    @Test
+    public void testEmitOnWithAsynchronousFusionAndFailure() {
+        UnicastProcessor<Integer> processor = UnicastProcessor.create();
+        AssertSubscriber<Integer> subscriber = processor.emitOn(executor)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        processor.onNext(1);
+        subscriber.awaitItems(1);
+        processor.onError(new IllegalStateException("boom"));
+        subscriber.awaitFailure()
+                .assertFailedWith(IllegalStateException.class, "boom")
+                .assertItems(1);
+    }
+
+    @Test
+    public void testMergeWithFusedInnerStreams() {
+        AssertSubscriber<Integer> subscriber = Multi.createFrom().range(0, 10)
+                .onItem().transformToMulti(i -> Multi.createFrom().items(i, i, i)
+                        .onItem().transform(x -> x * 10))
+                .merge(4)
+                .subscribe().withSubscriber(AssertSubscriber.create(4));
+
+        subscriber.assertItems(0, 0, 0, 10).assertNotTerminated();
+        subscriber.request(Long.MAX_VALUE).assertCompleted();
+        assertThat(subscriber.getItems()).hasSize(30);
+    }
+
+    @Test
+    public void testMergeWithFailingFusedInnerStream() {
+        Multi.createFrom().range(0, 5)
+                .onItem().transformToMulti(i -> Multi.createFrom().items(i, i)
+                        .onItem().transform(x -> {
+                            if (x == 2) {
+                                throw new IllegalStateException("boom");
+                            }
+                            return x;
+                        }))
+                .merge(1)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE))
+                .assertFailedWith(IllegalStateException.class, "boom")
+                .assertItems(0, 0, 1, 1);
+
+        Multi.createFrom().range(0, 5)
+                .onItem().transformToMulti(i -> Multi.createFrom().items(i, i)
+                        .onItem().transform(x -> {
+                            if (x == 2) {
+                                throw new IllegalStateException("boom");
+                            }
+                            return x;
+                        }))
+                .collectFailures()
+                .merge(1)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE))
+                .assertFailedWith(IllegalStateException.class, "boom")
+                .assertItems(0, 0, 1, 1, 3, 3, 4, 4);
+    }
+
+    @Test
+    public void testZipWithFusedUpstreams() {
+        List<String> list = Multi.createBy().combining()
+                .streams(Arrays.asList(Multi.createFrom().items("a", "b", "c"),
+                        Multi.createFrom().range(0, 100).onItem().transform(i -> Integer.toString(i))))
+                .using(l -> l.get(0) + "" + l.get(1))
+                .collect().asList()
+                .await().indefinitely();
+
+        assertThat(list).containsExactly("a0", "b1", "c2");
+    }
+
+    @Test
+    public void testZipWithFailingFusedUpstream() {
+        Multi.createBy().combining()
+                .streams(Multi.createFrom().items("a", "b", "c"),
+                        Multi.createFrom().range(0, 100).onItem().transform(i -> {
+                            if (i == 1) {
+                                throw new IllegalStateException("boom");
+                            }
+                            return Integer.toString(i);
+                        }))
+                .asTuple()
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE))
+                .assertFailedWith(IllegalStateException.class, "boom")
+                .assertItems(Tuple2.of("a", "0"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> QueueSubscription<T> subscribeAndGetSubscription(Multi<T> multi) {
+        AtomicReference<Subscription> reference = new AtomicReference<>();
+        multi.subscribe().withSubscriber(new MultiSubscriber<T>() {
+            @Override
+            public void onSubscribe(Subscription s) {
+                reference.set(s);
+            }
+
+            @Override
+            public void onItem(T item) {
+                // Unused, the items are polled
+            }
+
+            @Override
+            public void onFailure(Throwable failure) {
+                // Unused
+            }
+
+            @Override
+            public void onCompletion() {
+                // Unused
+            }
+        });
+        assertThat(reference.get()).isInstanceOf(QueueSubscription.class);
+        return (QueueSubscription<T>) reference.get();
+    }
+}
@@ -0,0 +1,229 @@
+package io.smallrye.mutiny.operators.multi.processors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.ResourceAccessMode;
+import org.junit.jupiter.api.parallel.ResourceLock;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.helpers.test.AssertSubscriber;
+import io.smallrye.mutiny.operators.multi.processors.BufferedBroadcastProcessor.SlowSubscriberPolicy;
+import io.smallrye.mutiny.subscription.BackPressureFailure;
+import junit5.support.InfrastructureResource;
+
+@ResourceLock(value = InfrastructureResource.NAME, mode = ResourceAccessMode.READ)
+public class BufferedBroadcastProcessorTest {
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    public void setup() {
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    public void cleanup() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testCreationWithInvalidParameters() {
+        assertThrows(IllegalArgumentException.class, () -> BufferedBroadcastProcessor.create(0,
+                SlowSubscriberPolicy.DROP_OLDEST));
+        assertThrows(IllegalArgumentException.class, () -> BufferedBroadcastProcessor.create(16, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> BufferedBroadcastProcessor.create(16, SlowSubscriberPolicy.DROP_OLDEST).batches(0));
+    }
+
+    @Test
+    public void testWithTwoSubscribers() {
+        BufferedBroadcastProcessor<String> processor = BufferedBroadcastProcessor.create(16,
+                SlowSubscriberPolicy.DISCONNECT);
+
+        AssertSubscriber<String> subscriber1 = processor.subscribe()
+                .withSubscriber(AssertSubscriber.create(10));
+
+        processor.onNext("one");
+        processor.onNext("two");
+        processor.onNext("three");
+
+        AssertSubscriber<String> subscriber2 = processor.subscribe()
+                .withSubscriber(AssertSubscriber.create(10));
+
+        processor.onNext("four");
+        processor.onComplete();
+
+        subscriber1
+                .assertItems("one", "two", "three", "four")
+                .assertCompleted();
+
+        subscriber2
+                .assertItems("four")
+                .assertCompleted();
+    }
+
+    @Test
+    public void testItemsAreBufferedUntilRequested() {
+        BufferedBroadcastProcessor<Integer> processor = BufferedBroadcastProcessor.create(8,
+                SlowSubscriberPolicy.DISCONNECT);
+        AssertSubscriber<Integer> subscriber = processor.subscribe()
+                .withSubscriber(AssertSubscriber.create(0));
+
+        processor.onNext(1);
+        processor.onNext(2);
+        processor.onNext(3);
+        processor.onComplete();
+        subscriber.assertHasNotReceivedAnyItem().assertNotTerminated();
+
+        subscriber.request(2);
+        subscriber.assertItems(1, 2).assertNotTerminated();
+        subscriber.request(1);
+        subscriber.assertItems(1, 2, 3).assertCompleted();
+    }
+
+    @Test
+    public void testDropOldest() {
+        BufferedBroadcastProcessor<Integer> processor = BufferedBroadcastProcessor.create(4,
+                SlowSubscriberPolicy.DROP_OLDEST);
+        AssertSubscriber<Integer> slow = processor.subscribe()
+                .withSubscriber(AssertSubscriber.create(0));
+        AssertSubscriber<Integer> fast = processor.subscribe()
+                .withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        for (int i = 0; i < 10; i++) {
+            processor.onNext(i);
+        }
+        processor.onComplete();
+
+        fast.assertItems(0, 1, 2, 3, 4, 5, 6, 7, 8, 9).assertCompleted();
+        slow.request(Long.MAX_VALUE);
+        slow.assertItems(6, 7, 8, 9).assertCompleted();
+    }
+
+    @Test
+    public void testDropNewest() {
+        BufferedBroadcastProcessor<Integer> processor = BufferedBroadcastProcessor.create(4,
+                SlowSubscriberPolicy.DROP_NEWEST);
+        AssertSubscriber<Integer> slow = processor.subscribe()
+                .withSubscriber(AssertSubscriber.create(1));
+
+        for (int i = 0; i < 10; i++) {
+            processor.onNext(i);
+        }
+        processor.onComplete();
+
+        slow.assertItems(0);
+        slow.request(Long.MAX_VALUE);
+        slow.assertItems(0, 1, 2, 3, 4).assertCompleted();
+    }
+
+    @Test
+    public void testDisconnect() {
+        BufferedBroadcastProcessor<Integer> processor = BufferedBroadcastProcessor.create(4,
+                SlowSubscriberPolicy.DISCONNECT);
+        AssertSubscriber<Integer> slow = processor.subscribe()
+                .withSubscriber(AssertSubscriber.create(1));
+        AssertSubscriber<Integer> fast = processor.subscribe()
+                .withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        for (int i = 0; i < 10; i++) {
+            processor.onNext(i);
+        }
+
+        slow.assertItems(0).assertFailedWith(BackPressureFailure.class, "buffer is full");
+        fast.assertItems(0, 1, 2, 3, 4, 5, 6, 7, 8, 9).assertNotTerminated();
+
+        // The disconnected subscriber does not receive the completion
+        processor.onComplete();
+        fast.assertCompleted();
+        slow.assertFailedWith(BackPressureFailure.class);
+    }
+
+    @Test
+    public void testBatches() {
+        BufferedBroadcastProcessor<Integer> processor = BufferedBroadcastProcessor.create(16,
+                SlowSubscriberPolicy.DISCONNECT);
+        AssertSubscriber<List<Integer>> subscriber = processor.batches(4).subscribe()
+                .withSubscriber(AssertSubscriber.create(0));
+
+        for (int i = 0; i < 10; i++) {
+            processor.onNext(i);
+        }
+        processor.onComplete();
+
+        subscriber.request(2);
+        assertThat(subscriber.getItems()).containsExactly(Arrays.asList(0, 1, 2, 3), Arrays.asList(4, 5, 6, 7));
+        subscriber.request(5);
+        assertThat(subscriber.getItems()).hasSize(3).last().isEqualTo(Arrays.asList(8, 9));
+        subscriber.assertCompleted();
+    }
+
+    @Test
+    public void testFailureIsDeliveredAfterBufferedItems() {
+        BufferedBroadcastProcessor<Integer> processor = BufferedBroadcastProcessor.create(16,
+                SlowSubscriberPolicy.DISCONNECT);
+        AssertSubscriber<Integer> subscriber = processor.subscribe()
+                .withSubscriber(AssertSubscriber.create(0));
+
+        processor.onNext(1);
+        processor.onNext(2);
+        processor.onError(new IOException("boom"));
+        subscriber.assertNotTerminated();
+
+        subscriber.request(2);
+        subscriber.assertItems(1, 2).assertFailedWith(IOException.class, "boom");
+
+        AssertSubscriber<Integer> late = processor.subscribe()
+                .withSubscriber(AssertSubscriber.create(10));
+        late.assertHasNotReceivedAnyItem().assertFailedWith(IOException.class, "boom");
+    }
+
+    @Test
+    public void testNoItemAfterCancellation() {
+        BufferedBroadcastProcessor<String> processor = BufferedBroadcastProcessor.create(16,
+                SlowSubscriberPolicy.DISCONNECT);
+        AssertSubscriber<String> subscriber1 = processor.subscribe()
+                .withSubscriber(AssertSubscriber.create(10));
+        AssertSubscriber<String> subscriber2 = processor.subscribe()
+                .withSubscriber(AssertSubscriber.create(10));
+
+        processor.onNext("one");
+        subscriber1.cancel();
+        processor.onNext("two");
+        processor.onComplete();
+
+        subscriber1.assertItems("one").assertNotTerminated();
+        subscriber2.assertItems("one", "two").assertCompleted();
+    }
+
+    @Test
+    public void testWithManyConcurrentSubscribers() {
+        BufferedBroadcastProcessor<Integer> processor = BufferedBroadcastProcessor.create(64,
+                SlowSubscriberPolicy.DROP_OLDEST);
+        List<AssertSubscriber<Integer>> subscribers = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            subscribers.add(processor.emitOn(executor).subscribe()
+                    .withSubscriber(AssertSubscriber.create(Long.MAX_VALUE)));
+        }
+
+        Multi.createFrom().range(0, 10_000).subscribe().withSubscriber(processor);
+
+        for (AssertSubscriber<Integer> subscriber : subscribers) {
+            subscriber.awaitCompletion(Duration.ofSeconds(10));
+            assertThat(subscriber.getItems()).isSorted();
+            assertThat(subscriber.getItems()).last().isEqualTo(9999);
+        }
+    }
+}
@@ -66,6 +66,38 @@ public class UnicastProcessorTest {
         }
     }
 
+    @RepeatedTest(10)
+    public void testWithMultithreadedUpstreamAndMultiProducerQueue() throws InterruptedException {
+        UnicastProcessor<Integer> processor = UnicastProcessor.create(Queues.createMpscQueue(5 * 1000), null);
+        ExecutorService executor = Executors.newFixedThreadPool(5);
+        for (int i = 0; i < 5; i++) {
+            int t = i;
+            executor.submit(() -> {
+                for (int j = 0; j < 1000; j++) {
+                    processor.onNext(t * 1000 + j);
+                }
+            });
+        }
+
+        AssertSubscriber<Integer> subscriber = AssertSubscriber.create(Long.MAX_VALUE);
+        processor.subscribe(subscriber);
+
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("The executor shall have terminated");
+        }
+
+        processor.onComplete();
+
+        subscriber.awaitCompletion();
+        assertThat(subscriber.getItems()).hasSize(5 * 1000).doesNotHaveDuplicates();
+        for (int i = 0; i < 5; i++) {
+            int t = i;
+            // Items from a given producer are received in order
+            assertThat(subscriber.getItems()).filteredOn(item -> item / 1000 == t).isSorted();
+        }
+    }
+
     @Test
     public void testWithImmediateCancellationFromDownstream() {
         UnicastProcessor<String> processor = UnicastProcessor.create();
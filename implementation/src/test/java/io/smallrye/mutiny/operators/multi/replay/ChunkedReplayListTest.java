@@ -0,0 +1,234 @@
+package io.smallrye.mutiny.operators.multi.replay;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.awaitility.Awaitility.await;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+class ChunkedReplayListTest {
+
+    private static ChunkedReplayList unbounded(int chunkSize) {
+        return new ChunkedReplayList(Long.MAX_VALUE, 0L, Long.MAX_VALUE, null, chunkSize, null);
+    }
+
+    private static List<Object> readAll(ChunkedReplayList.Cursor cursor) {
+        List<Object> items = new ArrayList<>();
+        while (cursor.hasNext()) {
+            cursor.moveToNext();
+            if (cursor.hasReachedCompletion() || cursor.hasReachedFailure()) {
+                break;
+            }
+            items.add(cursor.read());
+        }
+        return items;
+    }
+
+    @Test
+    void checkReadyAtStart() {
+        ChunkedReplayList replayList = unbounded(4);
+        ChunkedReplayList.Cursor cursor = replayList.newCursor();
+
+        assertThat(cursor.hasNext()).isFalse();
+        replayList.push("foo");
+        replayList.push("bar");
+        assertThat(cursor.hasNext()).isTrue();
+        cursor.moveToNext();
+        assertThat(cursor.read()).isEqualTo("foo");
+        assertThat(cursor.hasNext()).isTrue();
+        cursor.moveToNext();
+        assertThat(cursor.read()).isEqualTo("bar");
+        assertThat(cursor.hasNext()).isFalse();
+    }
+
+    @Test
+    void pushItemsAcrossChunksAndComplete() {
+        ChunkedReplayList replayList = unbounded(4);
+        ChunkedReplayList.Cursor firstCursor = replayList.newCursor();
+        List<Object> reference = new ArrayList<>();
+        for (int i = 0; i < 23; i++) {
+            replayList.push(i);
+            reference.add(i);
+        }
+        replayList.pushCompletion();
+
+        assertThat(readAll(firstCursor)).isEqualTo(reference);
+        assertThat(firstCursor.hasReachedCompletion()).isTrue();
+        assertThat(firstCursor.hasNext()).isFalse();
+
+        ChunkedReplayList.Cursor secondCursor = replayList.newCursor();
+        assertThat(readAll(secondCursor)).isEqualTo(reference);
+        assertThat(secondCursor.hasReachedCompletion()).isTrue();
+    }
+
+    @Test
+    void pushSomeItemsAndFail() {
+        ChunkedReplayList replayList = unbounded(8);
+        for (int i = 0; i < 8; i++) {
+            replayList.push(i);
+        }
+        replayList.pushFailure(new IOException("woops"));
+
+        ChunkedReplayList.Cursor cursor = replayList.newCursor();
+        assertThat(readAll(cursor)).containsExactly(0, 1, 2, 3, 4, 5, 6, 7);
+        assertThat(cursor.hasReachedFailure()).isTrue();
+        assertThat(cursor.readFailure()).isInstanceOf(IOException.class).hasMessage("woops");
+        assertThat(cursor.hasNext()).isFalse();
+    }
+
+    @Test
+    void boundedReplay() {
+        ChunkedReplayList replayList = new ChunkedReplayList(3, 0L, Long.MAX_VALUE, null, 2, null);
+        replayList.push(1);
+        replayList.push(2);
+
+        ChunkedReplayList.Cursor firstCursor = replayList.newCursor();
+        firstCursor.moveToNext();
+        assertThat(firstCursor.read()).isEqualTo(1);
+
+        for (int i = 3; i <= 10; i++) {
+            replayList.push(i);
+        }
+
+        // Existing cursors keep their position
+        assertThat(readAll(firstCursor)).containsExactly(2, 3, 4, 5, 6, 7, 8, 9, 10);
+        assertThat(readAll(replayList.newCursor())).containsExactly(8, 9, 10);
+
+        replayList.pushFailure(new IOException("boom"));
+        ChunkedReplayList.Cursor lateCursor = replayList.newCursor();
+        assertThat(readAll(lateCursor)).containsExactly(8, 9, 10);
+        assertThat(lateCursor.readFailure()).isInstanceOf(IOException.class).hasMessage("boom");
+    }
+
+    @Test
+    void timeBoundedReplay() {
+        long ttl = Duration.ofMillis(100).toNanos();
+        ChunkedReplayList replayList = new ChunkedReplayList(Long.MAX_VALUE, ttl, Long.MAX_VALUE, null, 4, null);
+        for (int i = 0; i < 10; i++) {
+            replayList.push(i);
+        }
+        assertThat(readAll(replayList.newCursor())).hasSize(10);
+
+        await().pollDelay(Duration.ofMillis(150)).until(() -> true);
+        // Expired without any new push
+        assertThat(readAll(replayList.newCursor())).isEmpty();
+
+        replayList.push(10);
+        replayList.push(11);
+        assertThat(readAll(replayList.newCursor())).containsExactly(10, 11);
+
+        await().pollDelay(Duration.ofMillis(150)).until(() -> true);
+        replayList.pushCompletion();
+        ChunkedReplayList.Cursor cursor = replayList.newCursor();
+        assertThat(readAll(cursor)).isEmpty();
+        assertThat(cursor.hasReachedCompletion()).isTrue();
+    }
+
+    @Test
+    void weightBoundedReplay() {
+        ChunkedReplayList replayList = new ChunkedReplayList(Long.MAX_VALUE, 0L, 10L,
+                item -> ((String) item).length(), 2, null);
+        replayList.push("aaaa");
+        replayList.push("bbbb");
+        assertThat(readAll(replayList.newCursor())).containsExactly("aaaa", "bbbb");
+
+        replayList.push("cc");
+        replayList.push("d");
+        assertThat(readAll(replayList.newCursor())).containsExactly("bbbb", "cc", "d");
+
+        // The most recent item is always retained
+        replayList.push("eeeeeeeeeeeeeeee");
+        assertThat(readAll(replayList.newCursor())).containsExactly("eeeeeeeeeeeeeeee");
+
+        replayList.push("f");
+        assertThat(readAll(replayList.newCursor())).containsExactly("f");
+    }
+
+    @Test
+    void rejectNegativeWeights() {
+        ChunkedReplayList replayList = new ChunkedReplayList(Long.MAX_VALUE, 0L, 10L, item -> -1L, 2, null);
+        assertThatThrownBy(() -> replayList.push("foo"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("negative weight");
+    }
+
+    @Test
+    void seedBounded() {
+        List<Integer> seed = IntStream.range(1, 9).boxed().collect(Collectors.toList());
+        ChunkedReplayList replayList = new ChunkedReplayList(4, 0L, Long.MAX_VALUE, null, 3, seed);
+        replayList.push(9);
+        replayList.push(10);
+        replayList.pushCompletion();
+
+        ChunkedReplayList.Cursor cursor = replayList.newCursor();
+        assertThat(readAll(cursor)).isEqualTo(Arrays.asList(7, 8, 9, 10));
+        assertThat(cursor.hasReachedCompletion()).isTrue();
+    }
+
+    @Test
+    void forbidNull() {
+        assertThatThrownBy(() -> new ChunkedReplayList(Long.MAX_VALUE, 0L, Long.MAX_VALUE, null, 4,
+                Arrays.asList("foo", "bar", null)))
+                .isInstanceOf(IllegalArgumentException.class).hasMessage("`item` must not be `null`");
+    }
+
+    @Test
+    void concurrencySanityChecks() {
+        final int N_CONSUMERS = 4;
+        ChunkedReplayList replayList = new ChunkedReplayList(256, 0L, Long.MAX_VALUE, null, 16, null);
+        AtomicBoolean stop = new AtomicBoolean();
+        AtomicLong counter = new AtomicLong();
+        AtomicLong success = new AtomicLong();
+        ConcurrentLinkedDeque<String> problems = new ConcurrentLinkedDeque<>();
+        ExecutorService pool = Executors.newCachedThreadPool();
+
+        pool.submit(() -> {
+            long start = System.currentTimeMillis();
+            while (System.currentTimeMillis() - start < 2000L) {
+                for (int i = 0; i < 5000; i++) {
+                    replayList.push(counter.getAndIncrement());
+                }
+            }
+            stop.set(true);
+        });
+
+        for (int i = 0; i < N_CONSUMERS; i++) {
+            pool.submit(() -> {
+                ChunkedReplayList.Cursor cursor = replayList.newCursor();
+                while (!cursor.hasNext()) {
+                    // await
+                }
+                cursor.moveToNext();
+                long previous = (long) cursor.read();
+                while (!stop.get()) {
+                    if (!cursor.hasNext()) {
+                        continue;
+                    }
+                    cursor.moveToNext();
+                    long current = (long) cursor.read();
+                    if (current != previous + 1) {
+                        problems.add("Broken sequence " + previous + " -> " + current);
+                        return;
+                    }
+                    previous = current;
+                    success.incrementAndGet();
+                }
+            });
+        }
+
+        await().untilTrue(stop);
+        pool.shutdownNow();
+        assertThat(problems).isEmpty();
+        assertThat(success.get()).isGreaterThan(0L);
+    }
+}
@@ -0,0 +1,46 @@
+package io.smallrye.mutiny.math;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import io.smallrye.mutiny.Multi;
+
+/**
+ * A window containing the last {@code size} items emitted by the upstream.
+ * <p>
+ * By default, the window is tumbling: the aggregation is emitted every {@code size} items. Use {@link #every(int)} to
+ * emit it more often, such as {@code Math.over(100).every(10).average()} to emit the average of the last 100 items
+ * every 10 items.
+ */
+public final class CountWindow extends Window {
+
+    private final int size;
+    private final int step;
+
+    CountWindow(int size, int step) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("`size` must be greater than zero");
+        }
+        if (step <= 0) {
+            throw new IllegalArgumentException("`step` must be greater than zero");
+        }
+        this.size = size;
+        this.step = step;
+    }
+
+    /**
+     * Emits the aggregation every {@code step} items, making the window sliding if {@code step} is smaller than the
+     * window size.
+     *
+     * @param step the number of items between two emissions, must be strictly positive
+     * @return a new window emitting the aggregation every {@code step} items
+     */
+    public CountWindow every(int step) {
+        return new CountWindow(size, step);
+    }
+
+    @Override
+    <T, R> Function<Multi<T>, Multi<R>> aggregate(Supplier<WindowAggregator<T, R>> aggregator) {
+        return WindowOperators.countWindow(size, step, aggregator);
+    }
+}
@@ -1,5 +1,6 @@
 package io.smallrye.mutiny.math;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
@@ -92,7 +93,8 @@ public class Math {
      * Emits the median of the items previously emitted by the upstream.
      * On each received item, the new median is emitted downstream.
      * <p>
-     * Do not use that approach on unbounded streams.
+     * Do not use that approach on unbounded streams: all the items are kept in memory. Use {@link #percentile(double)}
+     * with {@code 0.5} to estimate the median of an unbounded stream in constant memory.
      * <p>
      * The final median can be retrieved using {@code multi.plug(Math.median()).collect().last()}.
      * <p>
@@ -111,6 +113,60 @@ public class Math {
         return new MedianOperator<>();
     }
 
+    /**
+     * Emits an estimation of a quantile of the items previously emitted by the upstream, such as the 99th percentile
+     * with {@code Math.percentile(0.99)}.
+     * On each received item, the new estimation is emitted downstream.
+     * <p>
+     * Unlike {@link #median()}, the items are not kept: they are counted in a constant-memory sketch of logarithmic
+     * buckets, so this operator can be used on unbounded streams. The estimation has a relative error of at most 1%
+     * (as long as the items do not span more than 17 orders of magnitude), and the quantiles 0 and 1 are exact.
+     * <p>
+     * If the upstream emits a failure, the failure is propagated downstream.
+     * If the upstream emits {@code NaN} or an infinite value, an {@link IllegalArgumentException} is propagated
+     * downstream.
+     * If the upstream completes without having emitted any item, the completion event is sent without any item emitted
+     * before.
+     *
+     * @param quantile the quantile to estimate, between 0 and 1, such as 0.5 for the median
+     * @param <T> the type of item emitted by the upstream
+     * @return a multi emitting the estimated quantile of the items emitted by the upstream
+     */
+    public static <T extends Number> Function<Multi<T>, Multi<Double>> percentile(double quantile) {
+        return new PercentileOperator<>(quantile, QuantileSketch.DEFAULT_RELATIVE_ACCURACY);
+    }
+
+    /**
+     * Same as {@link #percentile(double)}, with a custom relative accuracy. The memory used by the operator does not
+     * depend on the accuracy, but the range of items estimated with that accuracy does: the smaller the accuracy, the
+     * sooner the lowest items are merged together.
+     *
+     * @param quantile the quantile to estimate, between 0 and 1, such as 0.5 for the median
+     * @param relativeAccuracy the maximum relative error of the estimations, strictly between 0 and 1
+     * @param <T> the type of item emitted by the upstream
+     * @return a multi emitting the estimated quantile of the items emitted by the upstream
+     */
+    public static <T extends Number> Function<Multi<T>, Multi<Double>> percentile(double quantile,
+            double relativeAccuracy) {
+        return new PercentileOperator<>(quantile, relativeAccuracy);
+    }
+
+    /**
+     * Emits an estimation of several quantiles of the items previously emitted by the upstream, such as
+     * {@code Math.quantiles(0.5, 0.9, 0.99)}.
+     * On each received item, a map associating each quantile with its new estimation is emitted downstream. The map
+     * iterates over the quantiles in the given order.
+     * <p>
+     * The quantiles are estimated as with {@link #percentile(double)}, in constant memory.
+     *
+     * @param quantiles the quantiles to estimate, between 0 and 1, must not be {@code null} or empty
+     * @param <T> the type of item emitted by the upstream
+     * @return a multi emitting the estimated quantiles of the items emitted by the upstream
+     */
+    public static <T extends Number> Function<Multi<T>, Multi<Map<Double, Double>>> quantiles(double... quantiles) {
+        return new QuantilesOperator<>(quantiles);
+    }
+
     /**
      * Emits statistics (average, variance, standard deviation, min, max, count, skewness and kurtosis) of the items
      * previously emitted by the upstream. On each received item, a new statistic object is emitted downstream.
@@ -219,4 +275,34 @@ public class Math {
     public static <T> Function<Multi<T>, Multi<Map<T, Long>>> occurrence() {
         return new OccurrenceOperator<>();
     }
+
+    /**
+     * Creates a time window over the items emitted by the upstream, on which an aggregation can be computed.
+     * For example, {@code multi.plug(Math.over(Duration.ofSeconds(10)).every(Duration.ofSeconds(1)).average())} emits,
+     * every second, the average of the items received during the last 10 seconds.
+     * <p>
+     * Without {@link TimeWindow#every(Duration)}, the window is tumbling: the aggregation is emitted every
+     * {@code duration}.
+     *
+     * @param duration the duration of the window, must not be {@code null}, must be strictly positive
+     * @return the window
+     */
+    public static TimeWindow over(Duration duration) {
+        return new TimeWindow(duration, duration);
+    }
+
+    /**
+     * Creates a window over the last {@code size} items emitted by the upstream, on which an aggregation can be
+     * computed. For example, {@code multi.plug(Math.over(100).every(10).max())} emits, every 10 items, the maximum of
+     * the last 100 items.
+     * <p>
+     * Without {@link CountWindow#every(int)}, the window is tumbling: the aggregation is emitted every {@code size}
+     * items.
+     *
+     * @param size the number of items in the window, must be strictly positive
+     * @return the window
+     */
+    public static CountWindow over(int size) {
+        return new CountWindow(size, size);
+    }
 }
@@ -0,0 +1,37 @@
+package io.smallrye.mutiny.math;
+
+import java.util.function.Function;
+
+import io.smallrye.mutiny.Multi;
+
+/**
+ * Percentile operator emitting an approximation of a quantile of all the items emitted by the upstream.
+ * <p>
+ * Everytime it gets an item from upstream, it emits the estimated quantile of the already received items.
+ * The items are counted in a {@link QuantileSketch}, so the memory used by the operator does not depend on the number
+ * of items.
+ * If the stream emits the completion event without having emitting any item before, the completion event is emitted.
+ * If the upstream emits a failure, then, the failure is propagated.
+ */
+public class PercentileOperator<T extends Number> implements Function<Multi<T>, Multi<Double>> {
+
+    private final double quantile;
+    private final double relativeAccuracy;
+
+    PercentileOperator(double quantile, double relativeAccuracy) {
+        this.quantile = QuantilesOperator.validateQuantile(quantile);
+        this.relativeAccuracy = QuantilesOperator.validateRelativeAccuracy(relativeAccuracy);
+    }
+
+    @Override
+    public Multi<Double> apply(Multi<T> multi) {
+        return Multi.createFrom().deferred(() -> {
+            QuantileSketch sketch = new QuantileSketch(relativeAccuracy, QuantileSketch.DEFAULT_MAX_BUCKETS, quantile);
+            return multi
+                    .onItem().transform(x -> {
+                        sketch.add(x.doubleValue());
+                        return sketch.quantile(0);
+                    });
+        });
+    }
+}
@@ -0,0 +1,315 @@
+package io.smallrye.mutiny.math;
+
+import java.util.Arrays;
+
+/**
+ * A constant-memory sketch estimating quantiles with a bounded relative error.
+ * <p>
+ * The values are counted in logarithmic buckets: with a relative accuracy {@code a}, the bucket {@code i} contains the
+ * values in {@code (g^(i-1), g^i]} with {@code g = (1 + a) / (1 - a)}, and any value of the bucket is estimated with a
+ * relative error of at most {@code a}. The positive and negative values are counted in two stores of buckets, and the
+ * values whose magnitude is below {@link Double#MIN_NORMAL} are counted as 0.
+ * <p>
+ * Each store keeps at most {@code maxBuckets} contiguous buckets. When the values span more buckets, the buckets of
+ * the smallest magnitudes are merged together, which degrades the accuracy of the quantiles close to 0 only.
+ * With the default settings (1% and 2048 buckets), the values spanning 17 orders of magnitude are estimated without
+ * any merge.
+ * <p>
+ * The tracked quantiles are maintained incrementally: each of them has a cursor on the bucket containing its rank,
+ * moved when a value is added, so reading a quantile does not scan the buckets.
+ * <p>
+ * Instances are not thread-safe, and are used by a single subscription.
+ */
+final class QuantileSketch {
+
+    static final double DEFAULT_RELATIVE_ACCURACY = 0.01;
+    static final int DEFAULT_MAX_BUCKETS = 2048;
+
+    // The cursor segments, in ascending order of values
+    private static final int NEGATIVE = 0;
+    private static final int ZERO = 1;
+    private static final int POSITIVE = 2;
+
+    private final double gamma;
+    private final double logGamma;
+    private final int minIndex;
+
+    private final Store negative;
+    private final Store positive;
+    private long zeros;
+
+    private long count;
+    private double min;
+    private double max;
+
+    private final double[] quantiles;
+    private final int[] cursorSegments;
+    private final int[] cursorKeys;
+    /**
+     * For each quantile, the number of values before its cursor.
+     */
+    private final long[] cursorBelow;
+
+    QuantileSketch(double relativeAccuracy, int maxBuckets, double... quantiles) {
+        this.gamma = (1.0d + relativeAccuracy) / (1.0d - relativeAccuracy);
+        this.logGamma = java.lang.Math.log(gamma);
+        this.minIndex = (int) java.lang.Math.ceil(java.lang.Math.log(Double.MIN_NORMAL) / logGamma);
+        this.negative = new Store(maxBuckets);
+        this.positive = new Store(maxBuckets);
+        this.quantiles = quantiles;
+        this.cursorSegments = new int[quantiles.length];
+        this.cursorKeys = new int[quantiles.length];
+        this.cursorBelow = new long[quantiles.length];
+    }
+
+    void add(double value) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            throw new IllegalArgumentException("Cannot compute the quantiles of `" + value + "`");
+        }
+        count++;
+        min = count == 1 ? value : java.lang.Math.min(min, value);
+        max = count == 1 ? value : java.lang.Math.max(max, value);
+
+        int segment;
+        int key;
+        boolean moved = false;
+        if (value >= Double.MIN_NORMAL) {
+            segment = POSITIVE;
+            key = index(value);
+            moved = positive.add(key);
+            key = positive.clamp(key);
+        } else if (value <= -Double.MIN_NORMAL) {
+            segment = NEGATIVE;
+            key = index(-value);
+            moved = negative.add(key);
+            key = negative.clamp(key);
+        } else {
+            segment = ZERO;
+            key = 0;
+            zeros++;
+        }
+
+        for (int i = 0; i < quantiles.length; i++) {
+            if (count == 1 || moved) {
+                seek(i);
+            } else {
+                if (before(segment, key, cursorSegments[i], cursorKeys[i])) {
+                    cursorBelow[i]++;
+                }
+                move(i);
+            }
+        }
+    }
+
+    private static boolean before(int segment, int key, int otherSegment, int otherKey) {
+        if (segment != otherSegment) {
+            return segment < otherSegment;
+        }
+        // The negative values are in descending order of magnitude
+        return segment == NEGATIVE ? key > otherKey : key < otherKey;
+    }
+
+    private long countAt(int segment, int key) {
+        switch (segment) {
+            case NEGATIVE:
+                return negative.get(key);
+            case POSITIVE:
+                return positive.get(key);
+            default:
+                return zeros;
+        }
+    }
+
+    private long rank(int quantile) {
+        return (long) (quantiles[quantile] * (count - 1));
+    }
+
+    /**
+     * Moves the cursor of the given quantile to the first bucket in which the cumulated count exceeds its rank.
+     * The cursor moves by a few buckets, as each added value changes the rank and the count before the cursor by at
+     * most one.
+     */
+    private void move(int quantile) {
+        long rank = rank(quantile);
+        int segment = cursorSegments[quantile];
+        int key = cursorKeys[quantile];
+        long below = cursorBelow[quantile];
+        while (below > rank) {
+            // Move to the previous bucket
+            if (segment == POSITIVE && key > positive.minKey) {
+                key--;
+            } else if (segment == POSITIVE) {
+                segment = ZERO;
+                key = 0;
+            } else if (segment == ZERO) {
+                segment = NEGATIVE;
+                key = negative.minKey;
+            } else {
+                key++;
+            }
+            below -= countAt(segment, key);
+        }
+        while (below + countAt(segment, key) <= rank) {
+            below += countAt(segment, key);
+            // Move to the next bucket
+            if (segment == NEGATIVE && key > negative.minKey) {
+                key--;
+            } else if (segment == NEGATIVE) {
+                segment = ZERO;
+                key = 0;
+            } else if (segment == ZERO) {
+                segment = POSITIVE;
+                key = positive.minKey;
+            } else {
+                key++;
+            }
+        }
+        cursorSegments[quantile] = segment;
+        cursorKeys[quantile] = key;
+        cursorBelow[quantile] = below;
+    }
+
+    /**
+     * Finds the cursor of the given quantile from the lowest value, when the buckets have been moved.
+     */
+    private void seek(int quantile) {
+        if (negative.isEmpty()) {
+            cursorSegments[quantile] = ZERO;
+            cursorKeys[quantile] = 0;
+        } else {
+            cursorSegments[quantile] = NEGATIVE;
+            cursorKeys[quantile] = negative.maxKey;
+        }
+        cursorBelow[quantile] = 0;
+        move(quantile);
+    }
+
+    private int index(double magnitude) {
+        return (int) java.lang.Math.ceil(java.lang.Math.log(magnitude) / logGamma) - minIndex;
+    }
+
+    private double magnitude(int key) {
+        return 2.0d * java.lang.Math.exp((key + minIndex) * logGamma) / (1.0d + gamma);
+    }
+
+    long count() {
+        return count;
+    }
+
+    /**
+     * @param quantile the index of the quantile, in the array passed to the constructor
+     * @return the estimation of the quantile, which is exact for the quantiles 0 and 1
+     */
+    double quantile(int quantile) {
+        double q = quantiles[quantile];
+        if (q == 0.0d) {
+            return min;
+        }
+        if (q == 1.0d) {
+            return max;
+        }
+        double estimation;
+        switch (cursorSegments[quantile]) {
+            case NEGATIVE:
+                estimation = -magnitude(cursorKeys[quantile]);
+                break;
+            case POSITIVE:
+                estimation = magnitude(cursorKeys[quantile]);
+                break;
+            default:
+                estimation = 0.0d;
+        }
+        return java.lang.Math.max(min, java.lang.Math.min(max, estimation));
+    }
+
+    /**
+     * The counts of a window of at most {@code maxBuckets} contiguous buckets.
+     */
+    private static final class Store {
+        private final long[] counts;
+        private final int maxBuckets;
+        /**
+         * The key of {@code counts[0]}.
+         */
+        private int base;
+        private int minKey;
+        private int maxKey;
+        private boolean empty = true;
+
+        Store(int maxBuckets) {
+            this.maxBuckets = maxBuckets;
+            this.counts = new long[maxBuckets];
+        }
+
+        boolean isEmpty() {
+            return empty;
+        }
+
+        long get(int key) {
+            return counts[key - base];
+        }
+
+        int clamp(int key) {
+            return java.lang.Math.max(key, base);
+        }
+
+        /**
+         * @return {@code true} if the buckets have been moved
+         */
+        boolean add(int key) {
+            boolean moved = false;
+            if (empty) {
+                empty = false;
+                base = key - maxBuckets / 2;
+                minKey = key;
+                maxKey = key;
+                moved = true;
+            } else if (key < base) {
+                if (maxKey - key < maxBuckets) {
+                    rebase(maxKey - maxBuckets + 1 + (maxBuckets - 1 - (maxKey - key)) / 2);
+                } else {
+                    // Too wide: the value is counted in the lowest bucket
+                    rebase(maxKey - maxBuckets + 1);
+                    key = base;
+                }
+                moved = true;
+            } else if (key >= base + maxBuckets) {
+                if (key - minKey < maxBuckets) {
+                    rebase(minKey - (maxBuckets - 1 - (key - minKey)) / 2);
+                } else {
+                    rebase(key - maxBuckets + 1);
+                }
+                moved = true;
+            }
+            minKey = java.lang.Math.min(minKey, key);
+            maxKey = java.lang.Math.max(maxKey, key);
+            counts[key - base]++;
+            return moved;
+        }
+
+        /**
+         * Moves the window of buckets so that it starts at {@code newBase}, merging the buckets below it into the
+         * first one.
+         */
+        private void rebase(int newBase) {
+            long merged = 0;
+            for (int key = minKey; key < newBase && key <= maxKey; key++) {
+                merged += counts[key - base];
+            }
+            int shift = newBase - base;
+            if (java.lang.Math.abs(shift) >= maxBuckets) {
+                Arrays.fill(counts, 0L);
+            } else if (shift > 0) {
+                System.arraycopy(counts, shift, counts, 0, maxBuckets - shift);
+                Arrays.fill(counts, maxBuckets - shift, maxBuckets, 0L);
+            } else if (shift < 0) {
+                System.arraycopy(counts, 0, counts, -shift, maxBuckets + shift);
+                Arrays.fill(counts, 0, -shift, 0L);
+            }
+            base = newBase;
+            counts[0] += merged;
+            minKey = java.lang.Math.max(minKey, newBase);
+            maxKey = java.lang.Math.max(maxKey, newBase);
+        }
+    }
+}
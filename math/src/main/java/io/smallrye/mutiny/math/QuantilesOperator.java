@@ -0,0 +1,64 @@
+package io.smallrye.mutiny.math;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import io.smallrye.mutiny.Multi;
+
+/**
+ * Quantiles operator emitting an approximation of several quantiles of all the items emitted by the upstream.
+ * <p>
+ * Everytime it gets an item from upstream, it emits a map associating each requested quantile with its estimation,
+ * in the order of the requested quantiles.
+ * The items are counted in a {@link QuantileSketch}, so the memory used by the operator does not depend on the number
+ * of items.
+ * If the stream emits the completion event without having emitting any item before, the completion event is emitted.
+ * If the upstream emits a failure, then, the failure is propagated.
+ */
+public class QuantilesOperator<T extends Number> implements Function<Multi<T>, Multi<Map<Double, Double>>> {
+
+    private final double[] quantiles;
+
+    QuantilesOperator(double... quantiles) {
+        if (quantiles == null || quantiles.length == 0) {
+            throw new IllegalArgumentException("`quantiles` must not be `null` or empty");
+        }
+        for (double quantile : quantiles) {
+            validateQuantile(quantile);
+        }
+        this.quantiles = quantiles.clone();
+    }
+
+    static double validateQuantile(double quantile) {
+        if (!(quantile >= 0.0d && quantile <= 1.0d)) {
+            throw new IllegalArgumentException("`quantile` must be in [0, 1], got " + quantile);
+        }
+        return quantile;
+    }
+
+    static double validateRelativeAccuracy(double relativeAccuracy) {
+        if (!(relativeAccuracy > 0.0d && relativeAccuracy < 1.0d)) {
+            throw new IllegalArgumentException("`relativeAccuracy` must be in (0, 1), got " + relativeAccuracy);
+        }
+        return relativeAccuracy;
+    }
+
+    @Override
+    public Multi<Map<Double, Double>> apply(Multi<T> multi) {
+        return Multi.createFrom().deferred(() -> {
+            QuantileSketch sketch = new QuantileSketch(QuantileSketch.DEFAULT_RELATIVE_ACCURACY,
+                    QuantileSketch.DEFAULT_MAX_BUCKETS, quantiles);
+            return multi
+                    .onItem().transform(x -> {
+                        sketch.add(x.doubleValue());
+                        Map<Double, Double> estimations = new LinkedHashMap<>();
+                        for (int i = 0; i < quantiles.length; i++) {
+                            estimations.put(quantiles[i], sketch.quantile(i));
+                        }
+                        return Collections.unmodifiableMap(estimations);
+                    });
+        });
+    }
+}
@@ -0,0 +1,55 @@
+package io.smallrye.mutiny.math;
+
+import java.time.Duration;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import io.smallrye.mutiny.Multi;
+
+/**
+ * A window containing the items emitted by the upstream during the last {@code duration}.
+ * <p>
+ * By default, the window is tumbling: the aggregation is emitted every {@code duration}. Use {@link #every(Duration)}
+ * to emit it more often, such as {@code Math.over(Duration.ofSeconds(10)).every(Duration.ofSeconds(1)).average()} to
+ * emit the average of the items received during the last 10 seconds every second.
+ * <p>
+ * The emissions are driven by a periodic timer on the default worker pool, even when no item is received. As with
+ * {@code Multi.createFrom().ticks()}, if the downstream does not request enough items to follow the timer, a
+ * {@link io.smallrye.mutiny.subscription.BackPressureFailure} is propagated.
+ */
+public final class TimeWindow extends Window {
+
+    private final Duration duration;
+    private final Duration period;
+
+    TimeWindow(Duration duration, Duration period) {
+        this.duration = validate(duration, "duration");
+        this.period = validate(period, "period");
+    }
+
+    private static Duration validate(Duration duration, String name) {
+        if (duration == null) {
+            throw new IllegalArgumentException("`" + name + "` must not be `null`");
+        }
+        if (duration.isZero() || duration.isNegative()) {
+            throw new IllegalArgumentException("`" + name + "` must be greater than zero");
+        }
+        return duration;
+    }
+
+    /**
+     * Emits the aggregation every {@code period}, making the window sliding if {@code period} is shorter than the
+     * window duration.
+     *
+     * @param period the duration between two emissions, must not be {@code null}, must be strictly positive
+     * @return a new window emitting the aggregation every {@code period}
+     */
+    public TimeWindow every(Duration period) {
+        return new TimeWindow(duration, period);
+    }
+
+    @Override
+    <T, R> Function<Multi<T>, Multi<R>> aggregate(Supplier<WindowAggregator<T, R>> aggregator) {
+        return WindowOperators.timeWindow(duration, period, aggregator);
+    }
+}
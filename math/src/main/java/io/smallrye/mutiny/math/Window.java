@@ -0,0 +1,95 @@
+package io.smallrye.mutiny.math;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import io.smallrye.mutiny.Multi;
+
+/**
+ * A window over the items emitted by the upstream, on which aggregations are computed.
+ * <p>
+ * The windows are created using {@link Math#over(java.time.Duration)} (time windows) and {@link Math#over(int)}
+ * (count windows). By default, windows are <em>tumbling</em>: an aggregation is emitted once per window, and the
+ * windows do not overlap. They can be made <em>sliding</em> with {@code every}, in which case the aggregation of the
+ * last window is emitted at the given pace.
+ * <p>
+ * The aggregations are maintained incrementally as the items enter and leave the window: adding or evicting an item is
+ * O(1) (amortized), so the cost does not depend on how often the aggregation is emitted.
+ * <p>
+ * When the upstream completes, the aggregation of the current window is emitted if items have been received since
+ * the last emission.
+ * If the upstream emits a failure, the failure is propagated downstream.
+ */
+public abstract class Window {
+
+    Window() {
+        // Use Math.over(...)
+    }
+
+    abstract <T, R> Function<Multi<T>, Multi<R>> aggregate(Supplier<WindowAggregator<T, R>> aggregator);
+
+    /**
+     * Emits the number of items in the window. An empty window counts 0 items.
+     *
+     * @param <T> the type of item emitted by the upstream
+     * @return the operator to {@code plug}
+     */
+    public <T> Function<Multi<T>, Multi<Long>> count() {
+        return aggregate(WindowAggregator.Count::new);
+    }
+
+    /**
+     * Emits the sum of the items in the window. The sum of an empty window is 0.
+     *
+     * @param <T> the type of item emitted by the upstream
+     * @return the operator to {@code plug}
+     */
+    public <T extends Number> Function<Multi<T>, Multi<Double>> sum() {
+        return aggregate(WindowAggregator.Sum::new);
+    }
+
+    /**
+     * Emits the average of the items in the window. Nothing is emitted for an empty window.
+     *
+     * @param <T> the type of item emitted by the upstream
+     * @return the operator to {@code plug}
+     */
+    public <T extends Number> Function<Multi<T>, Multi<Double>> average() {
+        return aggregate(WindowAggregator.Average::new);
+    }
+
+    /**
+     * Emits the minimum of the items in the window, according to {@link Comparable#compareTo(Object)}.
+     * Nothing is emitted for an empty window.
+     *
+     * @param <T> the type of item emitted by the upstream
+     * @return the operator to {@code plug}
+     */
+    public <T extends Comparable<T>> Function<Multi<T>, Multi<T>> min() {
+        return this.<T, T> aggregate(() -> new WindowAggregator.Extremum<>(false));
+    }
+
+    /**
+     * Emits the maximum of the items in the window, according to {@link Comparable#compareTo(Object)}.
+     * Nothing is emitted for an empty window.
+     *
+     * @param <T> the type of item emitted by the upstream
+     * @return the operator to {@code plug}
+     */
+    public <T extends Comparable<T>> Function<Multi<T>, Multi<T>> max() {
+        return this.<T, T> aggregate(() -> new WindowAggregator.Extremum<>(true));
+    }
+
+    /**
+     * Emits the median of the items in the window. Nothing is emitted for an empty window.
+     * <p>
+     * Unlike the other aggregations, computing the median is linear in the number of items in the window, but this
+     * cost is only paid when the median is emitted.
+     *
+     * @param <T> the type of item emitted by the upstream
+     * @return the operator to {@code plug}
+     */
+    public <T extends Number & Comparable<T>> Function<Multi<T>, Multi<Double>> median() {
+        return aggregate(WindowAggregator.Median::new);
+    }
+}
@@ -0,0 +1,217 @@
+package io.smallrye.mutiny.math;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Maintains an aggregation over the items of a window incrementally.
+ * <p>
+ * Items enter the window with {@link #add(Object)} and leave it with {@link #remove(Object)}, in the same (FIFO)
+ * order, so the aggregators do not need to store the window when the aggregation can be updated in place.
+ * Instances are not thread-safe, and are used by a single subscription.
+ *
+ * @param <T> the type of item
+ * @param <R> the type of result
+ */
+abstract class WindowAggregator<T, R> {
+
+    abstract void add(T item);
+
+    abstract void remove(T item);
+
+    /**
+     * @return the aggregation of the items of the window, {@code null} if there is nothing to emit for an empty window
+     */
+    abstract R result();
+
+    static final class Count<T> extends WindowAggregator<T, Long> {
+        private long count;
+
+        @Override
+        void add(T item) {
+            count++;
+        }
+
+        @Override
+        void remove(T item) {
+            count--;
+        }
+
+        @Override
+        Long result() {
+            return count;
+        }
+    }
+
+    static final class Sum<T extends Number> extends WindowAggregator<T, Double> {
+        private double sum;
+        private long count;
+
+        @Override
+        void add(T item) {
+            sum += item.doubleValue();
+            count++;
+        }
+
+        @Override
+        void remove(T item) {
+            count--;
+            // Reset the sum when the window gets empty, so the rounding errors do not accumulate
+            sum = count == 0 ? 0.0d : sum - item.doubleValue();
+        }
+
+        @Override
+        Double result() {
+            return sum;
+        }
+
+        double sum() {
+            return sum;
+        }
+
+        long count() {
+            return count;
+        }
+    }
+
+    static final class Average<T extends Number> extends WindowAggregator<T, Double> {
+        private final Sum<T> sum = new Sum<>();
+
+        @Override
+        void add(T item) {
+            sum.add(item);
+        }
+
+        @Override
+        void remove(T item) {
+            sum.remove(item);
+        }
+
+        @Override
+        Double result() {
+            if (sum.count() == 0) {
+                return null;
+            }
+            return sum.sum() / (double) sum.count();
+        }
+    }
+
+    /**
+     * Sliding minimum or maximum using a monotonic deque: the deque holds the items that can still become the
+     * extremum, from the best to the worst, so each item is pushed and popped at most once.
+     */
+    static final class Extremum<T extends Comparable<T>> extends WindowAggregator<T, T> {
+        private final Deque<T> candidates = new ArrayDeque<>();
+        private final boolean max;
+
+        Extremum(boolean max) {
+            this.max = max;
+        }
+
+        private int compare(T a, T b) {
+            return max ? a.compareTo(b) : b.compareTo(a);
+        }
+
+        @Override
+        void add(T item) {
+            // The candidates worse than the new item can never be the extremum again
+            while (!candidates.isEmpty() && compare(candidates.peekLast(), item) < 0) {
+                candidates.pollLast();
+            }
+            candidates.offerLast(item);
+        }
+
+        @Override
+        void remove(T item) {
+            if (!candidates.isEmpty() && candidates.peekFirst().compareTo(item) == 0) {
+                candidates.pollFirst();
+            }
+        }
+
+        @Override
+        T result() {
+            return candidates.peekFirst();
+        }
+    }
+
+    /**
+     * Sliding median. The items are kept in arrival order, and the median is selected in linear time when a result is
+     * requested, so adding and removing an item is O(1).
+     */
+    static final class Median<T extends Number & Comparable<T>> extends WindowAggregator<T, Double> {
+        private final Deque<T> items = new ArrayDeque<>();
+        private double[] values = new double[16];
+
+        @Override
+        void add(T item) {
+            items.offerLast(item);
+        }
+
+        @Override
+        void remove(T item) {
+            items.pollFirst();
+        }
+
+        @Override
+        Double result() {
+            int n = items.size();
+            if (n == 0) {
+                return null;
+            }
+            if (values.length < n) {
+                values = new double[Integer.highestOneBit(n) << 1];
+            }
+            int i = 0;
+            for (T item : items) {
+                values[i++] = item.doubleValue();
+            }
+            double upper = select(values, n, n / 2);
+            if (n % 2 == 1) {
+                return upper;
+            }
+            // After the selection, the lower half is on the left of the upper median
+            double lower = values[0];
+            for (int j = 1; j < n / 2; j++) {
+                lower = java.lang.Math.max(lower, values[j]);
+            }
+            return (lower + upper) / 2.0d;
+        }
+
+        /**
+         * Quickselect: partially sorts {@code a[0..n)} so that {@code a[k]} is the k-th smallest value, the smaller
+         * values being on its left.
+         */
+        private static double select(double[] a, int n, int k) {
+            int left = 0;
+            int right = n - 1;
+            while (left < right) {
+                double pivot = a[(left + right) >>> 1];
+                int i = left;
+                int j = right;
+                while (i <= j) {
+                    while (a[i] < pivot) {
+                        i++;
+                    }
+                    while (a[j] > pivot) {
+                        j--;
+                    }
+                    if (i <= j) {
+                        double tmp = a[i];
+                        a[i] = a[j];
+                        a[j] = tmp;
+                        i++;
+                        j--;
+                    }
+                }
+                if (k <= j) {
+                    right = j;
+                } else if (k >= i) {
+                    left = i;
+                } else {
+                    break;
+                }
+            }
+            return a[k];
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package io.smallrye.mutiny.math;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import io.smallrye.mutiny.Multi;
+
+/**
+ * The operators computing windowed aggregations.
+ * <p>
+ * The window state is created per subscription, so the returned functions can be plugged several times.
+ */
+class WindowOperators {
+
+    /**
+     * Returned by the window states when there is nothing to emit.
+     */
+    private static final Object NOTHING = new Object();
+
+    /**
+     * Emitted by the ticks stream, to close time windows.
+     */
+    private static final Object TICK = new Object();
+
+    /**
+     * Emitted after the last item of the upstream, to stop the ticks stream.
+     */
+    private static final Object END = new Object();
+
+    private WindowOperators() {
+        // Avoid direct instantiation
+    }
+
+    static <T, R> Function<Multi<T>, Multi<R>> countWindow(int size, int step,
+            Supplier<WindowAggregator<T, R>> aggregator) {
+        return upstream -> Multi.createFrom().deferred(() -> {
+            CountWindowState<T, R> state = new CountWindowState<>(size, step, aggregator.get());
+            Multi<Object> results = upstream.onItem().transform(state::onItem);
+            return WindowOperators.<R> emit(results)
+                    .onCompletion().continueWith(state::remaining);
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T, R> Function<Multi<T>, Multi<R>> timeWindow(Duration window, Duration period,
+            Supplier<WindowAggregator<T, R>> aggregator) {
+        return upstream -> Multi.createFrom().deferred(() -> {
+            TimeWindowState<T, R> state = new TimeWindowState<>(window.toNanos(), period.toNanos(), aggregator.get());
+            Multi<Object> items = upstream.onItem().<Object> transform(item -> item)
+                    .onCompletion().continueWith(END);
+            Multi<Object> ticks = Multi.createFrom().ticks().startingAfter(period).every(period)
+                    .onItem().transform(x -> TICK);
+            Multi<Object> results = Multi.createBy().merging().streams(items, ticks)
+                    .select().first(event -> event != END)
+                    .onItem().transform(event -> event == TICK ? state.onTick() : state.onItem((T) event));
+            return WindowOperators.<R> emit(results)
+                    .onCompletion().continueWith(state::remaining);
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <R> Multi<R> emit(Multi<Object> results) {
+        return results
+                .select().where(result -> result != NOTHING)
+                .onItem().transform(result -> (R) result);
+    }
+
+    /**
+     * The state of a count window: the last {@code size} items, the aggregation being emitted every {@code step} items.
+     */
+    private static final class CountWindowState<T, R> {
+        private final int size;
+        private final int step;
+        private final WindowAggregator<T, R> aggregator;
+        private final Deque<T> window = new ArrayDeque<>();
+        private int sinceLastEmission;
+
+        CountWindowState(int size, int step, WindowAggregator<T, R> aggregator) {
+            this.size = size;
+            this.step = step;
+            this.aggregator = aggregator;
+        }
+
+        Object onItem(T item) {
+            window.offerLast(item);
+            aggregator.add(item);
+            if (window.size() > size) {
+                aggregator.remove(window.pollFirst());
+            }
+            if (++sinceLastEmission == step) {
+                sinceLastEmission = 0;
+                Object result = result();
+                if (step >= size) {
+                    // Tumbling (or hopping) window: the next window does not contain the items of this one
+                    while (!window.isEmpty()) {
+                        aggregator.remove(window.pollFirst());
+                    }
+                }
+                return result;
+            }
+            return NOTHING;
+        }
+
+        private Object result() {
+            R result = aggregator.result();
+            return result == null ? NOTHING : result;
+        }
+
+        List<R> remaining() {
+            if (sinceLastEmission == 0) {
+                return Collections.emptyList();
+            }
+            sinceLastEmission = 0;
+            R result = aggregator.result();
+            return result == null ? Collections.emptyList() : Collections.singletonList(result);
+        }
+    }
+
+    /**
+     * The state of a time window: the items received during the last {@code window} nanoseconds, with their reception
+     * time. The aggregation is emitted on each tick.
+     * <p>
+     * When the ticks are at least {@code window} apart, the windows do not overlap: all the items are removed after each
+     * emission, so the boundaries of the windows are the ticks and do not depend on the timer accuracy.
+     */
+    static final class TimeWindowState<T, R> {
+        private final long window;
+        private final boolean sliding;
+        private final boolean hopping;
+        private final WindowAggregator<T, R> aggregator;
+        private final Deque<T> items = new ArrayDeque<>();
+        private final Deque<Long> timestamps = new ArrayDeque<>();
+        private boolean receivedSinceLastEmission;
+
+        TimeWindowState(long window, long period, WindowAggregator<T, R> aggregator) {
+            this.window = window;
+            this.sliding = period < window;
+            this.hopping = period > window;
+            this.aggregator = aggregator;
+        }
+
+        Object onItem(T item) {
+            long now = System.nanoTime();
+            if (sliding) {
+                evict(now);
+            }
+            items.offerLast(item);
+            timestamps.offerLast(now);
+            aggregator.add(item);
+            receivedSinceLastEmission = true;
+            return NOTHING;
+        }
+
+        Object onTick() {
+            if (sliding || hopping) {
+                // With hopping windows, the items received between two windows are not part of any window
+                evict(System.nanoTime());
+            }
+            receivedSinceLastEmission = false;
+            R result = aggregator.result();
+            if (!sliding) {
+                // Tumbling (or hopping) window: the next window does not contain the items of this one
+                while (!items.isEmpty()) {
+                    timestamps.pollFirst();
+                    aggregator.remove(items.pollFirst());
+                }
+            }
+            return result == null ? NOTHING : result;
+        }
+
+        private void evict(long now) {
+            while (!timestamps.isEmpty() && now - timestamps.peekFirst() >= window) {
+                timestamps.pollFirst();
+                aggregator.remove(items.pollFirst());
+            }
+        }
+
+        List<R> remaining() {
+            if (!receivedSinceLastEmission) {
+                return Collections.emptyList();
+            }
+            if (sliding || hopping) {
+                evict(System.nanoTime());
+            }
+            R result = aggregator.result();
+            return result == null ? Collections.emptyList() : Collections.singletonList(result);
+        }
+    }
+}
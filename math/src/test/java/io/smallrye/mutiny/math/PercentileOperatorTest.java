@@ -0,0 +1,173 @@
+package io.smallrye.mutiny.math;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.helpers.test.AssertSubscriber;
+
+public class PercentileOperatorTest {
+
+    @Test
+    public void testInvalidParameters() {
+        assertThrows(IllegalArgumentException.class, () -> Math.percentile(-0.1));
+        assertThrows(IllegalArgumentException.class, () -> Math.percentile(1.1));
+        assertThrows(IllegalArgumentException.class, () -> Math.percentile(Double.NaN));
+        assertThrows(IllegalArgumentException.class, () -> Math.percentile(0.5, 0.0));
+        assertThrows(IllegalArgumentException.class, () -> Math.percentile(0.5, 1.0));
+        assertThrows(IllegalArgumentException.class, () -> Math.quantiles());
+        assertThrows(IllegalArgumentException.class, () -> Math.quantiles(0.5, 2.0));
+    }
+
+    @Test
+    public void testWithEmpty() {
+        AssertSubscriber<Double> subscriber = Multi.createFrom().<Integer> empty()
+                .plug(Math.percentile(0.99))
+                .subscribe().withSubscriber(AssertSubscriber.create(10));
+
+        subscriber
+                .awaitCompletion()
+                .assertHasNotReceivedAnyItem();
+    }
+
+    @Test
+    public void testWithNever() {
+        AssertSubscriber<Double> subscriber = Multi.createFrom().<Long> nothing()
+                .plug(Math.percentile(0.99))
+                .subscribe().withSubscriber(AssertSubscriber.create(10));
+
+        subscriber.cancel();
+        subscriber.assertNotTerminated();
+        Assertions.assertEquals(0, subscriber.getItems().size());
+    }
+
+    @Test
+    public void testWithFailure() {
+        AssertSubscriber<Double> subscriber = Multi.createFrom().items(1, 2, 3)
+                .onCompletion().failWith(new IOException("boom"))
+                .plug(Math.percentile(0.5))
+                .subscribe().withSubscriber(AssertSubscriber.create(10));
+
+        subscriber.assertFailedWith(IOException.class, "boom");
+        assertThat(subscriber.getItems()).hasSize(3);
+    }
+
+    @Test
+    public void testWithNaN() {
+        AssertSubscriber<Double> subscriber = Multi.createFrom().items(1.0, Double.NaN, 3.0)
+                .plug(Math.percentile(0.5))
+                .subscribe().withSubscriber(AssertSubscriber.create(10));
+
+        subscriber.assertFailedWith(IllegalArgumentException.class, "NaN");
+        assertThat(subscriber.getItems()).containsExactly(1.0);
+    }
+
+    @Test
+    public void testMinAndMaxAreExact() {
+        List<Double> min = Multi.createFrom().items(5, 1, 4, 2, 8, 3)
+                .plug(Math.percentile(0.0))
+                .collect().asList().await().indefinitely();
+        List<Double> max = Multi.createFrom().items(5, 1, 4, 2, 8, 3)
+                .plug(Math.percentile(1.0))
+                .collect().asList().await().indefinitely();
+
+        assertThat(min).containsExactly(5.0, 1.0, 1.0, 1.0, 1.0, 1.0);
+        assertThat(max).containsExactly(5.0, 5.0, 5.0, 5.0, 8.0, 8.0);
+    }
+
+    @Test
+    public void testAccuracyOnLogNormalDistribution() {
+        Random random = new Random(42);
+        List<Double> values = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            // Latency-like values, in milliseconds
+            values.add(java.lang.Math.exp(random.nextGaussian() * 1.5 + 3.0));
+        }
+
+        Map<Double, Double> estimations = Multi.createFrom().iterable(values)
+                .plug(Math.quantiles(0.5, 0.9, 0.99, 0.999))
+                .collect().last()
+                .await().indefinitely();
+
+        Collections.sort(values);
+        assertThat(estimations.keySet()).containsExactly(0.5, 0.9, 0.99, 0.999);
+        for (Map.Entry<Double, Double> entry : estimations.entrySet()) {
+            double exact = values.get((int) (entry.getKey() * (values.size() - 1)));
+            assertThat(entry.getValue()).isCloseTo(exact, within(exact * 0.01));
+        }
+    }
+
+    @Test
+    public void testAccuracyWithNegativeValuesAndZeros() {
+        Random random = new Random(7);
+        List<Double> values = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            values.add(i % 10 == 0 ? 0.0 : (random.nextDouble() - 0.5) * 1000);
+        }
+
+        double estimation = Multi.createFrom().iterable(values)
+                .plug(Math.percentile(0.25, 0.001))
+                .collect().last()
+                .await().indefinitely();
+
+        Collections.sort(values);
+        double exact = values.get((int) (0.25 * (values.size() - 1)));
+        assertThat(estimation).isCloseTo(exact, within(java.lang.Math.abs(exact) * 0.001));
+    }
+
+    @Test
+    public void testEachSubscriptionHasItsOwnSketch() {
+        Multi<Double> multi = Multi.createFrom().items(1, 2, 3)
+                .plug(Math.percentile(1.0));
+
+        assertThat(multi.collect().asList().await().indefinitely()).containsExactly(1.0, 2.0, 3.0);
+        assertThat(multi.collect().asList().await().indefinitely()).containsExactly(1.0, 2.0, 3.0);
+    }
+
+    @Test
+    public void testSketchMemoryIsBounded() {
+        QuantileSketch sketch = new QuantileSketch(0.01, 64, 0.5, 0.999);
+        for (int i = 0; i < 1_000_000; i++) {
+            // Values spanning far more than the 64 buckets of the sketch
+            sketch.add(java.lang.Math.pow(10, (i % 600) - 300));
+        }
+
+        assertThat(sketch.count()).isEqualTo(1_000_000L);
+        // The highest quantiles keep their accuracy, the lowest buckets have been merged
+        assertThat(sketch.quantile(1)).isCloseTo(1e299, within(1e299 * 0.01));
+        assertThat(sketch.quantile(0)).isLessThan(sketch.quantile(1));
+    }
+
+    @Test
+    public void testQuantilesAreMonotonic() {
+        Random random = new Random(1);
+        List<Double> values = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            values.add(random.nextDouble() * 100);
+        }
+        List<Map<Double, Double>> estimations = Multi.createFrom().iterable(values)
+                .plug(Math.quantiles(0.1, 0.5, 0.9))
+                .collect().asList()
+                .await().indefinitely();
+
+        assertThat(estimations).hasSize(values.size());
+        for (Map<Double, Double> estimation : estimations) {
+            List<Double> ordered = new ArrayList<>(estimation.values());
+            assertThat(ordered).isSorted();
+        }
+        assertThat(estimations.get(estimations.size() - 1).get(0.5)).isCloseTo(50.0, within(5.0));
+        assertThat(Arrays.asList(0.1, 0.5, 0.9)).isEqualTo(new ArrayList<>(estimations.get(0).keySet()));
+    }
+}
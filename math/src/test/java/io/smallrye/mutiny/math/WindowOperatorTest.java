@@ -0,0 +1,186 @@
+package io.smallrye.mutiny.math;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.helpers.test.AssertSubscriber;
+
+public class WindowOperatorTest {
+
+    @Test
+    public void testInvalidWindows() {
+        assertThrows(IllegalArgumentException.class, () -> Math.over(0));
+        assertThrows(IllegalArgumentException.class, () -> Math.over(10).every(-1));
+        assertThrows(IllegalArgumentException.class, () -> Math.over(null));
+        assertThrows(IllegalArgumentException.class, () -> Math.over(Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> Math.over(Duration.ofSeconds(1)).every(null));
+    }
+
+    @Test
+    public void testTumblingCountWindow() {
+        AssertSubscriber<Double> subscriber = Multi.createFrom().items(1, 2, 3, 4, 5, 6, 7)
+                .plug(Math.over(3).average())
+                .subscribe().withSubscriber(AssertSubscriber.create(10));
+
+        // The last, partial, window only contains 7
+        subscriber.assertCompleted().assertItems(2.0, 5.0, 7.0);
+    }
+
+    @Test
+    public void testSlidingCountWindow() {
+        AssertSubscriber<Double> subscriber = Multi.createFrom().items(1, 2, 3, 4, 5, 6, 7)
+                .plug(Math.over(3).every(2).sum())
+                .subscribe().withSubscriber(AssertSubscriber.create(10));
+
+        subscriber.assertCompleted().assertItems(3.0, 9.0, 15.0, 18.0);
+    }
+
+    @Test
+    public void testSlidingMinAndMax() {
+        List<Integer> items = Arrays.asList(5, 1, 4, 4, 2, 8, 3, 3, 7, 0);
+
+        List<Integer> max = Multi.createFrom().iterable(items)
+                .plug(Math.over(3).every(1).<Integer> max())
+                .collect().asList().await().indefinitely();
+        List<Integer> min = Multi.createFrom().iterable(items)
+                .plug(Math.over(3).every(1).<Integer> min())
+                .collect().asList().await().indefinitely();
+
+        assertThat(max).containsExactly(5, 5, 5, 4, 4, 8, 8, 8, 7, 7);
+        assertThat(min).containsExactly(5, 1, 1, 1, 2, 2, 2, 3, 3, 0);
+    }
+
+    @Test
+    public void testSlidingMedianAndCount() {
+        List<Double> median = Multi.createFrom().items(5, 1, 4, 2, 8, 3)
+                .plug(Math.over(4).every(1).median())
+                .collect().asList().await().indefinitely();
+        List<Long> count = Multi.createFrom().items(5, 1, 4, 2, 8, 3)
+                .plug(Math.over(4).every(2).count())
+                .collect().asList().await().indefinitely();
+
+        assertThat(median).containsExactly(5.0, 3.0, 4.0, 3.0, 3.0, 3.5);
+        assertThat(count).containsExactly(2L, 4L, 4L);
+    }
+
+    @Test
+    public void testWithEmpty() {
+        AssertSubscriber<Double> subscriber = Multi.createFrom().<Integer> empty()
+                .plug(Math.over(3).average())
+                .subscribe().withSubscriber(AssertSubscriber.create(10));
+
+        subscriber.assertCompleted().assertHasNotReceivedAnyItem();
+    }
+
+    @Test
+    public void testWithFailure() {
+        AssertSubscriber<Double> subscriber = Multi.createFrom().items(1, 2, 3, 4)
+                .onCompletion().failWith(new IOException("boom"))
+                .plug(Math.over(2).sum())
+                .subscribe().withSubscriber(AssertSubscriber.create(10));
+
+        subscriber.assertFailedWith(IOException.class, "boom").assertItems(3.0, 7.0);
+    }
+
+    @Test
+    public void testEachSubscriptionHasItsOwnWindow() {
+        Multi<Double> multi = Multi.createFrom().items(1, 2, 3)
+                .plug(Math.over(2).every(1).sum());
+
+        assertThat(multi.collect().asList().await().indefinitely()).containsExactly(1.0, 3.0, 5.0);
+        assertThat(multi.collect().asList().await().indefinitely()).containsExactly(1.0, 3.0, 5.0);
+    }
+
+    @Test
+    public void testTimeWindow() {
+        AssertSubscriber<Long> subscriber = Multi.createFrom().ticks().every(Duration.ofMillis(10))
+                .select().first(20)
+                .plug(Math.over(Duration.ofMillis(100)).every(Duration.ofMillis(20)).count())
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        subscriber.awaitCompletion(Duration.ofSeconds(5));
+        assertThat(subscriber.getItems()).isNotEmpty().allSatisfy(count -> assertThat(count).isBetween(0L, 20L));
+    }
+
+    @Test
+    public void testTimeWindowEmitsWithoutItems() {
+        AssertSubscriber<Long> subscriber = Multi.createFrom().<Integer> nothing()
+                .plug(Math.over(Duration.ofMillis(10)).count())
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        subscriber.awaitItems(3, Duration.ofSeconds(5));
+        assertThat(subscriber.getItems()).startsWith(0L, 0L, 0L);
+        subscriber.cancel();
+    }
+
+    @Test
+    public void testTimeWindowEvictsOldItems() {
+        AssertSubscriber<Double> subscriber = Multi.createFrom().items(1, 2, 3)
+                .onCompletion().switchTo(Multi.createFrom().<Integer> nothing())
+                .plug(Math.over(Duration.ofMillis(50)).every(Duration.ofMillis(10)).sum())
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        subscriber.awaitItems(10, Duration.ofSeconds(5));
+        subscriber.cancel();
+        List<Double> sums = subscriber.getItems();
+        assertThat(sums.get(0)).isEqualTo(6.0);
+        assertThat(sums).last().isEqualTo(0.0);
+    }
+
+    @Test
+    public void testTumblingTimeWindowWithDelayedTicks() throws InterruptedException {
+        long window = Duration.ofMillis(50).toNanos();
+        WindowOperators.TimeWindowState<Integer, Long> state = new WindowOperators.TimeWindowState<>(window, window,
+                new WindowAggregator.Count<>());
+
+        // The tick is late: the item is older than the window but has not been reported yet
+        state.onItem(1);
+        Thread.sleep(80);
+        assertThat(state.onTick()).isEqualTo(1L);
+
+        // The next tick is on time: the item reported by the previous tick is not reported again
+        state.onItem(2);
+        state.onItem(3);
+        assertThat(state.onTick()).isEqualTo(2L);
+        assertThat(state.onTick()).isEqualTo(0L);
+    }
+
+    @Test
+    public void testSlidingTimeWindowEvictsByAge() throws InterruptedException {
+        long window = Duration.ofMillis(50).toNanos();
+        WindowOperators.TimeWindowState<Integer, Long> state = new WindowOperators.TimeWindowState<>(window,
+                window / 5, new WindowAggregator.Count<>());
+
+        state.onItem(1);
+        assertThat(state.onTick()).isEqualTo(1L);
+        assertThat(state.onTick()).isEqualTo(1L);
+        Thread.sleep(80);
+        assertThat(state.onTick()).isEqualTo(0L);
+    }
+
+    @Test
+    public void testTimeWindowEmitsTheLastWindowOnCompletion() {
+        AssertSubscriber<Double> subscriber = Multi.createFrom().items(1, 2, 3)
+                .plug(Math.over(Duration.ofSeconds(10)).average())
+                .subscribe().withSubscriber(AssertSubscriber.create(10));
+
+        subscriber.awaitCompletion(Duration.ofSeconds(5)).assertItems(2.0);
+    }
+
+    @Test
+    public void testTimeWindowWithFailure() {
+        AssertSubscriber<Double> subscriber = Multi.createFrom().<Integer> failure(new IOException("boom"))
+                .plug(Math.over(Duration.ofSeconds(10)).average())
+                .subscribe().withSubscriber(AssertSubscriber.create(10));
+
+        subscriber.awaitFailure(Duration.ofSeconds(5)).assertFailedWith(IOException.class, "boom");
+    }
+}
@@ -0,0 +1,31 @@
+package io.smallrye.mutiny.math.tck;
+
+import static io.smallrye.mutiny.math.tck.TckHelper.iterate;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.tck.TestEnvironment;
+import org.reactivestreams.tck.flow.support.TestException;
+import org.reactivestreams.tck.junit5.PublisherVerification;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.math.Math;
+
+public class SlidingWindowTckTest extends PublisherVerification<Long> {
+    public SlidingWindowTckTest() {
+        super(new TestEnvironment(100));
+    }
+
+    // NOTE: A window emitting on every item emits as many items as the upstream.
+
+    @Override
+    public Publisher<Long> createPublisher(long elements) {
+        Multi<Long> multi = Multi.createFrom().iterable(iterate(elements));
+        return multi.plug(Math.over(4).every(1).max());
+    }
+
+    @Override
+    public Publisher<Long> createFailedPublisher() {
+        return Multi.createFrom().<Long> failure(new TestException())
+                .plug(Math.over(4).every(1).max());
+    }
+}
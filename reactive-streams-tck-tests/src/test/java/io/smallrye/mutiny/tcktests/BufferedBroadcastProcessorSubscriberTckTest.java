@@ -0,0 +1,21 @@
+package io.smallrye.mutiny.tcktests;
+
+import org.reactivestreams.Subscriber;
+import org.testng.annotations.Ignore;
+
+import io.smallrye.mutiny.operators.multi.processors.BufferedBroadcastProcessor;
+
+public class BufferedBroadcastProcessorSubscriberTckTest extends AbstractBlackBoxSubscriberTck {
+
+    @Override
+    public Subscriber<Integer> createSubscriber() {
+        return BufferedBroadcastProcessor.create(16, BufferedBroadcastProcessor.SlowSubscriberPolicy.DROP_OLDEST);
+    }
+
+    @Override
+    @Ignore
+    public void required_spec205_blackbox_mustCallSubscriptionCancelIfItAlreadyHasAnSubscriptionAndReceivesAnotherOnSubscribeSignal() {
+        // Ignoring test
+        // The broadcast processor is able to handle multiple subscription.
+    }
+}
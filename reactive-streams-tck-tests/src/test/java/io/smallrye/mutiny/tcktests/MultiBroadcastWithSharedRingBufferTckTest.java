@@ -0,0 +1,18 @@
+package io.smallrye.mutiny.tcktests;
+
+import org.reactivestreams.Publisher;
+
+public class MultiBroadcastWithSharedRingBufferTckTest extends AbstractPublisherTck<Long> {
+
+    @Override
+    public Publisher<Long> createPublisher(long elements) {
+        return upstream(elements)
+                .broadcast().withSharedRingBuffer(16).toAllSubscribers();
+    }
+
+    @Override
+    public Publisher<Long> createFailedPublisher() {
+        return failedUpstream()
+                .broadcast().withSharedRingBuffer(16).toAllSubscribers();
+    }
+}
@@ -0,0 +1,32 @@
+package io.smallrye.mutiny.tcktests;
+
+import org.reactivestreams.Publisher;
+
+import io.smallrye.mutiny.infrastructure.MetricsCollector;
+import io.smallrye.mutiny.infrastructure.StageMetrics;
+
+public class MultiMeasureTckTest extends AbstractPublisherTck<Long> {
+
+    @Override
+    public Publisher<Long> createPublisher(long elements) {
+        return upstream(elements)
+                .measure("tck");
+    }
+
+    @Override
+    public Publisher<Long> createFailedPublisher() {
+        return failedUpstream()
+                .measure("tck");
+    }
+
+    /**
+     * Registered as a service, so the measured stages report their events.
+     */
+    public static class Collector implements MetricsCollector {
+        @Override
+        public StageMetrics onSubscription(String stage) {
+            return "tck".equals(stage) ? new StageMetrics() {
+            } : null;
+        }
+    }
+}
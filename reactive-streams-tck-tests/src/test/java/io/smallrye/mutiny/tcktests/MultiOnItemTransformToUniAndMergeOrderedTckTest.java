@@ -0,0 +1,20 @@
+package io.smallrye.mutiny.tcktests;
+
+import org.reactivestreams.Publisher;
+
+import io.smallrye.mutiny.Uni;
+
+public class MultiOnItemTransformToUniAndMergeOrderedTckTest extends AbstractPublisherTck<Long> {
+
+    @Override
+    public Publisher<Long> createPublisher(long elements) {
+        return upstream(elements)
+                .onItem().transformToUni(x -> Uni.createFrom().item(x)).mergeOrdered(4);
+    }
+
+    @Override
+    public Publisher<Long> createFailedPublisher() {
+        return failedUpstream()
+                .onItem().transformToUni(x -> Uni.createFrom().item(x)).mergeOrdered(4);
+    }
+}
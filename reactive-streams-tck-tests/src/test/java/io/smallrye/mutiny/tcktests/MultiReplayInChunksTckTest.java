@@ -0,0 +1,23 @@
+package io.smallrye.mutiny.tcktests;
+
+import java.time.Duration;
+
+import org.reactivestreams.Publisher;
+import org.testng.annotations.Ignore;
+
+import io.smallrye.mutiny.Multi;
+
+public class MultiReplayInChunksTckTest extends AbstractPublisherTck<Long> {
+
+    @Override
+    public Publisher<Long> createPublisher(long elements) {
+        Multi<Long> upstream = upstream(elements);
+        return Multi.createBy().replaying().inChunksOf(8).withinLast(Duration.ofMinutes(1)).ofMulti(upstream);
+    }
+
+    @Override
+    @Ignore
+    public void required_spec317_mustNotSignalOnErrorWhenPendingAboveLongMaxValue() {
+        // The broadcast is capping at Long.MAX.
+    }
+}
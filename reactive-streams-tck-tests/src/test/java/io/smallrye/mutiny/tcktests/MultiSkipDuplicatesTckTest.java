@@ -0,0 +1,21 @@
+package io.smallrye.mutiny.tcktests;
+
+import java.time.Duration;
+
+import org.reactivestreams.Publisher;
+
+public class MultiSkipDuplicatesTckTest extends AbstractPublisherTck<Long> {
+
+    @Override
+    public Publisher<Long> createPublisher(long elements) {
+        return upstream(elements)
+                .skip().duplicates().within(Duration.ofMinutes(1), 1_000);
+    }
+
+    @Override
+    public Publisher<Long> createFailedPublisher() {
+        return failedUpstream()
+                .skip().duplicates().within(Duration.ofMinutes(1), 1_000);
+    }
+
+}